@@ -33,6 +33,7 @@ import dev.hypera.chameleon.extension.ExtensionMap;
 import dev.hypera.chameleon.logger.ChameleonLogger;
 import dev.hypera.chameleon.util.Pair;
 import dev.hypera.chameleon.util.Preconditions;
+import java.time.Duration;
 import java.util.List;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
@@ -73,6 +74,53 @@ public abstract class ChameleonBootstrap<T extends Chameleon> {
         return this;
     }
 
+    /**
+     * Sets the event bus slow subscriber threshold.
+     * <p>Subscriber invocations that take at least this long are given to the slow subscriber
+     * handler, which logs a warning by default.</p>
+     *
+     * @param threshold Slow subscriber threshold.
+     *
+     * @return {@code this}.
+     * @see EventBus#setSlowSubscriberThreshold(Duration)
+     */
+    @Contract("_ -> this")
+    public final @NotNull ChameleonBootstrap<T> withSlowEventSubscriberThreshold(@NotNull Duration threshold) {
+        Preconditions.checkNotNull("threshold", threshold);
+        this.eventBus.setSlowSubscriberThreshold(threshold);
+        return this;
+    }
+
+    /**
+     * Sets the event bus slow subscriber handler.
+     *
+     * @param slowSubscriberHandler Event slow subscriber handler.
+     *
+     * @return {@code this}.
+     * @see #withSlowEventSubscriberThreshold(Duration)
+     */
+    @Contract("_ -> this")
+    public final @NotNull ChameleonBootstrap<T> withSlowEventSubscriberHandler(@NotNull EventBus.SlowSubscriberHandler slowSubscriberHandler) {
+        this.eventBus.setSlowSubscriberHandler(slowSubscriberHandler);
+        return this;
+    }
+
+    /**
+     * Sets the number of per-user event lanes.
+     * <p>When enabled, asynchronously delivered user events are delivered in order for each user,
+     * and concurrently across users.</p>
+     *
+     * @param lanes Number of lanes, or {@code 0} to disable per-user event lanes.
+     *
+     * @return {@code this}.
+     * @see EventBus#setUserLanes(int)
+     */
+    @Contract("_ -> this")
+    public final @NotNull ChameleonBootstrap<T> withUserEventLanes(int lanes) {
+        this.eventBus.setUserLanes(lanes);
+        return this;
+    }
+
     /**
      * Load with a Chameleon extension.
      *
@@ -23,14 +23,17 @@
  */
 package dev.hypera.chameleon.adventure;
 
+import dev.hypera.chameleon.adventure.mapper.AdventureHandles;
 import dev.hypera.chameleon.adventure.mapper.AdventureMapper;
 import dev.hypera.chameleon.adventure.mapper.EnumMapper;
 import dev.hypera.chameleon.exception.reflection.ChameleonReflectiveException;
 import dev.hypera.chameleon.util.Preconditions;
-import java.lang.reflect.Method;
-import java.util.Objects;
+import dev.hypera.chameleon.util.internal.Lazy;
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicBoolean;
 import net.kyori.adventure.bossbar.BossBar;
 import net.kyori.adventure.chat.ChatType;
 import net.kyori.adventure.chat.SignedMessage;
@@ -44,7 +47,6 @@ import net.kyori.adventure.title.Title;
 import net.kyori.adventure.title.TitlePart;
 import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
 
 /**
  * Helper class for {@link dev.hypera.chameleon.adventure.ReflectedAudience}.
@@ -53,29 +55,85 @@ import org.jetbrains.annotations.Nullable;
 @SuppressWarnings("deprecation")
 public final class AudienceReflection {
 
+    private static final @NotNull String MESSAGE_TYPE_CLASS_NAME = AdventureMapper.ORIGINAL_PACKAGE.concat("audience.MessageType");
+
     private final @NotNull AdventureMapper adventure;
-    private final @NotNull AtomicBoolean loaded = new AtomicBoolean(false);
-    private @Nullable EnumMapper<net.kyori.adventure.audience.MessageType> messageTypeMapper;
-    private @Nullable Method audienceSendMessageMethod;
-    private @Nullable Method audienceSendMessageBoundMethod;
-    private @Nullable Method audienceDeleteMessageMethod;
-    private @Nullable Method audienceSendMessageSourceTypeMethod;
-    private @Nullable Method audienceSendActionBarMethod;
-    private @Nullable Method audienceClearTitleMethod;
-    private @Nullable Method audienceResetTitleMethod;
-    private @Nullable Method audienceShowBossBarMethod;
-    private @Nullable Method audienceHideBossBarMethod;
-    private @Nullable Method audiencePlaySoundMethod;
-    private @Nullable Method audiencePlaySoundPositionMethod;
-    private @Nullable Method audiencePlaySoundEmitterMethod;
-    private @Nullable Method audienceStopSoundMethod;
-    private @Nullable Method audienceOpenBookMethod;
-    private @Nullable Method audienceSendPlayerListHeader;
-    private @Nullable Method audienceSendPlayerListFooter;
-    private @Nullable Method audienceSendPlayerListHeaderAndFooter;
-    private @Nullable Method audienceSendTitlePart;
-    private @Nullable Method soundEmitterSelfMethod;
-    private @Nullable Method pointeredGetMethod;
+    private final @NotNull BossBarBridge bossBars;
+    private final @NotNull List<Lazy<?>> lazyHandles = new ArrayList<>();
+    private volatile boolean loaded = false;
+
+    // Every handle is resolved the first time its operation is used, so an operation that is
+    // unavailable on the platform does not prevent the others from being used.
+    private final @NotNull Lazy<MethodHandle> sendMessage = lazy(() -> findAudienceMethod(
+        "sendMessage", Class.forName(AdventureMapper.ORIGINAL_COMPONENT_CLASS_NAME)
+    ));
+    private final @NotNull Lazy<MethodHandle> sendMessageBound = lazy(() -> findAudienceMethod(
+        "sendMessage", Class.forName(AdventureMapper.ORIGINAL_COMPONENT_CLASS_NAME),
+        Class.forName(AdventureMapper.ORIGINAL_CHAT_TYPE_BOUND_CLASS_NAME)
+    ));
+    private final @NotNull Lazy<MethodHandle> deleteMessage = lazy(() -> findAudienceMethod(
+        "deleteMessage", Class.forName(AdventureMapper.ORIGINAL_SIGNED_MESSAGE_SIGNATURE_CLASS_NAME)
+    ));
+    private final @NotNull Lazy<EnumMapper<net.kyori.adventure.audience.MessageType>> messageTypeMapper = lazy(() -> EnumMapper.createAndLoad(
+        net.kyori.adventure.audience.MessageType.class, Class.forName(MESSAGE_TYPE_CLASS_NAME)
+    ));
+    private final @NotNull Lazy<MethodHandle> sendMessageSourceType = lazy(() -> findAudienceMethod(
+        "sendMessage", Class.forName(AdventureMapper.ORIGINAL_IDENTITY_CLASS_NAME),
+        Class.forName(AdventureMapper.ORIGINAL_COMPONENT_CLASS_NAME), Class.forName(MESSAGE_TYPE_CLASS_NAME)
+    ));
+    private final @NotNull Lazy<MethodHandle> sendActionBar = lazy(() -> findAudienceMethod(
+        "sendActionBar", Class.forName(AdventureMapper.ORIGINAL_COMPONENT_CLASS_NAME)
+    ));
+    private final @NotNull Lazy<MethodHandle> sendPlayerListHeader = lazy(() -> findAudienceMethod(
+        "sendPlayerListHeader", Class.forName(AdventureMapper.ORIGINAL_COMPONENT_CLASS_NAME)
+    ));
+    private final @NotNull Lazy<MethodHandle> sendPlayerListFooter = lazy(() -> findAudienceMethod(
+        "sendPlayerListFooter", Class.forName(AdventureMapper.ORIGINAL_COMPONENT_CLASS_NAME)
+    ));
+    private final @NotNull Lazy<MethodHandle> sendPlayerListHeaderAndFooter = lazy(() -> findAudienceMethod(
+        "sendPlayerListHeaderAndFooter", Class.forName(AdventureMapper.ORIGINAL_COMPONENT_CLASS_NAME),
+        Class.forName(AdventureMapper.ORIGINAL_COMPONENT_CLASS_NAME)
+    ));
+    private final @NotNull Lazy<MethodHandle> sendTitlePart = lazy(() -> findAudienceMethod(
+        "sendTitlePart", Class.forName(AdventureMapper.ORIGINAL_TITLE_PART_CLASS_NAME), Object.class
+    ));
+    private final @NotNull Lazy<MethodHandle> clearTitle = lazy(() -> findAudienceMethod("clearTitle"));
+    private final @NotNull Lazy<MethodHandle> resetTitle = lazy(() -> findAudienceMethod("resetTitle"));
+    private final @NotNull Lazy<MethodHandle> showBossBar = lazy(() -> findAudienceMethod(
+        "showBossBar", Class.forName(AdventureMapper.ORIGINAL_BOSSBAR_CLASS_NAME)
+    ));
+    private final @NotNull Lazy<MethodHandle> hideBossBar = lazy(() -> findAudienceMethod(
+        "hideBossBar", Class.forName(AdventureMapper.ORIGINAL_BOSSBAR_CLASS_NAME)
+    ));
+    private final @NotNull Lazy<MethodHandle> playSound = lazy(() -> findAudienceMethod(
+        "playSound", Class.forName(AdventureMapper.ORIGINAL_SOUND_CLASS_NAME)
+    ));
+    private final @NotNull Lazy<MethodHandle> playSoundPosition = lazy(() -> findAudienceMethod(
+        "playSound", Class.forName(AdventureMapper.ORIGINAL_SOUND_CLASS_NAME), double.class, double.class, double.class
+    ));
+    private final @NotNull Lazy<MethodHandle> playSoundEmitter = lazy(() -> findAudienceMethod(
+        "playSound", Class.forName(AdventureMapper.ORIGINAL_SOUND_CLASS_NAME),
+        Class.forName(AdventureMapper.ORIGINAL_SOUND_EMITTER_CLASS_NAME)
+    ));
+    private final @NotNull Lazy<Object> soundEmitterSelf = lazy(() -> {
+        Class<?> soundEmitterClass = Class.forName(AdventureMapper.ORIGINAL_SOUND_EMITTER_CLASS_NAME);
+        try {
+            return (Object) AdventureHandles.findStatic(soundEmitterClass, "self", soundEmitterClass).invokeExact();
+        } catch (Throwable ex) {
+            throw AdventureHandles.propagate(ex);
+        }
+    });
+    private final @NotNull Lazy<MethodHandle> stopSound = lazy(() -> findAudienceMethod(
+        "stopSound", Class.forName(AdventureMapper.ORIGINAL_SOUND_STOP_CLASS_NAME)
+    ));
+    private final @NotNull Lazy<MethodHandle> openBook = lazy(() -> findAudienceMethod(
+        "openBook", Class.forName(AdventureMapper.ORIGINAL_BOOK_CLASS_NAME)
+    ));
+    private final @NotNull Lazy<MethodHandle> pointeredGet = lazy(() -> AdventureHandles.findVirtual(
+        Class.forName(AdventureMapper.ORIGINAL_POINTERED_CLASS_NAME), "get", Optional.class,
+        Class.forName(AdventureMapper.ORIGINAL_POINTER_CLASS_NAME)
+    ));
+    private final @NotNull Lazy<PointerValues> pointerValues;
 
     /**
      * Audience reflection constructor.
@@ -85,77 +143,21 @@ public final class AudienceReflection {
     @Internal
     public AudienceReflection(@NotNull AdventureMapper adventure) {
         this.adventure = adventure;
+        this.bossBars = new BossBarBridge(adventure);
+        this.pointerValues = lazy(() -> new PointerValues(adventure));
     }
 
     /**
-     * Load all classes and methods.
+     * Load this audience reflection helper.
+     *
+     * <p>Platform classes and methods are resolved the first time the audience operation using
+     * them is invoked, or when {@link #preload()} is called.</p>
      *
      * @throws ReflectiveOperationException if something goes wrong.
      */
     public void load() throws ReflectiveOperationException {
         Preconditions.checkState(!isLoaded(), "AudienceReflection has already been loaded");
-
-        // Audience
-        Class<?> audienceClass = Class.forName(AdventureMapper.ORIGINAL_AUDIENCE_CLASS_NAME);
-        Class<?> bookClass = Class.forName(AdventureMapper.ORIGINAL_BOOK_CLASS_NAME);
-        Class<?> bossBarClass = Class.forName(AdventureMapper.ORIGINAL_BOSSBAR_CLASS_NAME);
-        Class<?> boundClass = Class.forName(AdventureMapper.ORIGINAL_CHAT_TYPE_BOUND_CLASS_NAME);
-        Class<?> componentClass = Class.forName(AdventureMapper.ORIGINAL_COMPONENT_CLASS_NAME);
-        Class<?> identityClass = Class.forName(AdventureMapper.ORIGINAL_IDENTITY_CLASS_NAME);
-        Class<?> messageTypeClass = Class.forName(
-            AdventureMapper.ORIGINAL_PACKAGE.concat("audience.MessageType")
-        );
-        Class<?> signatureClass = Class.forName(AdventureMapper.ORIGINAL_SIGNED_MESSAGE_SIGNATURE_CLASS_NAME);
-        Class<?> soundClass = Class.forName(AdventureMapper.ORIGINAL_SOUND_CLASS_NAME);
-        Class<?> soundEmitterClass = Class.forName(AdventureMapper.ORIGINAL_SOUND_EMITTER_CLASS_NAME);
-        Class<?> soundStopClass = Class.forName(AdventureMapper.ORIGINAL_SOUND_STOP_CLASS_NAME);
-        Class<?> titlePartClass = Class.forName(AdventureMapper.ORIGINAL_TITLE_PART_CLASS_NAME);
-
-        this.messageTypeMapper = EnumMapper.createAndLoad(net.kyori.adventure.audience.MessageType.class, messageTypeClass);
-        this.audienceSendMessageMethod = audienceClass.getMethod("sendMessage", componentClass);
-        this.audienceSendMessageBoundMethod = audienceClass.getMethod(
-            "sendMessage", componentClass, boundClass
-        );
-        this.audienceDeleteMessageMethod = audienceClass.getMethod("deleteMessage", signatureClass);
-        this.audienceSendMessageSourceTypeMethod = audienceClass.getMethod(
-            "sendMessage", identityClass, componentClass, messageTypeClass
-        );
-        this.audienceSendActionBarMethod = audienceClass.getMethod("sendActionBar", componentClass);
-        this.audienceClearTitleMethod = audienceClass.getMethod("clearTitle");
-        this.audienceResetTitleMethod = audienceClass.getMethod("resetTitle");
-        this.audienceShowBossBarMethod = audienceClass.getMethod("showBossBar", bossBarClass);
-        this.audienceHideBossBarMethod = audienceClass.getMethod("hideBossBar", bossBarClass);
-        this.audiencePlaySoundMethod = audienceClass.getMethod("playSound", soundClass);
-        this.audiencePlaySoundPositionMethod = audienceClass.getMethod(
-            "playSound", soundClass, double.class, double.class, double.class
-        );
-        this.audiencePlaySoundEmitterMethod = audienceClass.getMethod(
-            "playSound", soundClass, soundEmitterClass
-        );
-        this.audienceStopSoundMethod = audienceClass.getMethod("stopSound", soundStopClass);
-        this.audienceOpenBookMethod = audienceClass.getMethod("openBook", bookClass);
-        this.audienceSendPlayerListHeader = audienceClass.getMethod(
-            "sendPlayerListHeader", componentClass
-        );
-        this.audienceSendPlayerListFooter = audienceClass.getMethod(
-            "sendPlayerListFooter", componentClass
-        );
-        this.audienceSendPlayerListHeaderAndFooter = audienceClass.getMethod(
-            "sendPlayerListHeaderAndFooter", componentClass, componentClass
-        );
-        this.audienceSendTitlePart = audienceClass.getMethod(
-            "sendTitlePart", titlePartClass, Object.class
-        );
-
-        // SoundEmitter
-        this.soundEmitterSelfMethod = soundEmitterClass.getMethod("self");
-
-        // Pointered
-        Class<?> pointeredClass = Class.forName(AdventureMapper.ORIGINAL_POINTERED_CLASS_NAME);
-        Class<?> pointerClass = Class.forName(AdventureMapper.ORIGINAL_POINTER_CLASS_NAME);
-        this.pointeredGetMethod = pointeredClass.getMethod("get", pointerClass);
-
-        this.loaded.set(true);
+        this.loaded = true;
     }
 
     /**
@@ -164,7 +166,45 @@ public final class AudienceReflection {
      * @return loaded.
      */
     public boolean isLoaded() {
-        return this.loaded.get();
+        return this.loaded;
+    }
+
+    /**
+     * Resolve all platform classes and methods, if they have not been resolved yet.
+     *
+     * @throws ChameleonReflectiveException if something goes wrong.
+     */
+    public void preload() {
+        for (Lazy<?> handle : this.lazyHandles) {
+            handle.get();
+        }
+    }
+
+    /**
+     * Create a platform method handle, or a platform object used alongside one, that is resolved
+     * the first time it is used.
+     *
+     * <p>Every handle has the platform Adventure types in its type replaced with {@code Object}, so
+     * each audience operation is a single exact invocation without any argument boxing. Handles
+     * that fail to resolve are not cached, the failure is thrown again on every use.</p>
+     *
+     * @param resolver Handle resolver.
+     * @param <T>      Resolved type.
+     *
+     * @return lazily resolved handle, which throws {@link IllegalStateException} if this helper
+     *     has not been loaded, or {@link ChameleonReflectiveException} if it cannot be resolved.
+     */
+    private <T> @NotNull Lazy<T> lazy(@NotNull HandleResolver<T> resolver) {
+        Lazy<T> handle = Lazy.of(() -> {
+            Preconditions.checkState(this.loaded, "AudienceReflection has not been loaded");
+            try {
+                return resolver.resolve();
+            } catch (ReflectiveOperationException ex) {
+                throw new ChameleonReflectiveException(ex);
+            }
+        });
+        this.lazyHandles.add(handle);
+        return handle;
     }
 
     /**
@@ -174,15 +214,14 @@ public final class AudienceReflection {
      * @param component Component to be mapped and sent to the audience.
      */
     public void sendMessage(@NotNull Object audience, @NotNull Component component) {
-        Preconditions.checkState(isLoaded(), "AudienceReflection has not been loaded");
-
+        MethodHandle handle = this.sendMessage.get();
         try {
-            Objects.requireNonNull(this.audienceSendMessageMethod).invoke(audience,
+            handle.invokeExact(audience,
                 this.adventure.getComponentMapper().map(component)
             );
-        } catch (ReflectiveOperationException ex) {
+        } catch (Throwable ex) {
             throw ChameleonReflectiveException.createMethodInvocationFailure(
-                Objects.requireNonNull(this.audienceSendMessageMethod), audience, ex
+                "sendMessage(Component)", audience, ex
             );
         }
     }
@@ -195,16 +234,15 @@ public final class AudienceReflection {
      * @param boundChatType Bound to be mapped and send to the audience alongside the component.
      */
     public void sendMessage(@NotNull Object audience, @NotNull Component component, @NotNull ChatType.Bound boundChatType) {
-        Preconditions.checkState(isLoaded(), "AudienceReflection has not been loaded");
-
+        MethodHandle handle = this.sendMessageBound.get();
         try {
-            Objects.requireNonNull(this.audienceSendMessageBoundMethod).invoke(audience,
+            handle.invokeExact(audience,
                 this.adventure.getComponentMapper().map(component),
                 this.adventure.getBoundMapper().map(boundChatType)
             );
-        } catch (ReflectiveOperationException ex) {
+        } catch (Throwable ex) {
             throw ChameleonReflectiveException.createMethodInvocationFailure(
-                Objects.requireNonNull(this.audienceSendMessageBoundMethod), audience, ex
+                "sendMessage(Component, Bound)", audience, ex
             );
         }
     }
@@ -222,17 +260,17 @@ public final class AudienceReflection {
      */
     @Deprecated
     public void sendMessage(@NotNull Object audience, @NotNull Identity source, @NotNull Component component, @NotNull net.kyori.adventure.audience.MessageType messageType) {
-        Preconditions.checkState(isLoaded(), "AudienceReflection has not been loaded");
-
+        MethodHandle handle = this.sendMessageSourceType.get();
+        EnumMapper<net.kyori.adventure.audience.MessageType> messageTypes = this.messageTypeMapper.get();
         try {
-            Objects.requireNonNull(this.audienceSendMessageSourceTypeMethod).invoke(audience,
+            handle.invokeExact(audience,
                 this.adventure.getIdentityMapper().map(source),
                 this.adventure.getComponentMapper().map(component),
-                Objects.requireNonNull(this.messageTypeMapper).map(messageType)
+                messageTypes.map(messageType)
             );
-        } catch (ReflectiveOperationException ex) {
+        } catch (Throwable ex) {
             throw ChameleonReflectiveException.createMethodInvocationFailure(
-                Objects.requireNonNull(this.audienceSendMessageSourceTypeMethod), audience, ex
+                "sendMessage(Identity, Component, MessageType)", audience, ex
             );
         }
     }
@@ -244,15 +282,14 @@ public final class AudienceReflection {
      * @param component Component to be mapped and sent to the audience.
      */
     public void sendActionBar(@NotNull Object audience, @NotNull Component component) {
-        Preconditions.checkState(isLoaded(), "AudienceReflection has not been loaded");
-
+        MethodHandle handle = this.sendActionBar.get();
         try {
-            Objects.requireNonNull(this.audienceSendActionBarMethod).invoke(audience,
+            handle.invokeExact(audience,
                 this.adventure.getComponentMapper().map(component)
             );
-        } catch (ReflectiveOperationException ex) {
+        } catch (Throwable ex) {
             throw ChameleonReflectiveException.createMethodInvocationFailure(
-                Objects.requireNonNull(this.audienceSendActionBarMethod), audience, ex
+                "sendActionBar(Component)", audience, ex
             );
         }
     }
@@ -264,15 +301,14 @@ public final class AudienceReflection {
      * @param signature Signature to be mapped and deleted for the audience.
      */
     public void deleteMessage(@NotNull Object audience, @NotNull SignedMessage.Signature signature) {
-        Preconditions.checkState(isLoaded(), "AudienceReflection has not been loaded");
-
+        MethodHandle handle = this.deleteMessage.get();
         try {
-            Objects.requireNonNull(this.audienceDeleteMessageMethod).invoke(audience,
+            handle.invokeExact(audience,
                 this.adventure.getSignatureMapper().map(signature)
             );
-        } catch (ReflectiveOperationException ex) {
+        } catch (Throwable ex) {
             throw ChameleonReflectiveException.createMethodInvocationFailure(
-                Objects.requireNonNull(this.audienceDeleteMessageMethod), audience, ex
+                "deleteMessage(Signature)", audience, ex
             );
         }
     }
@@ -284,15 +320,14 @@ public final class AudienceReflection {
      * @param header   Component to be mapped and sent to the audience.
      */
     public void sendPlayerListHeader(@NotNull Object audience, @NotNull Component header) {
-        Preconditions.checkState(isLoaded(), "AudienceReflection has not been loaded");
-
+        MethodHandle handle = this.sendPlayerListHeader.get();
         try {
-            Objects.requireNonNull(this.audienceSendPlayerListHeader).invoke(audience,
+            handle.invokeExact(audience,
                 this.adventure.getComponentMapper().map(header)
             );
-        } catch (ReflectiveOperationException ex) {
+        } catch (Throwable ex) {
             throw ChameleonReflectiveException.createMethodInvocationFailure(
-                Objects.requireNonNull(this.audienceSendPlayerListHeader), audience, ex
+                "sendPlayerListHeader(Component)", audience, ex
             );
         }
     }
@@ -304,15 +339,14 @@ public final class AudienceReflection {
      * @param footer   Component to be mapped and sent to the audience.
      */
     public void sendPlayerListFooter(@NotNull Object audience, @NotNull Component footer) {
-        Preconditions.checkState(isLoaded(), "AudienceReflection has not been loaded");
-
+        MethodHandle handle = this.sendPlayerListFooter.get();
         try {
-            Objects.requireNonNull(this.audienceSendPlayerListFooter).invoke(audience,
+            handle.invokeExact(audience,
                 this.adventure.getComponentMapper().map(footer)
             );
-        } catch (ReflectiveOperationException ex) {
+        } catch (Throwable ex) {
             throw ChameleonReflectiveException.createMethodInvocationFailure(
-                Objects.requireNonNull(this.audienceSendPlayerListFooter), audience, ex
+                "sendPlayerListFooter(Component)", audience, ex
             );
         }
     }
@@ -326,16 +360,15 @@ public final class AudienceReflection {
      * @param footer   Footer Component to be mapped and sent to the audience.
      */
     public void sendPlayerListHeaderAndFooter(@NotNull Object audience, @NotNull Component header, @NotNull Component footer) {
-        Preconditions.checkState(isLoaded(), "AudienceReflection has not been loaded");
-
+        MethodHandle handle = this.sendPlayerListHeaderAndFooter.get();
         try {
-            Objects.requireNonNull(this.audienceSendPlayerListHeaderAndFooter).invoke(audience,
+            handle.invokeExact(audience,
                 this.adventure.getComponentMapper().map(header),
                 this.adventure.getComponentMapper().map(footer)
             );
-        } catch (ReflectiveOperationException ex) {
+        } catch (Throwable ex) {
             throw ChameleonReflectiveException.createMethodInvocationFailure(
-                Objects.requireNonNull(this.audienceSendPlayerListHeaderAndFooter), audience, ex
+                "sendPlayerListHeaderAndFooter(Component, Component)", audience, ex
             );
         }
     }
@@ -352,12 +385,12 @@ public final class AudienceReflection {
      *                               Title.Times.
      */
     public <T> void sendTitlePart(@NotNull Object audience, @NotNull TitlePart<T> part, @NotNull T value) {
-        Preconditions.checkState(isLoaded(), "AudienceReflection has not been loaded");
         Preconditions.checkArgument(
             value instanceof Component || value instanceof Title.Times,
             "unsupported TitlePart value type"
         );
 
+        MethodHandle handle = this.sendTitlePart.get();
         try {
             Object mappedValue;
             if (value instanceof Component) {
@@ -366,13 +399,13 @@ public final class AudienceReflection {
                 mappedValue = this.adventure.getTimesMapper().map((Title.Times) value);
             }
 
-            Objects.requireNonNull(this.audienceSendTitlePart).invoke(audience,
+            handle.invokeExact(audience,
                 this.adventure.getTitlePartMapper().map(part),
                 mappedValue
             );
-        } catch (ReflectiveOperationException ex) {
+        } catch (Throwable ex) {
             throw ChameleonReflectiveException.createMethodInvocationFailure(
-                Objects.requireNonNull(this.audienceSendTitlePart), audience, ex
+                "sendTitlePart(TitlePart, Object)", audience, ex
             );
         }
     }
@@ -383,13 +416,12 @@ public final class AudienceReflection {
      * @param audience Audience to invoke {@code clearTitle()} on.
      */
     public void clearTitle(@NotNull Object audience) {
-        Preconditions.checkState(isLoaded(), "AudienceReflection has not been loaded");
-
+        MethodHandle handle = this.clearTitle.get();
         try {
-            Objects.requireNonNull(this.audienceClearTitleMethod).invoke(audience);
-        } catch (ReflectiveOperationException ex) {
+            handle.invokeExact(audience);
+        } catch (Throwable ex) {
             throw ChameleonReflectiveException.createMethodInvocationFailure(
-                Objects.requireNonNull(this.audienceClearTitleMethod), audience, ex
+                "clearTitle()", audience, ex
             );
         }
     }
@@ -400,13 +432,12 @@ public final class AudienceReflection {
      * @param audience Audience to invoke {@code resetTitle()} on.
      */
     public void resetTitle(@NotNull Object audience) {
-        Preconditions.checkState(isLoaded(), "AudienceReflection has not been loaded");
-
+        MethodHandle handle = this.resetTitle.get();
         try {
-            Objects.requireNonNull(this.audienceResetTitleMethod).invoke(audience);
-        } catch (ReflectiveOperationException ex) {
+            handle.invokeExact(audience);
+        } catch (Throwable ex) {
             throw ChameleonReflectiveException.createMethodInvocationFailure(
-                Objects.requireNonNull(this.audienceResetTitleMethod), audience, ex
+                "resetTitle()", audience, ex
             );
         }
     }
@@ -415,18 +446,17 @@ public final class AudienceReflection {
      * Show a boss bar to the given audience using reflection.
      *
      * @param audience Audience to invoke {@code showBossBar(BossBar)} on.
-     * @param bar      BossBar to be mapped and shown to the given audience.
+     * @param bar      BossBar to be mirrored and shown to the given audience.
      */
     public void showBossBar(@NotNull Object audience, @NotNull BossBar bar) {
-        Preconditions.checkState(isLoaded(), "AudienceReflection has not been loaded");
+        Object mirror = this.bossBars.show(audience, bar);
 
+        MethodHandle handle = this.showBossBar.get();
         try {
-            Objects.requireNonNull(this.audienceShowBossBarMethod).invoke(audience,
-                this.adventure.getBossBarMapper().map(bar)
-            );
-        } catch (ReflectiveOperationException ex) {
+            handle.invokeExact(audience, mirror);
+        } catch (Throwable ex) {
             throw ChameleonReflectiveException.createMethodInvocationFailure(
-                Objects.requireNonNull(this.audienceShowBossBarMethod), audience, ex
+                "showBossBar(BossBar)", audience, ex
             );
         }
     }
@@ -435,18 +465,17 @@ public final class AudienceReflection {
      * Hide a boss bar for the given audience using reflection.
      *
      * @param audience Audience to invoke {@code hideBossBar(BossBar)} on.
-     * @param bar      BossBar to be mapped and hidden from the given audience.
+     * @param bar      BossBar to be mirrored and hidden from the given audience.
      */
     public void hideBossBar(@NotNull Object audience, @NotNull BossBar bar) {
-        Preconditions.checkState(isLoaded(), "AudienceReflection has not been loaded");
+        Object mirror = this.bossBars.hide(audience, bar);
 
+        MethodHandle handle = this.hideBossBar.get();
         try {
-            Objects.requireNonNull(this.audienceHideBossBarMethod).invoke(audience,
-                this.adventure.getBossBarMapper().map(bar)
-            );
-        } catch (ReflectiveOperationException ex) {
+            handle.invokeExact(audience, mirror);
+        } catch (Throwable ex) {
             throw ChameleonReflectiveException.createMethodInvocationFailure(
-                Objects.requireNonNull(this.audienceHideBossBarMethod), audience, ex
+                "hideBossBar(BossBar)", audience, ex
             );
         }
     }
@@ -458,15 +487,14 @@ public final class AudienceReflection {
      * @param sound    Sound to be mapped and played to the given audience.
      */
     public void playSound(@NotNull Object audience, @NotNull Sound sound) {
-        Preconditions.checkState(isLoaded(), "AudienceReflection has not been loaded");
-
+        MethodHandle handle = this.playSound.get();
         try {
-            Objects.requireNonNull(this.audiencePlaySoundMethod).invoke(audience,
+            handle.invokeExact(audience,
                 this.adventure.getSoundMapper().map(sound)
             );
-        } catch (ReflectiveOperationException ex) {
+        } catch (Throwable ex) {
             throw ChameleonReflectiveException.createMethodInvocationFailure(
-                Objects.requireNonNull(this.audiencePlaySoundMethod), audience, ex
+                "playSound(Sound)", audience, ex
             );
         }
     }
@@ -481,15 +509,14 @@ public final class AudienceReflection {
      * @param z        Position Z coordinate.
      */
     public void playSound(@NotNull Object audience, @NotNull Sound sound, double x, double y, double z) {
-        Preconditions.checkState(isLoaded(), "AudienceReflection has not been loaded");
-
+        MethodHandle handle = this.playSoundPosition.get();
         try {
-            Objects.requireNonNull(this.audiencePlaySoundPositionMethod).invoke(audience,
+            handle.invokeExact(audience,
                 this.adventure.getSoundMapper().map(sound), x, y, z
             );
-        } catch (ReflectiveOperationException ex) {
+        } catch (Throwable ex) {
             throw ChameleonReflectiveException.createMethodInvocationFailure(
-                Objects.requireNonNull(this.audiencePlaySoundPositionMethod), audience, ex
+                "playSound(Sound, double, double, double)", audience, ex
             );
         }
     }
@@ -504,19 +531,20 @@ public final class AudienceReflection {
      * @throws IllegalArgumentException if {@code emitter} is not {@code Sound.Emitter#self()}.
      */
     public void playSound(@NotNull Object audience, @NotNull Sound sound, @NotNull Sound.Emitter emitter) {
-        Preconditions.checkState(isLoaded(), "AudienceReflection has not been loaded");
         Preconditions.checkArgument(emitter.equals(Sound.Emitter.self()),
             "unsupported Sound.Emitter type"
         );
 
+        MethodHandle handle = this.playSoundEmitter.get();
+        Object emitterSelf = this.soundEmitterSelf.get();
         try {
-            Objects.requireNonNull(this.audiencePlaySoundEmitterMethod).invoke(audience,
+            handle.invokeExact(audience,
                 this.adventure.getSoundMapper().map(sound),
-                Objects.requireNonNull(this.soundEmitterSelfMethod).invoke(null)
+                emitterSelf
             );
-        } catch (ReflectiveOperationException ex) {
+        } catch (Throwable ex) {
             throw ChameleonReflectiveException.createMethodInvocationFailure(
-                Objects.requireNonNull(this.audiencePlaySoundEmitterMethod), audience, ex
+                "playSound(Sound, Emitter)", audience, ex
             );
         }
     }
@@ -528,15 +556,14 @@ public final class AudienceReflection {
      * @param stop     SoundStop to be mapped and sent to the audience.
      */
     public void stopSound(@NotNull Object audience, @NotNull SoundStop stop) {
-        Preconditions.checkState(isLoaded(), "AudienceReflection has not been loaded");
-
+        MethodHandle handle = this.stopSound.get();
         try {
-            Objects.requireNonNull(this.audienceStopSoundMethod).invoke(audience,
+            handle.invokeExact(audience,
                 this.adventure.getSoundStopMapper().map(stop)
             );
-        } catch (ReflectiveOperationException ex) {
+        } catch (Throwable ex) {
             throw ChameleonReflectiveException.createMethodInvocationFailure(
-                Objects.requireNonNull(this.audienceStopSoundMethod), audience, ex
+                "stopSound(SoundStop)", audience, ex
             );
         }
     }
@@ -548,13 +575,12 @@ public final class AudienceReflection {
      * @param book     Book to be mapped and opened for the audience.
      */
     public void openBook(@NotNull Object audience, @NotNull Book book) {
-        Preconditions.checkState(isLoaded(), "AudienceReflection has not been loaded");
-
+        MethodHandle handle = this.openBook.get();
         try {
-            Objects.requireNonNull(this.audienceOpenBookMethod).invoke(audience, this.adventure.getBookMapper().map(book));
-        } catch (ReflectiveOperationException ex) {
+            handle.invokeExact(audience, this.adventure.getBookMapper().map(book));
+        } catch (Throwable ex) {
             throw ChameleonReflectiveException.createMethodInvocationFailure(
-                Objects.requireNonNull(this.audienceOpenBookMethod), audience, ex
+                "openBook(Book)", audience, ex
             );
         }
     }
@@ -570,42 +596,338 @@ public final class AudienceReflection {
      */
     @SuppressWarnings("unchecked")
     public <T> @NotNull Optional<T> getPointer(@NotNull Object pointered, @NotNull Pointer<T> pointer) {
-        Preconditions.checkState(isLoaded(), "AudienceReflection has not been loaded");
-
+        MethodHandle handle = this.pointeredGet.get();
+        Optional<?> result;
         try {
-            return (Optional<T>) ((Optional<?>) Objects.requireNonNull(this.pointeredGetMethod).invoke(pointered,
+            result = (Optional<?>) handle.invokeExact(pointered,
                 this.adventure.getPointerMapper().map(pointer)
-            )).map(value -> {
+            );
+        } catch (Throwable ex) {
+            throw ChameleonReflectiveException.createMethodInvocationFailure(
+                "get(Pointer)", pointered, ex
+            );
+        }
+
+        if (!result.isPresent()) {
+            return Optional.empty();
+        }
+        Object value = result.get();
+        Object mapped = this.pointerValues.get().mapBackwards(value);
+        return (Optional<T>) (mapped == value ? result : Optional.of(mapped));
+    }
+
+
+    /**
+     * Send a message to each of the given audiences, mapping the message once.
+     *
+     * @param audiences Platform audiences to invoke {@code sendMessage(Component)} on.
+     * @param component Component to be mapped and sent to the audiences.
+     */
+    void sendMessage(@NotNull Collection<?> audiences, @NotNull Component component) {
+        if (!audiences.isEmpty()) {
+            invokeAll(audiences, this.sendMessage.get(), "sendMessage(Component)", mapComponent(component));
+        }
+    }
+
+    /**
+     * Send a message with a chat type bound to each of the given audiences, mapping the message
+     * and bound once.
+     *
+     * @param audiences     Platform audiences to invoke
+     *                      {@code sendMessage(Component, ChatType.Bound)} on.
+     * @param component     Component to be mapped and sent to the audiences.
+     * @param boundChatType Bound to be mapped and sent to the audiences alongside the component.
+     */
+    void sendMessage(@NotNull Collection<?> audiences, @NotNull Component component, @NotNull ChatType.Bound boundChatType) {
+        if (!audiences.isEmpty()) {
+            Object mappedBound;
+            try {
+                mappedBound = this.adventure.getBoundMapper().map(boundChatType);
+            } catch (ReflectiveOperationException ex) {
+                throw new ChameleonReflectiveException(ex);
+            }
+            invokeAll(audiences, this.sendMessageBound.get(), "sendMessage(Component, Bound)",
+                mapComponent(component), mappedBound
+            );
+        }
+    }
+
+    /**
+     * Delete a message for each of the given audiences, mapping the signature once.
+     *
+     * @param audiences Platform audiences to invoke {@code deleteMessage(SignedMessage.Signature)}
+     *                  on.
+     * @param signature Signature to be mapped and deleted for the audiences.
+     */
+    void deleteMessage(@NotNull Collection<?> audiences, @NotNull SignedMessage.Signature signature) {
+        if (!audiences.isEmpty()) {
+            Object mappedSignature;
+            try {
+                mappedSignature = this.adventure.getSignatureMapper().map(signature);
+            } catch (ReflectiveOperationException ex) {
+                throw new ChameleonReflectiveException(ex);
+            }
+            invokeAll(audiences, this.deleteMessage.get(), "deleteMessage(Signature)", mappedSignature);
+        }
+    }
+
+    /**
+     * Send an action bar message to each of the given audiences, mapping the message once.
+     *
+     * @param audiences Platform audiences to invoke {@code sendActionBar(Component)} on.
+     * @param component Component to be mapped and sent to the audiences.
+     */
+    void sendActionBar(@NotNull Collection<?> audiences, @NotNull Component component) {
+        if (!audiences.isEmpty()) {
+            invokeAll(audiences, this.sendActionBar.get(), "sendActionBar(Component)", mapComponent(component));
+        }
+    }
+
+    /**
+     * Send a player list header to each of the given audiences, mapping the header once.
+     *
+     * @param audiences Platform audiences to invoke {@code sendPlayerListHeader(Component)} on.
+     * @param header    Component to be mapped and sent to the audiences.
+     */
+    void sendPlayerListHeader(@NotNull Collection<?> audiences, @NotNull Component header) {
+        if (!audiences.isEmpty()) {
+            invokeAll(audiences, this.sendPlayerListHeader.get(), "sendPlayerListHeader(Component)", mapComponent(header));
+        }
+    }
+
+    /**
+     * Send a player list footer to each of the given audiences, mapping the footer once.
+     *
+     * @param audiences Platform audiences to invoke {@code sendPlayerListFooter(Component)} on.
+     * @param footer    Component to be mapped and sent to the audiences.
+     */
+    void sendPlayerListFooter(@NotNull Collection<?> audiences, @NotNull Component footer) {
+        if (!audiences.isEmpty()) {
+            invokeAll(audiences, this.sendPlayerListFooter.get(), "sendPlayerListFooter(Component)", mapComponent(footer));
+        }
+    }
+
+    /**
+     * Send a player list header and footer to each of the given audiences, mapping the header and
+     * footer once.
+     *
+     * @param audiences Platform audiences to invoke
+     *                  {@code sendPlayerListHeaderAndFooter(Component, Component)} on.
+     * @param header    Header Component to be mapped and sent to the audiences.
+     * @param footer    Footer Component to be mapped and sent to the audiences.
+     */
+    void sendPlayerListHeaderAndFooter(@NotNull Collection<?> audiences, @NotNull Component header, @NotNull Component footer) {
+        if (!audiences.isEmpty()) {
+            invokeAll(audiences, this.sendPlayerListHeaderAndFooter.get(),
+                "sendPlayerListHeaderAndFooter(Component, Component)",
+                mapComponent(header), mapComponent(footer)
+            );
+        }
+    }
+
+    /**
+     * Send a title part and value to each of the given audiences, mapping the part and value once.
+     *
+     * @param audiences Platform audiences to invoke {@code sendTitlePart(TitlePart<T>, T)} on.
+     * @param part      TitlePart to be mapped and sent to the audiences.
+     * @param value     TitlePart value to be mapped to be sent to the audiences.
+     * @param <T>       TitlePart value type.
+     *
+     * @throws IllegalStateException if {@code value} is not an instance of Component or
+     *                               Title.Times.
+     */
+    <T> void sendTitlePart(@NotNull Collection<?> audiences, @NotNull TitlePart<T> part, @NotNull T value) {
+        Preconditions.checkArgument(
+            value instanceof Component || value instanceof Title.Times,
+            "unsupported TitlePart value type"
+        );
+        if (!audiences.isEmpty()) {
+            Object mappedPart;
+            Object mappedValue;
+            try {
+                mappedPart = this.adventure.getTitlePartMapper().map(part);
+                if (value instanceof Component) {
+                    mappedValue = this.adventure.getComponentMapper().map((Component) value);
+                } else {
+                    mappedValue = this.adventure.getTimesMapper().map((Title.Times) value);
+                }
+            } catch (ReflectiveOperationException ex) {
+                throw new ChameleonReflectiveException(ex);
+            }
+            invokeAll(audiences, this.sendTitlePart.get(), "sendTitlePart(TitlePart, Object)", mappedPart, mappedValue);
+        }
+    }
+
+    /**
+     * Show a boss bar to each of the given audiences, mapping the boss bar once.
+     *
+     * @param audiences Platform audiences to invoke {@code showBossBar(BossBar)} on.
+     * @param bar       BossBar to be mirrored and shown to the audiences.
+     */
+    void showBossBar(@NotNull Collection<?> audiences, @NotNull BossBar bar) {
+        if (!audiences.isEmpty()) {
+            invokeAll(audiences, this.showBossBar.get(), "showBossBar(BossBar)", this.bossBars.show(audiences, bar));
+        }
+    }
+
+    /**
+     * Hide a boss bar for each of the given audiences, mapping the boss bar once.
+     *
+     * @param audiences Platform audiences to invoke {@code hideBossBar(BossBar)} on.
+     * @param bar       BossBar to be mirrored and hidden from the audiences.
+     */
+    void hideBossBar(@NotNull Collection<?> audiences, @NotNull BossBar bar) {
+        if (!audiences.isEmpty()) {
+            invokeAll(audiences, this.hideBossBar.get(), "hideBossBar(BossBar)", this.bossBars.hide(audiences, bar));
+        }
+    }
+
+    /**
+     * Play a sound to each of the given audiences, mapping the sound once.
+     *
+     * @param audiences Platform audiences to invoke {@code playSound(Sound)} on.
+     * @param sound     Sound to be mapped and played to the audiences.
+     */
+    void playSound(@NotNull Collection<?> audiences, @NotNull Sound sound) {
+        if (!audiences.isEmpty()) {
+            invokeAll(audiences, this.playSound.get(), "playSound(Sound)", mapSound(sound));
+        }
+    }
+
+    /**
+     * Play a sound at a position to each of the given audiences, mapping the sound once.
+     *
+     * @param audiences Platform audiences to invoke {@code playSound(Sound, double, double, double)}
+     *                  on.
+     * @param sound     Sound to be mapped and played to the audiences at the position.
+     * @param x         Position X coordinate.
+     * @param y         Position Y coordinate.
+     * @param z         Position Z coordinate.
+     */
+    void playSound(@NotNull Collection<?> audiences, @NotNull Sound sound, double x, double y, double z) {
+        if (!audiences.isEmpty()) {
+            MethodHandle handle = this.playSoundPosition.get();
+            Object mappedSound = mapSound(sound);
+            for (Object audience : audiences) {
                 try {
-                    if (value.getClass().getCanonicalName().startsWith(AdventureMapper.ORIGINAL_PACKAGE)) {
-                        if (Class.forName(AdventureMapper.ORIGINAL_COMPONENT_CLASS_NAME).isInstance(value)) {
-                            // Pointer value is a component, map it backwards.
-                            return this.adventure.getComponentMapper().mapBackwards(value);
-                        }
-
-                        if (Class.forName(AdventureMapper.ORIGINAL_KEY_CLASS_NAME).isInstance(value)) {
-                            // Pointer value is a key, map it backwards.
-                            return this.adventure.getKeyMapper().mapBackwards(value);
-                        }
-
-                        // Pointer value is a platform adventure object, however it has not been mapped.
-                        this.adventure.getChameleon().getInternalLogger().warn(
-                            "Failed to map Adventure Pointer value back to shaded Adventure object. " +
-                                "Please report this to the maintainers of https://github.com/ChameleonFramework/Chameleon so it can be properly mapped. " +
-                                "If this is incorrect, you can safely ignore this message or report it to the maintainers of Chameleon so it can be resolved."
-                        );
-                    }
-
-                    return value;
-                } catch (ReflectiveOperationException ex) {
-                    throw new ChameleonReflectiveException(ex);
+                    handle.invokeExact(audience, mappedSound, x, y, z);
+                } catch (Throwable ex) {
+                    throw ChameleonReflectiveException.createMethodInvocationFailure(
+                        "playSound(Sound, double, double, double)", audience, ex
+                    );
                 }
-            });
-        } catch (ReflectiveOperationException ex) {
-            throw ChameleonReflectiveException.createMethodInvocationFailure(
-                Objects.requireNonNull(this.pointeredGetMethod), pointered, ex
+            }
+        }
+    }
+
+    /**
+     * Play a sound from an emitter to each of the given audiences, mapping the sound once.
+     *
+     * @param audiences Platform audiences to invoke {@code playSound(Sound, Sound.Emitter)} on.
+     * @param sound     Sound to be mapped and played to the audiences from the emitter.
+     * @param emitter   Emitter to be mapped and play the sound from.
+     *
+     * @throws IllegalArgumentException if {@code emitter} is not {@code Sound.Emitter#self()}.
+     */
+    void playSound(@NotNull Collection<?> audiences, @NotNull Sound sound, @NotNull Sound.Emitter emitter) {
+        Preconditions.checkArgument(emitter.equals(Sound.Emitter.self()),
+            "unsupported Sound.Emitter type"
+        );
+        if (!audiences.isEmpty()) {
+            invokeAll(audiences, this.playSoundEmitter.get(), "playSound(Sound, Emitter)",
+                mapSound(sound), this.soundEmitterSelf.get()
             );
         }
     }
 
+    /**
+     * Stop playing a sound to each of the given audiences, mapping the sound stop once.
+     *
+     * @param audiences Platform audiences to invoke {@code stopSound(StopSound)} on.
+     * @param stop      SoundStop to be mapped and sent to the audiences.
+     */
+    void stopSound(@NotNull Collection<?> audiences, @NotNull SoundStop stop) {
+        if (!audiences.isEmpty()) {
+            Object mappedStop;
+            try {
+                mappedStop = this.adventure.getSoundStopMapper().map(stop);
+            } catch (ReflectiveOperationException ex) {
+                throw new ChameleonReflectiveException(ex);
+            }
+            invokeAll(audiences, this.stopSound.get(), "stopSound(SoundStop)", mappedStop);
+        }
+    }
+
+    /**
+     * Open a book for each of the given audiences, mapping the book once.
+     *
+     * @param audiences Platform audiences to invoke {@code openBook(Book)} on.
+     * @param book      Book to be mapped and opened for the audiences.
+     */
+    void openBook(@NotNull Collection<?> audiences, @NotNull Book book) {
+        if (!audiences.isEmpty()) {
+            Object mappedBook;
+            try {
+                mappedBook = this.adventure.getBookMapper().map(book);
+            } catch (ReflectiveOperationException ex) {
+                throw new ChameleonReflectiveException(ex);
+            }
+            invokeAll(audiences, this.openBook.get(), "openBook(Book)", mappedBook);
+        }
+    }
+
+    private @NotNull Object mapComponent(@NotNull Component component) {
+        try {
+            return this.adventure.getComponentMapper().map(component);
+        } catch (ReflectiveOperationException ex) {
+            throw new ChameleonReflectiveException(ex);
+        }
+    }
+
+
+    private @NotNull Object mapSound(@NotNull Sound sound) {
+        try {
+            return this.adventure.getSoundMapper().map(sound);
+        } catch (ReflectiveOperationException ex) {
+            throw new ChameleonReflectiveException(ex);
+        }
+    }
+
+    private static void invokeAll(@NotNull Collection<?> audiences, @NotNull MethodHandle handle, @NotNull String signature, @NotNull Object argument) {
+        for (Object audience : audiences) {
+            try {
+                handle.invokeExact(audience, argument);
+            } catch (Throwable ex) {
+                throw ChameleonReflectiveException.createMethodInvocationFailure(signature, audience, ex);
+            }
+        }
+    }
+
+    private static void invokeAll(@NotNull Collection<?> audiences, @NotNull MethodHandle handle, @NotNull String signature, @NotNull Object first, @NotNull Object second) {
+        for (Object audience : audiences) {
+            try {
+                handle.invokeExact(audience, first, second);
+            } catch (Throwable ex) {
+                throw ChameleonReflectiveException.createMethodInvocationFailure(signature, audience, ex);
+            }
+        }
+    }
+
+    private static @NotNull MethodHandle findAudienceMethod(@NotNull String name, @NotNull Class<?> @NotNull ... parameterTypes) throws ReflectiveOperationException {
+        Class<?> audienceClass = Class.forName(AdventureMapper.ORIGINAL_AUDIENCE_CLASS_NAME);
+        return AdventureHandles.findVirtual(audienceClass, name, void.class, parameterTypes);
+    }
+
+    /**
+     * Resolves a platform method handle, or a platform object used alongside one.
+     *
+     * @param <T> Resolved type.
+     */
+    @FunctionalInterface
+    private interface HandleResolver<T> {
+
+        @NotNull T resolve() throws ReflectiveOperationException;
+
+    }
+
 }
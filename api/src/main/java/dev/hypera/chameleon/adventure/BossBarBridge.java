@@ -0,0 +1,243 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2024 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.adventure;
+
+import dev.hypera.chameleon.adventure.mapper.AdventureMapper;
+import dev.hypera.chameleon.exception.reflection.ChameleonReflectiveException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import net.kyori.adventure.bossbar.BossBar;
+import net.kyori.adventure.text.Component;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Keeps a mirrored platform boss bar for every relocated boss bar shown to a reflected audience.
+ *
+ * <p>The first time a boss bar is shown, it is mapped and a listener is registered on it. Changes
+ * made to the boss bar afterwards are applied to the mirrored platform boss bar one property at a
+ * time, so viewers see them without the boss bar being hidden and shown again.</p>
+ *
+ * <p>A mirror is released once it has no viewers left. Both boss bars and viewers are only weakly
+ * referenced, so a boss bar that is dropped while shown, or viewers that go away without hiding
+ * it, do not keep the mirror alive.</p>
+ */
+final class BossBarBridge {
+
+    private final @NotNull AdventureMapper adventure;
+    private final @NotNull Map<BossBar, Mirror> mirrors = new WeakHashMap<>();
+
+    BossBarBridge(@NotNull AdventureMapper adventure) {
+        this.adventure = adventure;
+    }
+
+    /**
+     * Get the mirrored platform boss bar for the given boss bar and record the given audience as a
+     * viewer of it, mirroring the boss bar if it is not already.
+     *
+     * @param audience Platform audience the boss bar is being shown to.
+     * @param bar      Boss bar being shown.
+     *
+     * @return mirrored platform boss bar.
+     */
+    @NotNull Object show(@NotNull Object audience, @NotNull BossBar bar) {
+        return show(Collections.singleton(audience), bar);
+    }
+
+    /**
+     * Get the mirrored platform boss bar for the given boss bar and record the given audiences as
+     * viewers of it, mirroring the boss bar if it is not already.
+     *
+     * @param audiences Platform audiences the boss bar is being shown to.
+     * @param bar       Boss bar being shown.
+     *
+     * @return mirrored platform boss bar.
+     */
+    @NotNull Object show(@NotNull Collection<?> audiences, @NotNull BossBar bar) {
+        synchronized (this.mirrors) {
+            Mirror mirror = this.mirrors.get(bar);
+            if (mirror == null) {
+                mirror = new Mirror(map(bar));
+                this.mirrors.put(bar, mirror);
+                bar.addListener(mirror);
+            }
+            mirror.viewers.addAll(audiences);
+            return mirror.platformBar;
+        }
+    }
+
+    /**
+     * Get the mirrored platform boss bar for the given boss bar and stop recording the given
+     * audience as a viewer of it, releasing the mirror if it has no viewers left.
+     *
+     * @param audience Platform audience the boss bar is being hidden from.
+     * @param bar      Boss bar being hidden.
+     *
+     * @return mirrored platform boss bar, or a newly mapped boss bar if it is not mirrored.
+     */
+    @NotNull Object hide(@NotNull Object audience, @NotNull BossBar bar) {
+        return hide(Collections.singleton(audience), bar);
+    }
+
+    /**
+     * Get the mirrored platform boss bar for the given boss bar and stop recording the given
+     * audiences as viewers of it, releasing the mirror if it has no viewers left.
+     *
+     * @param audiences Platform audiences the boss bar is being hidden from.
+     * @param bar       Boss bar being hidden.
+     *
+     * @return mirrored platform boss bar, or a newly mapped boss bar if it is not mirrored.
+     */
+    @NotNull Object hide(@NotNull Collection<?> audiences, @NotNull BossBar bar) {
+        synchronized (this.mirrors) {
+            Mirror mirror = this.mirrors.get(bar);
+            if (mirror == null) {
+                return map(bar);
+            }
+            mirror.viewers.removeAll(audiences);
+            if (mirror.viewers.isEmpty()) {
+                release(bar, mirror);
+            }
+            return mirror.platformBar;
+        }
+    }
+
+    /**
+     * Get the number of boss bars currently mirrored.
+     *
+     * @return mirrored boss bar count.
+     */
+    int size() {
+        synchronized (this.mirrors) {
+            return this.mirrors.size();
+        }
+    }
+
+    private @NotNull Object map(@NotNull BossBar bar) {
+        try {
+            return this.adventure.getBossBarMapper().map(bar);
+        } catch (ReflectiveOperationException ex) {
+            throw new ChameleonReflectiveException(ex);
+        }
+    }
+
+    private void release(@NotNull BossBar bar, @NotNull Mirror mirror) {
+        this.mirrors.remove(bar);
+        bar.removeListener(mirror);
+    }
+
+    /**
+     * Boss bar listener applying changes to a mirrored platform boss bar.
+     *
+     * <p>Must not reference the relocated boss bar, otherwise it could never be collected.</p>
+     */
+    private final class Mirror implements BossBar.Listener {
+
+        private final @NotNull Object platformBar;
+        private final @NotNull Set<Object> viewers = Collections.newSetFromMap(new WeakHashMap<>());
+
+        private Mirror(@NotNull Object platformBar) {
+            this.platformBar = platformBar;
+        }
+
+        @Override
+        public void bossBarNameChanged(@NotNull BossBar bar, @NotNull Component oldName, @NotNull Component newName) {
+            if (isReleased(bar)) {
+                return;
+            }
+            try {
+                BossBarBridge.this.adventure.getBossBarMapper().updateName(this.platformBar, newName);
+            } catch (ReflectiveOperationException ex) {
+                throw new ChameleonReflectiveException(ex);
+            }
+        }
+
+        @Override
+        public void bossBarProgressChanged(@NotNull BossBar bar, float oldProgress, float newProgress) {
+            if (isReleased(bar)) {
+                return;
+            }
+            try {
+                BossBarBridge.this.adventure.getBossBarMapper().updateProgress(this.platformBar, newProgress);
+            } catch (ReflectiveOperationException ex) {
+                throw new ChameleonReflectiveException(ex);
+            }
+        }
+
+        @Override
+        public void bossBarColorChanged(@NotNull BossBar bar, @NotNull BossBar.Color oldColor, @NotNull BossBar.Color newColor) {
+            if (isReleased(bar)) {
+                return;
+            }
+            try {
+                BossBarBridge.this.adventure.getBossBarMapper().updateColor(this.platformBar, newColor);
+            } catch (ReflectiveOperationException ex) {
+                throw new ChameleonReflectiveException(ex);
+            }
+        }
+
+        @Override
+        public void bossBarOverlayChanged(@NotNull BossBar bar, @NotNull BossBar.Overlay oldOverlay, @NotNull BossBar.Overlay newOverlay) {
+            if (isReleased(bar)) {
+                return;
+            }
+            try {
+                BossBarBridge.this.adventure.getBossBarMapper().updateOverlay(this.platformBar, newOverlay);
+            } catch (ReflectiveOperationException ex) {
+                throw new ChameleonReflectiveException(ex);
+            }
+        }
+
+        @Override
+        public void bossBarFlagsChanged(@NotNull BossBar bar, @NotNull Set<BossBar.Flag> flagsAdded, @NotNull Set<BossBar.Flag> flagsRemoved) {
+            if (isReleased(bar)) {
+                return;
+            }
+            try {
+                BossBarBridge.this.adventure.getBossBarMapper().updateFlags(this.platformBar, flagsAdded, flagsRemoved);
+            } catch (ReflectiveOperationException ex) {
+                throw new ChameleonReflectiveException(ex);
+            }
+        }
+
+        private boolean isReleased(@NotNull BossBar bar) {
+            synchronized (BossBarBridge.this.mirrors) {
+                if (BossBarBridge.this.mirrors.get(bar) != this) {
+                    // Released while this change was being made.
+                    return true;
+                }
+                if (this.viewers.isEmpty()) {
+                    // Every viewer has been collected without hiding the boss bar.
+                    release(bar, this);
+                    return true;
+                }
+                return false;
+            }
+        }
+
+    }
+
+}
@@ -24,9 +24,11 @@
 package dev.hypera.chameleon.adventure;
 
 import dev.hypera.chameleon.user.ChatUser;
+import dev.hypera.chameleon.util.Preconditions;
 import java.util.function.Predicate;
 import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.platform.AudienceProvider;
+import org.jetbrains.annotations.ApiStatus.Experimental;
 import org.jetbrains.annotations.ApiStatus.NonExtendable;
 import org.jetbrains.annotations.NotNull;
 
@@ -45,4 +47,21 @@ public interface ChameleonAudienceProvider extends AudienceProvider {
      */
     @NotNull Audience filter(@NotNull Predicate<ChatUser> filter);
 
+    /**
+     * Returns a view of this provider whose group audiences broadcast in parallel.
+     *
+     * <p>Broadcasts to audiences with enough members are split into partitions that are sent to
+     * in parallel on the pool of the given settings. Each broadcast returns once every member has
+     * been sent to, so members receive successive broadcasts in order.</p>
+     *
+     * @param parallel Parallel broadcast settings.
+     *
+     * @return parallel view of this provider.
+     */
+    @Experimental
+    default @NotNull ChameleonAudienceProvider parallel(@NotNull ParallelBroadcast parallel) {
+        Preconditions.checkNotNull("parallel", parallel);
+        return new ParallelAudienceProvider(this, parallel);
+    }
+
 }
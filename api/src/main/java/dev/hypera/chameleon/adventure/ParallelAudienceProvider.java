@@ -0,0 +1,155 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2024 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.adventure;
+
+import dev.hypera.chameleon.user.ChatUser;
+import dev.hypera.chameleon.util.Preconditions;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Predicate;
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.audience.ForwardingAudience;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.flattener.ComponentFlattener;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * View of a Chameleon audience provider that broadcasts to its audiences in parallel.
+ */
+final class ParallelAudienceProvider implements ChameleonAudienceProvider {
+
+    private final @NotNull ChameleonAudienceProvider provider;
+    private final @NotNull ParallelBroadcast parallel;
+
+    ParallelAudienceProvider(@NotNull ChameleonAudienceProvider provider, @NotNull ParallelBroadcast parallel) {
+        this.provider = provider;
+        this.parallel = parallel;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull Audience all() {
+        return parallel(this.provider.all());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull Audience console() {
+        return this.provider.console();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull Audience players() {
+        return parallel(this.provider.players());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull Audience player(@NotNull UUID playerId) {
+        return this.provider.player(playerId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull Audience filter(@NotNull Predicate<ChatUser> filter) {
+        return parallel(this.provider.filter(filter));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull Audience permission(@NotNull String permission) {
+        return parallel(this.provider.permission(permission));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull Audience world(@NotNull Key world) {
+        return parallel(this.provider.world(world));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull Audience server(@NotNull String serverName) {
+        return parallel(this.provider.server(serverName));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull ComponentFlattener flattener() {
+        return this.provider.flattener();
+    }
+
+    /**
+     * Does nothing, the underlying provider and parallel broadcast settings must be closed by
+     * their owners.
+     */
+    @Override
+    public void close() {
+        // Views do not own the provider.
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull ChameleonAudienceProvider parallel(@NotNull ParallelBroadcast parallel) {
+        Preconditions.checkNotNull("parallel", parallel);
+        return new ParallelAudienceProvider(this.provider, parallel);
+    }
+
+    private @NotNull Audience parallel(@NotNull Audience audience) {
+        if (audience instanceof ForwardingAudience.Single) {
+            return audience;
+        }
+        if (audience instanceof ForwardingAudience) {
+            return new ReflectedAudienceGroup(((ForwardingAudience) audience).audiences(), this.parallel);
+        }
+        return new ReflectedAudienceGroup(() -> {
+            List<Audience> members = new ArrayList<>();
+            audience.forEachAudience(members::add);
+            return members.iterator();
+        }, this.parallel);
+    }
+
+}
@@ -0,0 +1,159 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2024 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.adventure;
+
+import dev.hypera.chameleon.util.Preconditions;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import org.jetbrains.annotations.ApiStatus.Experimental;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Parallel broadcast settings and the pool broadcasts are sent on.
+ *
+ * <p>Broadcasts to audiences with at least {@link #getThreshold()} members are split into one
+ * partition per thread of a fork-join pool, and each partition is sent to in parallel. The
+ * broadcast only returns once every partition has been sent to, so successive broadcasts from the
+ * same thread reach each recipient in order.</p>
+ *
+ * <p>This should only be used on platforms where audience operations are thread-safe, usually
+ * proxies.</p>
+ */
+@Experimental
+public final class ParallelBroadcast implements AutoCloseable {
+
+    /**
+     * Default minimum number of members an audience must have to be broadcast to in parallel.
+     */
+    public static final int DEFAULT_THRESHOLD = 256;
+
+    private final @NotNull ForkJoinPool pool;
+    private final int threshold;
+
+    private ParallelBroadcast(int parallelism, int threshold) {
+        this.pool = new ForkJoinPool(parallelism);
+        this.threshold = threshold;
+    }
+
+    /**
+     * Create parallel broadcast settings with half of the available processors and the default
+     * threshold.
+     *
+     * @return new parallel broadcast settings.
+     */
+    public static @NotNull ParallelBroadcast create() {
+        return create(Math.max(2, Runtime.getRuntime().availableProcessors() / 2), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Create parallel broadcast settings.
+     *
+     * @param parallelism Maximum number of threads broadcasts are sent on.
+     * @param threshold   Minimum number of members an audience must have to be broadcast to in
+     *                    parallel.
+     *
+     * @return new parallel broadcast settings.
+     * @throws IllegalArgumentException if {@code parallelism} or {@code threshold} is not positive.
+     */
+    public static @NotNull ParallelBroadcast create(int parallelism, int threshold) {
+        Preconditions.checkArgument(parallelism > 0, "parallelism must be positive");
+        Preconditions.checkArgument(threshold > 0, "threshold must be positive");
+        return new ParallelBroadcast(parallelism, threshold);
+    }
+
+    /**
+     * Returns the maximum number of threads broadcasts are sent on.
+     *
+     * @return parallelism.
+     */
+    public int getParallelism() {
+        return this.pool.getParallelism();
+    }
+
+    /**
+     * Returns the minimum number of members an audience must have to be broadcast to in parallel.
+     *
+     * @return threshold.
+     */
+    public int getThreshold() {
+        return this.threshold;
+    }
+
+    /**
+     * Shuts down the pool. Broadcasts sent after closing are sent on the calling thread.
+     */
+    @Override
+    public void close() {
+        this.pool.shutdown();
+    }
+
+    /**
+     * Perform the given action on partitions of the given targets, in parallel if there are enough
+     * targets, and wait for every partition to complete.
+     *
+     * @param targets Targets to partition.
+     * @param action  Action to perform on each partition.
+     * @param <T>     Target type.
+     */
+    <T> void forEachPartition(@NotNull List<T> targets, @NotNull Consumer<List<T>> action) {
+        int partitions = getParallelism();
+        if (targets.size() < this.threshold || partitions < 2 || this.pool.isShutdown()) {
+            action.accept(targets);
+            return;
+        }
+
+        int size = (targets.size() + partitions - 1) / partitions;
+        List<RecursiveAction> tasks = new ArrayList<>(partitions);
+        for (int from = 0; from < targets.size(); from += size) {
+            List<T> partition = targets.subList(from, Math.min(from + size, targets.size()));
+            tasks.add(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    action.accept(partition);
+                }
+            });
+        }
+        ForkJoinTask<?> broadcast;
+        try {
+            broadcast = this.pool.submit(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    ForkJoinTask.invokeAll(tasks);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            // The pool was closed after it was checked, so no partition has been sent to.
+            action.accept(targets);
+            return;
+        }
+        // Exceptions thrown while sending are rethrown without sending again.
+        broadcast.join();
+    }
+
+}
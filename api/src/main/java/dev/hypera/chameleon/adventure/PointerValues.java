@@ -0,0 +1,102 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2024 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.adventure;
+
+import dev.hypera.chameleon.adventure.mapper.AdventureMapper;
+import dev.hypera.chameleon.exception.reflection.ChameleonReflectiveException;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Maps pointer values read from platform audiences back to relocated Adventure objects.
+ *
+ * <p>How values of a class are mapped is resolved the first time a value of that class is read,
+ * and cached for the class, so later reads do not inspect the class again.</p>
+ */
+final class PointerValues {
+
+    private static final @NotNull Converter IDENTITY = value -> value;
+
+    private final @NotNull AdventureMapper adventure;
+    private final @NotNull Class<?> componentClass;
+    private final @NotNull Class<?> keyClass;
+    private final @NotNull ClassValue<Converter> converters = new ClassValue<Converter>() {
+        @Override
+        protected @NotNull Converter computeValue(@NotNull Class<?> type) {
+            return resolve(type);
+        }
+    };
+
+    PointerValues(@NotNull AdventureMapper adventure) throws ReflectiveOperationException {
+        this.adventure = adventure;
+        this.componentClass = Class.forName(AdventureMapper.ORIGINAL_COMPONENT_CLASS_NAME);
+        this.keyClass = Class.forName(AdventureMapper.ORIGINAL_KEY_CLASS_NAME);
+    }
+
+    /**
+     * Map the given pointer value backwards, if it is a platform Adventure object.
+     *
+     * @param value Pointer value read from a platform audience.
+     *
+     * @return mapped value, or the given value if it does not need to be mapped.
+     */
+    @NotNull Object mapBackwards(@NotNull Object value) {
+        try {
+            return this.converters.get(value.getClass()).convert(value);
+        } catch (ReflectiveOperationException ex) {
+            throw new ChameleonReflectiveException(ex);
+        }
+    }
+
+    private @NotNull Converter resolve(@NotNull Class<?> type) {
+        if (!type.getName().startsWith(AdventureMapper.ORIGINAL_PACKAGE)) {
+            return IDENTITY;
+        }
+
+        if (this.componentClass.isAssignableFrom(type)) {
+            // Pointer value is a component, map it backwards.
+            return value -> this.adventure.getComponentMapper().mapBackwards(value);
+        }
+
+        if (this.keyClass.isAssignableFrom(type)) {
+            // Pointer value is a key, map it backwards.
+            return value -> this.adventure.getKeyMapper().mapBackwards(value);
+        }
+
+        // Pointer value is a platform adventure object, however it has not been mapped.
+        this.adventure.getChameleon().getInternalLogger().warn(
+            "Failed to map Adventure Pointer value back to shaded Adventure object. " +
+                "Please report this to the maintainers of https://github.com/ChameleonFramework/Chameleon so it can be properly mapped. " +
+                "If this is incorrect, you can safely ignore this message or report it to the maintainers of Chameleon so it can be resolved."
+        );
+        return IDENTITY;
+    }
+
+    @FunctionalInterface
+    private interface Converter {
+
+        @NotNull Object convert(@NotNull Object value) throws ReflectiveOperationException;
+
+    }
+
+}
@@ -24,7 +24,10 @@
 package dev.hypera.chameleon.adventure;
 
 import dev.hypera.chameleon.util.Preconditions;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.audience.ForwardingAudience;
@@ -49,13 +52,23 @@ import org.jetbrains.annotations.UnknownNullability;
 
 /**
  * Reflected audience wrapper.
+ *
+ * <p>When the platform uses the same Adventure classes as Chameleon, a reflected audience passes
+ * every call straight through to the platform audience, without any mapping or reflection.</p>
+ *
+ * <p>A reflected audience may keep a snapshot of its stable pointers, such as its UUID and name,
+ * in which case those pointers are only read from the platform audience once.</p>
  */
 @Internal
 @Experimental
 public final class ReflectedAudience implements ForwardingAudience.Single {
 
+    private static final @NotNull Set<Pointer<?>> STABLE_POINTERS = Set.of(Identity.UUID, Identity.NAME);
+
     private final @NotNull Object audience;
     private final @NotNull AudienceReflection audienceReflection;
+    private final @Nullable Map<Pointer<?>, Optional<?>> pointerSnapshot;
+    private final @Nullable Audience nativeAudience;
 
     /**
      * Reflected audience constructor.
@@ -64,8 +77,70 @@ public final class ReflectedAudience implements ForwardingAudience.Single {
      * @param audienceReflection Audience reflection helper.
      */
     public ReflectedAudience(@NotNull Object audience, @NotNull AudienceReflection audienceReflection) {
+        this(audience, audienceReflection, false);
+    }
+
+    /**
+     * Reflected audience constructor.
+     *
+     * @param audience           Audience to be wrapped.
+     * @param audienceReflection Audience reflection helper.
+     * @param snapshotPointers   Whether to keep a snapshot of stable pointers.
+     */
+    public ReflectedAudience(@NotNull Object audience, @NotNull AudienceReflection audienceReflection, boolean snapshotPointers) {
         this.audience = audience;
         this.audienceReflection = audienceReflection;
+        this.pointerSnapshot = snapshotPointers ? new ConcurrentHashMap<>() : null;
+        this.nativeAudience = null;
+    }
+
+    private ReflectedAudience(@NotNull Audience audience, @NotNull AudienceReflection audienceReflection) {
+        this.audience = audience;
+        this.audienceReflection = audienceReflection;
+        this.pointerSnapshot = null;
+        this.nativeAudience = audience;
+    }
+
+    /**
+     * Create a reflected audience that passes every call straight through to the given audience.
+     *
+     * <p>This must only be used when the platform audience uses the same Adventure classes as
+     * Chameleon.</p>
+     *
+     * @param audience           Platform audience to be wrapped.
+     * @param audienceReflection Audience reflection helper.
+     *
+     * @return new pass-through reflected audience.
+     */
+    public static @NotNull ReflectedAudience passthrough(@NotNull Audience audience, @NotNull AudienceReflection audienceReflection) {
+        return new ReflectedAudience(audience, audienceReflection);
+    }
+
+    /**
+     * Get the wrapped platform audience.
+     *
+     * @return platform audience.
+     */
+    @NotNull Object getPlatformAudience() {
+        return this.audience;
+    }
+
+    /**
+     * Get the audience reflection helper used by this audience.
+     *
+     * @return audience reflection helper.
+     */
+    @NotNull AudienceReflection getAudienceReflection() {
+        return this.audienceReflection;
+    }
+
+    /**
+     * Get whether this audience passes every call straight through to the platform audience.
+     *
+     * @return {@code true} if calls are passed through, otherwise {@code false}.
+     */
+    public boolean isPassthrough() {
+        return this.nativeAudience != null;
     }
 
     /**
@@ -76,6 +151,11 @@ public final class ReflectedAudience implements ForwardingAudience.Single {
     @Override
     public void sendMessage(@NotNull Component message) {
         Preconditions.checkNotNull("message", message);
+        Audience nativeTarget = this.nativeAudience;
+        if (nativeTarget != null) {
+            nativeTarget.sendMessage(message);
+            return;
+        }
         this.audienceReflection.sendMessage(this.audience, message);
     }
 
@@ -89,6 +169,11 @@ public final class ReflectedAudience implements ForwardingAudience.Single {
     public void sendMessage(@NotNull Component message, @NotNull ChatType.Bound boundChatType) {
         Preconditions.checkNotNull("message", message);
         Preconditions.checkNotNull("boundChatType", boundChatType);
+        Audience nativeTarget = this.nativeAudience;
+        if (nativeTarget != null) {
+            nativeTarget.sendMessage(message, boundChatType);
+            return;
+        }
         this.audienceReflection.sendMessage(this.audience, message, boundChatType);
     }
 
@@ -126,6 +211,11 @@ public final class ReflectedAudience implements ForwardingAudience.Single {
         Preconditions.checkNotNull("source", source);
         Preconditions.checkNotNull("message", message);
         Preconditions.checkNotNull("type", type);
+        Audience nativeTarget = this.nativeAudience;
+        if (nativeTarget != null) {
+            nativeTarget.sendMessage(source, message, type);
+            return;
+        }
         this.audienceReflection.sendMessage(this.audience, source, message, type);
     }
 
@@ -137,6 +227,11 @@ public final class ReflectedAudience implements ForwardingAudience.Single {
     @Override
     public void deleteMessage(@NotNull SignedMessage.Signature signature) {
         Preconditions.checkNotNull("signature", signature);
+        Audience nativeTarget = this.nativeAudience;
+        if (nativeTarget != null) {
+            nativeTarget.deleteMessage(signature);
+            return;
+        }
         this.audienceReflection.deleteMessage(this.audience, signature);
     }
 
@@ -148,6 +243,11 @@ public final class ReflectedAudience implements ForwardingAudience.Single {
     @Override
     public void sendActionBar(@NotNull Component message) {
         Preconditions.checkNotNull("message", message);
+        Audience nativeTarget = this.nativeAudience;
+        if (nativeTarget != null) {
+            nativeTarget.sendActionBar(message);
+            return;
+        }
         this.audienceReflection.sendActionBar(this.audience, message);
     }
 
@@ -159,6 +259,11 @@ public final class ReflectedAudience implements ForwardingAudience.Single {
     @Override
     public void sendPlayerListHeader(@NotNull Component header) {
         Preconditions.checkNotNull("header", header);
+        Audience nativeTarget = this.nativeAudience;
+        if (nativeTarget != null) {
+            nativeTarget.sendPlayerListHeader(header);
+            return;
+        }
         this.audienceReflection.sendPlayerListHeader(this.audience, header);
     }
 
@@ -170,6 +275,11 @@ public final class ReflectedAudience implements ForwardingAudience.Single {
     @Override
     public void sendPlayerListFooter(@NotNull Component footer) {
         Preconditions.checkNotNull("footer", footer);
+        Audience nativeTarget = this.nativeAudience;
+        if (nativeTarget != null) {
+            nativeTarget.sendPlayerListFooter(footer);
+            return;
+        }
         this.audienceReflection.sendPlayerListFooter(this.audience, footer);
     }
 
@@ -183,6 +293,11 @@ public final class ReflectedAudience implements ForwardingAudience.Single {
     public void sendPlayerListHeaderAndFooter(@NotNull Component header, @NotNull Component footer) {
         Preconditions.checkNotNull("header", header);
         Preconditions.checkNotNull("footer", footer);
+        Audience nativeTarget = this.nativeAudience;
+        if (nativeTarget != null) {
+            nativeTarget.sendPlayerListHeaderAndFooter(header, footer);
+            return;
+        }
         this.audienceReflection.sendPlayerListHeaderAndFooter(this.audience, header, footer);
     }
 
@@ -199,6 +314,11 @@ public final class ReflectedAudience implements ForwardingAudience.Single {
     public <T> void sendTitlePart(@NotNull TitlePart<T> part, @NotNull T value) {
         Preconditions.checkNotNull("part", part);
         Preconditions.checkNotNull("value", value);
+        Audience nativeTarget = this.nativeAudience;
+        if (nativeTarget != null) {
+            nativeTarget.sendTitlePart(part, value);
+            return;
+        }
         this.audienceReflection.sendTitlePart(this.audience, part, value);
     }
 
@@ -207,6 +327,11 @@ public final class ReflectedAudience implements ForwardingAudience.Single {
      */
     @Override
     public void clearTitle() {
+        Audience nativeTarget = this.nativeAudience;
+        if (nativeTarget != null) {
+            nativeTarget.clearTitle();
+            return;
+        }
         this.audienceReflection.clearTitle(this.audience);
     }
 
@@ -215,6 +340,11 @@ public final class ReflectedAudience implements ForwardingAudience.Single {
      */
     @Override
     public void resetTitle() {
+        Audience nativeTarget = this.nativeAudience;
+        if (nativeTarget != null) {
+            nativeTarget.resetTitle();
+            return;
+        }
         this.audienceReflection.resetTitle(this.audience);
     }
 
@@ -226,6 +356,11 @@ public final class ReflectedAudience implements ForwardingAudience.Single {
     @Override
     public void showBossBar(@NotNull BossBar bar) {
         Preconditions.checkNotNull("bar", bar);
+        Audience nativeTarget = this.nativeAudience;
+        if (nativeTarget != null) {
+            nativeTarget.showBossBar(bar);
+            return;
+        }
         this.audienceReflection.showBossBar(this.audience, bar);
     }
 
@@ -237,6 +372,11 @@ public final class ReflectedAudience implements ForwardingAudience.Single {
     @Override
     public void hideBossBar(@NotNull BossBar bar) {
         Preconditions.checkNotNull("bar", bar);
+        Audience nativeTarget = this.nativeAudience;
+        if (nativeTarget != null) {
+            nativeTarget.hideBossBar(bar);
+            return;
+        }
         this.audienceReflection.hideBossBar(this.audience, bar);
     }
 
@@ -248,6 +388,11 @@ public final class ReflectedAudience implements ForwardingAudience.Single {
     @Override
     public void playSound(@NotNull Sound sound) {
         Preconditions.checkNotNull("sound", sound);
+        Audience nativeTarget = this.nativeAudience;
+        if (nativeTarget != null) {
+            nativeTarget.playSound(sound);
+            return;
+        }
         this.audienceReflection.playSound(this.audience, sound);
     }
 
@@ -262,6 +407,11 @@ public final class ReflectedAudience implements ForwardingAudience.Single {
     @Override
     public void playSound(@NotNull Sound sound, double x, double y, double z) {
         Preconditions.checkNotNull("sound", sound);
+        Audience nativeTarget = this.nativeAudience;
+        if (nativeTarget != null) {
+            nativeTarget.playSound(sound, x, y, z);
+            return;
+        }
         this.audienceReflection.playSound(this.audience, sound, x, y, z);
     }
 
@@ -275,6 +425,11 @@ public final class ReflectedAudience implements ForwardingAudience.Single {
     public void playSound(@NotNull Sound sound, @NotNull Sound.Emitter emitter) {
         Preconditions.checkNotNull("sound", sound);
         Preconditions.checkNotNull("emitter", emitter);
+        Audience nativeTarget = this.nativeAudience;
+        if (nativeTarget != null) {
+            nativeTarget.playSound(sound, emitter);
+            return;
+        }
         this.audienceReflection.playSound(this.audience, sound, emitter);
     }
 
@@ -286,6 +441,11 @@ public final class ReflectedAudience implements ForwardingAudience.Single {
     @Override
     public void stopSound(@NotNull SoundStop stop) {
         Preconditions.checkNotNull("stop", stop);
+        Audience nativeTarget = this.nativeAudience;
+        if (nativeTarget != null) {
+            nativeTarget.stopSound(stop);
+            return;
+        }
         this.audienceReflection.stopSound(this.audience, stop);
     }
 
@@ -297,6 +457,11 @@ public final class ReflectedAudience implements ForwardingAudience.Single {
     @Override
     public void openBook(@NotNull Book book) {
         Preconditions.checkNotNull("book", book);
+        Audience nativeTarget = this.nativeAudience;
+        if (nativeTarget != null) {
+            nativeTarget.openBook(book);
+            return;
+        }
         this.audienceReflection.openBook(this.audience, book);
     }
 
@@ -307,7 +472,8 @@ public final class ReflectedAudience implements ForwardingAudience.Single {
      */
     @Override
     public @NotNull Audience audience() {
-        return this;
+        Audience nativeTarget = this.nativeAudience;
+        return nativeTarget != null ? nativeTarget : this;
     }
 
     /**
@@ -319,8 +485,28 @@ public final class ReflectedAudience implements ForwardingAudience.Single {
      * @return the value.
      */
     @Override
+    @SuppressWarnings("unchecked")
     public <T> @NotNull Optional<T> get(@NotNull Pointer<T> pointer) {
-        return this.audienceReflection.getPointer(this.audience, pointer);
+        Audience nativeTarget = this.nativeAudience;
+        if (nativeTarget != null) {
+            return nativeTarget.get(pointer);
+        }
+
+        Map<Pointer<?>, Optional<?>> snapshot = this.pointerSnapshot;
+        if (snapshot == null || !STABLE_POINTERS.contains(pointer)) {
+            return this.audienceReflection.getPointer(this.audience, pointer);
+        }
+
+        Optional<?> cached = snapshot.get(pointer);
+        if (cached != null) {
+            return (Optional<T>) cached;
+        }
+        Optional<T> value = this.audienceReflection.getPointer(this.audience, pointer);
+        if (value.isPresent()) {
+            // Absent values are not kept, they may become present later.
+            snapshot.put(pointer, value);
+        }
+        return value;
     }
 
     /**
@@ -360,7 +546,21 @@ public final class ReflectedAudience implements ForwardingAudience.Single {
      */
     @Override
     public @NotNull Pointers pointers() {
-        return Pointers.empty(); // unsupported
+        Audience nativeTarget = this.nativeAudience;
+        return nativeTarget != null ? nativeTarget.pointers() : Pointers.empty(); // unsupported
+    }
+
+    /**
+     * Discard the snapshot of stable pointers, if one is kept, so they are read from the platform
+     * audience again.
+     *
+     * <p>This should be called when a stable pointer of the platform audience changes.</p>
+     */
+    public void refreshPointers() {
+        Map<Pointer<?>, Optional<?>> snapshot = this.pointerSnapshot;
+        if (snapshot != null) {
+            snapshot.clear();
+        }
     }
 
 }
@@ -0,0 +1,391 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2024 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.adventure;
+
+import dev.hypera.chameleon.util.Preconditions;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.audience.ForwardingAudience;
+import net.kyori.adventure.bossbar.BossBar;
+import net.kyori.adventure.chat.ChatType;
+import net.kyori.adventure.chat.SignedMessage;
+import net.kyori.adventure.inventory.Book;
+import net.kyori.adventure.sound.Sound;
+import net.kyori.adventure.sound.SoundStop;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.title.TitlePart;
+import org.jetbrains.annotations.ApiStatus.Experimental;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Forwarding audience that broadcasts to reflected audiences efficiently.
+ *
+ * <p>Members that are, or forward to, a {@link ReflectedAudience} are unwrapped to their platform
+ * audiences. The argument of a broadcast is then mapped once and the platform method is invoked on
+ * every platform audience, instead of every member mapping the same argument. Any other member is
+ * forwarded to as usual, as are reflected audiences that pass calls straight through.</p>
+ *
+ * <p>If the group has {@link ParallelBroadcast} settings, large broadcasts are split into
+ * partitions that are sent to in parallel, each mapping the argument once.</p>
+ */
+@Internal
+@Experimental
+public final class ReflectedAudienceGroup implements ForwardingAudience {
+
+    private final @NotNull Iterable<? extends Audience> audiences;
+    private final @Nullable ParallelBroadcast parallel;
+
+    /**
+     * Reflected audience group constructor.
+     *
+     * <p>The given iterable is iterated on every broadcast, so it may be a live view of the
+     * members.</p>
+     *
+     * @param audiences Group members.
+     */
+    public ReflectedAudienceGroup(@NotNull Iterable<? extends Audience> audiences) {
+        this(audiences, null);
+    }
+
+    /**
+     * Reflected audience group constructor.
+     *
+     * <p>The given iterable is iterated on every broadcast, so it may be a live view of the
+     * members.</p>
+     *
+     * @param audiences Group members.
+     * @param parallel  Parallel broadcast settings, or {@code null} to broadcast on the calling
+     *                  thread.
+     */
+    public ReflectedAudienceGroup(@NotNull Iterable<? extends Audience> audiences, @Nullable ParallelBroadcast parallel) {
+        this.audiences = audiences;
+        this.parallel = parallel;
+    }
+
+    /**
+     * Returns the audiences.
+     *
+     * @return the audiences.
+     */
+    @Override
+    public @NotNull Iterable<? extends Audience> audiences() {
+        return this.audiences;
+    }
+
+    /**
+     * Filters this audience.
+     *
+     * <p>Unlike the default implementation, members are tested directly and are not filtered any
+     * further. The returned audience is a snapshot of the matching members.</p>
+     *
+     * @param filter a filter that determines if an audience should be included.
+     *
+     * @return an audience providing a snapshot of all audiences that match the filter.
+     */
+    @Override
+    public @NotNull Audience filterAudience(@NotNull Predicate<? super Audience> filter) {
+        Preconditions.checkNotNull("filter", filter);
+        List<Audience> filtered = new ArrayList<>();
+        for (Audience audience : this.audiences) {
+            if (filter.test(audience)) {
+                filtered.add(audience);
+            }
+        }
+        return filtered.isEmpty() ? Audience.empty() : new ReflectedAudienceGroup(filtered, this.parallel);
+    }
+
+    /**
+     * Sends a system chat message to this Audience.
+     *
+     * @param message a message.
+     */
+    @Override
+    public void sendMessage(@NotNull Component message) {
+        Preconditions.checkNotNull("message", message);
+        broadcast(audience -> audience.sendMessage(message),
+            (reflection, audiences) -> reflection.sendMessage(audiences, message));
+    }
+
+    /**
+     * Sends a message to this Audience with the provided bound chat type.
+     *
+     * @param message       the component content.
+     * @param boundChatType the bound chat type.
+     */
+    @Override
+    public void sendMessage(@NotNull Component message, @NotNull ChatType.Bound boundChatType) {
+        Preconditions.checkNotNull("message", message);
+        Preconditions.checkNotNull("boundChatType", boundChatType);
+        broadcast(audience -> audience.sendMessage(message, boundChatType),
+            (reflection, audiences) -> reflection.sendMessage(audiences, message, boundChatType));
+    }
+
+    /**
+     * Requests deletion of a message with the provided signature.
+     *
+     * @param signature The signature.
+     */
+    @Override
+    public void deleteMessage(@NotNull SignedMessage.Signature signature) {
+        Preconditions.checkNotNull("signature", signature);
+        broadcast(audience -> audience.deleteMessage(signature),
+            (reflection, audiences) -> reflection.deleteMessage(audiences, signature));
+    }
+
+    /**
+     * Sends a message on the action bar.
+     *
+     * @param message A message.
+     */
+    @Override
+    public void sendActionBar(@NotNull Component message) {
+        Preconditions.checkNotNull("message", message);
+        broadcast(audience -> audience.sendActionBar(message),
+            (reflection, audiences) -> reflection.sendActionBar(audiences, message));
+    }
+
+    /**
+     * Sends the player list header.
+     *
+     * @param header The header.
+     */
+    @Override
+    public void sendPlayerListHeader(@NotNull Component header) {
+        Preconditions.checkNotNull("header", header);
+        broadcast(audience -> audience.sendPlayerListHeader(header),
+            (reflection, audiences) -> reflection.sendPlayerListHeader(audiences, header));
+    }
+
+    /**
+     * Sends the player list footer.
+     *
+     * @param footer The footer.
+     */
+    @Override
+    public void sendPlayerListFooter(@NotNull Component footer) {
+        Preconditions.checkNotNull("footer", footer);
+        broadcast(audience -> audience.sendPlayerListFooter(footer),
+            (reflection, audiences) -> reflection.sendPlayerListFooter(audiences, footer));
+    }
+
+    /**
+     * Sends the player list header and footer.
+     *
+     * @param header The header.
+     * @param footer The footer.
+     */
+    @Override
+    public void sendPlayerListHeaderAndFooter(@NotNull Component header, @NotNull Component footer) {
+        Preconditions.checkNotNull("header", header);
+        Preconditions.checkNotNull("footer", footer);
+        broadcast(audience -> audience.sendPlayerListHeaderAndFooter(header, footer),
+            (reflection, audiences) -> reflection.sendPlayerListHeaderAndFooter(audiences, header, footer));
+    }
+
+    /**
+     * Shows a part of a title.
+     *
+     * @param part  The part.
+     * @param value The value.
+     * @param <T>   The type of the value of the part.
+     *
+     * @throws IllegalArgumentException if a title part that is not in TitlePart is used.
+     */
+    @Override
+    public <T> void sendTitlePart(@NotNull TitlePart<T> part, @NotNull T value) {
+        Preconditions.checkNotNull("part", part);
+        Preconditions.checkNotNull("value", value);
+        broadcast(audience -> audience.sendTitlePart(part, value),
+            (reflection, audiences) -> reflection.sendTitlePart(audiences, part, value));
+    }
+
+    /**
+     * Shows a boss bar.
+     *
+     * @param bar A boss bar.
+     */
+    @Override
+    public void showBossBar(@NotNull BossBar bar) {
+        Preconditions.checkNotNull("bar", bar);
+        broadcast(audience -> audience.showBossBar(bar),
+            (reflection, audiences) -> reflection.showBossBar(audiences, bar));
+    }
+
+    /**
+     * Hides a boss bar.
+     *
+     * @param bar A boss bar.
+     */
+    @Override
+    public void hideBossBar(@NotNull BossBar bar) {
+        Preconditions.checkNotNull("bar", bar);
+        broadcast(audience -> audience.hideBossBar(bar),
+            (reflection, audiences) -> reflection.hideBossBar(audiences, bar));
+    }
+
+    /**
+     * Plays a sound at the location of the recipient of the sound.
+     *
+     * @param sound A sound.
+     */
+    @Override
+    public void playSound(@NotNull Sound sound) {
+        Preconditions.checkNotNull("sound", sound);
+        broadcast(audience -> audience.playSound(sound),
+            (reflection, audiences) -> reflection.playSound(audiences, sound));
+    }
+
+    /**
+     * Plays a sound at a location.
+     *
+     * @param sound A sound.
+     * @param x     Position X coordinate.
+     * @param y     Position Y coordinate.
+     * @param z     Position Z coordinate.
+     */
+    @Override
+    public void playSound(@NotNull Sound sound, double x, double y, double z) {
+        Preconditions.checkNotNull("sound", sound);
+        broadcast(audience -> audience.playSound(sound, x, y, z),
+            (reflection, audiences) -> reflection.playSound(audiences, sound, x, y, z));
+    }
+
+    /**
+     * Plays a sound from an emitter, usually an entity.
+     *
+     * @param sound   A sound.
+     * @param emitter An emitter.
+     */
+    @Override
+    public void playSound(@NotNull Sound sound, @NotNull Sound.Emitter emitter) {
+        Preconditions.checkNotNull("sound", sound);
+        Preconditions.checkNotNull("emitter", emitter);
+        broadcast(audience -> audience.playSound(sound, emitter),
+            (reflection, audiences) -> reflection.playSound(audiences, sound, emitter));
+    }
+
+    /**
+     * Stops a sound, or many sounds.
+     *
+     * @param stop A sound stop.
+     */
+    @Override
+    public void stopSound(@NotNull SoundStop stop) {
+        Preconditions.checkNotNull("stop", stop);
+        broadcast(audience -> audience.stopSound(stop),
+            (reflection, audiences) -> reflection.stopSound(audiences, stop));
+    }
+
+    /**
+     * Opens a book.
+     *
+     * @param book A book.
+     */
+    @Override
+    public void openBook(@NotNull Book book) {
+        Preconditions.checkNotNull("book", book);
+        broadcast(audience -> audience.openBook(book),
+            (reflection, audiences) -> reflection.openBook(audiences, book));
+    }
+
+    /**
+     * Broadcast to the members of this group, in parallel partitions if enabled.
+     *
+     * @param fallback  Action to perform on members that cannot be unwrapped.
+     * @param reflected Action to perform on the platform audiences of the reflected members.
+     */
+    private void broadcast(@NotNull Consumer<Audience> fallback, @NotNull BiConsumer<AudienceReflection, List<Object>> reflected) {
+        ParallelBroadcast parallelBroadcast = this.parallel;
+        if (parallelBroadcast == null) {
+            broadcast(this.audiences, fallback, reflected);
+            return;
+        }
+
+        List<Audience> members = new ArrayList<>();
+        this.audiences.forEach(members::add);
+        parallelBroadcast.forEachPartition(members, partition -> broadcast(partition, fallback, reflected));
+    }
+
+    private static void broadcast(@NotNull Iterable<? extends Audience> members, @NotNull Consumer<Audience> fallback, @NotNull BiConsumer<AudienceReflection, List<Object>> reflected) {
+        Targets targets = partition(members, fallback);
+        if (targets.reflection != null) {
+            reflected.accept(targets.reflection, targets.audiences);
+        }
+    }
+
+    /**
+     * Split the given members into the platform audiences of the reflected members, and
+     * everything else, which is passed to the given fallback straight away.
+     *
+     * @param members  Members to split.
+     * @param fallback Action to perform on members that cannot be unwrapped.
+     *
+     * @return unwrapped platform audiences.
+     */
+    private static @NotNull Targets partition(@NotNull Iterable<? extends Audience> members, @NotNull Consumer<Audience> fallback) {
+        Targets targets = new Targets();
+        for (Audience audience : members) {
+            ReflectedAudience reflected = unwrap(audience);
+            if (reflected == null || reflected.isPassthrough()) {
+                fallback.accept(audience);
+            } else if (targets.reflection == null || targets.reflection == reflected.getAudienceReflection()) {
+                targets.reflection = reflected.getAudienceReflection();
+                targets.audiences.add(reflected.getPlatformAudience());
+            } else {
+                // Mapped by a different Adventure mapper, this should never happen in practice.
+                fallback.accept(reflected);
+            }
+        }
+        return targets;
+    }
+
+    private static @Nullable ReflectedAudience unwrap(@NotNull Audience audience) {
+        Audience current = audience;
+        while (!(current instanceof ReflectedAudience)) {
+            if (!(current instanceof ForwardingAudience.Single)) {
+                return null;
+            }
+            Audience next = ((ForwardingAudience.Single) current).audience();
+            if (next == current) {
+                return null;
+            }
+            current = next;
+        }
+        return (ReflectedAudience) current;
+    }
+
+    private static final class Targets {
+
+        private final @NotNull List<Object> audiences = new ArrayList<>();
+        private @Nullable AudienceReflection reflection;
+
+    }
+
+}
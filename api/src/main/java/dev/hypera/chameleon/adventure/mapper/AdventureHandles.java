@@ -0,0 +1,144 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2024 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.adventure.mapper;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Method handle utilities for invoking platform Adventure methods.
+ *
+ * <p>Handles returned by this class have the platform Adventure types in their type replaced
+ * with {@code Object}, so they can be invoked exactly without referencing platform classes.</p>
+ */
+@Internal
+public final class AdventureHandles {
+
+    private static final @NotNull MethodHandles.Lookup LOOKUP = MethodHandles.publicLookup();
+
+    private AdventureHandles() {
+        throw new UnsupportedOperationException(
+            "AdventureHandles is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Find a public static method and adapt it for exact invocation.
+     *
+     * @param owner          Class declaring the method.
+     * @param name           Method name.
+     * @param returnType     Method return type.
+     * @param parameterTypes Method parameter types.
+     *
+     * @return adapted method handle.
+     * @throws ReflectiveOperationException if the method could not be found.
+     */
+    public static @NotNull MethodHandle findStatic(@NotNull Class<?> owner, @NotNull String name, @NotNull Class<?> returnType, @NotNull Class<?> @NotNull ... parameterTypes) throws ReflectiveOperationException {
+        return generic(LOOKUP.findStatic(owner, name, MethodType.methodType(returnType, parameterTypes)));
+    }
+
+    /**
+     * Find a public virtual method and adapt it for exact invocation.
+     *
+     * @param owner          Class declaring the method.
+     * @param name           Method name.
+     * @param returnType     Method return type.
+     * @param parameterTypes Method parameter types, excluding the receiver.
+     *
+     * @return adapted method handle.
+     * @throws ReflectiveOperationException if the method could not be found.
+     */
+    public static @NotNull MethodHandle findVirtual(@NotNull Class<?> owner, @NotNull String name, @NotNull Class<?> returnType, @NotNull Class<?> @NotNull ... parameterTypes) throws ReflectiveOperationException {
+        return generic(LOOKUP.findVirtual(owner, name, MethodType.methodType(returnType, parameterTypes)));
+    }
+
+    /**
+     * Find a public virtual method that may not exist on every platform version, and adapt it for
+     * exact invocation.
+     *
+     * @param owner          Class declaring the method.
+     * @param name           Method name.
+     * @param returnType     Method return type.
+     * @param parameterTypes Method parameter types, excluding the receiver.
+     *
+     * @return adapted method handle, or {@code null} if the method does not exist.
+     * @throws ReflectiveOperationException if the method could not be accessed.
+     */
+    public static @Nullable MethodHandle findOptionalVirtual(@NotNull Class<?> owner, @NotNull String name, @NotNull Class<?> returnType, @NotNull Class<?> @NotNull ... parameterTypes) throws ReflectiveOperationException {
+        try {
+            return findVirtual(owner, name, returnType, parameterTypes);
+        } catch (NoSuchMethodException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Replaces the platform Adventure types in the type of the given handle with {@code Object}.
+     *
+     * @param handle Method handle.
+     *
+     * @return adapted method handle.
+     */
+    public static @NotNull MethodHandle generic(@NotNull MethodHandle handle) {
+        MethodType type = handle.type();
+        for (int i = 0; i < type.parameterCount(); i++) {
+            if (type.parameterType(i).getName().startsWith(AdventureMapper.ORIGINAL_PACKAGE)) {
+                type = type.changeParameterType(i, Object.class);
+            }
+        }
+        if (type.returnType().getName().startsWith(AdventureMapper.ORIGINAL_PACKAGE)) {
+            type = type.changeReturnType(Object.class);
+        }
+        return handle.asType(type);
+    }
+
+    /**
+     * Convert a throwable thrown by a method handle invocation into a reflective operation
+     * exception.
+     *
+     * <p>Reflective operation exceptions are returned as is, unchecked exceptions and errors are
+     * rethrown, and anything else is wrapped in an {@link InvocationTargetException}.</p>
+     *
+     * @param ex Throwable to convert.
+     *
+     * @return reflective operation exception to be thrown.
+     */
+    public static @NotNull ReflectiveOperationException propagate(@NotNull Throwable ex) {
+        if (ex instanceof ReflectiveOperationException) {
+            return (ReflectiveOperationException) ex;
+        }
+        if (ex instanceof RuntimeException) {
+            throw (RuntimeException) ex;
+        }
+        if (ex instanceof Error) {
+            throw (Error) ex;
+        }
+        return new InvocationTargetException(ex);
+    }
+
+}
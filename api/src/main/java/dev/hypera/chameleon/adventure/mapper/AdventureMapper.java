@@ -28,7 +28,13 @@ import dev.hypera.chameleon.adventure.AudienceReflection;
 import dev.hypera.chameleon.adventure.ReflectedAudience;
 import dev.hypera.chameleon.exception.reflection.ChameleonReflectiveException;
 import dev.hypera.chameleon.util.Preconditions;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.sound.Sound;
+import net.kyori.adventure.text.Component;
 import org.jetbrains.annotations.ApiStatus.Experimental;
 import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.NotNull;
@@ -39,6 +45,12 @@ import org.jetbrains.annotations.NotNull;
  * <p>Because Sponge and Velocity natively use Adventure, we cannot use a relocated version of
  * Adventure without there being problems. To get around this we map the relocated Adventure objects
  * to platform objects using reflection.</p>
+ *
+ * <p>If the platform uses the same Adventure classes as Chameleon, because Adventure has not been
+ * relocated, reflected audiences pass calls straight through to platform audiences instead.</p>
+ *
+ * <p>Each mapper is loaded the first time it is retrieved, so features that are never used never
+ * have their platform classes and methods looked up.</p>
  */
 @Experimental
 public final class AdventureMapper {
@@ -64,22 +76,30 @@ public final class AdventureMapper {
     public static final @NotNull String ORIGINAL_SOUND_STOP_CLASS_NAME = ORIGINAL_PACKAGE.concat("sound.SoundStop");
     public static final @NotNull String ORIGINAL_TITLE_TIMES_CLASS_NAME = ORIGINAL_PACKAGE.concat("title.Title$Times");
     public static final @NotNull String ORIGINAL_TITLE_PART_CLASS_NAME = ORIGINAL_PACKAGE.concat("title.TitlePart");
+    public static final int DEFAULT_COMPONENT_CACHE_SIZE = 512;
+    public static final int DEFAULT_KEY_CACHE_SIZE = 256;
+    public static final int DEFAULT_SOUND_CACHE_SIZE = 256;
 
     private final @NotNull Chameleon chameleon;
+    private final boolean allowPassthrough;
     private final @NotNull AtomicBoolean loaded = new AtomicBoolean(false);
-    private final @NotNull ComponentMapper componentMapper = new ComponentMapper();
-    private final @NotNull BookMapper bookMapper = new BookMapper(this.componentMapper);
-    private final @NotNull BossBarMapper bossBarMapper = new BossBarMapper(this.componentMapper);
-    private final @NotNull KeyMapper keyMapper = new KeyMapper();
-    private final @NotNull ChatTypeMapper chatTypeMapper = new ChatTypeMapper(this.keyMapper);
-    private final @NotNull BoundMapper boundMapper = new BoundMapper(this.chatTypeMapper, this.componentMapper);
-    private final @NotNull IdentityMapper identityMapper = new IdentityMapper();
-    private final @NotNull PointerMapper pointerMapper = new PointerMapper(this.keyMapper);
-    private final @NotNull SignatureMapper signatureMapper = new SignatureMapper();
-    private final @NotNull SoundMapper soundMapper = new SoundMapper(this.keyMapper);
-    private final @NotNull SoundStopMapper soundStopMapper = new SoundStopMapper(this.keyMapper);
-    private final @NotNull TimesMapper timesMapper = new TimesMapper();
-    private final @NotNull TitlePartMapper titlePartMapper = new TitlePartMapper();
+    private volatile boolean passthrough = false;
+    private final @NotNull MappingCache<Component> componentCache = new MappingCache<>(DEFAULT_COMPONENT_CACHE_SIZE);
+    private final @NotNull MappingCache<Key> keyCache = new MappingCache<>(DEFAULT_KEY_CACHE_SIZE);
+    private final @NotNull MappingCache<Sound> soundCache = new MappingCache<>(DEFAULT_SOUND_CACHE_SIZE);
+    private final @NotNull LazyMapper<ComponentMapper> componentMapper = new LazyMapper<>(new ComponentMapper(this.componentCache));
+    private final @NotNull LazyMapper<BookMapper> bookMapper = new LazyMapper<>(new BookMapper(this.componentMapper.unloaded()), this.componentMapper);
+    private final @NotNull LazyMapper<BossBarMapper> bossBarMapper = new LazyMapper<>(new BossBarMapper(this.componentMapper.unloaded()), this.componentMapper);
+    private final @NotNull LazyMapper<KeyMapper> keyMapper = new LazyMapper<>(new KeyMapper(this.keyCache));
+    private final @NotNull LazyMapper<ChatTypeMapper> chatTypeMapper = new LazyMapper<>(new ChatTypeMapper(this.keyMapper.unloaded()), this.keyMapper);
+    private final @NotNull LazyMapper<BoundMapper> boundMapper = new LazyMapper<>(new BoundMapper(this.chatTypeMapper.unloaded(), this.componentMapper.unloaded()), this.chatTypeMapper, this.componentMapper);
+    private final @NotNull LazyMapper<IdentityMapper> identityMapper = new LazyMapper<>(new IdentityMapper());
+    private final @NotNull LazyMapper<PointerMapper> pointerMapper = new LazyMapper<>(new PointerMapper(this.keyMapper.unloaded()), this.keyMapper);
+    private final @NotNull LazyMapper<SignatureMapper> signatureMapper = new LazyMapper<>(new SignatureMapper());
+    private final @NotNull LazyMapper<SoundMapper> soundMapper = new LazyMapper<>(new SoundMapper(this.keyMapper.unloaded(), this.soundCache), this.keyMapper);
+    private final @NotNull LazyMapper<SoundStopMapper> soundStopMapper = new LazyMapper<>(new SoundStopMapper(this.keyMapper.unloaded()), this.keyMapper);
+    private final @NotNull LazyMapper<TimesMapper> timesMapper = new LazyMapper<>(new TimesMapper());
+    private final @NotNull LazyMapper<TitlePartMapper> titlePartMapper = new LazyMapper<>(new TitlePartMapper());
     private final @NotNull AudienceReflection audienceReflection = new AudienceReflection(this);
 
     /**
@@ -89,34 +109,75 @@ public final class AdventureMapper {
      */
     @Internal
     public AdventureMapper(@NotNull Chameleon chameleon) {
+        this(chameleon, true);
+    }
+
+    /**
+     * Adventure mapper constructor.
+     *
+     * @param chameleon        Chameleon implementation.
+     * @param allowPassthrough Whether reflected audiences may pass calls straight through to
+     *                         platform audiences, when the platform uses the same Adventure
+     *                         classes.
+     */
+    @Internal
+    public AdventureMapper(@NotNull Chameleon chameleon, boolean allowPassthrough) {
         Preconditions.checkNotNull("chameleon", chameleon);
         this.chameleon = chameleon;
+        this.allowPassthrough = allowPassthrough;
     }
 
     /**
-     * Load all mappers.
+     * Load this mapper.
+     *
+     * <p>Individual mappers, and the reflection used by reflected audiences, are loaded the first
+     * time they are used. {@link #preload()} or {@link #prewarm(Executor)} can be used to load
+     * everything ahead of time.</p>
      *
      * @throws ChameleonReflectiveException when an exception is thrown by a mapper's load method.
      */
     public void load() throws ReflectiveOperationException {
         Preconditions.checkState(!this.loaded.get(), "mappers have already been loaded");
-        this.componentMapper.load();
-        this.bookMapper.load();
-        this.bossBarMapper.load();
-        this.keyMapper.load();
-        this.chatTypeMapper.load();
-        this.boundMapper.load();
-        this.identityMapper.load();
-        this.pointerMapper.load();
-        this.signatureMapper.load();
-        this.soundMapper.load();
-        this.soundStopMapper.load();
-        this.timesMapper.load();
-        this.titlePartMapper.load();
+        this.passthrough = this.allowPassthrough && isNativeAdventure();
         this.audienceReflection.load();
         this.loaded.set(true);
     }
 
+    /**
+     * Load every mapper, and the reflection used by reflected audiences, that has not been loaded
+     * yet.
+     *
+     * @throws ChameleonReflectiveException when an exception is thrown by a mapper's load method.
+     */
+    public void preload() {
+        Preconditions.checkState(isLoaded(), "mapper has not been loaded");
+        for (LazyMapper<?> mapper : mappers()) {
+            mapper.get();
+        }
+        this.audienceReflection.preload();
+    }
+
+    /**
+     * Preload every mapper in the background, using the given executor.
+     *
+     * <p>Failures are logged, the mappers that failed will be loaded again when they are first
+     * used.</p>
+     *
+     * @param executor Executor to preload the mappers on.
+     *
+     * @return future completed once every mapper has been loaded.
+     * @see #preload()
+     */
+    public @NotNull CompletableFuture<Void> prewarm(@NotNull Executor executor) {
+        Preconditions.checkState(isLoaded(), "mapper has not been loaded");
+        Preconditions.checkNotNull("executor", executor);
+        return CompletableFuture.runAsync(this::preload, executor).whenComplete((ignored, ex) -> {
+            if (ex != null) {
+                this.chameleon.getInternalLogger().warn("Failed to pre-warm Adventure mappers", ex);
+            }
+        });
+    }
+
     /**
      * Create a new reflected audience wrapping the given platform audience.
      *
@@ -125,9 +186,36 @@ public final class AdventureMapper {
      * @return new reflected audience.
      */
     public @NotNull ReflectedAudience createReflectedAudience(@NotNull Object audience) {
+        return createReflectedAudience(audience, false);
+    }
+
+    /**
+     * Create a new reflected audience wrapping the given platform audience.
+     *
+     * @param audience         Platform audience to be wrapped.
+     * @param snapshotPointers Whether the reflected audience should keep a snapshot of stable
+     *                         pointers, such as its UUID and name.
+     *
+     * @return new reflected audience.
+     * @see ReflectedAudience#refreshPointers()
+     */
+    public @NotNull ReflectedAudience createReflectedAudience(@NotNull Object audience, boolean snapshotPointers) {
         Preconditions.checkState(isLoaded(), "mapper has not been loaded");
         Preconditions.checkNotNull("audience", audience);
-        return new ReflectedAudience(audience, this.audienceReflection);
+        if (this.passthrough && audience instanceof Audience) {
+            return ReflectedAudience.passthrough((Audience) audience, this.audienceReflection);
+        }
+        return new ReflectedAudience(audience, this.audienceReflection, snapshotPointers);
+    }
+
+    /**
+     * Get whether reflected audiences pass calls straight through to platform audiences, because
+     * the platform uses the same Adventure classes as Chameleon.
+     *
+     * @return {@code true} if calls are passed through, otherwise {@code false}.
+     */
+    public boolean isPassthrough() {
+        return this.passthrough;
     }
 
     /**
@@ -148,13 +236,44 @@ public final class AdventureMapper {
         return this.chameleon;
     }
 
+    /**
+     * Get the mapped component cache.
+     * <p>The cache is shared by every mapper that maps components, such as the book, boss bar and
+     * bound mappers.</p>
+     *
+     * @return mapped component cache.
+     */
+    public @NotNull MappingCache<Component> getComponentCache() {
+        return this.componentCache;
+    }
+
+    /**
+     * Get the mapped key cache.
+     * <p>The cache is shared by every mapper that maps keys, such as the chat type, pointer and
+     * sound stop mappers.</p>
+     *
+     * @return mapped key cache.
+     */
+    public @NotNull MappingCache<Key> getKeyCache() {
+        return this.keyCache;
+    }
+
+    /**
+     * Get the mapped sound cache.
+     *
+     * @return mapped sound cache.
+     */
+    public @NotNull MappingCache<Sound> getSoundCache() {
+        return this.soundCache;
+    }
+
     /**
      * Get the component mapper.
      *
      * @return component mapper.
      */
     public @NotNull ComponentMapper getComponentMapper() {
-        return this.componentMapper;
+        return this.componentMapper.get();
     }
 
     /**
@@ -163,7 +282,7 @@ public final class AdventureMapper {
      * @return book mapper.
      */
     public @NotNull BookMapper getBookMapper() {
-        return this.bookMapper;
+        return this.bookMapper.get();
     }
 
     /**
@@ -172,7 +291,7 @@ public final class AdventureMapper {
      * @return boss bar mapper.
      */
     public @NotNull BossBarMapper getBossBarMapper() {
-        return this.bossBarMapper;
+        return this.bossBarMapper.get();
     }
 
     /**
@@ -181,7 +300,7 @@ public final class AdventureMapper {
      * @return key mapper.
      */
     public @NotNull KeyMapper getKeyMapper() {
-        return this.keyMapper;
+        return this.keyMapper.get();
     }
 
     /**
@@ -190,7 +309,7 @@ public final class AdventureMapper {
      * @return chat type mapper.
      */
     public @NotNull ChatTypeMapper getChatTypeMapper() {
-        return this.chatTypeMapper;
+        return this.chatTypeMapper.get();
     }
 
     /**
@@ -199,7 +318,7 @@ public final class AdventureMapper {
      * @return bound mapper.
      */
     public @NotNull BoundMapper getBoundMapper() {
-        return this.boundMapper;
+        return this.boundMapper.get();
     }
 
     /**
@@ -208,7 +327,7 @@ public final class AdventureMapper {
      * @return identity mapper.
      */
     public @NotNull IdentityMapper getIdentityMapper() {
-        return this.identityMapper;
+        return this.identityMapper.get();
     }
 
     /**
@@ -217,7 +336,7 @@ public final class AdventureMapper {
      * @return pointer mapper.
      */
     public @NotNull PointerMapper getPointerMapper() {
-        return this.pointerMapper;
+        return this.pointerMapper.get();
     }
 
     /**
@@ -226,7 +345,7 @@ public final class AdventureMapper {
      * @return signature mapper.
      */
     public @NotNull SignatureMapper getSignatureMapper() {
-        return this.signatureMapper;
+        return this.signatureMapper.get();
     }
 
     /**
@@ -235,7 +354,7 @@ public final class AdventureMapper {
      * @return sound mapper.
      */
     public @NotNull SoundMapper getSoundMapper() {
-        return this.soundMapper;
+        return this.soundMapper.get();
     }
 
     /**
@@ -244,7 +363,7 @@ public final class AdventureMapper {
      * @return sound stop mapper.
      */
     public @NotNull SoundStopMapper getSoundStopMapper() {
-        return this.soundStopMapper;
+        return this.soundStopMapper.get();
     }
 
     /**
@@ -253,7 +372,7 @@ public final class AdventureMapper {
      * @return times mapper.
      */
     public @NotNull TimesMapper getTimesMapper() {
-        return this.timesMapper;
+        return this.timesMapper.get();
     }
 
     /**
@@ -262,7 +381,25 @@ public final class AdventureMapper {
      * @return title part mapper.
      */
     public @NotNull TitlePartMapper getTitlePartMapper() {
-        return this.titlePartMapper;
+        return this.titlePartMapper.get();
+    }
+
+    private @NotNull LazyMapper<?> @NotNull [] mappers() {
+        return new LazyMapper<?>[] {
+            this.componentMapper, this.bookMapper, this.bossBarMapper, this.keyMapper,
+            this.chatTypeMapper, this.boundMapper, this.identityMapper, this.pointerMapper,
+            this.signatureMapper, this.soundMapper, this.soundStopMapper, this.timesMapper,
+            this.titlePartMapper
+        };
+    }
+
+    private static boolean isNativeAdventure() {
+        try {
+            return Class.forName(ORIGINAL_AUDIENCE_CLASS_NAME) == Audience.class &&
+                Class.forName(ORIGINAL_COMPONENT_CLASS_NAME) == Component.class;
+        } catch (ClassNotFoundException ex) {
+            return false;
+        }
     }
 
 }
@@ -24,9 +24,10 @@
 package dev.hypera.chameleon.adventure.mapper;
 
 import dev.hypera.chameleon.util.Preconditions;
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import net.kyori.adventure.inventory.Book;
 import net.kyori.adventure.text.Component;
@@ -39,10 +40,10 @@ import org.jetbrains.annotations.Nullable;
 public final class BookMapper implements Mapper<Book> {
 
     private final @NotNull ComponentMapper componentMapper;
-    private @Nullable Method bookCreateMethod;
-    private @Nullable Method bookTitleMethod;
-    private @Nullable Method bookAuthorMethod;
-    private @Nullable Method bookPagesMethod;
+    private @Nullable MethodHandle bookCreateMethod;
+    private @Nullable MethodHandle bookTitleMethod;
+    private @Nullable MethodHandle bookAuthorMethod;
+    private @Nullable MethodHandle bookPagesMethod;
 
     BookMapper(@NotNull ComponentMapper componentMapper) {
         this.componentMapper = componentMapper;
@@ -56,10 +57,10 @@ public final class BookMapper implements Mapper<Book> {
         Preconditions.checkState(!isLoaded(), "mapper has already been loaded");
         Class<?> bookClass = Class.forName(AdventureMapper.ORIGINAL_BOOK_CLASS_NAME);
         Class<?> componentClass = Class.forName(AdventureMapper.ORIGINAL_COMPONENT_CLASS_NAME);
-        this.bookCreateMethod = bookClass.getMethod("book", componentClass, componentClass, Collection.class);
-        this.bookTitleMethod = bookClass.getMethod("title");
-        this.bookAuthorMethod = bookClass.getMethod("author");
-        this.bookPagesMethod = bookClass.getMethod("pages");
+        this.bookCreateMethod = AdventureHandles.findStatic(bookClass, "book", bookClass, componentClass, componentClass, Collection.class);
+        this.bookTitleMethod = AdventureHandles.findVirtual(bookClass, "title", componentClass);
+        this.bookAuthorMethod = AdventureHandles.findVirtual(bookClass, "author", componentClass);
+        this.bookPagesMethod = AdventureHandles.findVirtual(bookClass, "pages", List.class);
     }
 
     /**
@@ -85,10 +86,14 @@ public final class BookMapper implements Mapper<Book> {
             pages.add(this.componentMapper.map(page));
         }
 
-        return Objects.requireNonNull(this.bookCreateMethod).invoke(
-            null, this.componentMapper.map(book.title()),
-            this.componentMapper.map(book.author()), pages
-        );
+        try {
+            return (Object) Objects.requireNonNull(this.bookCreateMethod).invokeExact(
+                this.componentMapper.map(book.title()),
+                this.componentMapper.map(book.author()), pages
+            );
+        } catch (Throwable ex) {
+            throw AdventureHandles.propagate(ex);
+        }
     }
 
     /**
@@ -100,16 +105,20 @@ public final class BookMapper implements Mapper<Book> {
         Preconditions.checkState(isLoaded(), "mapper has not been loaded");
         Preconditions.checkNotNull("book", book);
 
-        Collection<Component> pages = new ArrayList<>();
-        for (Object page : (Collection<Object>) Objects.requireNonNull(this.bookPagesMethod).invoke(book)) {
-            pages.add(this.componentMapper.mapBackwards(page));
-        }
+        try {
+            Collection<Component> pages = new ArrayList<>();
+            for (Object page : (List<Object>) Objects.requireNonNull(this.bookPagesMethod).invokeExact(book)) {
+                pages.add(this.componentMapper.mapBackwards(page));
+            }
 
-        return Book.book(
-            this.componentMapper.mapBackwards(Objects.requireNonNull(this.bookTitleMethod).invoke(book)),
-            this.componentMapper.mapBackwards(Objects.requireNonNull(this.bookAuthorMethod).invoke(book)),
-            pages
-        );
+            return Book.book(
+                this.componentMapper.mapBackwards((Object) Objects.requireNonNull(this.bookTitleMethod).invokeExact(book)),
+                this.componentMapper.mapBackwards((Object) Objects.requireNonNull(this.bookAuthorMethod).invokeExact(book)),
+                pages
+            );
+        } catch (Throwable ex) {
+            throw AdventureHandles.propagate(ex);
+        }
     }
 
 }
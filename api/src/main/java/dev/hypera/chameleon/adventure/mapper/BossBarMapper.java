@@ -24,18 +24,21 @@
 package dev.hypera.chameleon.adventure.mapper;
 
 import dev.hypera.chameleon.util.Preconditions;
-import java.lang.reflect.Method;
-import java.util.Collection;
+import java.lang.invoke.MethodHandle;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 import net.kyori.adventure.bossbar.BossBar;
 import net.kyori.adventure.bossbar.BossBar.Flag;
+import net.kyori.adventure.text.Component;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 /**
  * Adventure BossBar mapper.
+ *
+ * <p>Besides mapping boss bars, this mapper can apply individual property changes to an already
+ * mapped platform boss bar, which allows a platform boss bar to mirror a relocated one.</p>
  */
 public final class BossBarMapper implements Mapper<BossBar> {
 
@@ -43,12 +46,18 @@ public final class BossBarMapper implements Mapper<BossBar> {
     private @Nullable EnumMapper<BossBar.Color> bossBarColorMapper;
     private @Nullable EnumMapper<BossBar.Overlay> bossBarOverlayMapper;
     private @Nullable EnumMapper<BossBar.Flag> bossBarFlagMapper;
-    private @Nullable Method bossBarCreateMethod;
-    private @Nullable Method bossBarNameMethod;
-    private @Nullable Method bossBarProgressMethod;
-    private @Nullable Method bossBarColorMethod;
-    private @Nullable Method bossBarOverlayMethod;
-    private @Nullable Method bossBarFlagsMethod;
+    private @Nullable MethodHandle bossBarCreateMethod;
+    private @Nullable MethodHandle bossBarNameMethod;
+    private @Nullable MethodHandle bossBarProgressMethod;
+    private @Nullable MethodHandle bossBarColorMethod;
+    private @Nullable MethodHandle bossBarOverlayMethod;
+    private @Nullable MethodHandle bossBarFlagsMethod;
+    private @Nullable MethodHandle bossBarSetNameMethod;
+    private @Nullable MethodHandle bossBarSetProgressMethod;
+    private @Nullable MethodHandle bossBarSetColorMethod;
+    private @Nullable MethodHandle bossBarSetOverlayMethod;
+    private @Nullable MethodHandle bossBarAddFlagMethod;
+    private @Nullable MethodHandle bossBarRemoveFlagMethod;
 
     BossBarMapper(@NotNull ComponentMapper componentMapper) {
         this.componentMapper = componentMapper;
@@ -68,12 +77,19 @@ public final class BossBarMapper implements Mapper<BossBar> {
         this.bossBarColorMapper = EnumMapper.createAndLoad(BossBar.Color.class, colorEnum);
         this.bossBarOverlayMapper = EnumMapper.createAndLoad(BossBar.Overlay.class, overlayEnum);
         this.bossBarFlagMapper = EnumMapper.createAndLoad(BossBar.Flag.class, flagEnum);
-        this.bossBarCreateMethod = bossBarClass.getMethod("bossBar", componentLikeClass, float.class, colorEnum, overlayEnum, Set.class);
-        this.bossBarNameMethod = bossBarClass.getMethod("name");
-        this.bossBarProgressMethod = bossBarClass.getMethod("progress");
-        this.bossBarColorMethod = bossBarClass.getMethod("color");
-        this.bossBarOverlayMethod = bossBarClass.getMethod("overlay");
-        this.bossBarFlagsMethod = bossBarClass.getMethod("flags");
+        Class<?> componentClass = Class.forName(AdventureMapper.ORIGINAL_COMPONENT_CLASS_NAME);
+        this.bossBarCreateMethod = AdventureHandles.findStatic(bossBarClass, "bossBar", bossBarClass, componentLikeClass, float.class, colorEnum, overlayEnum, Set.class);
+        this.bossBarNameMethod = AdventureHandles.findVirtual(bossBarClass, "name", componentClass);
+        this.bossBarProgressMethod = AdventureHandles.findVirtual(bossBarClass, "progress", float.class);
+        this.bossBarColorMethod = AdventureHandles.findVirtual(bossBarClass, "color", colorEnum);
+        this.bossBarOverlayMethod = AdventureHandles.findVirtual(bossBarClass, "overlay", overlayEnum);
+        this.bossBarFlagsMethod = AdventureHandles.findVirtual(bossBarClass, "flags", Set.class);
+        this.bossBarSetNameMethod = setter(AdventureHandles.findVirtual(bossBarClass, "name", bossBarClass, componentLikeClass));
+        this.bossBarSetProgressMethod = setter(AdventureHandles.findVirtual(bossBarClass, "progress", bossBarClass, float.class));
+        this.bossBarSetColorMethod = setter(AdventureHandles.findVirtual(bossBarClass, "color", bossBarClass, colorEnum));
+        this.bossBarSetOverlayMethod = setter(AdventureHandles.findVirtual(bossBarClass, "overlay", bossBarClass, overlayEnum));
+        this.bossBarAddFlagMethod = setter(AdventureHandles.findVirtual(bossBarClass, "addFlag", bossBarClass, flagEnum));
+        this.bossBarRemoveFlagMethod = setter(AdventureHandles.findVirtual(bossBarClass, "removeFlag", bossBarClass, flagEnum));
     }
 
     /**
@@ -85,6 +101,9 @@ public final class BossBarMapper implements Mapper<BossBar> {
             this.bossBarCreateMethod != null && this.bossBarNameMethod != null &&
             this.bossBarProgressMethod != null && this.bossBarColorMethod != null &&
             this.bossBarOverlayMethod != null && this.bossBarFlagsMethod != null &&
+            this.bossBarSetNameMethod != null && this.bossBarSetProgressMethod != null &&
+            this.bossBarSetColorMethod != null && this.bossBarSetOverlayMethod != null &&
+            this.bossBarAddFlagMethod != null && this.bossBarRemoveFlagMethod != null &&
             this.bossBarColorMapper != null && this.bossBarColorMapper.isLoaded() &&
             this.bossBarOverlayMapper != null && this.bossBarOverlayMapper.isLoaded() &&
             this.bossBarFlagMapper != null && this.bossBarFlagMapper.isLoaded();
@@ -103,13 +122,17 @@ public final class BossBarMapper implements Mapper<BossBar> {
             flags.add(Objects.requireNonNull(this.bossBarFlagMapper).map(flag));
         }
 
-        return Objects.requireNonNull(this.bossBarCreateMethod).invoke(null,
-            this.componentMapper.map(bossBar.name()),
-            bossBar.progress(),
-            Objects.requireNonNull(this.bossBarColorMapper).map(bossBar.color()),
-            Objects.requireNonNull(this.bossBarOverlayMapper).map(bossBar.overlay()),
-            flags
-        );
+        try {
+            return (Object) Objects.requireNonNull(this.bossBarCreateMethod).invokeExact(
+                this.componentMapper.map(bossBar.name()),
+                bossBar.progress(),
+                Objects.requireNonNull(this.bossBarColorMapper).map(bossBar.color()),
+                Objects.requireNonNull(this.bossBarOverlayMapper).map(bossBar.overlay()),
+                flags
+            );
+        } catch (Throwable ex) {
+            throw AdventureHandles.propagate(ex);
+        }
     }
 
     /**
@@ -121,18 +144,122 @@ public final class BossBarMapper implements Mapper<BossBar> {
         Preconditions.checkState(isLoaded(), "mapper has not been loaded");
         Preconditions.checkNotNull("bossBar", bossBar);
 
-        Set<Flag> flags = new HashSet<>();
-        for (Object flag : (Collection<Object>) Objects.requireNonNull(this.bossBarFlagsMethod).invoke(bossBar)) {
-            flags.add(Objects.requireNonNull(this.bossBarFlagMapper).mapBackwards(flag));
+        try {
+            Set<Flag> flags = new HashSet<>();
+            for (Object flag : (Set<Object>) Objects.requireNonNull(this.bossBarFlagsMethod).invokeExact(bossBar)) {
+                flags.add(Objects.requireNonNull(this.bossBarFlagMapper).mapBackwards(flag));
+            }
+
+            return BossBar.bossBar(
+                this.componentMapper.mapBackwards((Object) Objects.requireNonNull(this.bossBarNameMethod).invokeExact(bossBar)),
+                (float) Objects.requireNonNull(this.bossBarProgressMethod).invokeExact(bossBar),
+                Objects.requireNonNull(this.bossBarColorMapper).mapBackwards((Object) Objects.requireNonNull(this.bossBarColorMethod).invokeExact(bossBar)),
+                Objects.requireNonNull(this.bossBarOverlayMapper).mapBackwards((Object) Objects.requireNonNull(this.bossBarOverlayMethod).invokeExact(bossBar)),
+                flags
+            );
+        } catch (Throwable ex) {
+            throw AdventureHandles.propagate(ex);
+        }
+    }
+
+    /**
+     * Set the name of a mapped platform boss bar.
+     *
+     * @param bossBar Platform boss bar.
+     * @param name    New name, to be mapped.
+     */
+    public void updateName(@NotNull Object bossBar, @NotNull Component name) throws ReflectiveOperationException {
+        Preconditions.checkState(isLoaded(), "mapper has not been loaded");
+        Preconditions.checkNotNull("bossBar", bossBar);
+        Preconditions.checkNotNull("name", name);
+        Object mappedName = this.componentMapper.map(name);
+        try {
+            Objects.requireNonNull(this.bossBarSetNameMethod).invokeExact(bossBar, mappedName);
+        } catch (Throwable ex) {
+            throw AdventureHandles.propagate(ex);
+        }
+    }
+
+    /**
+     * Set the progress of a mapped platform boss bar.
+     *
+     * @param bossBar  Platform boss bar.
+     * @param progress New progress.
+     */
+    public void updateProgress(@NotNull Object bossBar, float progress) throws ReflectiveOperationException {
+        Preconditions.checkState(isLoaded(), "mapper has not been loaded");
+        Preconditions.checkNotNull("bossBar", bossBar);
+        try {
+            Objects.requireNonNull(this.bossBarSetProgressMethod).invokeExact(bossBar, progress);
+        } catch (Throwable ex) {
+            throw AdventureHandles.propagate(ex);
         }
+    }
+
+    /**
+     * Set the color of a mapped platform boss bar.
+     *
+     * @param bossBar Platform boss bar.
+     * @param color   New color, to be mapped.
+     */
+    public void updateColor(@NotNull Object bossBar, @NotNull BossBar.Color color) throws ReflectiveOperationException {
+        Preconditions.checkState(isLoaded(), "mapper has not been loaded");
+        Preconditions.checkNotNull("bossBar", bossBar);
+        Preconditions.checkNotNull("color", color);
+        Object mappedColor = Objects.requireNonNull(this.bossBarColorMapper).map(color);
+        try {
+            Objects.requireNonNull(this.bossBarSetColorMethod).invokeExact(bossBar, mappedColor);
+        } catch (Throwable ex) {
+            throw AdventureHandles.propagate(ex);
+        }
+    }
+
+    /**
+     * Set the overlay of a mapped platform boss bar.
+     *
+     * @param bossBar Platform boss bar.
+     * @param overlay New overlay, to be mapped.
+     */
+    public void updateOverlay(@NotNull Object bossBar, @NotNull BossBar.Overlay overlay) throws ReflectiveOperationException {
+        Preconditions.checkState(isLoaded(), "mapper has not been loaded");
+        Preconditions.checkNotNull("bossBar", bossBar);
+        Preconditions.checkNotNull("overlay", overlay);
+        Object mappedOverlay = Objects.requireNonNull(this.bossBarOverlayMapper).map(overlay);
+        try {
+            Objects.requireNonNull(this.bossBarSetOverlayMethod).invokeExact(bossBar, mappedOverlay);
+        } catch (Throwable ex) {
+            throw AdventureHandles.propagate(ex);
+        }
+    }
+
+    /**
+     * Add and remove flags on a mapped platform boss bar.
+     *
+     * @param bossBar Platform boss bar.
+     * @param added   Flags to be mapped and added.
+     * @param removed Flags to be mapped and removed.
+     */
+    public void updateFlags(@NotNull Object bossBar, @NotNull Set<Flag> added, @NotNull Set<Flag> removed) throws ReflectiveOperationException {
+        Preconditions.checkState(isLoaded(), "mapper has not been loaded");
+        Preconditions.checkNotNull("bossBar", bossBar);
+        Preconditions.checkNotNull("added", added);
+        Preconditions.checkNotNull("removed", removed);
+        EnumMapper<Flag> flagMapper = Objects.requireNonNull(this.bossBarFlagMapper);
+        try {
+            for (Flag flag : removed) {
+                Objects.requireNonNull(this.bossBarRemoveFlagMethod).invokeExact(bossBar, flagMapper.map(flag));
+            }
+            for (Flag flag : added) {
+                Objects.requireNonNull(this.bossBarAddFlagMethod).invokeExact(bossBar, flagMapper.map(flag));
+            }
+        } catch (Throwable ex) {
+            throw AdventureHandles.propagate(ex);
+        }
+    }
 
-        return BossBar.bossBar(
-            this.componentMapper.mapBackwards(Objects.requireNonNull(this.bossBarNameMethod).invoke(bossBar)),
-            (float) Objects.requireNonNull(this.bossBarProgressMethod).invoke(bossBar),
-            Objects.requireNonNull(this.bossBarColorMapper).mapBackwards(Objects.requireNonNull(this.bossBarColorMethod).invoke(bossBar)),
-            Objects.requireNonNull(this.bossBarOverlayMapper).mapBackwards(Objects.requireNonNull(this.bossBarOverlayMethod).invoke(bossBar)),
-           flags
-        );
+    private static @NotNull MethodHandle setter(@NotNull MethodHandle handle) {
+        // Platform boss bar setters return the boss bar itself, which is not needed.
+        return handle.asType(handle.type().changeReturnType(void.class));
     }
 
 }
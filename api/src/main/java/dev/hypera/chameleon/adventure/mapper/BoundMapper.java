@@ -24,7 +24,7 @@
 package dev.hypera.chameleon.adventure.mapper;
 
 import dev.hypera.chameleon.util.Preconditions;
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
 import java.util.Objects;
 import net.kyori.adventure.chat.ChatType;
 import org.jetbrains.annotations.NotNull;
@@ -37,10 +37,10 @@ public final class BoundMapper implements Mapper<ChatType.Bound> {
 
     private final @NotNull ChatTypeMapper chatTypeMapper;
     private final @NotNull ComponentMapper componentMapper;
-    private @Nullable Method chatTypeBindMethod;
-    private @Nullable Method boundTypeMethod;
-    private @Nullable Method boundNameMethod;
-    private @Nullable Method boundTargetMethod;
+    private @Nullable MethodHandle chatTypeBindMethod;
+    private @Nullable MethodHandle boundTypeMethod;
+    private @Nullable MethodHandle boundNameMethod;
+    private @Nullable MethodHandle boundTargetMethod;
 
     BoundMapper(@NotNull ChatTypeMapper chatTypeMapper, @NotNull ComponentMapper componentMapper) {
         this.chatTypeMapper = chatTypeMapper;
@@ -56,10 +56,11 @@ public final class BoundMapper implements Mapper<ChatType.Bound> {
         Class<?> chatTypeClass = Class.forName(AdventureMapper.ORIGINAL_CHAT_TYPE_CLASS_NAME);
         Class<?> boundClass = Class.forName(AdventureMapper.ORIGINAL_CHAT_TYPE_BOUND_CLASS_NAME);
         Class<?> componentLikeClass = Class.forName(AdventureMapper.ORIGINAL_COMPONENT_LIKE_CLASS_NAME);
-        this.chatTypeBindMethod = chatTypeClass.getMethod("bind", componentLikeClass, componentLikeClass);
-        this.boundTypeMethod = boundClass.getMethod("type");
-        this.boundNameMethod = boundClass.getMethod("name");
-        this.boundTargetMethod = boundClass.getMethod("target");
+        Class<?> componentClass = Class.forName(AdventureMapper.ORIGINAL_COMPONENT_CLASS_NAME);
+        this.chatTypeBindMethod = AdventureHandles.findVirtual(chatTypeClass, "bind", boundClass, componentLikeClass, componentLikeClass);
+        this.boundTypeMethod = AdventureHandles.findVirtual(boundClass, "type", chatTypeClass);
+        this.boundNameMethod = AdventureHandles.findVirtual(boundClass, "name", componentClass);
+        this.boundTargetMethod = AdventureHandles.findVirtual(boundClass, "target", componentClass);
     }
 
     /**
@@ -79,10 +80,14 @@ public final class BoundMapper implements Mapper<ChatType.Bound> {
     public @NotNull Object map(@NotNull ChatType.Bound bound) throws ReflectiveOperationException {
         Preconditions.checkState(isLoaded(), "mapper has not been loaded");
         Preconditions.checkNotNull("bound", bound);
-        return Objects.requireNonNull(this.chatTypeBindMethod).invoke(
-            this.chatTypeMapper.map(bound.type()), this.componentMapper.map(bound.name()),
-            bound.target() == null ? null : this.componentMapper.map(bound.target())
-        );
+        try {
+            return (Object) Objects.requireNonNull(this.chatTypeBindMethod).invokeExact(
+                this.chatTypeMapper.map(bound.type()), this.componentMapper.map(bound.name()),
+                bound.target() == null ? null : this.componentMapper.map(bound.target())
+            );
+        } catch (Throwable ex) {
+            throw AdventureHandles.propagate(ex);
+        }
     }
 
     /**
@@ -93,11 +98,15 @@ public final class BoundMapper implements Mapper<ChatType.Bound> {
     public ChatType.Bound mapBackwards(@NotNull Object bound) throws ReflectiveOperationException {
         Preconditions.checkState(isLoaded(), "mapper has not been loaded");
         Preconditions.checkNotNull("bound", bound);
-        Object target = Objects.requireNonNull(this.boundTargetMethod).invoke(bound);
-        return this.chatTypeMapper.mapBackwards(Objects.requireNonNull(this.boundTypeMethod).invoke(bound)).bind(
-            this.componentMapper.mapBackwards(Objects.requireNonNull(this.boundNameMethod).invoke(bound)),
-            target == null ? null : this.componentMapper.mapBackwards(target)
-        );
+        try {
+            Object target = (Object) Objects.requireNonNull(this.boundTargetMethod).invokeExact(bound);
+            return this.chatTypeMapper.mapBackwards((Object) Objects.requireNonNull(this.boundTypeMethod).invokeExact(bound)).bind(
+                this.componentMapper.mapBackwards((Object) Objects.requireNonNull(this.boundNameMethod).invokeExact(bound)),
+                target == null ? null : this.componentMapper.mapBackwards(target)
+            );
+        } catch (Throwable ex) {
+            throw AdventureHandles.propagate(ex);
+        }
     }
 
 }
@@ -24,7 +24,7 @@
 package dev.hypera.chameleon.adventure.mapper;
 
 import dev.hypera.chameleon.util.Preconditions;
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
 import java.util.Objects;
 import net.kyori.adventure.chat.ChatType;
 import org.jetbrains.annotations.NotNull;
@@ -36,8 +36,8 @@ import org.jetbrains.annotations.Nullable;
 public final class ChatTypeMapper implements Mapper<ChatType> {
 
     private final @NotNull KeyMapper keyMapper;
-    private @Nullable Method chatTypeCreateMethod;
-    private @Nullable Method keyedKeyMethod;
+    private @Nullable MethodHandle chatTypeCreateMethod;
+    private @Nullable MethodHandle keyedKeyMethod;
 
     ChatTypeMapper(@NotNull KeyMapper keyMapper) {
         this.keyMapper = keyMapper;
@@ -51,8 +51,9 @@ public final class ChatTypeMapper implements Mapper<ChatType> {
         Preconditions.checkState(!isLoaded(), "mapper has already been loaded");
         Class<?> chatTypeClass = Class.forName(AdventureMapper.ORIGINAL_CHAT_TYPE_CLASS_NAME);
         Class<?> keyedClass = Class.forName(AdventureMapper.ORIGINAL_KEYED_CLASS_NAME);
-        this.chatTypeCreateMethod = chatTypeClass.getMethod("chatType", keyedClass);
-        this.keyedKeyMethod = keyedClass.getMethod("key");
+        Class<?> keyClass = Class.forName(AdventureMapper.ORIGINAL_KEY_CLASS_NAME);
+        this.chatTypeCreateMethod = AdventureHandles.findStatic(chatTypeClass, "chatType", chatTypeClass, keyedClass);
+        this.keyedKeyMethod = AdventureHandles.findVirtual(keyedClass, "key", keyClass);
     }
 
     /**
@@ -72,7 +73,12 @@ public final class ChatTypeMapper implements Mapper<ChatType> {
     public @NotNull Object map(@NotNull ChatType chatType) throws ReflectiveOperationException {
         Preconditions.checkState(isLoaded(), "mapper has not been loaded");
         Preconditions.checkNotNull("chatType", chatType);
-        return Objects.requireNonNull(this.chatTypeCreateMethod).invoke(null, this.keyMapper.map(chatType.key()));
+        try {
+            return (Object) Objects.requireNonNull(this.chatTypeCreateMethod).invokeExact(
+                this.keyMapper.map(chatType.key()));
+        } catch (Throwable ex) {
+            throw AdventureHandles.propagate(ex);
+        }
     }
 
     /**
@@ -82,7 +88,12 @@ public final class ChatTypeMapper implements Mapper<ChatType> {
     public @NotNull ChatType mapBackwards(@NotNull Object chatType) throws ReflectiveOperationException {
         Preconditions.checkState(isLoaded(), "mapper has not been loaded");
         Preconditions.checkNotNull("chatType", chatType);
-        return ChatType.chatType(this.keyMapper.mapBackwards(Objects.requireNonNull(this.keyedKeyMethod).invoke(chatType)));
+        try {
+            return ChatType.chatType(this.keyMapper.mapBackwards(
+                (Object) Objects.requireNonNull(this.keyedKeyMethod).invokeExact(chatType)));
+        } catch (Throwable ex) {
+            throw AdventureHandles.propagate(ex);
+        }
     }
 
 }
@@ -33,12 +33,37 @@ import org.jetbrains.annotations.Nullable;
 
 /**
  * Adventure Component mapper.
+ *
+ * <p>Components are rebuilt structurally when the platform's Adventure version allows it, which
+ * avoids encoding every component to JSON and parsing it again. Components that cannot be rebuilt
+ * structurally are mapped through the platform's Gson serializer.</p>
+ *
+ * <p>Mapped components may be cached, so components that are sent repeatedly, such as boss bar
+ * names and tab list headers, are only mapped once.</p>
  */
 public final class ComponentMapper implements Mapper<Component> {
 
     private @Nullable Object gsonComponentSerializerInstance;
     private @Nullable Method gsonComponentSerializerSerializeMethod;
     private @Nullable Method gsonComponentSerializerDeserializeMethod;
+    private final @Nullable MappingCache<Component> cache;
+    private @Nullable ComponentTreeMapper treeMapper;
+
+    /**
+     * Component mapper constructor, without a mapping cache.
+     */
+    public ComponentMapper() {
+        this(null);
+    }
+
+    /**
+     * Component mapper constructor.
+     *
+     * @param cache Cache to store mapped components in.
+     */
+    ComponentMapper(@Nullable MappingCache<Component> cache) {
+        this.cache = cache;
+    }
 
     /**
      * {@inheritDoc}
@@ -54,6 +79,12 @@ public final class ComponentMapper implements Mapper<Component> {
         this.gsonComponentSerializerDeserializeMethod = serializerClass.getMethod(
             "deserialize", Object.class
         );
+        try {
+            this.treeMapper = new ComponentTreeMapper(this);
+        } catch (ReflectiveOperationException ex) {
+            // Platform Adventure version is missing part of the component API, only use Gson.
+            this.treeMapper = null;
+        }
     }
 
     /**
@@ -73,10 +104,8 @@ public final class ComponentMapper implements Mapper<Component> {
     public @NotNull Object map(@NotNull Component component) throws ReflectiveOperationException {
         Preconditions.checkState(isLoaded(), "mapper has not been loaded");
         Preconditions.checkNotNull("component", component);
-        String json = GsonComponentSerializer.gson().serialize(component);
-        return Objects.requireNonNull(this.gsonComponentSerializerDeserializeMethod).invoke(
-            Objects.requireNonNull(this.gsonComponentSerializerInstance), json
-        );
+        MappingCache<Component> componentCache = this.cache;
+        return componentCache != null ? componentCache.get(component, this::mapUncached) : mapUncached(component);
     }
 
     /**
@@ -86,6 +115,32 @@ public final class ComponentMapper implements Mapper<Component> {
     public @NotNull Component mapBackwards(@NotNull Object component) throws ReflectiveOperationException {
         Preconditions.checkState(isLoaded(), "mapper has not been loaded");
         Preconditions.checkNotNull("component", component);
+        ComponentTreeMapper mapper = this.treeMapper;
+        return mapper != null ? mapper.mapBackwards(component) : mapJsonBackwards(component);
+    }
+
+    /**
+     * Get whether components are mapped structurally, rather than through Gson.
+     *
+     * @return {@code true} if components are mapped structurally, otherwise {@code false}.
+     */
+    public boolean isStructural() {
+        return this.treeMapper != null;
+    }
+
+    private @NotNull Object mapUncached(@NotNull Component component) throws ReflectiveOperationException {
+        ComponentTreeMapper mapper = this.treeMapper;
+        return mapper != null ? mapper.map(component) : mapJson(component);
+    }
+
+    @NotNull Object mapJson(@NotNull Component component) throws ReflectiveOperationException {
+        String json = GsonComponentSerializer.gson().serialize(component);
+        return Objects.requireNonNull(this.gsonComponentSerializerDeserializeMethod).invoke(
+            Objects.requireNonNull(this.gsonComponentSerializerInstance), json
+        );
+    }
+
+    @NotNull Component mapJsonBackwards(@NotNull Object component) throws ReflectiveOperationException {
         Object json = Objects.requireNonNull(this.gsonComponentSerializerSerializeMethod).invoke(
             Objects.requireNonNull(this.gsonComponentSerializerInstance), component
         );
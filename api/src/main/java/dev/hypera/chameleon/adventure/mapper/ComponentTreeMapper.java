@@ -0,0 +1,638 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2024 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.adventure.mapper;
+
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.BlockNBTComponent;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.EntityNBTComponent;
+import net.kyori.adventure.text.KeybindComponent;
+import net.kyori.adventure.text.NBTComponent;
+import net.kyori.adventure.text.ScoreComponent;
+import net.kyori.adventure.text.SelectorComponent;
+import net.kyori.adventure.text.StorageNBTComponent;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.TranslationArgument;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import org.intellij.lang.annotations.Subst;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Structural Adventure Component mapper.
+ *
+ * <p>Rebuilds components node by node through method handles resolved once when loaded, instead
+ * of serialising them to JSON and parsing the JSON on the other side. Text, translatable, keybind,
+ * score, selector and NBT components are rebuilt along with their children, colour, decorations,
+ * click event, insertion and font.</p>
+ *
+ * <p>Nodes that cannot be rebuilt, such as unknown component types or nodes with a hover event,
+ * are mapped using Gson by the component mapper, along with their children.</p>
+ */
+@Internal
+final class ComponentTreeMapper {
+
+    private static final @NotNull TextDecoration @NotNull [] DECORATIONS = TextDecoration.values();
+    private static final @NotNull TextDecoration.State @NotNull [] DECORATION_STATES = TextDecoration.State.values();
+    private static final @NotNull ClickEvent.Action @NotNull [] CLICK_ACTIONS = ClickEvent.Action.values();
+
+    private final @NotNull ComponentMapper componentMapper;
+
+    private final @NotNull Class<?> componentClass;
+    private final @NotNull Class<?> textComponentClass;
+    private final @NotNull Class<?> translatableComponentClass;
+    private final @NotNull Class<?> keybindComponentClass;
+    private final @NotNull Class<?> scoreComponentClass;
+    private final @NotNull Class<?> selectorComponentClass;
+    private final @NotNull Class<?> nbtComponentClass;
+    private final @NotNull Class<?> blockNbtComponentClass;
+    private final @NotNull Class<?> entityNbtComponentClass;
+    private final @NotNull Class<?> storageNbtComponentClass;
+    private final @NotNull Class<?> namedTextColorClass;
+
+    /* Platform enum constants, indexed by the ordinal of the matching relocated constant. */
+    private final @Nullable Object @NotNull [] decorations;
+    private final @Nullable Object @NotNull [] decorationStates;
+    private final @Nullable Object @NotNull [] clickActions;
+
+    // Platform factories and withers
+    private final @NotNull MethodHandle text;
+    private final @NotNull MethodHandle translatable;
+    private final @Nullable MethodHandle withFallback;
+    private final @NotNull MethodHandle keybind;
+    private final @NotNull MethodHandle score;
+    private final @NotNull MethodHandle selector;
+    private final @NotNull MethodHandle withSelectorSeparator;
+    private final @NotNull MethodHandle blockNbt;
+    private final @NotNull MethodHandle blockNbtPos;
+    private final @NotNull MethodHandle entityNbt;
+    private final @NotNull MethodHandle storageNbt;
+    private final @NotNull MethodHandle withInterpret;
+    private final @NotNull MethodHandle withNbtSeparator;
+    private final @NotNull MethodHandle withStyle;
+    private final @NotNull MethodHandle withChildren;
+    private final @NotNull MethodHandle key;
+    private final @NotNull MethodHandle styleBuilder;
+    private final @NotNull MethodHandle builderColor;
+    private final @NotNull MethodHandle builderDecoration;
+    private final @NotNull MethodHandle builderClickEvent;
+    private final @NotNull MethodHandle builderInsertion;
+    private final @NotNull MethodHandle builderFont;
+    private final @NotNull MethodHandle builderBuild;
+    private final @NotNull MethodHandle textColor;
+    private final @NotNull MethodHandle namedTextColor;
+    private final @NotNull MethodHandle clickEvent;
+
+    // Platform accessors
+    private final @NotNull MethodHandle getStyle;
+    private final @NotNull MethodHandle getChildren;
+    private final @NotNull MethodHandle getContent;
+    private final @NotNull MethodHandle getTranslationKey;
+    private final @Nullable MethodHandle getArgs;
+    private final @Nullable MethodHandle getArguments;
+    private final @Nullable MethodHandle getArgumentValue;
+    private final @Nullable MethodHandle getFallback;
+    private final @NotNull MethodHandle getKeybind;
+    private final @NotNull MethodHandle getScoreName;
+    private final @NotNull MethodHandle getScoreObjective;
+    private final @Nullable MethodHandle getScoreValue;
+    private final @NotNull MethodHandle getSelectorPattern;
+    private final @NotNull MethodHandle getSelectorSeparator;
+    private final @NotNull MethodHandle getNbtPath;
+    private final @NotNull MethodHandle getInterpret;
+    private final @NotNull MethodHandle getNbtSeparator;
+    private final @NotNull MethodHandle getBlockNbtPos;
+    private final @NotNull MethodHandle getPosString;
+    private final @NotNull MethodHandle getEntityNbtSelector;
+    private final @NotNull MethodHandle getStorage;
+    private final @NotNull MethodHandle getKeyString;
+    private final @NotNull MethodHandle isStyleEmpty;
+    private final @NotNull MethodHandle getColor;
+    private final @NotNull MethodHandle getColorValue;
+    private final @NotNull MethodHandle getDecoration;
+    private final @NotNull MethodHandle getClickEvent;
+    private final @NotNull MethodHandle getClickAction;
+    private final @NotNull MethodHandle getClickValue;
+    private final @NotNull MethodHandle getHoverEvent;
+    private final @Nullable MethodHandle getShadowColor;
+    private final @NotNull MethodHandle getInsertion;
+    private final @NotNull MethodHandle getFont;
+
+    ComponentTreeMapper(@NotNull ComponentMapper componentMapper) throws ReflectiveOperationException {
+        this.componentMapper = componentMapper;
+
+        this.componentClass = platformClass("text.Component");
+        this.textComponentClass = platformClass("text.TextComponent");
+        this.translatableComponentClass = platformClass("text.TranslatableComponent");
+        this.keybindComponentClass = platformClass("text.KeybindComponent");
+        this.scoreComponentClass = platformClass("text.ScoreComponent");
+        this.selectorComponentClass = platformClass("text.SelectorComponent");
+        this.nbtComponentClass = platformClass("text.NBTComponent");
+        this.blockNbtComponentClass = platformClass("text.BlockNBTComponent");
+        this.entityNbtComponentClass = platformClass("text.EntityNBTComponent");
+        this.storageNbtComponentClass = platformClass("text.StorageNBTComponent");
+        this.namedTextColorClass = platformClass("text.format.NamedTextColor");
+        Class<?> componentLikeClass = platformClass("text.ComponentLike");
+        Class<?> translationArgumentClass = optionalPlatformClass("text.TranslationArgument");
+        Class<?> posClass = platformClass("text.BlockNBTComponent$Pos");
+        Class<?> keyClass = platformClass("key.Key");
+        Class<?> styleClass = platformClass("text.format.Style");
+        Class<?> styleBuilderClass = platformClass("text.format.Style$Builder");
+        Class<?> textColorClass = platformClass("text.format.TextColor");
+        Class<?> decorationClass = platformClass("text.format.TextDecoration");
+        Class<?> decorationStateClass = platformClass("text.format.TextDecoration$State");
+        Class<?> clickEventClass = platformClass("text.event.ClickEvent");
+        Class<?> clickActionClass = platformClass("text.event.ClickEvent$Action");
+        Class<?> hoverEventClass = platformClass("text.event.HoverEvent");
+        Class<?> shadowColorClass = optionalPlatformClass("text.format.ShadowColor");
+
+        this.decorations = platformConstants(TextDecoration.class, decorationClass);
+        this.decorationStates = platformConstants(TextDecoration.State.class, decorationStateClass);
+        this.clickActions = platformConstants(ClickEvent.Action.class, clickActionClass);
+
+        Class<?> c = this.componentClass;
+        this.text = AdventureHandles.findStatic(c, "text", this.textComponentClass, String.class);
+        this.translatable = AdventureHandles.findStatic(c, "translatable", this.translatableComponentClass, String.class, List.class);
+        this.withFallback = AdventureHandles.findOptionalVirtual(this.translatableComponentClass, "fallback", this.translatableComponentClass, String.class);
+        this.keybind = AdventureHandles.findStatic(c, "keybind", this.keybindComponentClass, String.class);
+        this.score = AdventureHandles.findStatic(c, "score", this.scoreComponentClass, String.class, String.class);
+        this.selector = AdventureHandles.findStatic(c, "selector", this.selectorComponentClass, String.class);
+        this.withSelectorSeparator = AdventureHandles.findVirtual(this.selectorComponentClass, "separator", this.selectorComponentClass, componentLikeClass);
+        this.blockNbt = AdventureHandles.findStatic(c, "blockNBT", this.blockNbtComponentClass, String.class, posClass);
+        this.blockNbtPos = AdventureHandles.findStatic(posClass, "fromString", posClass, String.class);
+        this.entityNbt = AdventureHandles.findStatic(c, "entityNBT", this.entityNbtComponentClass, String.class, String.class);
+        this.storageNbt = AdventureHandles.findStatic(c, "storageNBT", this.storageNbtComponentClass, String.class, keyClass);
+        this.withInterpret = AdventureHandles.findVirtual(this.nbtComponentClass, "interpret", this.nbtComponentClass, boolean.class);
+        this.withNbtSeparator = AdventureHandles.findVirtual(this.nbtComponentClass, "separator", this.nbtComponentClass, componentLikeClass);
+        this.withStyle = AdventureHandles.findVirtual(c, "style", c, styleClass);
+        this.withChildren = AdventureHandles.findVirtual(c, "children", c, List.class);
+        this.key = AdventureHandles.findStatic(keyClass, "key", keyClass, String.class);
+        this.styleBuilder = AdventureHandles.findStatic(styleClass, "style", styleBuilderClass);
+        this.builderColor = AdventureHandles.findVirtual(styleBuilderClass, "color", styleBuilderClass, textColorClass);
+        this.builderDecoration = AdventureHandles.findVirtual(styleBuilderClass, "decoration", styleBuilderClass, decorationClass, decorationStateClass);
+        this.builderClickEvent = AdventureHandles.findVirtual(styleBuilderClass, "clickEvent", styleBuilderClass, clickEventClass);
+        this.builderInsertion = AdventureHandles.findVirtual(styleBuilderClass, "insertion", styleBuilderClass, String.class);
+        this.builderFont = AdventureHandles.findVirtual(styleBuilderClass, "font", styleBuilderClass, keyClass);
+        this.builderBuild = AdventureHandles.findVirtual(styleBuilderClass, "build", styleClass);
+        this.textColor = AdventureHandles.findStatic(textColorClass, "color", textColorClass, int.class);
+        this.namedTextColor = AdventureHandles.findStatic(this.namedTextColorClass, "namedColor", this.namedTextColorClass, int.class);
+        this.clickEvent = AdventureHandles.findStatic(clickEventClass, "clickEvent", clickEventClass, clickActionClass, String.class);
+
+        this.getStyle = AdventureHandles.findVirtual(c, "style", styleClass);
+        this.getChildren = AdventureHandles.findVirtual(c, "children", List.class);
+        this.getContent = AdventureHandles.findVirtual(this.textComponentClass, "content", String.class);
+        this.getTranslationKey = AdventureHandles.findVirtual(this.translatableComponentClass, "key", String.class);
+        this.getArgs = AdventureHandles.findOptionalVirtual(this.translatableComponentClass, "args", List.class);
+        this.getArguments = translationArgumentClass == null ? null
+            : AdventureHandles.findOptionalVirtual(this.translatableComponentClass, "arguments", List.class);
+        this.getArgumentValue = translationArgumentClass == null ? null
+            : AdventureHandles.findOptionalVirtual(translationArgumentClass, "value", Object.class);
+        if (this.getArgs == null && (this.getArguments == null || this.getArgumentValue == null)) {
+            throw new NoSuchMethodException("TranslatableComponent#arguments");
+        }
+        this.getFallback = AdventureHandles.findOptionalVirtual(this.translatableComponentClass, "fallback", String.class);
+        this.getKeybind = AdventureHandles.findVirtual(this.keybindComponentClass, "keybind", String.class);
+        this.getScoreName = AdventureHandles.findVirtual(this.scoreComponentClass, "name", String.class);
+        this.getScoreObjective = AdventureHandles.findVirtual(this.scoreComponentClass, "objective", String.class);
+        this.getScoreValue = AdventureHandles.findOptionalVirtual(this.scoreComponentClass, "value", String.class);
+        this.getSelectorPattern = AdventureHandles.findVirtual(this.selectorComponentClass, "pattern", String.class);
+        this.getSelectorSeparator = AdventureHandles.findVirtual(this.selectorComponentClass, "separator", c);
+        this.getNbtPath = AdventureHandles.findVirtual(this.nbtComponentClass, "nbtPath", String.class);
+        this.getInterpret = AdventureHandles.findVirtual(this.nbtComponentClass, "interpret", boolean.class);
+        this.getNbtSeparator = AdventureHandles.findVirtual(this.nbtComponentClass, "separator", c);
+        this.getBlockNbtPos = AdventureHandles.findVirtual(this.blockNbtComponentClass, "pos", posClass);
+        this.getPosString = AdventureHandles.findVirtual(posClass, "asString", String.class);
+        this.getEntityNbtSelector = AdventureHandles.findVirtual(this.entityNbtComponentClass, "selector", String.class);
+        this.getStorage = AdventureHandles.findVirtual(this.storageNbtComponentClass, "storage", keyClass);
+        this.getKeyString = AdventureHandles.findVirtual(keyClass, "asString", String.class);
+        this.isStyleEmpty = AdventureHandles.findVirtual(styleClass, "isEmpty", boolean.class);
+        this.getColor = AdventureHandles.findVirtual(styleClass, "color", textColorClass);
+        this.getColorValue = AdventureHandles.findVirtual(textColorClass, "value", int.class);
+        this.getDecoration = AdventureHandles.findVirtual(styleClass, "decoration", decorationStateClass, decorationClass);
+        this.getClickEvent = AdventureHandles.findVirtual(styleClass, "clickEvent", clickEventClass);
+        this.getClickAction = AdventureHandles.findVirtual(clickEventClass, "action", clickActionClass);
+        this.getClickValue = AdventureHandles.findVirtual(clickEventClass, "value", String.class);
+        this.getHoverEvent = AdventureHandles.findVirtual(styleClass, "hoverEvent", hoverEventClass);
+        this.getShadowColor = shadowColorClass == null ? null
+            : AdventureHandles.findOptionalVirtual(styleClass, "shadowColor", shadowColorClass);
+        this.getInsertion = AdventureHandles.findVirtual(styleClass, "insertion", String.class);
+        this.getFont = AdventureHandles.findVirtual(styleClass, "font", keyClass);
+    }
+
+    /**
+     * Map the given component to a platform component.
+     *
+     * @param component Component to be mapped.
+     *
+     * @return mapped platform component.
+     */
+    @NotNull Object map(@NotNull Component component) throws ReflectiveOperationException {
+        try {
+            return mapComponent(component);
+        } catch (Throwable ex) {
+            throw AdventureHandles.propagate(ex);
+        }
+    }
+
+    /**
+     * Map the given platform component backwards.
+     *
+     * @param component Platform component to be mapped.
+     *
+     * @return mapped component.
+     */
+    @NotNull Component mapBackwards(@NotNull Object component) throws ReflectiveOperationException {
+        try {
+            return mapComponentBackwards(component);
+        } catch (Throwable ex) {
+            throw AdventureHandles.propagate(ex);
+        }
+    }
+
+    private @NotNull Object mapComponent(@NotNull Component component) throws Throwable {
+        Object mapped = createComponent(component);
+        Object style = null;
+        if (mapped != null && !component.style().isEmpty()) {
+            style = mapStyle(component.style());
+            if (style == null) {
+                mapped = null;
+            }
+        }
+        if (mapped == null) {
+            return this.componentMapper.mapJson(component);
+        }
+
+        if (style != null) {
+            mapped = (Object) this.withStyle.invokeExact(mapped, style);
+        }
+        List<Component> children = component.children();
+        if (!children.isEmpty()) {
+            List<Object> mappedChildren = new ArrayList<>(children.size());
+            for (Component child : children) {
+                mappedChildren.add(mapComponent(child));
+            }
+            mapped = (Object) this.withChildren.invokeExact(mapped, (List<?>) mappedChildren);
+        }
+        return mapped;
+    }
+
+    @SuppressWarnings("deprecation")
+    private @Nullable Object createComponent(@NotNull Component component) throws Throwable {
+        if (component instanceof TextComponent) {
+            return (Object) this.text.invokeExact(((TextComponent) component).content());
+        }
+        if (component instanceof TranslatableComponent) {
+            return createTranslatable((TranslatableComponent) component);
+        }
+        if (component instanceof KeybindComponent) {
+            return (Object) this.keybind.invokeExact(((KeybindComponent) component).keybind());
+        }
+        if (component instanceof ScoreComponent) {
+            ScoreComponent score = (ScoreComponent) component;
+            return score.value() != null ? null : (Object) this.score.invokeExact(score.name(), score.objective());
+        }
+        if (component instanceof SelectorComponent) {
+            SelectorComponent selector = (SelectorComponent) component;
+            Object mapped = (Object) this.selector.invokeExact(selector.pattern());
+            Component separator = selector.separator();
+            if (separator != null) {
+                mapped = (Object) this.withSelectorSeparator.invokeExact(mapped, mapComponent(separator));
+            }
+            return mapped;
+        }
+        if (component instanceof NBTComponent) {
+            return createNbt((NBTComponent<?, ?>) component);
+        }
+        return null;
+    }
+
+    private @Nullable Object createTranslatable(@NotNull TranslatableComponent component) throws Throwable {
+        List<TranslationArgument> arguments = component.arguments();
+        List<Object> mappedArguments = new ArrayList<>(arguments.size());
+        for (TranslationArgument argument : arguments) {
+            // Numeric and boolean arguments are not supported by every platform version.
+            if (!(argument.value() instanceof Component)) {
+                return null;
+            }
+            mappedArguments.add(mapComponent((Component) argument.value()));
+        }
+
+        Object mapped = (Object) this.translatable.invokeExact(component.key(), (List<?>) mappedArguments);
+        String fallback = component.fallback();
+        if (fallback != null) {
+            MethodHandle handle = this.withFallback;
+            if (handle == null) {
+                return null;
+            }
+            mapped = (Object) handle.invokeExact(mapped, fallback);
+        }
+        return mapped;
+    }
+
+    private @Nullable Object createNbt(@NotNull NBTComponent<?, ?> component) throws Throwable {
+        Object mapped;
+        if (component instanceof BlockNBTComponent) {
+            Object pos = (Object) this.blockNbtPos.invokeExact(((BlockNBTComponent) component).pos().asString());
+            mapped = (Object) this.blockNbt.invokeExact(component.nbtPath(), pos);
+        } else if (component instanceof EntityNBTComponent) {
+            mapped = (Object) this.entityNbt.invokeExact(component.nbtPath(), ((EntityNBTComponent) component).selector());
+        } else if (component instanceof StorageNBTComponent) {
+            Object storage = (Object) this.key.invokeExact(((StorageNBTComponent) component).storage().asString());
+            mapped = (Object) this.storageNbt.invokeExact(component.nbtPath(), storage);
+        } else {
+            return null;
+        }
+
+        if (component.interpret()) {
+            mapped = (Object) this.withInterpret.invokeExact(mapped, true);
+        }
+        Component separator = component.separator();
+        if (separator != null) {
+            mapped = (Object) this.withNbtSeparator.invokeExact(mapped, mapComponent(separator));
+        }
+        return mapped;
+    }
+
+    private @Nullable Object mapStyle(@NotNull Style style) throws Throwable {
+        if (style.hoverEvent() != null || style.shadowColor() != null) {
+            return null;
+        }
+
+        Object builder = (Object) this.styleBuilder.invokeExact();
+        TextColor color = style.color();
+        if (color != null) {
+            builder = (Object) this.builderColor.invokeExact(builder, mapColor(color));
+        }
+        for (TextDecoration decoration : DECORATIONS) {
+            TextDecoration.State state = style.decoration(decoration);
+            if (state != TextDecoration.State.NOT_SET) {
+                builder = (Object) this.builderDecoration.invokeExact(
+                    builder, this.decorations[decoration.ordinal()], this.decorationStates[state.ordinal()]
+                );
+            }
+        }
+        ClickEvent click = style.clickEvent();
+        if (click != null) {
+            Object action = this.clickActions[click.action().ordinal()];
+            if (action == null) {
+                return null;
+            }
+            Object mappedClick = (Object) this.clickEvent.invokeExact(action, click.value());
+            builder = (Object) this.builderClickEvent.invokeExact(builder, mappedClick);
+        }
+        String insertion = style.insertion();
+        if (insertion != null) {
+            builder = (Object) this.builderInsertion.invokeExact(builder, insertion);
+        }
+        Key font = style.font();
+        if (font != null) {
+            builder = (Object) this.builderFont.invokeExact(builder, (Object) this.key.invokeExact(font.asString()));
+        }
+        return (Object) this.builderBuild.invokeExact(builder);
+    }
+
+    private @NotNull Object mapColor(@NotNull TextColor color) throws Throwable {
+        if (color instanceof NamedTextColor) {
+            Object named = (Object) this.namedTextColor.invokeExact(color.value());
+            if (named != null) {
+                return named;
+            }
+        }
+        return (Object) this.textColor.invokeExact(color.value());
+    }
+
+    private @NotNull Component mapComponentBackwards(@NotNull Object component) throws Throwable {
+        Component mapped = createComponentBackwards(component);
+        Object style = (Object) this.getStyle.invokeExact(component);
+        Style mappedStyle = null;
+        if (mapped != null && !(boolean) this.isStyleEmpty.invokeExact(style)) {
+            mappedStyle = mapStyleBackwards(style);
+            if (mappedStyle == null) {
+                mapped = null;
+            }
+        }
+        if (mapped == null) {
+            return this.componentMapper.mapJsonBackwards(component);
+        }
+
+        if (mappedStyle != null) {
+            mapped = mapped.style(mappedStyle);
+        }
+        List<?> children = (List<?>) this.getChildren.invokeExact(component);
+        if (!children.isEmpty()) {
+            List<Component> mappedChildren = new ArrayList<>(children.size());
+            for (Object child : children) {
+                mappedChildren.add(mapComponentBackwards(child));
+            }
+            mapped = mapped.children(mappedChildren);
+        }
+        return mapped;
+    }
+
+    private @Nullable Component createComponentBackwards(@NotNull Object component) throws Throwable {
+        if (this.textComponentClass.isInstance(component)) {
+            return Component.text((String) this.getContent.invokeExact(component));
+        }
+        if (this.translatableComponentClass.isInstance(component)) {
+            return createTranslatableBackwards(component);
+        }
+        if (this.keybindComponentClass.isInstance(component)) {
+            return Component.keybind((String) this.getKeybind.invokeExact(component));
+        }
+        if (this.scoreComponentClass.isInstance(component)) {
+            MethodHandle valueHandle = this.getScoreValue;
+            if (valueHandle != null && (String) valueHandle.invokeExact(component) != null) {
+                return null;
+            }
+            return Component.score(
+                (String) this.getScoreName.invokeExact(component),
+                (String) this.getScoreObjective.invokeExact(component)
+            );
+        }
+        if (this.selectorComponentClass.isInstance(component)) {
+            Object separator = (Object) this.getSelectorSeparator.invokeExact(component);
+            return Component.selector(
+                (String) this.getSelectorPattern.invokeExact(component),
+                separator == null ? null : mapComponentBackwards(separator)
+            );
+        }
+        if (this.nbtComponentClass.isInstance(component)) {
+            return createNbtBackwards(component);
+        }
+        return null;
+    }
+
+    private @Nullable Component createTranslatableBackwards(@NotNull Object component) throws Throwable {
+        List<Component> mappedArguments = new ArrayList<>();
+        MethodHandle argumentsHandle = this.getArguments;
+        MethodHandle valueHandle = this.getArgumentValue;
+        if (argumentsHandle != null && valueHandle != null) {
+            for (Object argument : (List<?>) argumentsHandle.invokeExact(component)) {
+                Object value = (Object) valueHandle.invokeExact(argument);
+                if (!this.componentClass.isInstance(value)) {
+                    return null;
+                }
+                mappedArguments.add(mapComponentBackwards(value));
+            }
+        } else {
+            for (Object argument : (List<?>) Objects.requireNonNull(this.getArgs).invokeExact(component)) {
+                mappedArguments.add(mapComponentBackwards(argument));
+            }
+        }
+
+        TranslatableComponent mapped = Component.translatable((String) this.getTranslationKey.invokeExact(component), mappedArguments);
+        MethodHandle fallbackHandle = this.getFallback;
+        if (fallbackHandle != null) {
+            String fallback = (String) fallbackHandle.invokeExact(component);
+            if (fallback != null) {
+                mapped = mapped.fallback(fallback);
+            }
+        }
+        return mapped;
+    }
+
+    private @Nullable Component createNbtBackwards(@NotNull Object component) throws Throwable {
+        String nbtPath = (String) this.getNbtPath.invokeExact(component);
+        boolean interpret = (boolean) this.getInterpret.invokeExact(component);
+        Object separator = (Object) this.getNbtSeparator.invokeExact(component);
+        Component mappedSeparator = separator == null ? null : mapComponentBackwards(separator);
+
+        if (this.blockNbtComponentClass.isInstance(component)) {
+            Object pos = (Object) this.getBlockNbtPos.invokeExact(component);
+            return Component.blockNBT(nbtPath, BlockNBTComponent.Pos.fromString((String) this.getPosString.invokeExact(pos)))
+                .interpret(interpret).separator(mappedSeparator);
+        }
+        if (this.entityNbtComponentClass.isInstance(component)) {
+            return Component.entityNBT(nbtPath, (String) this.getEntityNbtSelector.invokeExact(component))
+                .interpret(interpret).separator(mappedSeparator);
+        }
+        if (this.storageNbtComponentClass.isInstance(component)) {
+            Object storage = (Object) this.getStorage.invokeExact(component);
+            return Component.storageNBT(nbtPath, mapKeyBackwards(storage))
+                .interpret(interpret).separator(mappedSeparator);
+        }
+        return null;
+    }
+
+    private @Nullable Style mapStyleBackwards(@NotNull Object style) throws Throwable {
+        MethodHandle shadowColorHandle = this.getShadowColor;
+        if ((Object) this.getHoverEvent.invokeExact(style) != null
+            || (shadowColorHandle != null && (Object) shadowColorHandle.invokeExact(style) != null)) {
+            return null;
+        }
+
+        Style.Builder builder = Style.style();
+        Object color = (Object) this.getColor.invokeExact(style);
+        if (color != null) {
+            builder.color(mapColorBackwards(color));
+        }
+        for (TextDecoration decoration : DECORATIONS) {
+            Object state = (Object) this.getDecoration.invokeExact(style, this.decorations[decoration.ordinal()]);
+            int mappedState = indexOf(this.decorationStates, state);
+            if (mappedState < 0) {
+                return null;
+            }
+            if (DECORATION_STATES[mappedState] != TextDecoration.State.NOT_SET) {
+                builder.decoration(decoration, DECORATION_STATES[mappedState]);
+            }
+        }
+        Object click = (Object) this.getClickEvent.invokeExact(style);
+        if (click != null) {
+            int action = indexOf(this.clickActions, (Object) this.getClickAction.invokeExact(click));
+            if (action < 0) {
+                // Click action added by a newer platform version.
+                return null;
+            }
+            builder.clickEvent(ClickEvent.clickEvent(CLICK_ACTIONS[action], (String) this.getClickValue.invokeExact(click)));
+        }
+        builder.insertion((String) this.getInsertion.invokeExact(style));
+        Object font = (Object) this.getFont.invokeExact(style);
+        if (font != null) {
+            builder.font(mapKeyBackwards(font));
+        }
+        return builder.build();
+    }
+
+    private @NotNull TextColor mapColorBackwards(@NotNull Object color) throws Throwable {
+        int value = (int) this.getColorValue.invokeExact(color);
+        if (this.namedTextColorClass.isInstance(color)) {
+            NamedTextColor named = NamedTextColor.namedColor(value);
+            if (named != null) {
+                return named;
+            }
+        }
+        return TextColor.color(value);
+    }
+
+    private @NotNull Key mapKeyBackwards(@NotNull Object key) throws Throwable {
+        @Subst("key") String str = (String) this.getKeyString.invokeExact(key);
+        return Key.key(str);
+    }
+
+    private static int indexOf(@Nullable Object @NotNull [] constants, @Nullable Object constant) {
+        for (int i = 0; i < constants.length; i++) {
+            if (constants[i] == constant) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static @NotNull Class<?> platformClass(@NotNull String name) throws ClassNotFoundException {
+        return Class.forName(AdventureMapper.ORIGINAL_PACKAGE.concat(name));
+    }
+
+    private static @Nullable Class<?> optionalPlatformClass(@NotNull String name) {
+        try {
+            return platformClass(name);
+        } catch (ClassNotFoundException ex) {
+            return null;
+        }
+    }
+
+    private static <E extends Enum<E>> @Nullable Object @NotNull [] platformConstants(@NotNull Class<E> type, @NotNull Class<?> platformType) throws ReflectiveOperationException {
+        EnumMapper<E> mapper = EnumMapper.createAndLoad(type, platformType);
+        E[] constants = type.getEnumConstants();
+        Object[] platformConstants = new Object[constants.length];
+        for (E constant : constants) {
+            try {
+                platformConstants[constant.ordinal()] = mapper.map(constant);
+            } catch (IllegalArgumentException ex) {
+                // The platform predates this constant, leave it unmapped.
+            }
+        }
+        return platformConstants;
+    }
+
+}
@@ -24,22 +24,25 @@
 package dev.hypera.chameleon.adventure.mapper;
 
 import dev.hypera.chameleon.util.Preconditions;
-import java.lang.reflect.Method;
-import java.util.Objects;
+import java.util.HashMap;
+import java.util.Map;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 /**
  * Enum mapper.
  *
+ * <p>Constants are matched by name once when loaded, after which mapping in either direction is
+ * an ordinal-indexed array lookup.</p>
+ *
  * @param <E> Enum type.
  */
 public final class EnumMapper<E extends Enum<E>> implements Mapper<E> {
 
     private final @NotNull Class<E> clazz;
     private final @NotNull Class<?> platformClass;
-    private @Nullable Method nameMethod;
-    private @Nullable Method valueOfMethod;
+    private @Nullable Object @Nullable [] platformConstants;
+    private @Nullable E @Nullable [] constants;
 
     /**
      * Enum mapper constructor.
@@ -71,10 +74,32 @@ public final class EnumMapper<E extends Enum<E>> implements Mapper<E> {
      * {@inheritDoc}
      */
     @Override
+    @SuppressWarnings("unchecked")
     public void load() throws ReflectiveOperationException {
         Preconditions.checkState(!isLoaded(), "mapper has already been loaded");
-        this.nameMethod = this.platformClass.getMethod("name");
-        this.valueOfMethod = this.platformClass.getMethod("valueOf", String.class);
+        Object[] platformValues = this.platformClass.getEnumConstants();
+        if (platformValues == null) {
+            throw new IllegalArgumentException(this.platformClass.getName() + " is not an enum");
+        }
+
+        Map<String, Enum<?>> platformByName = new HashMap<>();
+        for (Object platformValue : platformValues) {
+            platformByName.put(((Enum<?>) platformValue).name(), (Enum<?>) platformValue);
+        }
+
+        E[] values = this.clazz.getEnumConstants();
+        Object[] forward = new Object[values.length];
+        E[] backward = (E[]) new Enum<?>[platformValues.length];
+        for (E value : values) {
+            Enum<?> platformValue = platformByName.get(value.name());
+            if (platformValue != null) {
+                forward[value.ordinal()] = platformValue;
+                backward[platformValue.ordinal()] = value;
+            }
+        }
+
+        this.constants = backward;
+        this.platformConstants = forward;
     }
 
     /**
@@ -82,7 +107,7 @@ public final class EnumMapper<E extends Enum<E>> implements Mapper<E> {
      */
     @Override
     public boolean isLoaded() {
-        return this.nameMethod != null && this.valueOfMethod != null;
+        return this.platformConstants != null && this.constants != null;
     }
 
     /**
@@ -90,9 +115,14 @@ public final class EnumMapper<E extends Enum<E>> implements Mapper<E> {
      */
     @Override
     public @NotNull Object map(@NotNull E e) throws ReflectiveOperationException {
-        Preconditions.checkState(isLoaded(), "mapper has not been loaded");
+        Object[] forward = this.platformConstants;
+        Preconditions.checkState(forward != null, "mapper has not been loaded");
         Preconditions.checkNotNull("e", e);
-        return Objects.requireNonNull(this.valueOfMethod).invoke(null, e.name());
+        Object mapped = forward[e.ordinal()];
+        if (mapped == null) {
+            throw new IllegalArgumentException("No enum constant " + this.platformClass.getCanonicalName() + "." + e.name());
+        }
+        return mapped;
     }
 
     /**
@@ -100,9 +130,17 @@ public final class EnumMapper<E extends Enum<E>> implements Mapper<E> {
      */
     @Override
     public @NotNull E mapBackwards(@NotNull Object e) throws ReflectiveOperationException {
-        Preconditions.checkState(isLoaded(), "mapper has not been loaded");
+        E[] backward = this.constants;
+        Preconditions.checkState(backward != null, "mapper has not been loaded");
         Preconditions.checkNotNull("e", e);
-        return Enum.valueOf(this.clazz, (String) Objects.requireNonNull(this.nameMethod).invoke(e));
+        if (!this.platformClass.isInstance(e)) {
+            throw new IllegalArgumentException(e.getClass().getCanonicalName() + " is not a " + this.platformClass.getCanonicalName());
+        }
+        E mapped = backward[((Enum<?>) e).ordinal()];
+        if (mapped == null) {
+            throw new IllegalArgumentException("No enum constant " + this.clazz.getCanonicalName() + "." + ((Enum<?>) e).name());
+        }
+        return mapped;
     }
 
 }
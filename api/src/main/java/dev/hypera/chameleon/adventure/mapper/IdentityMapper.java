@@ -24,7 +24,7 @@
 package dev.hypera.chameleon.adventure.mapper;
 
 import dev.hypera.chameleon.util.Preconditions;
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
 import java.util.Objects;
 import java.util.UUID;
 import net.kyori.adventure.identity.Identity;
@@ -36,8 +36,8 @@ import org.jetbrains.annotations.Nullable;
  */
 public final class IdentityMapper implements Mapper<Identity> {
 
-    private @Nullable Method identityCreateMethod;
-    private @Nullable Method identityUuidMethod;
+    private @Nullable MethodHandle identityCreateMethod;
+    private @Nullable MethodHandle identityUuidMethod;
 
     /**
      * {@inheritDoc}
@@ -46,8 +46,8 @@ public final class IdentityMapper implements Mapper<Identity> {
     public void load() throws ReflectiveOperationException {
         Preconditions.checkState(!isLoaded(), "mapper has already been loaded");
         Class<?> identityClass = Class.forName(AdventureMapper.ORIGINAL_IDENTITY_CLASS_NAME);
-        this.identityCreateMethod = identityClass.getMethod("identity", UUID.class);
-        this.identityUuidMethod = identityClass.getMethod("uuid");
+        this.identityCreateMethod = AdventureHandles.findStatic(identityClass, "identity", identityClass, UUID.class);
+        this.identityUuidMethod = AdventureHandles.findVirtual(identityClass, "uuid", UUID.class);
     }
 
     /**
@@ -65,7 +65,11 @@ public final class IdentityMapper implements Mapper<Identity> {
     public @NotNull Object map(@NotNull Identity identity) throws ReflectiveOperationException {
         Preconditions.checkState(isLoaded(), "mapper has not been loaded");
         Preconditions.checkNotNull("identity", identity);
-        return Objects.requireNonNull(this.identityCreateMethod).invoke(null, identity.uuid());
+        try {
+            return (Object) Objects.requireNonNull(this.identityCreateMethod).invokeExact(identity.uuid());
+        } catch (Throwable ex) {
+            throw AdventureHandles.propagate(ex);
+        }
     }
 
     /**
@@ -75,7 +79,11 @@ public final class IdentityMapper implements Mapper<Identity> {
     public @NotNull Identity mapBackwards(@NotNull Object identity) throws ReflectiveOperationException {
         Preconditions.checkState(isLoaded(), "mapper has not been loaded");
         Preconditions.checkNotNull("identity", identity);
-        return Identity.identity((UUID) Objects.requireNonNull(this.identityUuidMethod).invoke(identity));
+        try {
+            return Identity.identity((UUID) Objects.requireNonNull(this.identityUuidMethod).invokeExact(identity));
+        } catch (Throwable ex) {
+            throw AdventureHandles.propagate(ex);
+        }
     }
 
 }
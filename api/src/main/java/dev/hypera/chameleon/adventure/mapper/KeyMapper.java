@@ -24,7 +24,7 @@
 package dev.hypera.chameleon.adventure.mapper;
 
 import dev.hypera.chameleon.util.Preconditions;
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
 import java.util.Objects;
 import net.kyori.adventure.key.Key;
 import org.intellij.lang.annotations.Subst;
@@ -33,11 +33,31 @@ import org.jetbrains.annotations.Nullable;
 
 /**
  * Adventure Key mapper.
+ *
+ * <p>Mapped keys may be cached, so the keys of frequently played sounds, chat types and pointers
+ * are only mapped once.</p>
  */
 public final class KeyMapper implements Mapper<Key> {
 
-    private @Nullable Method keyCreateMethod;
-    private @Nullable Method keyAsStringMethod;
+    private final @Nullable MappingCache<Key> cache;
+    private @Nullable MethodHandle keyCreateMethod;
+    private @Nullable MethodHandle keyAsStringMethod;
+
+    /**
+     * Key mapper constructor, without a mapping cache.
+     */
+    public KeyMapper() {
+        this(null);
+    }
+
+    /**
+     * Key mapper constructor.
+     *
+     * @param cache Cache to store mapped keys in.
+     */
+    KeyMapper(@Nullable MappingCache<Key> cache) {
+        this.cache = cache;
+    }
 
     /**
      * {@inheritDoc}
@@ -46,8 +66,8 @@ public final class KeyMapper implements Mapper<Key> {
     public void load() throws ReflectiveOperationException {
         Preconditions.checkState(!isLoaded(), "mapper has already been loaded");
         Class<?> keyClass = Class.forName(AdventureMapper.ORIGINAL_KEY_CLASS_NAME);
-        this.keyCreateMethod = keyClass.getMethod("key", String.class);
-        this.keyAsStringMethod = keyClass.getMethod("asString");
+        this.keyCreateMethod = AdventureHandles.findStatic(keyClass, "key", keyClass, String.class);
+        this.keyAsStringMethod = AdventureHandles.findVirtual(keyClass, "asString", String.class);
     }
 
     /**
@@ -65,7 +85,8 @@ public final class KeyMapper implements Mapper<Key> {
     public @NotNull Object map(@NotNull Key key) throws ReflectiveOperationException {
         Preconditions.checkState(isLoaded(), "mapper has not been loaded");
         Preconditions.checkNotNull("key", key);
-        return Objects.requireNonNull(this.keyCreateMethod).invoke(null, key.asString());
+        MappingCache<Key> keyCache = this.cache;
+        return keyCache != null ? keyCache.get(key, this::mapUncached) : mapUncached(key);
     }
 
     /**
@@ -75,8 +96,20 @@ public final class KeyMapper implements Mapper<Key> {
     public @NotNull Key mapBackwards(@NotNull Object key) throws ReflectiveOperationException {
         Preconditions.checkState(isLoaded(), "mapper has not been loaded");
         Preconditions.checkNotNull("key", key);
-        @Subst("key") String str = (String) Objects.requireNonNull(this.keyAsStringMethod).invoke(key);
-        return Key.key(str);
+        try {
+            @Subst("key") String str = (String) Objects.requireNonNull(this.keyAsStringMethod).invokeExact(key);
+            return Key.key(str);
+        } catch (Throwable ex) {
+            throw AdventureHandles.propagate(ex);
+        }
+    }
+
+    private @NotNull Object mapUncached(@NotNull Key key) throws ReflectiveOperationException {
+        try {
+            return (Object) Objects.requireNonNull(this.keyCreateMethod).invokeExact(key.asString());
+        } catch (Throwable ex) {
+            throw AdventureHandles.propagate(ex);
+        }
     }
 
 }
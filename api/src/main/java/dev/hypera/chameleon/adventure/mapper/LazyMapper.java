@@ -0,0 +1,89 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2024 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.adventure.mapper;
+
+import dev.hypera.chameleon.exception.reflection.ChameleonReflectiveException;
+import dev.hypera.chameleon.util.internal.Lazy;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Holds a mapper that is loaded, along with the mappers it depends on, the first time it is used.
+ *
+ * @param <M> Mapper type.
+ */
+final class LazyMapper<M extends Mapper<?>> {
+
+    private final @NotNull M mapper;
+    private final @NotNull Lazy<M> loaded;
+
+    /**
+     * Lazy mapper constructor.
+     *
+     * @param mapper       Mapper to be loaded on first use.
+     * @param dependencies Mappers used by the mapper, which must be loaded first.
+     */
+    LazyMapper(@NotNull M mapper, @NotNull LazyMapper<?> @NotNull ... dependencies) {
+        this.mapper = mapper;
+        this.loaded = Lazy.of(() -> {
+            for (LazyMapper<?> dependency : dependencies) {
+                dependency.get();
+            }
+            try {
+                mapper.load();
+            } catch (ReflectiveOperationException ex) {
+                throw new ChameleonReflectiveException(ex);
+            }
+            return mapper;
+        });
+    }
+
+    /**
+     * Get the mapper, loading it if it has not been loaded yet.
+     *
+     * @return loaded mapper.
+     * @throws ChameleonReflectiveException if the mapper could not be loaded.
+     */
+    @NotNull M get() {
+        return this.loaded.get();
+    }
+
+    /**
+     * Get the mapper without loading it.
+     *
+     * @return mapper, which may not be loaded.
+     */
+    @NotNull M unloaded() {
+        return this.mapper;
+    }
+
+    /**
+     * Get whether the mapper has been loaded.
+     *
+     * @return {@code true} if the mapper has been loaded, otherwise {@code false}.
+     */
+    boolean isLoaded() {
+        return this.loaded.isComputed();
+    }
+
+}
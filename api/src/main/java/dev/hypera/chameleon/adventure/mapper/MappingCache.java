@@ -0,0 +1,257 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2024 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.adventure.mapper;
+
+import dev.hypera.chameleon.util.Preconditions;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Bounded cache of mapped platform objects, keyed by the equality of the relocated objects they
+ * were mapped from.
+ *
+ * <p>Only immutable objects should be cached, as a cached platform object is shared by every
+ * lookup of an equal key. Lookups of cached mappings do not lock, and concurrent lookups of the
+ * same uncached key only map it once.</p>
+ *
+ * <p>When the cache is full, mappings are evicted in insertion order, skipping mappings that
+ * have been used since they were last considered for eviction. This approximates evicting the
+ * least recently used mapping, without recording the order of every lookup.</p>
+ *
+ * @param <K> Relocated object type.
+ */
+public final class MappingCache<K> {
+
+    private final @NotNull Map<K, Entry<K>> entries = new ConcurrentHashMap<>();
+    /* Eviction queue, guarded by itself. Only modified when mapping, never on cached lookups. */
+    private final @NotNull Queue<Entry<K>> evictionQueue = new ArrayDeque<>();
+    private final @NotNull LongAdder hits = new LongAdder();
+    private final @NotNull LongAdder misses = new LongAdder();
+    private volatile int maximumSize;
+
+    /**
+     * Mapping cache constructor.
+     *
+     * @param maximumSize Maximum number of cached mappings, {@code 0} disables caching.
+     */
+    @Internal
+    public MappingCache(int maximumSize) {
+        Preconditions.checkArgument(maximumSize >= 0, "maximumSize cannot be negative");
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Get the cached mapping of the given object, mapping and caching it if absent.
+     *
+     * @param key    Relocated object.
+     * @param mapper Mapper to map the object with, if it is not cached.
+     *
+     * @return mapped platform object.
+     */
+    public @NotNull Object get(@NotNull K key, @NotNull MappingFunction<K> mapper) throws ReflectiveOperationException {
+        if (this.maximumSize < 1) {
+            return mapper.map(key);
+        }
+
+        Entry<K> entry = this.entries.get(key);
+        if (entry != null) {
+            entry.markReferenced();
+            this.hits.increment();
+            return entry.mapped;
+        }
+
+        try {
+            // Concurrent lookups of the same key wait for a single mapping.
+            entry = this.entries.computeIfAbsent(key, k -> {
+                this.misses.increment();
+                try {
+                    return new Entry<>(k, mapper.map(k));
+                } catch (ReflectiveOperationException ex) {
+                    throw new MappingException(ex);
+                }
+            });
+        } catch (MappingException ex) {
+            throw ex.getCause();
+        }
+
+        synchronized (this.evictionQueue) {
+            if (!entry.queued) {
+                entry.queued = true;
+                this.evictionQueue.add(entry);
+                trim();
+            }
+        }
+        return entry.mapped;
+    }
+
+    /**
+     * Get the maximum number of cached mappings.
+     *
+     * @return maximum size.
+     */
+    public int getMaximumSize() {
+        return this.maximumSize;
+    }
+
+    /**
+     * Set the maximum number of cached mappings, evicting mappings if the cache is now too large.
+     *
+     * @param maximumSize Maximum number of cached mappings, {@code 0} disables caching.
+     */
+    public void setMaximumSize(int maximumSize) {
+        Preconditions.checkArgument(maximumSize >= 0, "maximumSize cannot be negative");
+        synchronized (this.evictionQueue) {
+            this.maximumSize = maximumSize;
+            trim();
+        }
+    }
+
+    /**
+     * Get the number of cached mappings.
+     *
+     * @return size.
+     */
+    public int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * Get the number of lookups that were served from this cache.
+     *
+     * @return hit count.
+     */
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    /**
+     * Get the number of lookups that had to be mapped.
+     *
+     * @return miss count.
+     */
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    /**
+     * Remove every cached mapping and reset the hit and miss counters.
+     */
+    public void clear() {
+        synchronized (this.evictionQueue) {
+            this.entries.clear();
+            this.evictionQueue.clear();
+        }
+        this.hits.reset();
+        this.misses.reset();
+    }
+
+    /**
+     * Evicts mappings until the cache is no longer too large.
+     *
+     * <p>Must be called while holding the eviction queue lock. Mappings that were used since
+     * they were last considered are moved to the back of the queue instead of being evicted, each
+     * queued mapping is considered at most twice.</p>
+     */
+    private void trim() {
+        for (int remaining = this.evictionQueue.size() * 2; remaining > 0 && this.entries.size() > this.maximumSize; remaining--) {
+            Entry<K> entry = this.evictionQueue.poll();
+            if (entry == null) {
+                return;
+            }
+            if (entry.referenced && this.maximumSize > 0) {
+                entry.referenced = false;
+                this.evictionQueue.add(entry);
+            } else {
+                this.entries.remove(entry.key, entry);
+            }
+        }
+    }
+
+    /**
+     * Maps a relocated object to a platform object.
+     *
+     * @param <K> Relocated object type.
+     */
+    @FunctionalInterface
+    public interface MappingFunction<K> {
+
+        /**
+         * Map the object.
+         *
+         * @param key Object to be mapped.
+         *
+         * @return mapped object.
+         */
+        @NotNull Object map(@NotNull K key) throws ReflectiveOperationException;
+
+    }
+
+    private static final class Entry<K> {
+
+        private final @NotNull K key;
+        private final @NotNull Object mapped;
+        /* Whether this entry was used since it was last considered for eviction. */
+        private volatile boolean referenced = false;
+        /* Guarded by MappingCache#evictionQueue. */
+        private boolean queued = false;
+
+        private Entry(@NotNull K key, @NotNull Object mapped) {
+            this.key = key;
+            this.mapped = mapped;
+        }
+
+        private void markReferenced() {
+            // Avoids writing to entries that are already marked, as they may be shared by many
+            // concurrent lookups.
+            if (!this.referenced) {
+                this.referenced = true;
+            }
+        }
+
+    }
+
+    /**
+     * Carries a mapping failure out of {@link ConcurrentHashMap#computeIfAbsent(Object, java.util.function.Function)}.
+     */
+    private static final class MappingException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private MappingException(@NotNull ReflectiveOperationException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized @NotNull ReflectiveOperationException getCause() {
+            return (ReflectiveOperationException) super.getCause();
+        }
+
+    }
+
+}
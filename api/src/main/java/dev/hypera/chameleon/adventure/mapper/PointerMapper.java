@@ -24,7 +24,7 @@
 package dev.hypera.chameleon.adventure.mapper;
 
 import dev.hypera.chameleon.util.Preconditions;
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
 import java.util.Objects;
 import net.kyori.adventure.pointer.Pointer;
 import org.jetbrains.annotations.NotNull;
@@ -36,9 +36,9 @@ import org.jetbrains.annotations.Nullable;
 public final class PointerMapper implements Mapper<Pointer<?>> {
 
     private final @NotNull KeyMapper keyMapper;
-    private @Nullable Method pointerCreateMethod;
-    private @Nullable Method pointerTypeMethod;
-    private @Nullable Method pointerKeyMethod;
+    private @Nullable MethodHandle pointerCreateMethod;
+    private @Nullable MethodHandle pointerTypeMethod;
+    private @Nullable MethodHandle pointerKeyMethod;
 
     PointerMapper(@NotNull KeyMapper keyMapper) {
         this.keyMapper = keyMapper;
@@ -52,9 +52,9 @@ public final class PointerMapper implements Mapper<Pointer<?>> {
         Preconditions.checkState(!isLoaded(), "mapper has already been loaded");
         Class<?> pointerClass = Class.forName(AdventureMapper.ORIGINAL_POINTER_CLASS_NAME);
         Class<?> keyClass = Class.forName(AdventureMapper.ORIGINAL_KEY_CLASS_NAME);
-        this.pointerCreateMethod = pointerClass.getMethod("pointer", Class.class, keyClass);
-        this.pointerTypeMethod = pointerClass.getMethod("type");
-        this.pointerKeyMethod = pointerClass.getMethod("key");
+        this.pointerCreateMethod = AdventureHandles.findStatic(pointerClass, "pointer", pointerClass, Class.class, keyClass);
+        this.pointerTypeMethod = AdventureHandles.findVirtual(pointerClass, "type", Class.class);
+        this.pointerKeyMethod = AdventureHandles.findVirtual(pointerClass, "key", keyClass);
     }
 
     /**
@@ -75,8 +75,12 @@ public final class PointerMapper implements Mapper<Pointer<?>> {
     public @NotNull Object map(@NotNull Pointer<?> pointer) throws ReflectiveOperationException {
         Preconditions.checkState(isLoaded(), "mapper has not been loaded");
         Preconditions.checkNotNull("pointer", pointer);
-        return Objects.requireNonNull(this.pointerCreateMethod).invoke(
-            null, pointer.type(), this.keyMapper.map(pointer.key()));
+        try {
+            return (Object) Objects.requireNonNull(this.pointerCreateMethod).invokeExact(
+                (Class<?>) pointer.type(), this.keyMapper.map(pointer.key()));
+        } catch (Throwable ex) {
+            throw AdventureHandles.propagate(ex);
+        }
     }
 
     /**
@@ -86,10 +90,14 @@ public final class PointerMapper implements Mapper<Pointer<?>> {
     public @NotNull Pointer<?> mapBackwards(@NotNull Object pointer) throws ReflectiveOperationException {
         Preconditions.checkState(isLoaded(), "mapper has not been loaded");
         Preconditions.checkNotNull("pointer", pointer);
-        return Pointer.pointer(
-            (Class<?>) Objects.requireNonNull(this.pointerTypeMethod).invoke(pointer),
-            this.keyMapper.mapBackwards(Objects.requireNonNull(this.pointerKeyMethod).invoke(pointer))
-        );
+        try {
+            return Pointer.pointer(
+                (Class<?>) Objects.requireNonNull(this.pointerTypeMethod).invokeExact(pointer),
+                this.keyMapper.mapBackwards((Object) Objects.requireNonNull(this.pointerKeyMethod).invokeExact(pointer))
+            );
+        } catch (Throwable ex) {
+            throw AdventureHandles.propagate(ex);
+        }
     }
 
 }
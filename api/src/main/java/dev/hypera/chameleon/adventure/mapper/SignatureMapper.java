@@ -24,7 +24,7 @@
 package dev.hypera.chameleon.adventure.mapper;
 
 import dev.hypera.chameleon.util.Preconditions;
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
 import java.util.Objects;
 import net.kyori.adventure.chat.SignedMessage;
 import org.jetbrains.annotations.NotNull;
@@ -35,8 +35,8 @@ import org.jetbrains.annotations.Nullable;
  */
 public final class SignatureMapper implements Mapper<SignedMessage.Signature> {
 
-    private @Nullable Method signedMessageSignatureMethod;
-    private @Nullable Method signatureBytesMethod;
+    private @Nullable MethodHandle signedMessageSignatureMethod;
+    private @Nullable MethodHandle signatureBytesMethod;
 
     /**
      * {@inheritDoc}
@@ -46,8 +46,8 @@ public final class SignatureMapper implements Mapper<SignedMessage.Signature> {
         Preconditions.checkState(!isLoaded(), "mapper has already been loaded");
         Class<?> signedMessageClass = Class.forName(AdventureMapper.ORIGINAL_SIGNED_MESSAGE_CLASS_NAME);
         Class<?> signatureClass = Class.forName(AdventureMapper.ORIGINAL_SIGNED_MESSAGE_SIGNATURE_CLASS_NAME);
-        this.signedMessageSignatureMethod = signedMessageClass.getMethod("signature", byte[].class);
-        this.signatureBytesMethod = signatureClass.getMethod("bytes");
+        this.signedMessageSignatureMethod = AdventureHandles.findStatic(signedMessageClass, "signature", signatureClass, byte[].class);
+        this.signatureBytesMethod = AdventureHandles.findVirtual(signatureClass, "bytes", byte[].class);
     }
 
     /**
@@ -66,8 +66,12 @@ public final class SignatureMapper implements Mapper<SignedMessage.Signature> {
     public @NotNull Object map(@NotNull SignedMessage.Signature signature) throws ReflectiveOperationException {
         Preconditions.checkState(isLoaded(), "mapper has not been loaded");
         Preconditions.checkNotNull("signature", signature);
-        return Objects.requireNonNull(this.signedMessageSignatureMethod)
-            .invoke(null, (Object) signature.bytes());
+        try {
+            return (Object) Objects.requireNonNull(this.signedMessageSignatureMethod)
+                .invokeExact(signature.bytes());
+        } catch (Throwable ex) {
+            throw AdventureHandles.propagate(ex);
+        }
     }
 
     /**
@@ -77,9 +81,13 @@ public final class SignatureMapper implements Mapper<SignedMessage.Signature> {
     public @NotNull SignedMessage.Signature mapBackwards(@NotNull Object signature) throws ReflectiveOperationException {
         Preconditions.checkState(isLoaded(), "mapper has not been loaded");
         Preconditions.checkNotNull("signature", signature);
-        return SignedMessage.signature(
-            (byte[]) Objects.requireNonNull(this.signatureBytesMethod).invoke(signature)
-        );
+        try {
+            return SignedMessage.signature(
+                (byte[]) Objects.requireNonNull(this.signatureBytesMethod).invokeExact(signature)
+            );
+        } catch (Throwable ex) {
+            throw AdventureHandles.propagate(ex);
+        }
     }
 
 }
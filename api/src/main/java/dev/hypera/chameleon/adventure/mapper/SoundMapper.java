@@ -24,7 +24,7 @@
 package dev.hypera.chameleon.adventure.mapper;
 
 import dev.hypera.chameleon.util.Preconditions;
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
 import java.util.Objects;
 import net.kyori.adventure.sound.Sound;
 import org.jetbrains.annotations.NotNull;
@@ -32,19 +32,28 @@ import org.jetbrains.annotations.Nullable;
 
 /**
  * Adventure Sound mapper.
+ *
+ * <p>Sounds are immutable, so mapped sounds may be cached and a sound that is played repeatedly is
+ * only mapped once.</p>
  */
 public final class SoundMapper implements Mapper<Sound> {
 
     private final @NotNull KeyMapper keyMapper;
+    private final @Nullable MappingCache<Sound> cache;
     private @Nullable EnumMapper<Sound.Source> sourceMapper;
-    private @Nullable Method soundCreateMethod;
-    private @Nullable Method soundNameMethod;
-    private @Nullable Method soundSourceMethod;
-    private @Nullable Method soundVolumeMethod;
-    private @Nullable Method soundPitchMethod;
+    private @Nullable MethodHandle soundCreateMethod;
+    private @Nullable MethodHandle soundNameMethod;
+    private @Nullable MethodHandle soundSourceMethod;
+    private @Nullable MethodHandle soundVolumeMethod;
+    private @Nullable MethodHandle soundPitchMethod;
 
     SoundMapper(@NotNull KeyMapper keyMapper) {
+        this(keyMapper, null);
+    }
+
+    SoundMapper(@NotNull KeyMapper keyMapper, @Nullable MappingCache<Sound> cache) {
         this.keyMapper = keyMapper;
+        this.cache = cache;
     }
 
     /**
@@ -57,11 +66,11 @@ public final class SoundMapper implements Mapper<Sound> {
         Class<?> keyClass = Class.forName(AdventureMapper.ORIGINAL_KEY_CLASS_NAME);
         Class<?> sourceClass = Class.forName(soundClass.getCanonicalName() + "$Source");
         this.sourceMapper = EnumMapper.createAndLoad(Sound.Source.class, sourceClass);
-        this.soundCreateMethod = soundClass.getMethod("sound", keyClass, sourceClass, float.class, float.class);
-        this.soundNameMethod = soundClass.getMethod("name");
-        this.soundSourceMethod = soundClass.getMethod("source");
-        this.soundVolumeMethod = soundClass.getMethod("volume");
-        this.soundPitchMethod = soundClass.getMethod("pitch");
+        this.soundCreateMethod = AdventureHandles.findStatic(soundClass, "sound", soundClass, keyClass, sourceClass, float.class, float.class);
+        this.soundNameMethod = AdventureHandles.findVirtual(soundClass, "name", keyClass);
+        this.soundSourceMethod = AdventureHandles.findVirtual(soundClass, "source", sourceClass);
+        this.soundVolumeMethod = AdventureHandles.findVirtual(soundClass, "volume", float.class);
+        this.soundPitchMethod = AdventureHandles.findVirtual(soundClass, "pitch", float.class);
     }
 
     /**
@@ -83,11 +92,8 @@ public final class SoundMapper implements Mapper<Sound> {
     public @NotNull Object map(@NotNull Sound sound) throws ReflectiveOperationException {
         Preconditions.checkState(isLoaded(), "mapper has not been loaded");
         Preconditions.checkNotNull("sound", sound);
-        return Objects.requireNonNull(this.soundCreateMethod).invoke(
-            null, this.keyMapper.map(sound.name()),
-            Objects.requireNonNull(this.sourceMapper).map(sound.source()),
-            sound.volume(), sound.pitch()
-        );
+        MappingCache<Sound> soundCache = this.cache;
+        return soundCache != null ? soundCache.get(sound, this::mapUncached) : mapUncached(sound);
     }
 
     /**
@@ -97,13 +103,29 @@ public final class SoundMapper implements Mapper<Sound> {
     public @NotNull Sound mapBackwards(@NotNull Object sound) throws ReflectiveOperationException {
         Preconditions.checkState(isLoaded(), "mapper has not been loaded");
         Preconditions.checkNotNull("sound", sound);
-        return Sound.sound(
-            this.keyMapper.mapBackwards(Objects.requireNonNull(this.soundNameMethod).invoke(sound)),
-            Objects.requireNonNull(this.sourceMapper).mapBackwards(
-                Objects.requireNonNull(this.soundSourceMethod).invoke(sound)),
-            (float) Objects.requireNonNull(this.soundVolumeMethod).invoke(sound),
-            (float) Objects.requireNonNull(this.soundPitchMethod).invoke(sound)
-        );
+        try {
+            return Sound.sound(
+                this.keyMapper.mapBackwards((Object) Objects.requireNonNull(this.soundNameMethod).invokeExact(sound)),
+                Objects.requireNonNull(this.sourceMapper).mapBackwards(
+                    (Object) Objects.requireNonNull(this.soundSourceMethod).invokeExact(sound)),
+                (float) Objects.requireNonNull(this.soundVolumeMethod).invokeExact(sound),
+                (float) Objects.requireNonNull(this.soundPitchMethod).invokeExact(sound)
+            );
+        } catch (Throwable ex) {
+            throw AdventureHandles.propagate(ex);
+        }
+    }
+
+    private @NotNull Object mapUncached(@NotNull Sound sound) throws ReflectiveOperationException {
+        try {
+            return (Object) Objects.requireNonNull(this.soundCreateMethod).invokeExact(
+                this.keyMapper.map(sound.name()),
+                Objects.requireNonNull(this.sourceMapper).map(sound.source()),
+                sound.volume(), sound.pitch()
+            );
+        } catch (Throwable ex) {
+            throw AdventureHandles.propagate(ex);
+        }
     }
 
 }
@@ -24,7 +24,7 @@
 package dev.hypera.chameleon.adventure.mapper;
 
 import dev.hypera.chameleon.util.Preconditions;
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
 import java.util.Objects;
 import net.kyori.adventure.sound.Sound;
 import net.kyori.adventure.sound.SoundStop;
@@ -38,12 +38,12 @@ public final class SoundStopMapper implements Mapper<SoundStop> {
 
     private final @NotNull KeyMapper keyMapper;
     private @Nullable EnumMapper<Sound.Source> sourceMapper;
-    private @Nullable Method soundStopAllMethod;
-    private @Nullable Method soundStopNamedMethod;
-    private @Nullable Method soundStopOnSourceMethod;
-    private @Nullable Method soundStopNamedOnSourceMethod;
-    private @Nullable Method soundStopSoundMethod;
-    private @Nullable Method soundStopSourceMethod;
+    private @Nullable MethodHandle soundStopAllMethod;
+    private @Nullable MethodHandle soundStopNamedMethod;
+    private @Nullable MethodHandle soundStopOnSourceMethod;
+    private @Nullable MethodHandle soundStopNamedOnSourceMethod;
+    private @Nullable MethodHandle soundStopSoundMethod;
+    private @Nullable MethodHandle soundStopSourceMethod;
 
     SoundStopMapper(@NotNull KeyMapper keyMapper) {
         this.keyMapper = keyMapper;
@@ -59,12 +59,12 @@ public final class SoundStopMapper implements Mapper<SoundStop> {
         Class<?> keyClass = Class.forName(AdventureMapper.ORIGINAL_KEY_CLASS_NAME);
         Class<?> sourceClass = Class.forName(AdventureMapper.ORIGINAL_SOUND_CLASS_NAME.concat("$Source"));
         this.sourceMapper = EnumMapper.createAndLoad(Sound.Source.class, sourceClass);
-        this.soundStopAllMethod = soundStopClass.getMethod("all");
-        this.soundStopNamedMethod = soundStopClass.getMethod("named", keyClass);
-        this.soundStopOnSourceMethod = soundStopClass.getMethod("source", sourceClass);
-        this.soundStopNamedOnSourceMethod = soundStopClass.getMethod("namedOnSource", keyClass, sourceClass);
-        this.soundStopSoundMethod = soundStopClass.getMethod("sound");
-        this.soundStopSourceMethod = soundStopClass.getMethod("source");
+        this.soundStopAllMethod = AdventureHandles.findStatic(soundStopClass, "all", soundStopClass);
+        this.soundStopNamedMethod = AdventureHandles.findStatic(soundStopClass, "named", soundStopClass, keyClass);
+        this.soundStopOnSourceMethod = AdventureHandles.findStatic(soundStopClass, "source", soundStopClass, sourceClass);
+        this.soundStopNamedOnSourceMethod = AdventureHandles.findStatic(soundStopClass, "namedOnSource", soundStopClass, keyClass, sourceClass);
+        this.soundStopSoundMethod = AdventureHandles.findVirtual(soundStopClass, "sound", keyClass);
+        this.soundStopSourceMethod = AdventureHandles.findVirtual(soundStopClass, "source", sourceClass);
     }
 
     /**
@@ -87,29 +87,33 @@ public final class SoundStopMapper implements Mapper<SoundStop> {
         Preconditions.checkState(isLoaded(), "mapper has not been loaded");
         Preconditions.checkNotNull("soundStop", soundStop);
 
-        if (soundStop.sound() == null) {
-            if (soundStop.source() == null) {
-                return Objects.requireNonNull(this.soundStopAllMethod).invoke(null);
+        try {
+            if (soundStop.sound() == null) {
+                if (soundStop.source() == null) {
+                    return (Object) Objects.requireNonNull(this.soundStopAllMethod).invokeExact();
+                }
+
+                return (Object) Objects.requireNonNull(this.soundStopOnSourceMethod).invokeExact(
+                    Objects.requireNonNull(this.sourceMapper).map(
+                        Objects.requireNonNull(soundStop.source())
+                    )
+                );
             }
 
-            return Objects.requireNonNull(this.soundStopOnSourceMethod).invoke(
-                null, Objects.requireNonNull(this.sourceMapper).map(
-                    Objects.requireNonNull(soundStop.source())
-                )
-            );
-        }
+            if (soundStop.source() == null) {
+                return (Object) Objects.requireNonNull(this.soundStopNamedMethod).invokeExact(this.keyMapper.map(
+                    Objects.requireNonNull(soundStop.sound())
+                ));
+            }
 
-        if (soundStop.source() == null) {
-            return Objects.requireNonNull(this.soundStopNamedMethod).invoke(null, this.keyMapper.map(
+            return (Object) Objects.requireNonNull(this.soundStopNamedOnSourceMethod).invokeExact(this.keyMapper.map(
                 Objects.requireNonNull(soundStop.sound())
+            ), Objects.requireNonNull(this.sourceMapper).map(
+                Objects.requireNonNull(soundStop.source())
             ));
+        } catch (Throwable ex) {
+            throw AdventureHandles.propagate(ex);
         }
-
-        return Objects.requireNonNull(this.soundStopNamedOnSourceMethod).invoke(null, this.keyMapper.map(
-            Objects.requireNonNull(soundStop.sound())
-        ), Objects.requireNonNull(this.sourceMapper).map(
-            Objects.requireNonNull(soundStop.source())
-        ));
     }
 
     /**
@@ -120,8 +124,14 @@ public final class SoundStopMapper implements Mapper<SoundStop> {
         Preconditions.checkState(isLoaded(), "mapper has not been loaded");
         Preconditions.checkNotNull("soundStop", soundStop);
 
-        Object sound = Objects.requireNonNull(this.soundStopSoundMethod).invoke(soundStop);
-        Object source = Objects.requireNonNull(this.soundStopSourceMethod).invoke(soundStop);
+        Object sound;
+        Object source;
+        try {
+            sound = (Object) Objects.requireNonNull(this.soundStopSoundMethod).invokeExact(soundStop);
+            source = (Object) Objects.requireNonNull(this.soundStopSourceMethod).invokeExact(soundStop);
+        } catch (Throwable ex) {
+            throw AdventureHandles.propagate(ex);
+        }
         if (sound == null) {
             if (source == null) {
                 return SoundStop.all();
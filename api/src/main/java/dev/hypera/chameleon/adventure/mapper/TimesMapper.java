@@ -24,7 +24,7 @@
 package dev.hypera.chameleon.adventure.mapper;
 
 import dev.hypera.chameleon.util.Preconditions;
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
 import java.time.Duration;
 import java.util.Objects;
 import net.kyori.adventure.title.Title;
@@ -36,10 +36,10 @@ import org.jetbrains.annotations.Nullable;
  */
 public final class TimesMapper implements Mapper<Title.Times> {
 
-    private @Nullable Method timesCreateMethod;
-    private @Nullable Method timesFadeInMethod;
-    private @Nullable Method timesStayMethod;
-    private @Nullable Method timesFadeOutMethod;
+    private @Nullable MethodHandle timesCreateMethod;
+    private @Nullable MethodHandle timesFadeInMethod;
+    private @Nullable MethodHandle timesStayMethod;
+    private @Nullable MethodHandle timesFadeOutMethod;
 
     /**
      * {@inheritDoc}
@@ -48,12 +48,12 @@ public final class TimesMapper implements Mapper<Title.Times> {
     public void load() throws ReflectiveOperationException {
         Preconditions.checkState(!isLoaded(), "mapper has already been loaded");
         Class<?> timesClass = Class.forName(AdventureMapper.ORIGINAL_TITLE_TIMES_CLASS_NAME);
-        this.timesCreateMethod = timesClass.getMethod(
-            "times", Duration.class, Duration.class, Duration.class
+        this.timesCreateMethod = AdventureHandles.findStatic(
+            timesClass, "times", timesClass, Duration.class, Duration.class, Duration.class
         );
-        this.timesFadeInMethod = timesClass.getMethod("fadeIn");
-        this.timesStayMethod = timesClass.getMethod("stay");
-        this.timesFadeOutMethod = timesClass.getMethod("fadeOut");
+        this.timesFadeInMethod = AdventureHandles.findVirtual(timesClass, "fadeIn", Duration.class);
+        this.timesStayMethod = AdventureHandles.findVirtual(timesClass, "stay", Duration.class);
+        this.timesFadeOutMethod = AdventureHandles.findVirtual(timesClass, "fadeOut", Duration.class);
     }
 
     /**
@@ -72,8 +72,12 @@ public final class TimesMapper implements Mapper<Title.Times> {
     public @NotNull Object map(@NotNull Title.Times times) throws ReflectiveOperationException {
         Preconditions.checkState(isLoaded(), "mapper has not been loaded");
         Preconditions.checkNotNull("times", times);
-        return Objects.requireNonNull(this.timesCreateMethod)
-            .invoke(null, times.fadeIn(), times.stay(), times.fadeOut());
+        try {
+            return (Object) Objects.requireNonNull(this.timesCreateMethod)
+                .invokeExact(times.fadeIn(), times.stay(), times.fadeOut());
+        } catch (Throwable ex) {
+            throw AdventureHandles.propagate(ex);
+        }
     }
 
     /**
@@ -83,11 +87,15 @@ public final class TimesMapper implements Mapper<Title.Times> {
     public @NotNull Title.Times mapBackwards(@NotNull Object times) throws ReflectiveOperationException {
         Preconditions.checkState(isLoaded(), "mapper has not been loaded");
         Preconditions.checkNotNull("times", times);
-        return Title.Times.times(
-            (Duration) Objects.requireNonNull(this.timesFadeInMethod).invoke(times),
-            (Duration) Objects.requireNonNull(this.timesStayMethod).invoke(times),
-            (Duration) Objects.requireNonNull(this.timesFadeOutMethod).invoke(times)
-        );
+        try {
+            return Title.Times.times(
+                (Duration) Objects.requireNonNull(this.timesFadeInMethod).invokeExact(times),
+                (Duration) Objects.requireNonNull(this.timesStayMethod).invokeExact(times),
+                (Duration) Objects.requireNonNull(this.timesFadeOutMethod).invokeExact(times)
+            );
+        } catch (Throwable ex) {
+            throw AdventureHandles.propagate(ex);
+        }
     }
 
 }
@@ -0,0 +1,196 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2024 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.event;
+
+import dev.hypera.chameleon.event.annotations.Subscribe;
+import dev.hypera.chameleon.exception.reflection.ChameleonReflectiveException;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Creates event subscribers for the {@link Subscribe} annotated methods of listener objects.
+ *
+ * <p>The annotated methods of each listener class are only scanned once. Each method is linked to
+ * an {@link EventConsumer} implementation generated by {@link LambdaMetafactory}, so invoking an
+ * annotated method costs the same as invoking a lambda subscriber. If a class cannot be linked,
+ * for example because it is not accessible to Chameleon, its methods are invoked through bound
+ * method handles instead.</p>
+ */
+@Internal
+final class AnnotatedListeners {
+
+    private static final @NotNull MethodType SUBSCRIBER_TYPE = MethodType.methodType(void.class, ChameleonEvent.class);
+    private static final @NotNull ClassValue<List<SubscriberMethod>> SUBSCRIBER_METHODS = new ClassValue<>() {
+        @Override
+        protected @NotNull List<SubscriberMethod> computeValue(@NotNull Class<?> type) {
+            return scan(type);
+        }
+    };
+
+    private AnnotatedListeners() {
+        throw new UnsupportedOperationException("This class cannot be instantiated");
+    }
+
+    /**
+     * Creates event subscribers for the annotated methods of the given listener.
+     *
+     * @param listener Listener object.
+     *
+     * @return event subscribers, in declaration order of the listener class hierarchy.
+     * @throws IllegalArgumentException     if the listener has an invalid annotated method.
+     * @throws ChameleonReflectiveException if an annotated method cannot be accessed.
+     */
+    static @NotNull List<EventSubscriber<?>> createSubscribers(@NotNull Object listener) {
+        List<SubscriberMethod> methods = SUBSCRIBER_METHODS.get(listener.getClass());
+        List<EventSubscriber<?>> subscribers = new ArrayList<>(methods.size());
+        for (SubscriberMethod method : methods) {
+            subscribers.add(method.createSubscriber(listener));
+        }
+        return subscribers;
+    }
+
+    private static @NotNull List<SubscriberMethod> scan(@NotNull Class<?> type) {
+        List<SubscriberMethod> methods = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Method method : current.getDeclaredMethods()) {
+                Subscribe annotation = method.getAnnotation(Subscribe.class);
+                // Methods overridden by a subclass are only registered once, using the override.
+                if (annotation == null || method.isBridge() || method.isSynthetic()
+                    || !seen.add(method.getName() + Arrays.toString(method.getParameterTypes()))) {
+                    continue;
+                }
+                methods.add(new SubscriberMethod(method, annotation));
+            }
+        }
+        return Collections.unmodifiableList(methods);
+    }
+
+    private static final class SubscriberMethod {
+
+        private final @NotNull Method method;
+        private final @NotNull Subscribe annotation;
+        private final @NotNull Class<? extends ChameleonEvent> type;
+        private final boolean isStatic;
+        /* Generated consumer factory, or null if the method could not be linked. */
+        private final @Nullable MethodHandle factory;
+        /* Fallback invoker, taking the listener as its first parameter for instance methods. */
+        private final @NotNull MethodHandle handle;
+
+        private SubscriberMethod(@NotNull Method method, @NotNull Subscribe annotation) {
+            if (method.getParameterCount() != 1 || !ChameleonEvent.class.isAssignableFrom(method.getParameterTypes()[0])) {
+                throw new IllegalArgumentException(String.format(
+                    "%s#%s must accept a single event parameter to be a subscriber",
+                    method.getDeclaringClass().getName(), method.getName()
+                ));
+            }
+
+            this.method = method;
+            this.annotation = annotation;
+            this.type = method.getParameterTypes()[0].asSubclass(ChameleonEvent.class);
+            this.isStatic = Modifier.isStatic(method.getModifiers());
+
+            MethodHandles.Lookup lookup;
+            MethodHandle target;
+            try {
+                lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+                target = lookup.unreflect(method);
+            } catch (IllegalAccessException | SecurityException ex) {
+                lookup = null;
+                target = unreflectAccessible(method);
+            }
+            this.factory = lookup == null ? null : link(lookup, target);
+            this.handle = this.isStatic
+                ? target.asType(SUBSCRIBER_TYPE)
+                : target.asType(SUBSCRIBER_TYPE.insertParameterTypes(0, Object.class));
+        }
+
+        private @NotNull EventSubscriber<?> createSubscriber(@NotNull Object listener) {
+            return EventSubscriber.builder(this.type)
+                .handler(createConsumer(listener))
+                .priority(this.annotation.priority())
+                .acceptsCancelled(this.annotation.acceptsCancelled())
+                .deliveryMode(this.annotation.deliveryMode())
+                .build();
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T extends ChameleonEvent> @NotNull EventConsumer<T> createConsumer(@NotNull Object listener) {
+            if (this.factory != null) {
+                try {
+                    return this.isStatic
+                        ? (EventConsumer<T>) this.factory.invoke()
+                        : (EventConsumer<T>) this.factory.invoke(listener);
+                } catch (Throwable ex) {
+                    throw ChameleonReflectiveException.createMethodInvocationFailure(this.method, listener, ex);
+                }
+            }
+
+            MethodHandle bound = this.isStatic ? this.handle : this.handle.bindTo(listener);
+            return event -> bound.invokeExact((ChameleonEvent) event);
+        }
+
+        private @Nullable MethodHandle link(@NotNull MethodHandles.Lookup lookup, @NotNull MethodHandle target) {
+            MethodType factoryType = this.isStatic
+                ? MethodType.methodType(EventConsumer.class)
+                : MethodType.methodType(EventConsumer.class, this.method.getDeclaringClass());
+            try {
+                CallSite site = LambdaMetafactory.metafactory(
+                    lookup, "on", factoryType, SUBSCRIBER_TYPE, target,
+                    MethodType.methodType(void.class, this.type)
+                );
+                return site.getTarget();
+            } catch (Throwable ex) {
+                // The generated class must be defined alongside the listener class, which is not
+                // always possible, e.g. if the listener's class loader cannot see EventConsumer.
+                return null;
+            }
+        }
+
+        private static @NotNull MethodHandle unreflectAccessible(@NotNull Method method) {
+            try {
+                method.setAccessible(true);
+                return MethodHandles.lookup().unreflect(method);
+            } catch (IllegalAccessException | RuntimeException ex) {
+                throw ChameleonReflectiveException.create("Cannot access subscriber method %s", ex, method);
+            }
+        }
+
+    }
+
+}
@@ -23,9 +23,13 @@
  */
 package dev.hypera.chameleon.event;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 import org.jetbrains.annotations.ApiStatus.NonExtendable;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Event bus.
@@ -41,6 +45,32 @@ public interface EventBus {
      */
     void dispatch(@NotNull ChameleonEvent event);
 
+    /**
+     * Dispatches an event to subscribers asynchronously, using the default executor.
+     *
+     * @param event Event to be dispatched.
+     * @param <T>   Event type.
+     *
+     * @return a future that completes with the event once all subscribers have handled it.
+     * @see #dispatchAsync(ChameleonEvent, Executor)
+     */
+    <T extends ChameleonEvent> @NotNull CompletableFuture<T> dispatchAsync(@NotNull T event);
+
+    /**
+     * Dispatches an event to subscribers asynchronously, using the given executor.
+     *
+     * <p>Subscribers with the {@link EventDeliveryMode#SYNC} delivery mode are invoked on the
+     * calling thread before this method returns, all other subscribers are invoked on the given
+     * executor.</p>
+     *
+     * @param event    Event to be dispatched.
+     * @param executor Executor to invoke subscribers on.
+     * @param <T>      Event type.
+     *
+     * @return a future that completes with the event once all subscribers have handled it.
+     */
+    <T extends ChameleonEvent> @NotNull CompletableFuture<T> dispatchAsync(@NotNull T event, @NotNull Executor executor);
+
     /**
      * Registers an event subscriber.
      *
@@ -65,6 +95,29 @@ public interface EventBus {
      */
     <T extends ChameleonEvent> @NotNull EventSubscription subscribe(@NotNull EventSubscriber<T> subscriber);
 
+    /**
+     * Registers a subscriber for every {@link dev.hypera.chameleon.event.annotations.Subscribe}
+     * annotated method of the given listener.
+     *
+     * <p>Static annotated methods are registered too, methods inherited from superclasses are
+     * registered unless they are overridden.</p>
+     *
+     * @param listener Listener object.
+     *
+     * @return a subscription that unsubscribes every registered method.
+     * @throws IllegalArgumentException if the listener does not have any annotated methods, or an
+     *                                  annotated method does not accept a single event parameter.
+     */
+    @NotNull EventSubscription registerListeners(@NotNull Object listener);
+
+    /**
+     * Creates a new, empty subscription group.
+     *
+     * @return a new subscription group.
+     * @see EventSubscriptionGroup
+     */
+    @NotNull EventSubscriptionGroup createGroup();
+
     /**
      * Determines whether the given event has been subscribed to.
      *
@@ -74,6 +127,26 @@ public interface EventBus {
      */
     boolean subscribed(@NotNull Class<? extends ChameleonEvent> event);
 
+    /**
+     * Watches the subscriber demand for the given event type.
+     *
+     * <p>The listener is notified whenever {@link #subscribed(Class)} would change for the given
+     * event type, i.e. when it gains its first subscriber or loses its last one. If the event type
+     * is already subscribed to, the listener is notified immediately.</p>
+     *
+     * <p>The listener is notified on the thread that changed the demand, which may be any thread,
+     * but never while the event bus holds internal locks. Notifications for a single watch are
+     * never delivered concurrently, and always alternate between {@code true} and
+     * {@code false}.</p>
+     *
+     * @param event    Event type to watch.
+     * @param listener Demand listener.
+     *
+     * @return a subscription that stops notifying the listener once unsubscribed. If the event
+     *     type was subscribed to, the listener is notified with {@code false} when unsubscribing.
+     */
+    @NotNull EventSubscription watchDemand(@NotNull Class<? extends ChameleonEvent> event, @NotNull DemandListener listener);
+
     /**
      * Unregisters subscribers matching the given predicate.
      *
@@ -81,6 +154,34 @@ public interface EventBus {
      */
     void unsubscribeIf(@NotNull Predicate<EventSubscriber<? super ChameleonEvent>> predicate);
 
+    /**
+     * Sets the number of per-user event lanes.
+     *
+     * <p>When enabled, the asynchronous delivery of {@link dev.hypera.chameleon.event.common.UserEvent}s
+     * is sharded onto serial lanes keyed by the user's id: events for different users are
+     * delivered concurrently, while events for the same user are delivered in the order they were
+     * dispatched. This applies to {@link #dispatchAsync(ChameleonEvent)}, and to
+     * {@link EventDeliveryMode#ASYNC} subscribers of events dispatched using
+     * {@link #dispatch(ChameleonEvent)}.</p>
+     *
+     * <p>This must be configured before any events are dispatched, the lanes cannot be changed
+     * once an event has been delivered on them.</p>
+     *
+     * @param lanes Number of lanes, or {@code 0} to disable per-user lanes.
+     *
+     * @throws IllegalArgumentException if {@code lanes} is negative.
+     * @throws IllegalStateException    if an event has already been delivered on the lanes.
+     * @see dev.hypera.chameleon.ChameleonBootstrap#withUserEventLanes(int)
+     */
+    void setUserLanes(int lanes);
+
+    /**
+     * Returns the dispatch metrics of this event bus.
+     *
+     * @return event metrics.
+     */
+    @NotNull EventMetrics getMetrics();
+
     /**
      * Sets the exception handler for this event bus.
      *
@@ -90,6 +191,46 @@ public interface EventBus {
      */
     void setExceptionHandler(@NotNull ExceptionHandler exceptionHandler);
 
+    /**
+     * Sets the time a single subscriber invocation may take before it is reported to the slow
+     * subscriber handler.
+     *
+     * @param threshold Slow subscriber threshold, or {@code null} to disable slow subscriber
+     *                  detection.
+     *
+     * @throws IllegalArgumentException if {@code threshold} is not positive.
+     * @see dev.hypera.chameleon.ChameleonBootstrap#withSlowEventSubscriberThreshold(Duration)
+     */
+    void setSlowSubscriberThreshold(@Nullable Duration threshold);
+
+    /**
+     * Sets the slow subscriber handler for this event bus.
+     *
+     * @param slowSubscriberHandler New slow subscriber handler.
+     *
+     * @see #setSlowSubscriberThreshold(Duration)
+     * @see dev.hypera.chameleon.ChameleonBootstrap#withSlowEventSubscriberHandler(SlowSubscriberHandler)
+     */
+    void setSlowSubscriberHandler(@NotNull SlowSubscriberHandler slowSubscriberHandler);
+
+    /**
+     * Represents a listener for changes in the subscriber demand of an event type.
+     *
+     * @see #watchDemand(Class, DemandListener)
+     */
+    @FunctionalInterface
+    interface DemandListener {
+
+        /**
+         * Handles a change in the subscriber demand of the watched event type.
+         *
+         * @param subscribed {@code true} if the event type is now subscribed to, otherwise
+         *                   {@code false}.
+         */
+        void onDemandChange(boolean subscribed);
+
+    }
+
     /**
      * Represents an event exception handler.
      */
@@ -108,4 +249,22 @@ public interface EventBus {
 
     }
 
+    /**
+     * Represents a slow subscriber handler.
+     */
+    @FunctionalInterface
+    interface SlowSubscriberHandler {
+
+        /**
+         * Handles a subscriber invocation that exceeded the slow subscriber threshold.
+         *
+         * @param eventBus   Event bus.
+         * @param subscriber Event subscriber.
+         * @param event      Event.
+         * @param elapsed    Time spent in the subscriber.
+         */
+        void handle(@NotNull EventBus eventBus, @NotNull EventSubscriber<? super ChameleonEvent> subscriber, @NotNull ChameleonEvent event, @NotNull Duration elapsed);
+
+    }
+
 }
@@ -23,32 +23,123 @@
  */
 package dev.hypera.chameleon.event;
 
+import dev.hypera.chameleon.event.common.UserEvent;
 import dev.hypera.chameleon.logger.ChameleonLogger;
 import dev.hypera.chameleon.util.Preconditions;
+import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.Queue;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
 import java.util.function.Predicate;
 import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Event bus implementation.
+ *
+ * <p>Subscribers are stored in copy-on-write arrays, one per subscribed event type. When an event
+ * is dispatched, the subscribers of every supertype of the event are merged into a single
+ * priority-sorted dispatch table, which is cached per concrete event class until the subscribers
+ * change. Dispatching is lock-free, only registering and unregistering subscribers is
+ * synchronised.</p>
+ *
+ * <p>Subscribers are split by {@link EventDeliveryMode} when the dispatch table is built, so the
+ * synchronous and asynchronous dispatch paths only iterate the subscribers they invoke.</p>
+ *
+ * <p>Each registration is its own {@link EventSubscription}, unsubscribing only touches the
+ * subscriber array of the type it was registered for.</p>
+ *
+ * <p>Subscribers keyed to a user are kept in a separate index per user id. When a
+ * {@link UserEvent} is dispatched, the global dispatch table is merged with the dispatch table of
+ * the triggering user's index, so keyed subscribers are never invoked for other users.</p>
+ *
+ * <p>When per-user lanes are enabled, asynchronous delivery of user events is handed to a serial
+ * lane chosen by the user's id. Each lane drains its queue on the shared executor, so lanes run
+ * concurrently while each lane stays FIFO.</p>
+ *
+ * <p>Subscriber invocations are only timed while metrics are enabled or a slow subscriber
+ * threshold is set. Statistics of a subscriber are stored on its registration, so recording them
+ * does not require a lookup.</p>
+ *
+ * <p>Demand watchers are re-evaluated after every change to the subscribers, outside of the
+ * subscriber lock so they may safely register or unregister platform listeners.</p>
  */
 @Internal
 public final class EventBusImpl implements EventBus {
 
-    private static final @NotNull Comparator<EventSubscriber<? super ChameleonEvent>> PRIORITY_COMPARATOR = Comparator.comparingInt(e -> e.getPriority().ordinal());
+    private static final @NotNull Registration[] EMPTY_REGISTRATIONS = new Registration[0];
+    private static final @NotNull Comparator<Registration> REGISTRATION_COMPARATOR = Comparator
+        .comparingInt((Registration registration) -> registration.priority)
+        .thenComparingLong(registration -> registration.sequence);
+    private static final @NotNull DispatchTable EMPTY_DISPATCH_TABLE = new DispatchTable(
+        -1, Collections.emptyList(), false
+    );
+
+    /**
+     * Caches the event types (the class itself, its superclasses and its interfaces) that a
+     * concrete event class can be delivered as.
+     */
+    private static final @NotNull ClassValue<Class<?>[]> EVENT_HIERARCHY = new ClassValue<>() {
+        @Override
+        protected Class<?> @NotNull [] computeValue(@NotNull Class<?> type) {
+            Set<Class<?>> hierarchy = new LinkedHashSet<>();
+            Deque<Class<?>> queue = new ArrayDeque<>();
+            queue.add(type);
+            while (!queue.isEmpty()) {
+                Class<?> current = queue.poll();
+                if (!ChameleonEvent.class.isAssignableFrom(current) || !hierarchy.add(current)) {
+                    continue;
+                }
+                if (current.getSuperclass() != null) {
+                    queue.add(current.getSuperclass());
+                }
+                queue.addAll(Arrays.asList(current.getInterfaces()));
+            }
+            return hierarchy.toArray(new Class<?>[0]);
+        }
+    };
 
-    private final @NotNull Map<Class<? extends ChameleonEvent>, Set<EventSubscriber<? super ChameleonEvent>>> subscriptions = new ConcurrentHashMap<>();
-    private final @NotNull Map<Class<? extends ChameleonEvent>, List<EventSubscriber<? super ChameleonEvent>>> sortedSubscriptions = new ConcurrentHashMap<>();
+    private final @NotNull Executor asyncExecutor = ForkJoinPool.commonPool();
+    /* Time source used to measure subscriber invocations, in nanoseconds. */
+    private final @NotNull LongSupplier ticker;
+    private final @NotNull Object lock = new Object();
+    private final @NotNull SubscriberIndex subscriptions = new SubscriberIndex(null);
+    private final @NotNull Map<UUID, SubscriberIndex> userSubscriptions = new ConcurrentHashMap<>();
+    /* Number of keyed registrations per event type, modified while holding the lock. */
+    private final @NotNull Map<Class<?>, Integer> keyedTypes = new ConcurrentHashMap<>();
+    private final @NotNull Object demandLock = new Object();
+    private final @NotNull List<DemandWatch> demandWatches = new CopyOnWriteArrayList<>();
+    private long sequence = 0;
+    private final @NotNull Metrics metrics = new Metrics();
+    private volatile @NotNull SerialLane @Nullable [] userLanes;
+    /* Set once an event has been handed to a lane, the lanes can no longer be replaced after. */
+    private volatile boolean userLanesUsed = false;
+    /* Slow subscriber threshold in nanoseconds, or 0 if disabled. */
+    private volatile long slowSubscriberThreshold = 0;
     private @NotNull ExceptionHandler exceptionHandler;
+    private @NotNull SlowSubscriberHandler slowSubscriberHandler;
 
     /**
      * Event bus implementation constructor.
@@ -63,6 +154,12 @@ public final class EventBusImpl implements EventBus {
             subscriber.getClass().getCanonicalName(),
             throwable
         ));
+        this.slowSubscriberHandler = (eventBus, subscriber, event, elapsed) -> logger.warn(
+            "Dispatching event {} to {} took {}ms",
+            event.getClass().getSimpleName(),
+            subscriber.getClass().getCanonicalName(),
+            elapsed.toMillis()
+        );
     }
 
     /**
@@ -72,7 +169,19 @@ public final class EventBusImpl implements EventBus {
      */
     @Internal
     public EventBusImpl(@NotNull ExceptionHandler exceptionHandler) {
+        this(exceptionHandler, System::nanoTime);
+    }
+
+    /**
+     * Event bus implementation constructor.
+     *
+     * @param exceptionHandler Event exception handler.
+     * @param ticker           Time source used to measure subscriber invocations, in nanoseconds.
+     */
+    EventBusImpl(@NotNull ExceptionHandler exceptionHandler, @NotNull LongSupplier ticker) {
         this.exceptionHandler = exceptionHandler;
+        this.slowSubscriberHandler = (eventBus, subscriber, event, elapsed) -> {};
+        this.ticker = ticker;
     }
 
     /**
@@ -81,38 +190,72 @@ public final class EventBusImpl implements EventBus {
     @Override
     public void dispatch(@NotNull ChameleonEvent event) {
         Preconditions.checkNotNull("event", event);
-        getSubscribers(event.getClass()).iterator().forEachRemaining(subscriber -> {
-            if (subscriber.acceptsCancelled() || !(event instanceof Cancellable) || !((Cancellable) event).isCancelled()) {
-                try {
-                    subscriber.on(event);
-                } catch (Throwable ex) {
-                    this.exceptionHandler.handle(this, subscriber, event, ex);
-                }
-            }
-        });
+        DispatchTable table = getDispatchTable(this.subscriptions, event.getClass());
+        DispatchTable userTable = getUserDispatchTable(table, event);
+        deliver(table.sync, userTable.sync, event);
+        if (table.asyncOnly.length > 0 || userTable.asyncOnly.length > 0) {
+            getAsyncExecutor(event).execute(() -> deliver(table.asyncOnly, userTable.asyncOnly, event));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends ChameleonEvent> @NotNull CompletableFuture<T> dispatchAsync(@NotNull T event) {
+        Preconditions.checkNotNull("event", event);
+        return dispatchAsync(event, getAsyncExecutor(event));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends ChameleonEvent> @NotNull CompletableFuture<T> dispatchAsync(@NotNull T event, @NotNull Executor executor) {
+        Preconditions.checkNotNull("event", event);
+        Preconditions.checkNotNull("executor", executor);
+        DispatchTable table = getDispatchTable(this.subscriptions, event.getClass());
+        DispatchTable userTable = getUserDispatchTable(table, event);
+        deliver(table.syncOnly, userTable.syncOnly, event);
+        if (table.async.length < 1 && userTable.async.length < 1) {
+            return CompletableFuture.completedFuture(event);
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            deliver(table.async, userTable.async, event);
+            return event;
+        }, executor);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    @SuppressWarnings("unchecked")
     public <T extends ChameleonEvent> @NotNull EventSubscription subscribe(@NotNull EventSubscriber<T> subscriber) {
-        Preconditions.checkNotNull("subscriber", subscriber);
-        Preconditions.checkArgument(
-            subscriber.getType() != null,
-            "subscriber does not have a set type, use #subscribe(Class, EventSubscriber) or EventSubscriber#builder instead"
-        );
+        return subscribe(subscriber, null);
+    }
 
-        this.subscriptions.computeIfAbsent(subscriber.getType(), key -> Collections.synchronizedSet(new HashSet<>())).add((EventSubscriber<ChameleonEvent>) subscriber);
-        this.sortedSubscriptions.clear();
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull EventSubscription registerListeners(@NotNull Object listener) {
+        Preconditions.checkNotNull("listener", listener);
+        List<EventSubscriber<?>> subscribers = AnnotatedListeners.createSubscribers(listener);
+        Preconditions.checkArgument(!subscribers.isEmpty(), "listener does not have any @Subscribe methods");
 
-        EventSubscription subscription = () -> unsubscribeIf(sub -> sub.equals(subscriber));
-        if (subscriber instanceof EventSubscriberImpl) {
-            ((EventSubscriberImpl<T>) subscriber).setSubscription(subscription);
+        SubscriptionGroup group = new SubscriptionGroup();
+        for (EventSubscriber<?> subscriber : subscribers) {
+            group.subscribe(subscriber);
         }
+        return group;
+    }
 
-        return subscription;
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull EventSubscriptionGroup createGroup() {
+        return new SubscriptionGroup();
     }
 
     /**
@@ -121,7 +264,32 @@ public final class EventBusImpl implements EventBus {
     @Override
     public boolean subscribed(@NotNull Class<? extends ChameleonEvent> event) {
         Preconditions.checkNotNull("event", event);
-        return this.subscriptions.entrySet().stream().anyMatch(entry -> entry.getKey().isAssignableFrom(event) && !entry.getValue().isEmpty());
+        return getDispatchTable(this.subscriptions, event).subscribed;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull EventSubscription watchDemand(@NotNull Class<? extends ChameleonEvent> event, @NotNull DemandListener listener) {
+        Preconditions.checkNotNull("event", event);
+        Preconditions.checkNotNull("listener", listener);
+
+        DemandWatch watch = new DemandWatch(event, listener);
+        synchronized (this.demandLock) {
+            this.demandWatches.add(watch);
+            watch.update();
+        }
+        watch.notifyListener();
+        return () -> {
+            synchronized (this.demandLock) {
+                if (!this.demandWatches.remove(watch)) {
+                    return;
+                }
+                watch.close();
+            }
+            watch.notifyListener();
+        };
     }
 
     /**
@@ -131,14 +299,43 @@ public final class EventBusImpl implements EventBus {
     public void unsubscribeIf(@NotNull Predicate<EventSubscriber<? super ChameleonEvent>> predicate) {
         Preconditions.checkNotNull("predicate", predicate);
 
-        boolean removed = false;
-        for (Set<EventSubscriber<? super ChameleonEvent>> subscribers : this.subscriptions.values()) {
-            removed |= subscribers.removeIf(predicate);
+        synchronized (this.lock) {
+            List<Registration> matched = new ArrayList<>();
+            this.subscriptions.collect(predicate, matched);
+            for (SubscriberIndex index : this.userSubscriptions.values()) {
+                index.collect(predicate, matched);
+            }
+            removeRegistrations(matched);
         }
+        updateDemand();
+    }
 
-        if (removed) {
-            this.sortedSubscriptions.clear();
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setUserLanes(int lanes) {
+        Preconditions.checkArgument(lanes >= 0, "lanes cannot be negative");
+        // Replacing lanes that may still have queued events would break per-user ordering.
+        Preconditions.checkState(!this.userLanesUsed, "user lanes cannot be changed once events have been dispatched");
+        if (lanes == 0) {
+            this.userLanes = null;
+            return;
+        }
+
+        SerialLane[] created = new SerialLane[lanes];
+        for (int i = 0; i < lanes; i++) {
+            created[i] = new SerialLane(this.asyncExecutor);
         }
+        this.userLanes = created;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull EventMetrics getMetrics() {
+        return this.metrics;
     }
 
     /**
@@ -150,26 +347,707 @@ public final class EventBusImpl implements EventBus {
         this.exceptionHandler = exceptionHandler;
     }
 
-    private synchronized @NotNull List<EventSubscriber<? super ChameleonEvent>> getSubscribers(@NotNull Class<? extends ChameleonEvent> event) {
-        Preconditions.checkNotNull("event", event);
-        List<EventSubscriber<? super ChameleonEvent>> subscribers = this.sortedSubscriptions.entrySet().stream()
-            .filter(entry -> entry.getKey().isAssignableFrom(event)).map(Entry::getValue).findFirst().orElse(null);
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setSlowSubscriberThreshold(@Nullable Duration threshold) {
+        Preconditions.checkArgument(
+            threshold == null || (!threshold.isNegative() && !threshold.isZero()),
+            "threshold must be positive"
+        );
+        this.slowSubscriberThreshold = threshold == null ? 0 : threshold.toNanos();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setSlowSubscriberHandler(@NotNull SlowSubscriberHandler slowSubscriberHandler) {
+        Preconditions.checkNotNull("slowSubscriberHandler", slowSubscriberHandler);
+        this.slowSubscriberHandler = slowSubscriberHandler;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends ChameleonEvent> @NotNull EventSubscription subscribe(@NotNull EventSubscriber<T> subscriber, @Nullable SubscriptionGroup group) {
+        Preconditions.checkNotNull("subscriber", subscriber);
+        Preconditions.checkArgument(
+            subscriber.getType() != null,
+            "subscriber does not have a set type, use #subscribe(Class, EventSubscriber) or EventSubscriber#builder instead"
+        );
+
+        Class<T> type = subscriber.getType();
+        UUID userId = subscriber.getUserId();
+        Preconditions.checkArgument(
+            userId == null || UserEvent.class.isAssignableFrom(type),
+            "only user event subscribers can be keyed to a user"
+        );
+
+        Registration registration;
+        synchronized (this.lock) {
+            registration = new Registration(
+                type, (EventSubscriber<? super ChameleonEvent>) subscriber, userId, group, this.sequence++
+            );
+            if (userId == null) {
+                this.subscriptions.add(registration);
+            } else {
+                this.userSubscriptions.computeIfAbsent(userId, SubscriberIndex::new).add(registration);
+                if (this.keyedTypes.merge(type, 1, Integer::sum) == 1) {
+                    // Global dispatch tables record whether keyed subscribers exist for their type.
+                    this.subscriptions.generation++;
+                }
+            }
+            if (group != null) {
+                group.registrations.add(registration);
+            }
+        }
+        updateDemand();
+
+        if (subscriber instanceof EventSubscriberImpl) {
+            ((EventSubscriberImpl<T>) subscriber).setSubscription(registration);
+        }
+
+        return registration;
+    }
+
+    /**
+     * Removes the given registrations from their subscriber arrays.
+     *
+     * <p>Must be called while holding the lock. Each affected subscriber array is only copied
+     * once, regardless of how many of its registrations are being removed.</p>
+     *
+     * @param registrations Registrations to remove.
+     */
+    private void removeRegistrations(@NotNull Iterable<Registration> registrations) {
+        Map<SubscriberIndex, Set<Class<?>>> affected = new IdentityHashMap<>();
+        for (Registration registration : registrations) {
+            if (!registration.active) {
+                continue;
+            }
+            registration.deactivate();
+
+            SubscriberIndex index = registration.userId == null
+                ? this.subscriptions : this.userSubscriptions.get(registration.userId);
+            if (index != null) {
+                affected.computeIfAbsent(index, i -> new LinkedHashSet<>()).add(registration.type);
+            }
+            if (registration.userId != null
+                && this.keyedTypes.merge(registration.type, -1, Integer::sum) < 1) {
+                this.keyedTypes.remove(registration.type);
+                this.subscriptions.generation++;
+            }
+        }
 
-        if (subscribers == null) {
-            if (subscribed(event)) {
-                List<EventSubscriber<? super ChameleonEvent>> sortedSubscribers = Collections.synchronizedList(new ArrayList<>(this.subscriptions.entrySet().stream()
-                    .filter(entry -> entry.getKey().isAssignableFrom(event)).map(Entry::getValue).findFirst().orElse(Collections.synchronizedSet(new HashSet<>()))));
+        for (Map.Entry<SubscriberIndex, Set<Class<?>>> entry : affected.entrySet()) {
+            SubscriberIndex index = entry.getKey();
+            index.removeInactive(entry.getValue());
+            if (index.userId != null && index.isEmpty()) {
+                this.userSubscriptions.remove(index.userId);
+            }
+        }
+    }
+
+    /**
+     * Returns the executor to deliver the given event asynchronously on.
+     *
+     * @param event Event to be delivered.
+     *
+     * @return the lane of the user that triggered the event if per-user lanes are enabled,
+     *     otherwise the shared executor.
+     */
+    private @NotNull Executor getAsyncExecutor(@NotNull ChameleonEvent event) {
+        SerialLane[] lanes = this.userLanes;
+        if (lanes == null || !(event instanceof UserEvent)) {
+            return this.asyncExecutor;
+        }
+        if (!this.userLanesUsed) {
+            this.userLanesUsed = true;
+        }
+        return lanes[Math.floorMod(((UserEvent) event).getUser().getId().hashCode(), lanes.length)];
+    }
 
-                sortedSubscribers.sort(PRIORITY_COMPARATOR);
-                this.sortedSubscriptions.put(event, sortedSubscribers);
-                return sortedSubscribers;
+    /**
+     * Notifies demand watchers whose event type gained or lost its subscribers.
+     *
+     * <p>Must be called without holding the lock. Demand changes are recorded while holding the
+     * demand lock, but listeners are only notified once it has been released.</p>
+     */
+    private void updateDemand() {
+        if (this.demandWatches.isEmpty()) {
+            return;
+        }
+        synchronized (this.demandLock) {
+            for (DemandWatch watch : this.demandWatches) {
+                watch.update();
             }
+        }
+        for (DemandWatch watch : this.demandWatches) {
+            watch.notifyListener();
+        }
+    }
 
-            return new ArrayList<>();
+    /**
+     * Returns whether the given event type has subscribers, without building a dispatch table.
+     *
+     * @param event Event type.
+     *
+     * @return {@code true} if the event type has subscribers, otherwise {@code false}.
+     */
+    private boolean hasSubscribers(@NotNull Class<?> event) {
+        for (Class<?> type : EVENT_HIERARCHY.get(event)) {
+            if (this.subscriptions.registrations.containsKey(type) || this.keyedTypes.containsKey(type)) {
+                return true;
+            }
         }
+        return false;
+    }
 
-        return subscribers;
+    /**
+     * Returns the dispatch table of the user that triggered the given event.
+     *
+     * @param table Global dispatch table for the event.
+     * @param event Event.
+     *
+     * @return user dispatch table, or an empty dispatch table if the user has no keyed
+     *     subscribers.
+     */
+    private @NotNull DispatchTable getUserDispatchTable(@NotNull DispatchTable table, @NotNull ChameleonEvent event) {
+        if (!table.keyed || !(event instanceof UserEvent)) {
+            return EMPTY_DISPATCH_TABLE;
+        }
+        SubscriberIndex index = this.userSubscriptions.get(((UserEvent) event).getUser().getId());
+        return index == null ? EMPTY_DISPATCH_TABLE : getDispatchTable(index, event.getClass());
     }
 
+    /**
+     * Returns the dispatch table for the given event type.
+     *
+     * <p>The returned table is shared and must not be modified. The dispatch table is rebuilt if
+     * the subscribers have changed since it was last built.</p>
+     *
+     * @param index Subscriber index.
+     * @param event Event type.
+     *
+     * @return dispatch table.
+     */
+    private @NotNull DispatchTable getDispatchTable(@NotNull SubscriberIndex index, @NotNull Class<? extends ChameleonEvent> event) {
+        // The generation must be read before the subscriptions, so a table built from stale
+        // subscriptions is always rebuilt on the next dispatch.
+        long currentGeneration = index.generation;
+        DispatchTable table = index.dispatchTables.get(event);
+        if (table == null || table.generation != currentGeneration) {
+            table = buildDispatchTable(index, event, currentGeneration);
+            index.dispatchTables.put(event, table);
+        }
+        return table;
+    }
+
+    private @NotNull DispatchTable buildDispatchTable(@NotNull SubscriberIndex index, @NotNull Class<? extends ChameleonEvent> event, long generation) {
+        List<Registration> registrations = new ArrayList<>();
+        boolean keyed = false;
+        for (Class<?> type : EVENT_HIERARCHY.get(event)) {
+            Registration[] typeRegistrations = index.registrations.get(type);
+            if (typeRegistrations != null) {
+                registrations.addAll(Arrays.asList(typeRegistrations));
+            }
+            keyed |= index.userId == null && this.keyedTypes.containsKey(type);
+        }
+        registrations.sort(REGISTRATION_COMPARATOR);
+        return new DispatchTable(generation, registrations, keyed);
+    }
+
+    /**
+     * Delivers the given event to the subscribers of both arrays, merging them in priority order.
+     *
+     * @param global Global registrations, sorted by priority.
+     * @param keyed  Keyed registrations, sorted by priority.
+     * @param event  Event to deliver.
+     */
+    private void deliver(@NotNull Registration @NotNull [] global, @NotNull Registration @NotNull [] keyed, @NotNull ChameleonEvent event) {
+        if (global.length < 1 && keyed.length < 1) {
+            return;
+        }
+
+        // Read once per delivery, so toggling metrics mid-delivery cannot skew the statistics.
+        Recorder eventRecorder = this.metrics.enabled ? this.metrics.getRecorder(event.getClass()) : null;
+        long slowThreshold = this.slowSubscriberThreshold;
+        int globalIndex = 0;
+        int keyedIndex = 0;
+        while (globalIndex < global.length || keyedIndex < keyed.length) {
+            if (keyedIndex >= keyed.length
+                || (globalIndex < global.length && REGISTRATION_COMPARATOR.compare(global[globalIndex], keyed[keyedIndex]) < 0)) {
+                deliver(global[globalIndex++], event, eventRecorder, slowThreshold);
+            } else {
+                deliver(keyed[keyedIndex++], event, eventRecorder, slowThreshold);
+            }
+        }
+    }
+
+    private void deliver(@NotNull Registration registration, @NotNull ChameleonEvent event, @Nullable Recorder eventRecorder, long slowThreshold) {
+        EventSubscriber<? super ChameleonEvent> subscriber = registration.subscriber;
+        if (!subscriber.acceptsCancelled() && event instanceof Cancellable && ((Cancellable) event).isCancelled()) {
+            return;
+        }
+
+        if (eventRecorder == null && slowThreshold < 1) {
+            try {
+                subscriber.on(event);
+            } catch (Throwable ex) {
+                this.exceptionHandler.handle(this, subscriber, event, ex);
+            }
+            return;
+        }
+
+        Throwable thrown = null;
+        long start = this.ticker.getAsLong();
+        try {
+            subscriber.on(event);
+        } catch (Throwable ex) {
+            thrown = ex;
+        }
+        long elapsed = this.ticker.getAsLong() - start;
+
+        if (eventRecorder != null) {
+            eventRecorder.record(elapsed, thrown != null);
+            registration.statistics.record(elapsed, thrown != null);
+        }
+        if (thrown != null) {
+            this.exceptionHandler.handle(this, subscriber, event, thrown);
+        }
+        if (slowThreshold > 0 && elapsed >= slowThreshold) {
+            this.slowSubscriberHandler.handle(this, subscriber, event, Duration.ofNanos(elapsed));
+        }
+    }
+
+    private static @NotNull Registration @NotNull [] filter(@NotNull List<Registration> registrations, @NotNull EventDeliveryMode excluded) {
+        List<Registration> filtered = new ArrayList<>(registrations.size());
+        for (Registration registration : registrations) {
+            if (registration.deliveryMode != excluded) {
+                filtered.add(registration);
+            }
+        }
+        return filtered.toArray(EMPTY_REGISTRATIONS);
+    }
+
+    private static @NotNull Registration @NotNull [] only(@NotNull List<Registration> registrations, @NotNull EventDeliveryMode included) {
+        List<Registration> filtered = new ArrayList<>();
+        for (Registration registration : registrations) {
+            if (registration.deliveryMode == included) {
+                filtered.add(registration);
+            }
+        }
+        return filtered.toArray(EMPTY_REGISTRATIONS);
+    }
+
+    /**
+     * Subscriber arrays and cached dispatch tables, either global or for a single user.
+     */
+    private static final class SubscriberIndex {
+
+        private final @Nullable UUID userId;
+        private final @NotNull Map<Class<?>, Registration[]> registrations = new ConcurrentHashMap<>();
+        private final @NotNull Map<Class<?>, DispatchTable> dispatchTables = new ConcurrentHashMap<>();
+        private volatile long generation = 0;
+
+        private SubscriberIndex(@Nullable UUID userId) {
+            this.userId = userId;
+        }
+
+        private void add(@NotNull Registration registration) {
+            Registration[] current = this.registrations.getOrDefault(registration.type, EMPTY_REGISTRATIONS);
+            Registration[] updated = Arrays.copyOf(current, current.length + 1);
+            updated[current.length] = registration;
+            this.registrations.put(registration.type, updated);
+            this.generation++;
+        }
+
+        private void collect(@NotNull Predicate<EventSubscriber<? super ChameleonEvent>> predicate, @NotNull List<Registration> matched) {
+            for (Registration[] typeRegistrations : this.registrations.values()) {
+                for (Registration registration : typeRegistrations) {
+                    if (predicate.test(registration.subscriber)) {
+                        matched.add(registration);
+                    }
+                }
+            }
+        }
+
+        private void removeInactive(@NotNull Set<Class<?>> types) {
+            for (Class<?> type : types) {
+                Registration[] current = this.registrations.get(type);
+                if (current == null) {
+                    continue;
+                }
+                List<Registration> retained = new ArrayList<>(current.length);
+                for (Registration registration : current) {
+                    if (registration.active) {
+                        retained.add(registration);
+                    }
+                }
+                if (retained.isEmpty()) {
+                    this.registrations.remove(type);
+                } else {
+                    this.registrations.put(type, retained.toArray(EMPTY_REGISTRATIONS));
+                }
+            }
+            this.generation++;
+        }
+
+        private boolean isEmpty() {
+            return this.registrations.isEmpty();
+        }
+
+    }
+
+    private final class Registration implements EventSubscription {
+
+        private final @NotNull Class<?> type;
+        private final @NotNull EventSubscriber<? super ChameleonEvent> subscriber;
+        private final @Nullable UUID userId;
+        private final @Nullable SubscriptionGroup group;
+        private final int priority;
+        private final @NotNull EventDeliveryMode deliveryMode;
+        private final long sequence;
+        private final @NotNull Recorder statistics = new Recorder();
+        /* Guarded by EventBusImpl#lock. */
+        private boolean active = true;
+
+        private Registration(@NotNull Class<?> type, @NotNull EventSubscriber<? super ChameleonEvent> subscriber, @Nullable UUID userId, @Nullable SubscriptionGroup group, long sequence) {
+            this.type = type;
+            this.subscriber = subscriber;
+            this.userId = userId;
+            this.group = group;
+            this.priority = subscriber.getPriority().ordinal();
+            this.deliveryMode = subscriber.getDeliveryMode();
+            this.sequence = sequence;
+        }
+
+        @Override
+        public void unsubscribe() {
+            synchronized (EventBusImpl.this.lock) {
+                removeRegistrations(Collections.singletonList(this));
+            }
+            updateDemand();
+        }
+
+        private void deactivate() {
+            this.active = false;
+            if (this.group != null) {
+                this.group.registrations.remove(this);
+            }
+        }
+
+    }
+
+    private final class SubscriptionGroup implements EventSubscriptionGroup {
+
+        /* Guarded by EventBusImpl#lock. */
+        private final @NotNull Set<Registration> registrations = new LinkedHashSet<>();
+
+        @Override
+        public <T extends ChameleonEvent> @NotNull EventSubscription subscribe(@NotNull EventSubscriber<T> subscriber) {
+            return EventBusImpl.this.subscribe(subscriber, this);
+        }
+
+        @Override
+        public int size() {
+            synchronized (EventBusImpl.this.lock) {
+                return this.registrations.size();
+            }
+        }
+
+        @Override
+        public void unsubscribe() {
+            synchronized (EventBusImpl.this.lock) {
+                removeRegistrations(new ArrayList<>(this.registrations));
+            }
+            updateDemand();
+        }
+
+    }
+
+    private final class DemandWatch {
+
+        private final @NotNull Class<? extends ChameleonEvent> type;
+        private final @NotNull DemandListener listener;
+        /* Demand changes that the listener has not been notified of yet, in the order they occurred. */
+        private final @NotNull Queue<Boolean> pending = new ConcurrentLinkedQueue<>();
+        private final @NotNull AtomicBoolean notifying = new AtomicBoolean();
+        /* Guarded by EventBusImpl#demandLock. */
+        private boolean subscribed = false;
+
+        private DemandWatch(@NotNull Class<? extends ChameleonEvent> type, @NotNull DemandListener listener) {
+            this.type = type;
+            this.listener = listener;
+        }
+
+        /**
+         * Records a change in demand, must be called while holding the demand lock.
+         */
+        private void update() {
+            boolean current = hasSubscribers(this.type);
+            if (current != this.subscribed) {
+                this.subscribed = current;
+                this.pending.add(current);
+            }
+        }
+
+        /**
+         * Records the final loss of demand, must be called while holding the demand lock.
+         */
+        private void close() {
+            if (this.subscribed) {
+                this.subscribed = false;
+                this.pending.add(false);
+            }
+        }
+
+        /**
+         * Notifies the listener of recorded demand changes, must be called without holding the
+         * demand lock.
+         *
+         * <p>Only one thread notifies the listener at a time, so changes are always observed in
+         * the order they were recorded.</p>
+         */
+        private void notifyListener() {
+            while (!this.pending.isEmpty() && this.notifying.compareAndSet(false, true)) {
+                try {
+                    Boolean change;
+                    while ((change = this.pending.poll()) != null) {
+                        this.listener.onDemandChange(change);
+                    }
+                } finally {
+                    this.notifying.set(false);
+                }
+            }
+        }
+
+    }
+
+    private final class Metrics implements EventMetrics {
+
+        private final @NotNull Map<Class<? extends ChameleonEvent>, Recorder> events = new ConcurrentHashMap<>();
+        private volatile boolean enabled = false;
+
+        @Override
+        public boolean isEnabled() {
+            return this.enabled;
+        }
+
+        @Override
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        @Override
+        public @NotNull Map<Class<? extends ChameleonEvent>, Statistics> getEventStatistics() {
+            Map<Class<? extends ChameleonEvent>, Statistics> statistics = new HashMap<>();
+            for (Map.Entry<Class<? extends ChameleonEvent>, Recorder> entry : this.events.entrySet()) {
+                statistics.put(entry.getKey(), entry.getValue().snapshot());
+            }
+            return Collections.unmodifiableMap(statistics);
+        }
+
+        @Override
+        public @NotNull Map<EventSubscriber<?>, Statistics> getSubscriberStatistics() {
+            Map<EventSubscriber<?>, StatisticsSnapshot> statistics = new HashMap<>();
+            for (Registration registration : getRegistrations()) {
+                // The same subscriber instance may have been registered more than once.
+                statistics.merge(registration.subscriber, registration.statistics.snapshot(), StatisticsSnapshot::merge);
+            }
+            return Collections.unmodifiableMap(statistics);
+        }
+
+        @Override
+        public void reset() {
+            this.events.clear();
+            for (Registration registration : getRegistrations()) {
+                registration.statistics.reset();
+            }
+        }
+
+        private @NotNull Recorder getRecorder(@NotNull Class<? extends ChameleonEvent> event) {
+            Recorder recorder = this.events.get(event);
+            return recorder != null ? recorder : this.events.computeIfAbsent(event, e -> new Recorder());
+        }
+
+        private @NotNull List<Registration> getRegistrations() {
+            List<Registration> registrations = new ArrayList<>();
+            synchronized (EventBusImpl.this.lock) {
+                EventBusImpl.this.subscriptions.collect(subscriber -> true, registrations);
+                for (SubscriberIndex index : EventBusImpl.this.userSubscriptions.values()) {
+                    index.collect(subscriber -> true, registrations);
+                }
+            }
+            return registrations;
+        }
+
+    }
+
+    /**
+     * Dispatch statistics that are updated concurrently by delivering threads.
+     */
+    private static final class Recorder {
+
+        private final @NotNull LongAdder count = new LongAdder();
+        private final @NotNull LongAdder totalTime = new LongAdder();
+        private final @NotNull AtomicLong maxTime = new AtomicLong();
+        private final @NotNull LongAdder exceptions = new LongAdder();
+
+        private void record(long elapsed, boolean failed) {
+            this.count.increment();
+            this.totalTime.add(elapsed);
+            if (elapsed > this.maxTime.get()) {
+                this.maxTime.accumulateAndGet(elapsed, Math::max);
+            }
+            if (failed) {
+                this.exceptions.increment();
+            }
+        }
+
+        private @NotNull StatisticsSnapshot snapshot() {
+            return new StatisticsSnapshot(
+                this.count.sum(), this.totalTime.sum(), this.maxTime.get(), this.exceptions.sum()
+            );
+        }
+
+        private void reset() {
+            this.count.reset();
+            this.totalTime.reset();
+            this.maxTime.set(0);
+            this.exceptions.reset();
+        }
+
+    }
+
+    private static final class StatisticsSnapshot implements EventMetrics.Statistics {
+
+        private final long count;
+        private final long totalTime;
+        private final long maxTime;
+        private final long exceptions;
+
+        private StatisticsSnapshot(long count, long totalTime, long maxTime, long exceptions) {
+            this.count = count;
+            this.totalTime = totalTime;
+            this.maxTime = maxTime;
+            this.exceptions = exceptions;
+        }
+
+        @Override
+        public long getCount() {
+            return this.count;
+        }
+
+        @Override
+        public @NotNull Duration getTotalTime() {
+            return Duration.ofNanos(this.totalTime);
+        }
+
+        @Override
+        public @NotNull Duration getMaxTime() {
+            return Duration.ofNanos(this.maxTime);
+        }
+
+        @Override
+        public long getExceptionCount() {
+            return this.exceptions;
+        }
+
+        private @NotNull StatisticsSnapshot merge(@NotNull StatisticsSnapshot other) {
+            return new StatisticsSnapshot(
+                this.count + other.count,
+                this.totalTime + other.totalTime,
+                Math.max(this.maxTime, other.maxTime),
+                this.exceptions + other.exceptions
+            );
+        }
+
+        @Override
+        public @NotNull String toString() {
+            return "Statistics{count=" + this.count + ", totalTime=" + getTotalTime()
+                + ", maxTime=" + getMaxTime() + ", exceptions=" + this.exceptions + "}";
+        }
+
+    }
+
+    /**
+     * Executor that runs tasks one at a time, in submission order, on a shared executor.
+     */
+    private static final class SerialLane implements Executor {
+
+        /* Maximum tasks to run before yielding the shared executor thread to other lanes. */
+        private static final int BATCH_SIZE = 64;
+
+        private final @NotNull Executor executor;
+        private final @NotNull Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        private final @NotNull AtomicBoolean scheduled = new AtomicBoolean();
+
+        private SerialLane(@NotNull Executor executor) {
+            this.executor = executor;
+        }
+
+        @Override
+        public void execute(@NotNull Runnable task) {
+            this.tasks.add(task);
+            schedule();
+        }
+
+        private void schedule() {
+            if (this.scheduled.compareAndSet(false, true)) {
+                try {
+                    this.executor.execute(this::drain);
+                } catch (RuntimeException ex) {
+                    this.scheduled.set(false);
+                    throw ex;
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                for (int i = 0; i < BATCH_SIZE; i++) {
+                    Runnable task = this.tasks.poll();
+                    if (task == null) {
+                        break;
+                    }
+                    task.run();
+                }
+            } finally {
+                this.scheduled.set(false);
+                // Tasks may have been queued after the last poll, but before the flag was reset.
+                if (!this.tasks.isEmpty()) {
+                    schedule();
+                }
+            }
+        }
+
+    }
+
+    private static final class DispatchTable {
+
+        private final long generation;
+        private final boolean subscribed;
+        /* Whether keyed subscribers exist for this event type, only set on global tables. */
+        private final boolean keyed;
+        /* Subscribers invoked on the dispatching thread by #dispatch(ChameleonEvent). */
+        private final @NotNull Registration @NotNull [] sync;
+        /* Subscribers handed to the executor by #dispatch(ChameleonEvent). */
+        private final @NotNull Registration @NotNull [] asyncOnly;
+        /* Subscribers invoked on the dispatching thread by #dispatchAsync(ChameleonEvent). */
+        private final @NotNull Registration @NotNull [] syncOnly;
+        /* Subscribers invoked on the executor by #dispatchAsync(ChameleonEvent). */
+        private final @NotNull Registration @NotNull [] async;
+
+        private DispatchTable(long generation, @NotNull List<Registration> registrations, boolean keyed) {
+            this.generation = generation;
+            this.subscribed = !registrations.isEmpty() || keyed;
+            this.keyed = keyed;
+            this.sync = filter(registrations, EventDeliveryMode.ASYNC);
+            this.asyncOnly = only(registrations, EventDeliveryMode.ASYNC);
+            this.syncOnly = only(registrations, EventDeliveryMode.SYNC);
+            this.async = filter(registrations, EventDeliveryMode.SYNC);
+        }
+
+    }
 
 }
@@ -0,0 +1,52 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2024 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.event;
+
+/**
+ * Event delivery mode, determines which thread an event subscriber is invoked on.
+ */
+public enum EventDeliveryMode {
+
+    /**
+     * Any thread, the subscriber is invoked on the thread the event is delivered on.
+     * <p>Events dispatched using {@link EventBus#dispatch(ChameleonEvent)} are delivered on the
+     * dispatching thread, events dispatched using {@link EventBus#dispatchAsync(ChameleonEvent)}
+     * are delivered on the executor.</p>
+     */
+    ANY,
+
+    /**
+     * Synchronous, the subscriber is always invoked on the thread that dispatched the event, even
+     * if the event was dispatched asynchronously.
+     */
+    SYNC,
+
+    /**
+     * Asynchronous, the subscriber is never invoked on the thread that dispatched the event.
+     * <p>Events dispatched synchronously are handed to the event bus executor once all other
+     * subscribers have handled the event.</p>
+     */
+    ASYNC
+
+}
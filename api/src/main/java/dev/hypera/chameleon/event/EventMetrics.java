@@ -0,0 +1,129 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2024 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.event;
+
+import java.time.Duration;
+import java.util.Map;
+import org.jetbrains.annotations.ApiStatus.NonExtendable;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Event dispatch metrics.
+ *
+ * <p>When enabled, the event bus records how often each subscriber is invoked, how long it took
+ * and how many exceptions it threw. Statistics for an event type aggregate the invocations of
+ * every subscriber that the event type was delivered to.</p>
+ *
+ * <p>Metrics are disabled by default, as recording them requires reading the system clock twice
+ * for every subscriber invocation.</p>
+ *
+ * @see EventBus#getMetrics()
+ */
+@NonExtendable
+public interface EventMetrics {
+
+    /**
+     * Returns whether metrics are being recorded.
+     *
+     * @return {@code true} if metrics are being recorded, otherwise {@code false}.
+     */
+    boolean isEnabled();
+
+    /**
+     * Sets whether metrics should be recorded.
+     * <p>Disabling metrics does not discard previously recorded statistics.</p>
+     *
+     * @param enabled {@code true} to record metrics, {@code false} to stop recording metrics.
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * Returns a snapshot of the statistics of each dispatched event type.
+     *
+     * @return statistics per concrete event type.
+     */
+    @NotNull Map<Class<? extends ChameleonEvent>, Statistics> getEventStatistics();
+
+    /**
+     * Returns a snapshot of the statistics of each active subscriber.
+     * <p>Statistics of a subscriber are discarded once it has been unsubscribed.</p>
+     *
+     * @return statistics per subscriber.
+     */
+    @NotNull Map<EventSubscriber<?>, Statistics> getSubscriberStatistics();
+
+    /**
+     * Resets all recorded statistics.
+     */
+    void reset();
+
+    /**
+     * Dispatch statistics.
+     * <p>Statistics are updated concurrently, so the values of a snapshot may not be consistent
+     * with each other if it was taken while events were being dispatched.</p>
+     */
+    @NonExtendable
+    interface Statistics {
+
+        /**
+         * Returns the number of subscriber invocations.
+         *
+         * @return invocation count.
+         */
+        long getCount();
+
+        /**
+         * Returns the cumulative time spent in subscribers.
+         *
+         * @return total execution time.
+         */
+        @NotNull Duration getTotalTime();
+
+        /**
+         * Returns the longest time spent in a single subscriber invocation.
+         *
+         * @return maximum execution time.
+         */
+        @NotNull Duration getMaxTime();
+
+        /**
+         * Returns the average time spent in a single subscriber invocation.
+         *
+         * @return average execution time, or {@link Duration#ZERO} if there were no invocations.
+         */
+        default @NotNull Duration getAverageTime() {
+            long count = getCount();
+            return count < 1 ? Duration.ZERO : getTotalTime().dividedBy(count);
+        }
+
+        /**
+         * Returns the number of exceptions thrown by subscribers.
+         *
+         * @return exception count.
+         */
+        long getExceptionCount();
+
+    }
+
+}
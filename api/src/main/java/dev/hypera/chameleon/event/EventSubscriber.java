@@ -24,7 +24,10 @@
 package dev.hypera.chameleon.event;
 
 import dev.hypera.chameleon.event.EventSubscriberImpl.BuilderImpl;
+import dev.hypera.chameleon.event.common.UserEvent;
+import dev.hypera.chameleon.user.User;
 import java.util.Collection;
+import java.util.UUID;
 import java.util.function.Predicate;
 import org.jetbrains.annotations.ApiStatus.NonExtendable;
 import org.jetbrains.annotations.Contract;
@@ -71,6 +74,28 @@ public interface EventSubscriber<E extends ChameleonEvent> extends EventConsumer
         return false;
     }
 
+    /**
+     * Get the delivery mode of this subscriber.
+     * <p>Defaults to {@link EventDeliveryMode#ANY}</p>
+     *
+     * @return subscriber delivery mode.
+     */
+    default @NotNull EventDeliveryMode getDeliveryMode() {
+        return EventDeliveryMode.ANY;
+    }
+
+    /**
+     * Get the id of the user this subscriber is keyed to.
+     * <p>Keyed subscribers only receive {@link UserEvent}s triggered by the user with this id, the
+     * event bus indexes them by user id so they are not invoked for other users' events. Defaults
+     * to {@code null} (all users).</p>
+     *
+     * @return user id, or {@code null} if this subscriber is not keyed.
+     */
+    default @Nullable UUID getUserId() {
+        return null;
+    }
+
     /**
      * Get the type of event this subscriber.
      * <p>If this returns a non-null value then the subscriber can be registered without providing
@@ -131,15 +156,92 @@ public interface EventSubscriber<E extends ChameleonEvent> extends EventConsumer
         @Contract("_ -> this")
         @NotNull Builder<E> acceptsCancelled(boolean acceptsCancelled);
 
+        /**
+         * Only deliver events to this subscriber on the thread that dispatched them.
+         *
+         * @return {@code this}.
+         * @see EventDeliveryMode#SYNC
+         */
+        @Contract("-> this")
+        default @NotNull Builder<E> sync() {
+            return deliveryMode(EventDeliveryMode.SYNC);
+        }
+
+        /**
+         * Only deliver events to this subscriber asynchronously.
+         *
+         * @return {@code this}.
+         * @see EventDeliveryMode#ASYNC
+         */
+        @Contract("-> this")
+        default @NotNull Builder<E> async() {
+            return deliveryMode(EventDeliveryMode.ASYNC);
+        }
+
+        /**
+         * Set the subscriber delivery mode.
+         *
+         * @param deliveryMode Delivery mode.
+         *
+         * @return {@code this}.
+         */
+        @Contract("_ -> this")
+        @NotNull Builder<E> deliveryMode(@NotNull EventDeliveryMode deliveryMode);
+
+        /**
+         * Only deliver events triggered by the given user.
+         *
+         * @param user User.
+         *
+         * @return {@code this}.
+         * @throws IllegalArgumentException if the event type is not a {@link UserEvent}.
+         * @see #user(UUID)
+         */
+        @Contract("_ -> this")
+        default @NotNull Builder<E> user(@NotNull User user) {
+            return user(user.getId());
+        }
+
+        /**
+         * Only deliver events triggered by the user with the given id.
+         * <p>This is considerably cheaper than filtering on the user id, as the event bus only
+         * invokes keyed subscribers for events triggered by their user.</p>
+         *
+         * @param userId User id.
+         *
+         * @return {@code this}.
+         * @throws IllegalArgumentException if the event type is not a {@link UserEvent}.
+         */
+        @Contract("_ -> this")
+        @NotNull Builder<E> user(@NotNull UUID userId);
+
         /**
          * Add a filter for this subscriber.
+         * <p>Filters are evaluated in the order they were added, unless given a cost hint.</p>
          *
          * @param filter Event filter.
          *
          * @return {@code this}.
+         * @see #filters(Predicate, int)
          */
         @Contract("_ -> this")
-        @NotNull Builder<E> filters(@NotNull Predicate<E> filter);
+        default @NotNull Builder<E> filters(@NotNull Predicate<E> filter) {
+            return filters(filter, 0);
+        }
+
+        /**
+         * Add a filter for this subscriber, with a relative cost hint.
+         * <p>Filters are evaluated cheapest first, so an event rejected by a cheap filter is never
+         * tested against an expensive one. Filters with equal costs are evaluated in the order
+         * they were added, filters added without a cost hint have a cost of {@code 0}.</p>
+         *
+         * @param filter Event filter.
+         * @param cost   Relative cost of evaluating the filter, lower is evaluated first.
+         *
+         * @return {@code this}.
+         */
+        @Contract("_, _ -> this")
+        @NotNull Builder<E> filters(@NotNull Predicate<E> filter, int cost);
 
         /**
          * Add filters for this subscriber.
@@ -23,10 +23,14 @@
  */
 package dev.hypera.chameleon.event;
 
+import dev.hypera.chameleon.event.common.UserEvent;
 import dev.hypera.chameleon.util.Preconditions;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Objects;
+import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import org.jetbrains.annotations.NotNull;
@@ -39,18 +43,22 @@ final class EventSubscriberImpl<E extends ChameleonEvent> implements EventSubscr
     private final @NotNull EventConsumer<E> handler;
     private final @NotNull EventSubscriptionPriority priority;
     private final boolean acceptsCancelled;
+    private final @NotNull EventDeliveryMode deliveryMode;
+    private final @Nullable UUID userId;
 
-    private final @NotNull Collection<Predicate<E>> filters;
-    private final @NotNull Predicate<E> expireWhen;
+    private final @NotNull Predicate<E> @NotNull [] filters;
+    private final @Nullable Predicate<E> expireWhen;
     private final @Nullable AtomicInteger expirationCount;
 
     private @Nullable EventSubscription subscription;
 
-    EventSubscriberImpl(@NotNull Class<E> type, @NotNull EventConsumer<E> handler, @NotNull EventSubscriptionPriority priority, boolean acceptsCancelled, @NotNull Collection<Predicate<E>> filters, @NotNull Predicate<E> expireWhen, int expiresAfter) {
+    EventSubscriberImpl(@NotNull Class<E> type, @NotNull EventConsumer<E> handler, @NotNull EventSubscriptionPriority priority, boolean acceptsCancelled, @NotNull EventDeliveryMode deliveryMode, @Nullable UUID userId, @NotNull Predicate<E> @NotNull [] filters, @Nullable Predicate<E> expireWhen, int expiresAfter) {
         this.type = type;
         this.handler = handler;
         this.priority = priority;
         this.acceptsCancelled = acceptsCancelled;
+        this.deliveryMode = deliveryMode;
+        this.userId = userId;
 
         this.filters = filters;
         this.expireWhen = expireWhen;
@@ -67,11 +75,13 @@ final class EventSubscriberImpl<E extends ChameleonEvent> implements EventSubscr
             throw new IllegalStateException();
         }
 
-        if (!this.filters.isEmpty() && !this.filters.stream().allMatch(filter -> filter.test(event))) {
-            return;
+        for (Predicate<E> filter : this.filters) {
+            if (!filter.test(event)) {
+                return;
+            }
         }
 
-        if (this.expireWhen.test(event)) {
+        if (this.expireWhen != null && this.expireWhen.test(event)) {
             this.subscription.unsubscribe();
             return;
         }
@@ -99,6 +109,22 @@ final class EventSubscriberImpl<E extends ChameleonEvent> implements EventSubscr
         return this.acceptsCancelled;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull EventDeliveryMode getDeliveryMode() {
+        return this.deliveryMode;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable UUID getUserId() {
+        return this.userId;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -118,9 +144,11 @@ final class EventSubscriberImpl<E extends ChameleonEvent> implements EventSubscr
         private @Nullable EventConsumer<E> handler;
         private @NotNull EventSubscriptionPriority priority = EventSubscriptionPriority.NORMAL;
         private boolean acceptsCancelled = false;
+        private @NotNull EventDeliveryMode deliveryMode = EventDeliveryMode.ANY;
+        private @Nullable UUID userId;
 
-        private final @NotNull Collection<Predicate<E>> filters = new ArrayList<>();
-        private @NotNull Predicate<E> expireWhen = event -> false;
+        private final @NotNull List<Filter<E>> filters = new ArrayList<>();
+        private @Nullable Predicate<E> expireWhen;
         private int expiresAfter = -1;
 
         BuilderImpl(@NotNull Class<E> type) {
@@ -161,9 +189,33 @@ final class EventSubscriberImpl<E extends ChameleonEvent> implements EventSubscr
          * {@inheritDoc}
          */
         @Override
-        public @NotNull Builder<E> filters(@NotNull Predicate<E> filter) {
+        public @NotNull Builder<E> deliveryMode(@NotNull EventDeliveryMode deliveryMode) {
+            Preconditions.checkNotNull("deliveryMode", deliveryMode);
+            this.deliveryMode = deliveryMode;
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull Builder<E> user(@NotNull UUID userId) {
+            Preconditions.checkNotNull("userId", userId);
+            Preconditions.checkArgument(
+                UserEvent.class.isAssignableFrom(this.type),
+                "only user events can be keyed to a user"
+            );
+            this.userId = userId;
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull Builder<E> filters(@NotNull Predicate<E> filter, int cost) {
             Preconditions.checkNotNull("filter", filter);
-            this.filters.add(filter);
+            this.filters.add(new Filter<>(filter, cost));
             return this;
         }
 
@@ -173,7 +225,9 @@ final class EventSubscriberImpl<E extends ChameleonEvent> implements EventSubscr
         @Override
         public @NotNull Builder<E> filters(@NotNull Collection<Predicate<E>> filters) {
             Preconditions.checkNotNull("filters", filters);
-            this.filters.addAll(filters);
+            for (Predicate<E> filter : filters) {
+                filters(filter);
+            }
             return this;
         }
 
@@ -200,14 +254,36 @@ final class EventSubscriberImpl<E extends ChameleonEvent> implements EventSubscr
          * {@inheritDoc}
          */
         @Override
+        @SuppressWarnings("unchecked")
         public @NotNull EventSubscriber<E> build() {
             Preconditions.checkState(this.handler != null, "handler is required");
+
+            // List#sort is stable, so filters with equal costs keep their insertion order.
+            List<Filter<E>> sorted = new ArrayList<>(this.filters);
+            sorted.sort(Comparator.comparingInt(filter -> filter.cost));
+            Predicate<E>[] compiled = new Predicate[sorted.size()];
+            for (int i = 0; i < compiled.length; i++) {
+                compiled[i] = sorted.get(i).predicate;
+            }
+
             return new EventSubscriberImpl<>(
                 this.type, Objects.requireNonNull(this.handler), this.priority,
-                this.acceptsCancelled, this.filters, this.expireWhen, this.expiresAfter
+                this.acceptsCancelled, this.deliveryMode, this.userId, compiled, this.expireWhen, this.expiresAfter
             );
         }
 
+        private static final class Filter<E> {
+
+            private final @NotNull Predicate<E> predicate;
+            private final int cost;
+
+            private Filter(@NotNull Predicate<E> predicate, int cost) {
+                this.predicate = predicate;
+                this.cost = cost;
+            }
+
+        }
+
     }
 
 }
@@ -0,0 +1,80 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2024 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.event;
+
+import org.jetbrains.annotations.ApiStatus.NonExtendable;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A group of event subscriptions that can be unsubscribed together.
+ *
+ * <p>Groups are intended to scope subscriptions to an owner, such as an extension or a feature,
+ * so that every subscription it made can be torn down in a single call. Subscriptions made
+ * through a group can still be unsubscribed individually.</p>
+ *
+ * @see EventBus#createGroup()
+ */
+@NonExtendable
+public interface EventSubscriptionGroup extends EventSubscription {
+
+    /**
+     * Registers an event subscriber as part of this group.
+     *
+     * @param event   Event type.
+     * @param handler Event handler.
+     * @param <T>     Event type.
+     *
+     * @return an event subscription.
+     */
+    default <T extends ChameleonEvent> @NotNull EventSubscription subscribe(@NotNull Class<T> event, @NotNull EventConsumer<T> handler) {
+        return subscribe(EventSubscriber.builder(event).handler(handler).build());
+    }
+
+    /**
+     * Registers the given event subscriber as part of this group.
+     *
+     * @param subscriber Event subscriber.
+     * @param <T>        Event type.
+     *
+     * @return an event subscription.
+     * @throws IllegalArgumentException if the given {@code subscriber} does not have a set type.
+     */
+    <T extends ChameleonEvent> @NotNull EventSubscription subscribe(@NotNull EventSubscriber<T> subscriber);
+
+    /**
+     * Returns the number of active subscriptions in this group.
+     *
+     * @return active subscription count.
+     */
+    int size();
+
+    /**
+     * Unregister every subscription in this group.
+     * <p>The group remains usable, subscribers registered afterwards are added to the now empty
+     * group.</p>
+     */
+    @Override
+    void unsubscribe();
+
+}
@@ -25,15 +25,24 @@ package dev.hypera.chameleon.event.common;
 
 import dev.hypera.chameleon.event.AbstractCancellable;
 import dev.hypera.chameleon.user.User;
+import dev.hypera.chameleon.util.internal.Lazy;
+import java.util.function.Supplier;
+import net.kyori.adventure.text.Component;
+import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.NotNull;
 
 /**
  * User chat event, dispatched when a player sends a chat message.
+ *
+ * <p>The message is converted from the platform's native representation on demand, so platforms
+ * only pay for the conversions a subscriber actually asks for.</p>
  */
 public final class UserChatEvent extends AbstractCancellable implements UserEvent {
 
     private final @NotNull User user;
-    private @NotNull String message;
+    private @NotNull Lazy<String> message;
+    private @NotNull Lazy<Component> messageComponent;
+    private boolean messageChanged = false;
     private final boolean cancellable;
     private final boolean modifiable;
 
@@ -47,9 +56,28 @@ public final class UserChatEvent extends AbstractCancellable implements UserEven
      * @param modifiable  Whether this event can be modified on this platform.
      */
     public UserChatEvent(@NotNull User user, @NotNull String message, boolean cancelled, boolean cancellable, boolean modifiable) {
+        this(user, Lazy.value(message), () -> Component.text(message), cancelled, cancellable, modifiable);
+    }
+
+    /**
+     * User chat event constructor.
+     *
+     * <p>The message suppliers are only invoked if a subscriber requests the message, and are
+     * invoked at most once.</p>
+     *
+     * @param user             User that sent the message.
+     * @param message          Supplier of the message that the user attempted to send.
+     * @param messageComponent Supplier of the message as a component.
+     * @param cancelled        Whether this event is cancelled.
+     * @param cancellable      Whether this event can be cancelled on this platform.
+     * @param modifiable       Whether this event can be modified on this platform.
+     */
+    @Internal
+    public UserChatEvent(@NotNull User user, @NotNull Supplier<String> message, @NotNull Supplier<Component> messageComponent, boolean cancelled, boolean cancellable, boolean modifiable) {
         super(cancelled);
         this.user = user;
-        this.message = message;
+        this.message = Lazy.of(message);
+        this.messageComponent = Lazy.of(messageComponent);
         this.cancellable = cancellable;
         this.modifiable = modifiable;
     }
@@ -70,7 +98,18 @@ public final class UserChatEvent extends AbstractCancellable implements UserEven
      * @return message.
      */
     public @NotNull String getMessage() {
-        return this.message;
+        return this.message.get();
+    }
+
+    /**
+     * Returns the message that was sent, as a component.
+     * <p>If the message has been changed using {@link #setMessage(String)}, this returns a text
+     * component containing the new message.</p>
+     *
+     * @return message component.
+     */
+    public @NotNull Component getMessageComponent() {
+        return this.messageComponent.get();
     }
 
     /**
@@ -82,7 +121,18 @@ public final class UserChatEvent extends AbstractCancellable implements UserEven
      * @param message New message.
      */
     public void setMessage(@NotNull String message) {
-        this.message = message;
+        this.message = Lazy.value(message);
+        this.messageComponent = Lazy.of(() -> Component.text(message));
+        this.messageChanged = true;
+    }
+
+    /**
+     * Returns whether the chat message has been changed using {@link #setMessage(String)}.
+     *
+     * @return {@code true} if the message has been changed, otherwise {@code false}.
+     */
+    public boolean isMessageChanged() {
+        return this.messageChanged;
     }
 
     /**
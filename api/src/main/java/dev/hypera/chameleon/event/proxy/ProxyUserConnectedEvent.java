@@ -25,6 +25,8 @@ package dev.hypera.chameleon.event.proxy;
 
 import dev.hypera.chameleon.platform.proxy.Server;
 import dev.hypera.chameleon.user.ProxyUser;
+import dev.hypera.chameleon.util.internal.Lazy;
+import java.util.function.Supplier;
 import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.NotNull;
 
@@ -44,7 +46,7 @@ import org.jetbrains.annotations.NotNull;
 public final class ProxyUserConnectedEvent implements ProxyUserEvent {
 
     private final @NotNull ProxyUser user;
-    private final @NotNull Server server;
+    private final @NotNull Lazy<Server> server;
 
     /**
      * Constructs a ProxyUserConnectedEvent.
@@ -55,7 +57,19 @@ public final class ProxyUserConnectedEvent implements ProxyUserEvent {
     @Internal
     public ProxyUserConnectedEvent(@NotNull ProxyUser user, @NotNull Server server) {
         this.user = user;
-        this.server = server;
+        this.server = Lazy.value(server);
+    }
+
+    /**
+     * Constructs a ProxyUserConnectedEvent, with a lazily created server.
+     *
+     * @param user   User who connected.
+     * @param server Supplier of the server the user connected to, invoked at most once.
+     */
+    @Internal
+    public ProxyUserConnectedEvent(@NotNull ProxyUser user, @NotNull Supplier<Server> server) {
+        this.user = user;
+        this.server = Lazy.of(server);
     }
 
     /**
@@ -74,7 +88,7 @@ public final class ProxyUserConnectedEvent implements ProxyUserEvent {
      * @return connected server.
      */
     public @NotNull Server getServer() {
-        return this.server;
+        return this.server.get();
     }
 
 }
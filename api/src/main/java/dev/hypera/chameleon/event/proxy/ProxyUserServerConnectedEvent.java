@@ -25,7 +25,9 @@ package dev.hypera.chameleon.event.proxy;
 
 import dev.hypera.chameleon.platform.proxy.Server;
 import dev.hypera.chameleon.user.ProxyUser;
+import dev.hypera.chameleon.util.internal.Lazy;
 import java.util.Optional;
+import java.util.function.Supplier;
 import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -39,8 +41,8 @@ import org.jetbrains.annotations.Nullable;
 public final class ProxyUserServerConnectedEvent implements ProxyUserEvent {
 
     private final @NotNull ProxyUser user;
-    private final @NotNull Server server;
-    private final @Nullable Server previousServer;
+    private final @NotNull Lazy<Server> server;
+    private final @Nullable Lazy<Server> previousServer;
 
     /**
      * Constructs a ProxyUserServerConnectedEvent.
@@ -52,8 +54,23 @@ public final class ProxyUserServerConnectedEvent implements ProxyUserEvent {
     @Internal
     public ProxyUserServerConnectedEvent(@NotNull ProxyUser user, @NotNull Server server, @Nullable Server previousServer) {
         this.user = user;
-        this.server = server;
-        this.previousServer = previousServer;
+        this.server = Lazy.value(server);
+        this.previousServer = previousServer != null ? Lazy.value(previousServer) : null;
+    }
+
+    /**
+     * Constructs a ProxyUserServerConnectedEvent, with lazily created servers.
+     *
+     * @param user           The user that was connected to the server.
+     * @param server         Supplier of the server the user has connected to.
+     * @param previousServer Supplier of the server the user was previously connected to,
+     *                       {@code null} if none.
+     */
+    @Internal
+    public ProxyUserServerConnectedEvent(@NotNull ProxyUser user, @NotNull Supplier<Server> server, @Nullable Supplier<Server> previousServer) {
+        this.user = user;
+        this.server = Lazy.of(server);
+        this.previousServer = previousServer != null ? Lazy.of(previousServer) : null;
     }
 
 
@@ -73,7 +90,7 @@ public final class ProxyUserServerConnectedEvent implements ProxyUserEvent {
      * @return the connected server.
      */
     public @NotNull Server getServer() {
-        return this.server;
+        return this.server.get();
     }
 
     /**
@@ -86,7 +103,7 @@ public final class ProxyUserServerConnectedEvent implements ProxyUserEvent {
      *     empty optional.
      */
     public @NotNull Optional<Server> getPreviousServer() {
-        return Optional.ofNullable(this.previousServer);
+        return this.previousServer != null ? Optional.of(this.previousServer.get()) : Optional.empty();
     }
 
 }
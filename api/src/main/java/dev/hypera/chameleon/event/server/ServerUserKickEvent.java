@@ -24,6 +24,8 @@
 package dev.hypera.chameleon.event.server;
 
 import dev.hypera.chameleon.user.ServerUser;
+import dev.hypera.chameleon.util.internal.Lazy;
+import java.util.function.Supplier;
 import net.kyori.adventure.text.Component;
 import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.NotNull;
@@ -35,7 +37,9 @@ import org.jetbrains.annotations.Nullable;
 public final class ServerUserKickEvent implements ServerUserEvent {
 
     private final @NotNull ServerUser user;
-    private final @NotNull Component reason;
+    private static final @NotNull Component DEFAULT_REASON = Component.text("Disconnected");
+
+    private final @NotNull Lazy<Component> reason;
 
     /**
      * Server user kick event constructor.
@@ -46,7 +50,25 @@ public final class ServerUserKickEvent implements ServerUserEvent {
     @Internal
     public ServerUserKickEvent(@NotNull ServerUser user, @Nullable Component reason) {
         this.user = user;
-        this.reason = reason != null ? reason : Component.text("Disconnected");
+        this.reason = Lazy.value(reason != null ? reason : DEFAULT_REASON);
+    }
+
+    /**
+     * Server user kick event constructor.
+     *
+     * <p>The reason supplier is only invoked if a subscriber requests the reason, and is invoked
+     * at most once. It may return {@code null} if no reason was given.</p>
+     *
+     * @param user   The server user who was kicked.
+     * @param reason Supplier of the reason for the user being kicked.
+     */
+    @Internal
+    public ServerUserKickEvent(@NotNull ServerUser user, @NotNull Supplier<@Nullable Component> reason) {
+        this.user = user;
+        this.reason = Lazy.of(() -> {
+            Component value = reason.get();
+            return value != null ? value : DEFAULT_REASON;
+        });
     }
 
     /**
@@ -65,7 +87,7 @@ public final class ServerUserKickEvent implements ServerUserEvent {
      * @return disconnect reason, defaults to {@code Disconnected}.
      */
     public @NotNull Component getReason() {
-        return this.reason;
+        return this.reason.get();
     }
 
 }
@@ -108,6 +108,27 @@ public class ChameleonReflectiveException extends ChameleonRuntimeException {
         );
     }
 
+    /**
+     * Create a failed to call method exception for a method that was not invoked through a
+     * {@link Method}, such as a method handle.
+     * <p>Example message:
+     * {@code Failed to invoke method get(String) on dev.hypera.chameleon.Example}</p>
+     *
+     * @param signature Short signature of the method.
+     * @param obj       Object method was called on.
+     * @param ex        Exception thrown.
+     *
+     * @return new exception.
+     */
+    @Contract(value = "_, _, _ -> new", pure = true)
+    public static @NotNull ChameleonReflectiveException createMethodInvocationFailure(@NotNull String signature, @NotNull Object obj, @NotNull Throwable ex) {
+        return create("Failed to invoke method %s on %s",
+            ex,
+            signature,
+            obj.getClass().getCanonicalName()
+        );
+    }
+
     /**
      * Replicates Method#toShortSignature, which is not public.
      *
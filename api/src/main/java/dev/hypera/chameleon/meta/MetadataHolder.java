@@ -25,6 +25,7 @@ package dev.hypera.chameleon.meta;
 
 import java.util.Optional;
 import java.util.function.Supplier;
+import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -43,6 +44,37 @@ public interface MetadataHolder {
      */
     <V> @NotNull Optional<V> getMetadata(@NotNull MetadataKey<V> key);
 
+    /**
+     * Returns the value of the given metadata {@code key}, or {@code null} if not available.
+     *
+     * @param key Metadata key.
+     * @param <V> Metadata value type.
+     *
+     * @return the metadata value, if available, otherwise {@code null}.
+     */
+    default <V> @Nullable V getMetadataOrNull(@NotNull MetadataKey<V> key) {
+        return getMetadata(key).orElse(null);
+    }
+
+    /**
+     * Returns the value of the given metadata {@code key}, or the given default value if not
+     * available.
+     *
+     * <p>Boolean flags can be read with a primitive default without allocating, e.g.
+     * {@code holder.getMetadataOrDefault(VANISHED, false)}.</p>
+     *
+     * @param key          Metadata key.
+     * @param defaultValue Value to return if the metadata value is not available.
+     * @param <V>          Metadata value type.
+     *
+     * @return the metadata value, if available, otherwise {@code defaultValue}.
+     */
+    @Contract("_, !null -> !null")
+    default <V> @Nullable V getMetadataOrDefault(@NotNull MetadataKey<V> key, @Nullable V defaultValue) {
+        V value = getMetadataOrNull(key);
+        return value != null ? value : defaultValue;
+    }
+
     /**
      * Stores metadata with the given {@code key}.
      * <p>Stored metadata can be retrieved later using {@link #getMetadata(MetadataKey)}.</p>
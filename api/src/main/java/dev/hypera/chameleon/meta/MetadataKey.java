@@ -27,6 +27,7 @@ import dev.hypera.chameleon.util.Preconditions;
 import java.util.UUID;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.key.KeyPattern;
+import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.ApiStatus.NonExtendable;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
@@ -40,6 +41,10 @@ import org.jetbrains.annotations.NotNull;
  * <p>Key namespaces must match {@code [a-z0-9_\-.]+}</p>
  * <p>Key values must match {@code [a-z0-9_\-./]+}</p>
  *
+ * <p>Metadata keys should be created once and kept as constants. Each distinct key is assigned an
+ * index for the lifetime of the process, and only a limited number of keys are indexed. Metadata
+ * stored using keys without an index is slower to access.</p>
+ *
  * @param <V> Metadata value type.
  */
 @NonExtendable
@@ -220,4 +225,15 @@ public interface MetadataKey<V> extends Key {
      */
     @NotNull Class<V> type();
 
+    /**
+     * Returns the index of this metadata key.
+     * <p>Indexes are small, stable for the lifetime of the process, and shared by equal keys, so
+     * metadata holders can store values in an array. Once the maximum number of keys have been
+     * indexed, further keys are not indexed.</p>
+     *
+     * @return metadata key index, or {@code -1} if this key is not indexed.
+     */
+    @Internal
+    int index();
+
 }
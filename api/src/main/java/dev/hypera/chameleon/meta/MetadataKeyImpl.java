@@ -24,7 +24,9 @@
 package dev.hypera.chameleon.meta;
 
 import dev.hypera.chameleon.util.Preconditions;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import net.kyori.adventure.key.KeyPattern;
 import org.jetbrains.annotations.NotNull;
@@ -41,10 +43,15 @@ final class MetadataKeyImpl<V> implements MetadataKey<V> {
 
     private static final @NotNull Pattern NAMESPACE_PATTERN = Pattern.compile("[a-z0-9_\\-.]+");
     private static final @NotNull Pattern VALUE_PATTERN = Pattern.compile("[a-z0-9_\\-./]+");
+    // Indexes are never released, so they are limited to keep metadata arrays small.
+    private static final int MAX_INDEXES = 1024;
+    private static final @NotNull Map<Identity, Integer> INDEXES = new ConcurrentHashMap<>();
 
     private final @NotNull Class<V> type;
     private final @NotNull String namespace;
     private final @NotNull String value;
+    private final @NotNull Identity identity;
+    private final int index;
 
     MetadataKeyImpl(@NotNull Class<V> type, @NotNull String namespace, @NotNull String value) {
         Preconditions.checkNotNull("type", type);
@@ -53,6 +60,27 @@ final class MetadataKeyImpl<V> implements MetadataKey<V> {
         this.type = type;
         this.namespace = namespace;
         this.value = value;
+        this.identity = new Identity(type, namespace, value);
+        this.index = index(this.identity);
+    }
+
+    private static int index(@NotNull Identity identity) {
+        // Equal keys share an index, so they can be created independently.
+        Integer index = INDEXES.get(identity);
+        if (index != null) {
+            return index;
+        }
+        synchronized (INDEXES) {
+            index = INDEXES.get(identity);
+            if (index == null) {
+                if (INDEXES.size() >= MAX_INDEXES) {
+                    return -1;
+                }
+                index = INDEXES.size();
+                INDEXES.put(identity, index);
+            }
+            return index;
+        }
     }
 
     /**
@@ -79,6 +107,14 @@ final class MetadataKeyImpl<V> implements MetadataKey<V> {
         return this.value;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int index() {
+        return this.index;
+    }
+
     @Override
     public @NotNull String asString() {
         return this.namespace + ':' + this.value;
@@ -97,15 +133,51 @@ final class MetadataKeyImpl<V> implements MetadataKey<V> {
         if (object == null || getClass() != object.getClass()) {
             return false;
         }
-        MetadataKeyImpl<?> that = (MetadataKeyImpl<?>) object;
-        return Objects.equals(this.namespace, that.namespace())
-            && Objects.equals(this.value, that.value())
-            && Objects.equals(this.type, that.type());
+        return this.identity.equals(((MetadataKeyImpl<?>) object).identity);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.namespace, this.value, this.type);
+        return this.identity.hashCode();
+    }
+
+    /**
+     * Immutable identity of a metadata key, shared by equal keys.
+     */
+    private static final class Identity {
+
+        private final @NotNull Class<?> type;
+        private final @NotNull String namespace;
+        private final @NotNull String value;
+        private final int hashCode;
+
+        private Identity(@NotNull Class<?> type, @NotNull String namespace, @NotNull String value) {
+            this.type = type;
+            this.namespace = namespace;
+            this.value = value;
+            this.hashCode = Objects.hash(namespace, value, type);
+        }
+
+        @Override
+        public boolean equals(@Nullable Object object) {
+            if (this == object) {
+                return true;
+            }
+            if (object == null || getClass() != object.getClass()) {
+                return false;
+            }
+            Identity that = (Identity) object;
+            return this.hashCode == that.hashCode
+                && this.namespace.equals(that.namespace)
+                && this.value.equals(that.value)
+                && this.type.equals(that.type);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+
     }
 
 }
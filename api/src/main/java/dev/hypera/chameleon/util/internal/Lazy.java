@@ -0,0 +1,119 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2024 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.util.internal;
+
+import dev.hypera.chameleon.util.Preconditions;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Lazily computed, memoized value.
+ *
+ * <p>The value is computed on the first call to {@link #get()}, and the same value is returned on
+ * every following call. Computing the value is thread-safe, the supplier is invoked at most
+ * once.</p>
+ *
+ * @param <T> Value type.
+ */
+@Internal
+public final class Lazy<T> implements Supplier<T> {
+
+    private @Nullable Supplier<? extends T> supplier;
+    private volatile @Nullable T value;
+
+    private Lazy(@NotNull Supplier<? extends T> supplier) {
+        this.supplier = supplier;
+    }
+
+    private Lazy(@NotNull T value) {
+        this.value = value;
+    }
+
+    /**
+     * Create a lazily computed value.
+     *
+     * @param supplier Value supplier, must not return {@code null}.
+     * @param <T>      Value type.
+     *
+     * @return lazy value, or {@code supplier} if it is already a lazy value.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> @NotNull Lazy<T> of(@NotNull Supplier<? extends T> supplier) {
+        Preconditions.checkNotNull("supplier", supplier);
+        if (supplier instanceof Lazy) {
+            return (Lazy<T>) supplier;
+        }
+        return new Lazy<>(supplier);
+    }
+
+    /**
+     * Create an already computed value.
+     *
+     * @param value Value.
+     * @param <T>   Value type.
+     *
+     * @return lazy value.
+     */
+    @Contract(value = "_ -> new", pure = true)
+    public static <T> @NotNull Lazy<T> value(@NotNull T value) {
+        Preconditions.checkNotNull("value", value);
+        return new Lazy<>(value);
+    }
+
+    /**
+     * Returns the value, computing it if it has not been computed yet.
+     *
+     * @return value.
+     */
+    @Override
+    public @NotNull T get() {
+        T result = this.value;
+        if (result == null) {
+            synchronized (this) {
+                result = this.value;
+                if (result == null) {
+                    Supplier<? extends T> valueSupplier = Preconditions.checkNotNullState("supplier", this.supplier);
+                    result = Preconditions.checkNotNullState("value", valueSupplier.get());
+                    this.value = result;
+                    // The supplier may hold references to platform objects, release them.
+                    this.supplier = null;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns whether the value has been computed.
+     *
+     * @return {@code true} if the value has been computed, otherwise {@code false}.
+     */
+    public boolean isComputed() {
+        return this.value != null;
+    }
+
+}
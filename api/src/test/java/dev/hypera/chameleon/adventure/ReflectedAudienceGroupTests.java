@@ -0,0 +1,173 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2024 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.adventure;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import dev.hypera.chameleon.TestChameleon;
+import dev.hypera.chameleon.adventure.mapper.AdventureMapper;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.audience.ForwardingAudience;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.sound.Sound;
+import net.kyori.adventure.text.Component;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+final class ReflectedAudienceGroupTests {
+
+    private static AdventureMapper adventureMapper;
+    private Audience first;
+    private Audience second;
+    private Audience plain;
+    private Audience group;
+
+    @BeforeAll
+    static void loadAdventureMapper() {
+        adventureMapper = new AdventureMapper(new TestChameleon(), false);
+        assertDoesNotThrow(adventureMapper::load);
+    }
+
+    @BeforeEach
+    void setup() {
+        this.first = mock(Audience.class);
+        this.second = mock(Audience.class);
+        this.plain = mock(Audience.class);
+
+        // One reflected audience, one reflected audience behind a forwarding audience, and one
+        // audience that is not reflected at all.
+        ReflectedAudience reflectedSecond = adventureMapper.createReflectedAudience(this.second);
+        ForwardingAudience.Single forwarding = () -> reflectedSecond;
+        this.group = new ReflectedAudienceGroup(Arrays.asList(
+            adventureMapper.createReflectedAudience(this.first), forwarding, this.plain
+        ));
+    }
+
+    @Test
+    void sendMessage() {
+        // Create message
+        Component message = Component.text("test");
+
+        // Make and verify call
+        this.group.sendMessage(message);
+        verify(this.first, times(1)).sendMessage(message);
+        verify(this.second, times(1)).sendMessage(message);
+        verify(this.plain, times(1)).sendMessage(message);
+    }
+
+    @Test
+    void playSoundPosition() {
+        Sound sound = Sound.sound(
+            Key.key("chameleon:test"),
+            Sound.Source.MASTER, 1f, 1f
+        );
+        this.group.playSound(sound, 1, 2, 3);
+        verify(this.first, times(1)).playSound(sound, 1, 2, 3);
+        verify(this.second, times(1)).playSound(sound, 1, 2, 3);
+        verify(this.plain, times(1)).playSound(sound, 1, 2, 3);
+    }
+
+    @Test
+    void sendMessageParallel() {
+        // Create a group large enough to be broadcast to in parallel
+        List<Audience> platformAudiences = new ArrayList<>();
+        List<Audience> members = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            Audience audience = mock(Audience.class);
+            platformAudiences.add(audience);
+            members.add(i % 2 == 0 ? adventureMapper.createReflectedAudience(audience) : audience);
+        }
+        Component first = Component.text("first");
+        Component second = Component.text("second");
+
+        // Every member should receive both messages, in order
+        try (ParallelBroadcast parallel = ParallelBroadcast.create(4, 16)) {
+            Audience parallelGroup = new ReflectedAudienceGroup(members, parallel);
+            parallelGroup.sendMessage(first);
+            parallelGroup.sendMessage(second);
+        }
+        for (Audience audience : platformAudiences) {
+            InOrder inOrder = inOrder(audience);
+            inOrder.verify(audience, times(1)).sendMessage(first);
+            inOrder.verify(audience, times(1)).sendMessage(second);
+        }
+    }
+
+    @Test
+    void sendMessageParallelFailure() {
+        // Create a group large enough to be broadcast to in parallel, with one failing member
+        List<Audience> members = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            members.add(mock(Audience.class));
+        }
+        Component message = Component.text("test");
+        doThrow(new RejectedExecutionException()).when(members.get(0)).sendMessage(message);
+
+        // The failure should be rethrown, without sending to any member twice
+        try (ParallelBroadcast parallel = ParallelBroadcast.create(4, 16)) {
+            Audience parallelGroup = new ReflectedAudienceGroup(members, parallel);
+            assertThrows(RejectedExecutionException.class, () -> parallelGroup.sendMessage(message));
+        }
+        for (Audience audience : members) {
+            verify(audience, atMost(1)).sendMessage(message);
+        }
+    }
+
+    @Test
+    void filterAudience() {
+        // Only the audience that is not reflected should remain
+        Audience filtered = this.group.filterAudience(a -> a == this.plain);
+        assertInstanceOf(ForwardingAudience.class, filtered);
+        int count = 0;
+        for (Audience audience : ((ForwardingAudience) filtered).audiences()) {
+            assertEquals(this.plain, audience);
+            count++;
+        }
+        assertEquals(1, count);
+
+        // Make and verify call
+        Component message = Component.text("test");
+        filtered.sendActionBar(message);
+        verify(this.first, never()).sendActionBar(message);
+        verify(this.second, never()).sendActionBar(message);
+        verify(this.plain, times(1)).sendActionBar(message);
+    }
+
+}
@@ -25,7 +25,9 @@ package dev.hypera.chameleon.adventure;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
@@ -65,6 +67,7 @@ import net.kyori.adventure.title.TitlePart;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 final class ReflectedAudienceTests {
 
@@ -74,7 +77,7 @@ final class ReflectedAudienceTests {
 
     @BeforeAll
     static void loadAdventureMapper() {
-        adventureMapper = new AdventureMapper(new TestChameleon());
+        adventureMapper = new AdventureMapper(new TestChameleon(), false);
         assertDoesNotThrow(adventureMapper::load);
     }
 
@@ -84,6 +87,22 @@ final class ReflectedAudienceTests {
         this.reflectedAudience = adventureMapper.createReflectedAudience(this.audience);
     }
 
+    @Test
+    void passthrough() {
+        // Adventure is not relocated in tests, so calls should be passed straight through.
+        AdventureMapper passthroughMapper = new AdventureMapper(new TestChameleon());
+        assertDoesNotThrow(passthroughMapper::load);
+        assertTrue(passthroughMapper.isPassthrough());
+
+        ReflectedAudience passthroughAudience = passthroughMapper.createReflectedAudience(this.audience);
+        assertTrue(passthroughAudience.isPassthrough());
+        assertSame(this.audience, passthroughAudience.audience());
+
+        Component message = Component.text("test");
+        passthroughAudience.sendMessage(message);
+        verify(this.audience, times(1)).sendMessage(message);
+    }
+
     @Test
     void sendMessage() {
         // Create message
@@ -249,6 +268,29 @@ final class ReflectedAudienceTests {
             .hideBossBar(argThat(new BossBarMatcher(bossBar)));
     }
 
+    @Test
+    void showBossBarMirrorsChanges() {
+        BossBar bossBar = BossBar.bossBar(
+            Component.text("chameleon"), 1f,
+            BossBar.Color.GREEN, BossBar.Overlay.PROGRESS
+        );
+        this.reflectedAudience.showBossBar(bossBar);
+        ArgumentCaptor<BossBar> mirror = ArgumentCaptor.forClass(BossBar.class);
+        verify(this.audience, times(1)).showBossBar(mirror.capture());
+
+        // Changes made after showing the boss bar should be applied to the mirror.
+        bossBar.progress(0.5f).color(BossBar.Color.RED).addFlag(Flag.DARKEN_SCREEN);
+        assertEquals(0.5f, mirror.getValue().progress());
+        assertEquals(BossBar.Color.RED, mirror.getValue().color());
+        assertEquals(Collections.singleton(Flag.DARKEN_SCREEN), mirror.getValue().flags());
+
+        // The mirror should be hidden, after which changes are no longer applied to it.
+        this.reflectedAudience.hideBossBar(bossBar);
+        verify(this.audience, times(1)).hideBossBar(mirror.getValue());
+        bossBar.progress(0f);
+        assertEquals(0.5f, mirror.getValue().progress());
+    }
+
     @Test
     void playSound() {
         Sound sound = Sound.sound(
@@ -326,6 +368,22 @@ final class ReflectedAudienceTests {
         }
     }
 
+    @Test
+    void getSnapshot() {
+        ReflectedAudience snapshotAudience = adventureMapper.createReflectedAudience(this.audience, true);
+        doReturn(Optional.of("chameleon")).when(this.audience).get(Identity.NAME);
+
+        // Stable pointers should only be read from the platform audience once.
+        assertEquals(Optional.of("chameleon"), snapshotAudience.get(Identity.NAME));
+        assertEquals(Optional.of("chameleon"), snapshotAudience.get(Identity.NAME));
+        verify(this.audience, times(1)).get(Identity.NAME);
+
+        // Refreshing should discard the snapshot.
+        snapshotAudience.refreshPointers();
+        assertEquals(Optional.of("chameleon"), snapshotAudience.get(Identity.NAME));
+        verify(this.audience, times(2)).get(Identity.NAME);
+    }
+
     @Test
     void getOrDefault() {
         Pointer<String> pointer = Pointer.pointer(String.class, Key.key("chameleon:test"));
@@ -50,6 +50,9 @@ final class AdventureMapperTests {
 
         // Make sure all mappers aren't null.
         assertNotNull(mapper.getChameleon());
+        assertNotNull(mapper.getComponentCache());
+        assertNotNull(mapper.getKeyCache());
+        assertNotNull(mapper.getSoundCache());
         assertNotNull(mapper.getComponentMapper());
         assertNotNull(mapper.getBookMapper());
         assertNotNull(mapper.getBossBarMapper());
@@ -65,4 +68,14 @@ final class AdventureMapperTests {
         assertNotNull(mapper.getTitlePartMapper());
     }
 
+    @Test
+    void testPreload() {
+        // Preloading should only be possible once the mapper has been loaded.
+        AdventureMapper lazyMapper = new AdventureMapper(new TestChameleon());
+        assertThrows(IllegalStateException.class, lazyMapper::preload);
+        assertDoesNotThrow(lazyMapper::load);
+        assertDoesNotThrow(lazyMapper::preload);
+        assertDoesNotThrow(() -> lazyMapper.prewarm(Runnable::run).join());
+    }
+
 }
@@ -29,7 +29,15 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.BlockNBTComponent;
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TranslationArgument;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.format.TextDecoration;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
@@ -84,4 +92,41 @@ final class ComponentMapperTests {
         assertEquals(component, mapped);
     }
 
+    @Test
+    void mapStructural() {
+        assertTrue(componentMapper.isStructural());
+
+        // Create a component using every structurally mapped feature
+        Component component = Component.text()
+            .content("test")
+            .color(NamedTextColor.RED)
+            .decorate(TextDecoration.BOLD)
+            .decoration(TextDecoration.ITALIC, false)
+            .clickEvent(ClickEvent.runCommand("/chameleon"))
+            .insertion("insertion")
+            .font(Key.key("chameleon", "font"))
+            .append(Component.translatable("chameleon.key", Component.text("argument", TextColor.color(0x123456))).fallback("fallback"))
+            .append(Component.keybind("key.jump"))
+            .append(Component.score("name", "objective"))
+            .append(Component.selector("@a", Component.text(", ")))
+            .append(Component.blockNBT("path", BlockNBTComponent.Pos.fromString("1 2 3")).interpret(true))
+            .append(Component.entityNBT("path", "@s"))
+            .append(Component.storageNBT("path", Key.key("chameleon", "storage")).separator(Component.text(", ")))
+            .build();
+
+        assertEquals(component, assertDoesNotThrow(() -> componentMapper.map(component)));
+        assertEquals(component, assertDoesNotThrow(() -> componentMapper.mapBackwards(component)));
+    }
+
+    @Test
+    void mapStructuralFallback() {
+        // Hover events are mapped through Gson, children of the node included
+        Component component = Component.text("test")
+            .append(Component.text("hover").hoverEvent(HoverEvent.showText(Component.text("tooltip"))).append(Component.text("child")))
+            .append(Component.translatable("chameleon.key", TranslationArgument.numeric(5)));
+
+        assertEquals(component, assertDoesNotThrow(() -> componentMapper.map(component)));
+        assertEquals(component, assertDoesNotThrow(() -> componentMapper.mapBackwards(component)));
+    }
+
 }
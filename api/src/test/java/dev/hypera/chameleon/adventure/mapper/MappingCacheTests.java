@@ -0,0 +1,138 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2024 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.adventure.mapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+final class MappingCacheTests {
+
+    @Test
+    void hitsAndMisses() throws ReflectiveOperationException {
+        MappingCache<String> cache = new MappingCache<>(16);
+        AtomicInteger mappings = new AtomicInteger();
+        MappingCache.MappingFunction<String> mapper = key -> {
+            mappings.incrementAndGet();
+            return new StringBuilder(key);
+        };
+
+        // Equal keys should share a single mapping
+        Object mapped = cache.get("test", mapper);
+        assertSame(mapped, cache.get(new String("test"), mapper));
+        assertEquals(1, mappings.get());
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getHits());
+        assertEquals(0, cache.getMisses());
+    }
+
+    @Test
+    void eviction() throws ReflectiveOperationException {
+        MappingCache<String> cache = new MappingCache<>(2);
+        MappingCache.MappingFunction<String> mapper = StringBuilder::new;
+
+        Object first = cache.get("first", mapper);
+        cache.get("second", mapper);
+        // Accessing "first" makes "second" the least recently used mapping
+        cache.get("first", mapper);
+        cache.get("third", mapper);
+        assertEquals(2, cache.size());
+        assertSame(first, cache.get("first", mapper));
+        assertEquals(3, cache.getMisses());
+
+        cache.setMaximumSize(1);
+        assertEquals(1, cache.size());
+
+        // A maximum size of 0 disables caching
+        cache.setMaximumSize(0);
+        assertEquals(0, cache.size());
+        cache.get("first", mapper);
+        assertEquals(0, cache.size());
+
+        assertThrows(IllegalArgumentException.class, () -> cache.setMaximumSize(-1));
+    }
+
+    @Test
+    void concurrentMisses() throws Exception {
+        MappingCache<String> cache = new MappingCache<>(16);
+        AtomicInteger mappings = new AtomicInteger();
+        CountDownLatch mapping = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        MappingCache.MappingFunction<String> mapper = key -> {
+            mappings.incrementAndGet();
+            mapping.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return new StringBuilder(key);
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Object>> lookups = new ArrayList<>();
+            lookups.add(executor.submit(() -> cache.get("test", mapper)));
+            mapping.await(10, TimeUnit.SECONDS);
+            for (int i = 0; i < 3; i++) {
+                lookups.add(executor.submit(() -> cache.get("test", mapper)));
+            }
+            release.countDown();
+
+            // Lookups that missed while the key was being mapped should share its mapping
+            Object mapped = lookups.get(0).get(10, TimeUnit.SECONDS);
+            for (Future<Object> lookup : lookups) {
+                assertSame(mapped, lookup.get(10, TimeUnit.SECONDS));
+            }
+            assertEquals(1, mappings.get());
+            assertEquals(1, cache.getMisses());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void mappingFailure() {
+        MappingCache<String> cache = new MappingCache<>(16);
+        assertThrows(ClassNotFoundException.class, () -> cache.get("test", key -> {
+            throw new ClassNotFoundException(key);
+        }));
+        assertEquals(0, cache.size());
+    }
+
+}
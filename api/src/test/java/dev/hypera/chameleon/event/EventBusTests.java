@@ -25,12 +25,30 @@ package dev.hypera.chameleon.event;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import dev.hypera.chameleon.event.EventBus.ExceptionHandler;
+import dev.hypera.chameleon.event.annotations.Subscribe;
+import dev.hypera.chameleon.event.common.UserEvent;
 import dev.hypera.chameleon.exception.ChameleonException;
 import dev.hypera.chameleon.logger.DummyChameleonLogger;
+import dev.hypera.chameleon.user.User;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 
@@ -58,6 +76,144 @@ final class EventBusTests {
         assertEquals(1, event.getTouches());
     }
 
+    @Test
+    void unsubscribeOnlyRemovesOwnSubscription() {
+        EventBus eventBus = new EventBusImpl(NOP_EXCEPTION_HANDLER);
+        EventConsumer<TestEvent> handler = TestEvent::touch;
+        EventSubscription first = eventBus.subscribe(TestEvent.class, handler);
+        eventBus.subscribe(TestEvent.class, handler);
+
+        first.unsubscribe();
+        first.unsubscribe();
+
+        TestEvent event = new TestEvent(false);
+        eventBus.dispatch(event);
+        assertEquals(1, event.getTouches());
+    }
+
+    @Test
+    void subscriptionGroup() {
+        EventBus eventBus = new EventBusImpl(NOP_EXCEPTION_HANDLER);
+        EventSubscriptionGroup group = eventBus.createGroup();
+        EventSubscription single = group.subscribe(TestEvent.class, TestEvent::touch);
+        group.subscribe(ChameleonEvent.class, event -> ((TestEvent) event).touch());
+        eventBus.subscribe(TestEvent.class, TestEvent::touch);
+        assertEquals(2, group.size());
+
+        single.unsubscribe();
+        assertEquals(1, group.size());
+
+        TestEvent event = new TestEvent(false);
+        eventBus.dispatch(event);
+        assertEquals(2, event.getTouches());
+
+        group.unsubscribe();
+        assertEquals(0, group.size());
+        eventBus.dispatch(event);
+        assertEquals(3, event.getTouches());
+
+        group.subscribe(TestEvent.class, TestEvent::touch);
+        eventBus.dispatch(event);
+        assertEquals(5, event.getTouches());
+    }
+
+    @Test
+    void keyedSubscriptions() throws Throwable {
+        DummyChameleonLogger logger = new DummyChameleonLogger();
+        EventBus eventBus = new EventBusImpl(logger);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        EventSubscription keyed = eventBus.subscribe(
+            EventSubscriber.builder(TestUserEvent.class)
+                .user(first)
+                .priority(EventSubscriptionPriority.HIGH)
+                .handler(event -> {
+                    assertEquals(first, event.getUser().getId());
+                    assertEquals(0, event.getTouches());
+                    event.touch();
+                })
+                .build()
+        );
+        assertTrue(eventBus.subscribed(TestUserEvent.class));
+
+        eventBus.subscribe(
+            EventSubscriber.builder(UserEvent.class)
+                .priority(EventSubscriptionPriority.LOW)
+                .handler(event -> ((TestUserEvent) event).touch())
+                .build()
+        );
+
+        TestUserEvent firstEvent = new TestUserEvent(first);
+        eventBus.dispatch(firstEvent);
+        assertEquals(2, firstEvent.getTouches());
+
+        TestUserEvent secondEvent = new TestUserEvent(second);
+        eventBus.dispatch(secondEvent);
+        assertEquals(1, secondEvent.getTouches());
+
+        keyed.unsubscribe();
+        TestUserEvent unkeyedEvent = new TestUserEvent(first);
+        eventBus.dispatch(unkeyedEvent);
+        assertEquals(1, unkeyedEvent.getTouches());
+
+        assertThrows(IllegalArgumentException.class, () -> EventSubscriber.builder(TestEvent.class).user(first));
+
+        for (Throwable throwable : logger.getExceptions()) {
+            throw throwable;
+        }
+    }
+
+    @Test
+    void watchDemand() {
+        EventBus eventBus = new EventBusImpl(NOP_EXCEPTION_HANDLER);
+        List<Boolean> changes = new ArrayList<>();
+        EventSubscription watch = eventBus.watchDemand(TestEvent.class, changes::add);
+        assertTrue(changes.isEmpty());
+
+        EventSubscription first = eventBus.subscribe(TestEvent.class, TestEvent::touch);
+        EventSubscription second = eventBus.subscribe(ChameleonEvent.class, event -> {});
+        first.unsubscribe();
+        second.unsubscribe();
+        assertEquals(Arrays.asList(true, false), changes);
+
+        // Already subscribed event types are reported immediately
+        eventBus.subscribe(TestEvent.class, TestEvent::touch);
+        List<Boolean> immediate = new ArrayList<>();
+        eventBus.watchDemand(TestEvent.class, immediate::add);
+        assertEquals(Collections.singletonList(true), immediate);
+
+        // Unsubscribing a watch whose event type is subscribed to reports the loss of demand
+        watch.unsubscribe();
+        assertEquals(Arrays.asList(true, false, true, false), changes);
+        watch.unsubscribe();
+        eventBus.unsubscribeIf(subscriber -> true);
+        assertEquals(Arrays.asList(true, false, true, false), changes);
+        assertEquals(Arrays.asList(true, false), immediate);
+    }
+
+    @Test
+    void watchDemandReentrant() {
+        EventBus eventBus = new EventBusImpl(NOP_EXCEPTION_HANDLER);
+        List<Boolean> changes = new ArrayList<>();
+        // Listeners are notified without holding locks, so they may modify the event bus.
+        eventBus.watchDemand(TestEvent.class, subscribed -> {
+            changes.add(subscribed);
+            if (subscribed) {
+                eventBus.watchDemand(TestEvent.class, nested -> {});
+                eventBus.subscribe(ChameleonEvent.class, event -> {});
+            }
+        });
+
+        EventSubscription subscription = eventBus.subscribe(TestEvent.class, TestEvent::touch);
+        subscription.unsubscribe();
+        assertTrue(eventBus.subscribed(TestEvent.class));
+        assertEquals(Collections.singletonList(true), changes);
+
+        eventBus.unsubscribeIf(subscriber -> true);
+        assertEquals(Arrays.asList(true, false), changes);
+    }
+
     @Test
     void priority() throws Throwable {
         DummyChameleonLogger logger = new DummyChameleonLogger();
@@ -145,6 +301,47 @@ final class EventBusTests {
         assertEquals(1, event.getTouches());
     }
 
+    @Test
+    void receivesAllSupertypes() throws Throwable {
+        DummyChameleonLogger logger = new DummyChameleonLogger();
+        EventBus eventBus = new EventBusImpl(logger);
+
+        eventBus.subscribe(
+            EventSubscriber.builder(ChameleonEvent.class)
+                .priority(EventSubscriptionPriority.LOW)
+                .handler(event -> {
+                    assertEquals(2, ((TestEvent) event).getTouches());
+                    ((TestEvent) event).touch();
+                })
+                .build()
+        );
+        eventBus.subscribe(
+            EventSubscriber.builder(TestEvent.class)
+                .priority(EventSubscriptionPriority.HIGH)
+                .handler(event -> {
+                    assertEquals(0, event.getTouches());
+                    event.touch();
+                })
+                .build()
+        );
+        eventBus.subscribe(
+            EventSubscriber.builder(TestEvent.class)
+                .handler(event -> {
+                    assertEquals(1, event.getTouches());
+                    event.touch();
+                })
+                .build()
+        );
+
+        TestEvent event = new TestEvent(false);
+        eventBus.dispatch(event);
+        assertEquals(3, event.getTouches());
+
+        for (Throwable throwable : logger.getExceptions()) {
+            throw throwable;
+        }
+    }
+
     @Test
     void expiresAfter() {
         EventBus eventBus = new EventBusImpl(NOP_EXCEPTION_HANDLER);
@@ -211,6 +408,216 @@ final class EventBusTests {
         assertEquals(3, event.getTouches());
     }
 
+    @Test
+    void dispatchAsync() throws Throwable {
+        DummyChameleonLogger logger = new DummyChameleonLogger();
+        EventBus eventBus = new EventBusImpl(logger);
+        Thread caller = Thread.currentThread();
+
+        eventBus.subscribe(
+            EventSubscriber.builder(TestEvent.class)
+                .sync()
+                .handler(event -> {
+                    assertEquals(caller, Thread.currentThread());
+                    event.touch();
+                })
+                .build()
+        );
+        eventBus.subscribe(
+            EventSubscriber.builder(TestEvent.class)
+                .priority(EventSubscriptionPriority.HIGH)
+                .handler(event -> {
+                    assertFalse(caller.equals(Thread.currentThread()));
+                    assertEquals(1, event.getTouches());
+                    event.touch();
+                })
+                .build()
+        );
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            TestEvent event = eventBus.dispatchAsync(new TestEvent(false), executor).get(5, TimeUnit.SECONDS);
+            assertEquals(2, event.getTouches());
+        } finally {
+            executor.shutdown();
+        }
+
+        for (Throwable throwable : logger.getExceptions()) {
+            throw throwable;
+        }
+    }
+
+    @Test
+    void dispatchAsyncSubscriber() throws Throwable {
+        DummyChameleonLogger logger = new DummyChameleonLogger();
+        EventBus eventBus = new EventBusImpl(logger);
+        Thread caller = Thread.currentThread();
+        CompletableFuture<Thread> asyncThread = new CompletableFuture<>();
+
+        eventBus.subscribe(
+            EventSubscriber.builder(TestEvent.class)
+                .priority(EventSubscriptionPriority.HIGH)
+                .async()
+                .handler(event -> asyncThread.complete(Thread.currentThread()))
+                .build()
+        );
+        eventBus.subscribe(TestEvent.class, event -> {
+            assertFalse(asyncThread.isDone());
+            event.touch();
+        });
+
+        TestEvent event = new TestEvent(false);
+        eventBus.dispatch(event);
+        assertEquals(1, event.getTouches());
+        assertFalse(caller.equals(asyncThread.get(5, TimeUnit.SECONDS)));
+
+        for (Throwable throwable : logger.getExceptions()) {
+            throw throwable;
+        }
+    }
+
+    @Test
+    void filterCostOrder() {
+        EventBus eventBus = new EventBusImpl(NOP_EXCEPTION_HANDLER);
+        List<String> evaluated = new ArrayList<>();
+        eventBus.subscribe(
+            EventSubscriber.builder(TestEvent.class)
+                .filters(e -> evaluated.add("normal"))
+                .filters(e -> evaluated.add("expensive"), 10)
+                .filters(e -> evaluated.add("cheap"), -10)
+                .filters(e -> evaluated.add("normal2"))
+                .handler(TestEvent::touch)
+                .build()
+        );
+
+        TestEvent event = new TestEvent(false);
+        eventBus.dispatch(event);
+        assertEquals(1, event.getTouches());
+        assertEquals(Arrays.asList("cheap", "normal", "normal2", "expensive"), evaluated);
+    }
+
+    @Test
+    void userLanes() throws Throwable {
+        DummyChameleonLogger logger = new DummyChameleonLogger();
+        EventBus eventBus = new EventBusImpl(logger);
+        eventBus.setUserLanes(4);
+
+        Map<UUID, List<TestUserEvent>> delivered = new ConcurrentHashMap<>();
+        eventBus.subscribe(TestUserEvent.class, event -> {
+            delivered.computeIfAbsent(event.getUser().getId(), id -> Collections.synchronizedList(new ArrayList<>())).add(event);
+        });
+
+        Map<UUID, List<TestUserEvent>> dispatched = new HashMap<>();
+        List<CompletableFuture<TestUserEvent>> futures = new ArrayList<>();
+        for (int user = 0; user < 8; user++) {
+            UUID id = UUID.randomUUID();
+            List<TestUserEvent> events = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                events.add(new TestUserEvent(id));
+            }
+            dispatched.put(id, events);
+        }
+        for (int i = 0; i < 100; i++) {
+            for (List<TestUserEvent> events : dispatched.values()) {
+                futures.add(eventBus.dispatchAsync(events.get(i)));
+            }
+        }
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get(10, TimeUnit.SECONDS);
+        assertEquals(dispatched, delivered);
+
+        // Replacing lanes could reorder events that are still queued on them
+        assertThrows(IllegalStateException.class, () -> eventBus.setUserLanes(8));
+        assertThrows(IllegalStateException.class, () -> eventBus.setUserLanes(0));
+
+        for (Throwable throwable : logger.getExceptions()) {
+            throw throwable;
+        }
+    }
+
+    @Test
+    void metrics() {
+        EventBus eventBus = new EventBusImpl(new TestExceptionHandler());
+        EventSubscriber<TestEvent> first = EventSubscriber.builder(TestEvent.class).handler(TestEvent::touch).build();
+        EventSubscriber<TestEvent> second = EventSubscriber.builder(TestEvent.class).handler(e -> {
+            throw new ChameleonException("Hello, world!");
+        }).build();
+        eventBus.subscribe(first);
+        eventBus.subscribe(second);
+
+        // Nothing should be recorded while metrics are disabled
+        eventBus.dispatch(new TestEvent(false));
+        assertTrue(eventBus.getMetrics().getEventStatistics().isEmpty());
+
+        eventBus.getMetrics().setEnabled(true);
+        eventBus.dispatch(new TestEvent(false));
+        eventBus.dispatch(new TestEvent(false));
+
+        EventMetrics.Statistics eventStatistics = eventBus.getMetrics().getEventStatistics().get(TestEvent.class);
+        assertEquals(4, eventStatistics.getCount());
+        assertEquals(2, eventStatistics.getExceptionCount());
+        assertTrue(eventStatistics.getMaxTime().compareTo(eventStatistics.getTotalTime()) <= 0);
+
+        Map<EventSubscriber<?>, EventMetrics.Statistics> subscriberStatistics = eventBus.getMetrics().getSubscriberStatistics();
+        assertEquals(2, subscriberStatistics.get(first).getCount());
+        assertEquals(0, subscriberStatistics.get(first).getExceptionCount());
+        assertEquals(2, subscriberStatistics.get(second).getCount());
+        assertEquals(2, subscriberStatistics.get(second).getExceptionCount());
+
+        eventBus.getMetrics().reset();
+        assertTrue(eventBus.getMetrics().getEventStatistics().isEmpty());
+        assertEquals(0, eventBus.getMetrics().getSubscriberStatistics().get(first).getCount());
+    }
+
+    @Test
+    void slowSubscriber() {
+        // Subscribers advance the clock instead of sleeping, so the elapsed time is exact
+        AtomicLong clock = new AtomicLong();
+        EventBus eventBus = new EventBusImpl(new TestExceptionHandler(), clock::get);
+        List<EventSubscriber<? super ChameleonEvent>> reported = new ArrayList<>();
+        List<Duration> elapsedTimes = new ArrayList<>();
+        eventBus.setSlowSubscriberHandler((bus, subscriber, event, elapsed) -> {
+            reported.add(subscriber);
+            elapsedTimes.add(elapsed);
+        });
+        eventBus.setSlowSubscriberThreshold(Duration.ofMillis(20));
+        eventBus.subscribe(TestEvent.class, e -> clock.addAndGet(Duration.ofMillis(19).toNanos()));
+        eventBus.subscribe(TestEvent.class, e -> clock.addAndGet(Duration.ofMillis(50).toNanos()));
+
+        eventBus.dispatch(new TestEvent(false));
+        assertEquals(1, reported.size());
+        assertEquals(Collections.singletonList(Duration.ofMillis(50)), elapsedTimes);
+
+        // Disabling the threshold should stop reporting
+        eventBus.setSlowSubscriberThreshold(null);
+        eventBus.dispatch(new TestEvent(false));
+        assertEquals(1, reported.size());
+
+        assertThrows(IllegalArgumentException.class, () -> eventBus.setSlowSubscriberThreshold(Duration.ZERO));
+    }
+
+    @Test
+    void registerListeners() {
+        EventBus eventBus = new EventBusImpl(new TestExceptionHandler());
+        TestListener listener = new TestListener();
+        EventSubscription subscription = eventBus.registerListeners(listener);
+
+        TestEvent event = new TestEvent(false);
+        eventBus.dispatch(event);
+        assertEquals(Arrays.asList("high", "normal", "inherited"), listener.calls);
+
+        // Cancelled events should only be delivered to methods accepting them
+        listener.calls.clear();
+        eventBus.dispatch(new TestEvent(true));
+        assertEquals(Collections.singletonList("normal"), listener.calls);
+
+        subscription.unsubscribe();
+        assertFalse(eventBus.subscribed(TestEvent.class));
+
+        assertThrows(IllegalArgumentException.class, () -> eventBus.registerListeners(new Object()));
+        assertThrows(IllegalArgumentException.class, () -> eventBus.registerListeners(new InvalidTestListener()));
+    }
+
     @Test
     void testExceptionHandler() {
         EventBusImpl eventBus = new EventBusImpl(new DummyChameleonLogger());
@@ -250,6 +657,76 @@ final class EventBusTests {
 
     }
 
+    static final class TestUserEvent implements UserEvent {
+
+        private final @NotNull User user;
+        private int touches = 0;
+
+        private TestUserEvent(@NotNull UUID id) {
+            this.user = (User) Proxy.newProxyInstance(
+                User.class.getClassLoader(), new Class<?>[] { User.class },
+                (proxy, method, args) -> {
+                    if (method.getName().equals("getId")) {
+                        return id;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                }
+            );
+        }
+
+        @Override
+        public @NotNull User getUser() {
+            return this.user;
+        }
+
+        public void touch() {
+            this.touches++;
+        }
+
+        public int getTouches() {
+            return this.touches;
+        }
+
+    }
+
+    static class BaseTestListener {
+
+        protected final @NotNull List<String> calls = new ArrayList<>();
+
+        @Subscribe(priority = EventSubscriptionPriority.LOW)
+        void inherited(@NotNull TestEvent event) {
+            this.calls.add("inherited");
+        }
+
+    }
+
+    static final class TestListener extends BaseTestListener {
+
+        @Subscribe(acceptsCancelled = true)
+        private void normal(@NotNull TestEvent event) {
+            this.calls.add("normal");
+        }
+
+        @Subscribe(priority = EventSubscriptionPriority.HIGH)
+        public boolean high(@NotNull ChameleonEvent event) {
+            return this.calls.add("high");
+        }
+
+        public void notSubscribed(@NotNull TestEvent event) {
+            this.calls.add("notSubscribed");
+        }
+
+    }
+
+    static final class InvalidTestListener {
+
+        @Subscribe
+        void invalid(@NotNull String event) {
+            // Not an event parameter
+        }
+
+    }
+
     static final class TestExceptionHandler implements ExceptionHandler {
 
         private int errorCount = 0;
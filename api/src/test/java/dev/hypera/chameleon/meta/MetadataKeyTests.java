@@ -24,6 +24,7 @@
 package dev.hypera.chameleon.meta;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.google.common.testing.EqualsTester;
@@ -134,4 +135,13 @@ final class MetadataKeyTests {
         ).testEquals();
     }
 
+    @Test
+    void testIndex() {
+        // Equal keys should share an index
+        assertEquals(MetadataKey.string("chameleon:index").index(), MetadataKey.string("chameleon", "index").index());
+        // Keys with a different value or type should not
+        assertNotEquals(MetadataKey.string("chameleon:index").index(), MetadataKey.string("chameleon:index2").index());
+        assertNotEquals(MetadataKey.string("chameleon:index").index(), MetadataKey.bool("chameleon:index").index());
+    }
+
 }
@@ -0,0 +1,64 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2024 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.util.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+final class LazyTests {
+
+    @Test
+    void testComputedOnce() {
+        AtomicInteger calls = new AtomicInteger();
+        Lazy<String> lazy = Lazy.of(() -> "test" + calls.incrementAndGet());
+        assertFalse(lazy.isComputed());
+        assertEquals(0, calls.get());
+
+        assertEquals("test1", lazy.get());
+        assertEquals("test1", lazy.get());
+        assertTrue(lazy.isComputed());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void testValue() {
+        Lazy<String> lazy = Lazy.value("test");
+        assertTrue(lazy.isComputed());
+        assertEquals("test", lazy.get());
+        assertSame(lazy, Lazy.of(lazy));
+    }
+
+    @Test
+    void testNullValue() {
+        Lazy<String> lazy = Lazy.of(() -> null);
+        assertThrows(IllegalStateException.class, lazy::get);
+    }
+
+}
@@ -0,0 +1,220 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2024 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.platform.adventure;
+
+import dev.hypera.chameleon.adventure.ReflectedAudienceGroup;
+import dev.hypera.chameleon.platform.proxy.Server;
+import dev.hypera.chameleon.platform.user.PlatformProxyUserManager;
+import dev.hypera.chameleon.platform.user.PlatformUserManager;
+import dev.hypera.chameleon.user.ChatUser;
+import dev.hypera.chameleon.user.ConsoleUser;
+import dev.hypera.chameleon.user.ProxyUser;
+import dev.hypera.chameleon.user.User;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import net.kyori.adventure.audience.Audience;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Incrementally maintained server and permission audience indexes.
+ *
+ * <p>Members are added and removed by the proxy user manager as users connect to, switch and
+ * disconnect from servers, so a server audience only iterates its own members.</p>
+ *
+ * <p>Permission audiences contain the console and the users connected to a server that have the
+ * permission. Members are tested when the audience is created, when a user connects to a server,
+ * and when permissions are invalidated through the user manager, including on server switches. Only permissions that
+ * have been requested are indexed, and a permission is dropped once its audience is no longer
+ * referenced.</p>
+ */
+final class AudienceIndex implements PlatformProxyUserManager.ServerListener, PlatformUserManager.PermissionListener {
+
+    private final @NotNull PlatformProxyUserManager<?, ?, ?> userManager;
+    private final @NotNull Map<UUID, String> userServers = new ConcurrentHashMap<>();
+    private final @NotNull Map<String, Set<ChatUser>> serverMembers = new ConcurrentHashMap<>();
+    private final @NotNull Map<String, Audience> serverAudiences = new ConcurrentHashMap<>();
+    private final @NotNull Map<String, PermissionMembers> permissionMembers = new HashMap<>();
+    private final @NotNull ReferenceQueue<Audience> releasedPermissions = new ReferenceQueue<>();
+
+    AudienceIndex(@NotNull PlatformProxyUserManager<?, ?, ?> userManager) {
+        this.userManager = userManager;
+        userManager.addServerListener(this);
+        userManager.addPermissionListener(this);
+
+        // Index users that connected before this index was created.
+        for (ProxyUser user : userManager.getUsers()) {
+            user.getConnectedServer().ifPresent(server -> move(user, server.getName()));
+        }
+    }
+
+    /**
+     * Get an audience of the users connected to the given server.
+     *
+     * @param serverName Server name.
+     *
+     * @return server audience.
+     */
+    @NotNull Audience server(@NotNull String serverName) {
+        return this.serverAudiences.computeIfAbsent(serverName,
+            name -> new ReflectedAudienceGroup(serverMembers(name)));
+    }
+
+    /**
+     * Get an audience of the console and users with the given permission.
+     *
+     * @param permission Permission.
+     *
+     * @return permission audience.
+     */
+    synchronized @NotNull Audience permission(@NotNull String permission) {
+        expungeReleasedPermissions();
+        PermissionMembers members = this.permissionMembers.get(permission);
+        Audience audience = members != null ? members.get() : null;
+        if (audience != null) {
+            return audience;
+        }
+
+        Set<ChatUser> users = ConcurrentHashMap.newKeySet();
+        ConsoleUser console = this.userManager.getConsole();
+        if (console.hasPermission(permission)) {
+            users.add(console);
+        }
+        for (ProxyUser user : this.userManager.getUsers()) {
+            if (this.userServers.containsKey(user.getId()) && user.hasPermission(permission)) {
+                users.add(user);
+            }
+        }
+        audience = new ReflectedAudienceGroup(users);
+        this.permissionMembers.put(permission, new PermissionMembers(permission, users, audience, this.releasedPermissions));
+        return audience;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onServerChange(@NotNull ProxyUser user, @Nullable Server previous, @Nullable Server current) {
+        move(user, current != null ? current.getName() : null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void onPermissionsInvalidated(@NotNull ChatUser user, @Nullable String permission) {
+        expungeReleasedPermissions();
+        // Users are only members while connected to a server.
+        if (!(user instanceof ConsoleUser)
+            && !(user instanceof User && this.userServers.containsKey(((User) user).getId()))) {
+            return;
+        }
+        if (permission == null) {
+            testPermissions(user);
+            return;
+        }
+        PermissionMembers members = this.permissionMembers.get(permission);
+        if (members != null) {
+            members.test(user);
+        }
+    }
+
+    /**
+     * Stop maintaining this index.
+     */
+    void close() {
+        this.userManager.removeServerListener(this);
+        this.userManager.removePermissionListener(this);
+    }
+
+    private synchronized void move(@NotNull ProxyUser user, @Nullable String server) {
+        String previous = server != null
+            ? this.userServers.put(user.getId(), server) : this.userServers.remove(user.getId());
+        if (previous != null) {
+            serverMembers(previous).remove(user);
+        }
+        if (server == null) {
+            for (PermissionMembers members : this.permissionMembers.values()) {
+                members.users.remove(user);
+            }
+            return;
+        }
+        serverMembers(server).add(user);
+        if (previous == null) {
+            // Switching servers invalidates the permissions of the user, which tests them again.
+            testPermissions(user);
+        }
+    }
+
+    private void testPermissions(@NotNull ChatUser user) {
+        for (PermissionMembers members : this.permissionMembers.values()) {
+            members.test(user);
+        }
+    }
+
+    private void expungeReleasedPermissions() {
+        Reference<? extends Audience> released;
+        while ((released = this.releasedPermissions.poll()) != null) {
+            PermissionMembers members = (PermissionMembers) released;
+            // The permission may have been requested again since.
+            this.permissionMembers.remove(members.permission, members);
+        }
+    }
+
+    private @NotNull Set<ChatUser> serverMembers(@NotNull String server) {
+        // Member sets are never removed, as audiences keep a view of them.
+        return this.serverMembers.computeIfAbsent(server, name -> ConcurrentHashMap.newKeySet());
+    }
+
+    /**
+     * Members of a permission audience, released with the audience.
+     */
+    private static final class PermissionMembers extends WeakReference<Audience> {
+
+        private final @NotNull String permission;
+        private final @NotNull Set<ChatUser> users;
+
+        private PermissionMembers(@NotNull String permission, @NotNull Set<ChatUser> users, @NotNull Audience audience, @NotNull ReferenceQueue<Audience> queue) {
+            super(audience, queue);
+            this.permission = permission;
+            this.users = users;
+        }
+
+        private void test(@NotNull ChatUser user) {
+            if (user.hasPermission(this.permission)) {
+                this.users.add(user);
+            } else {
+                this.users.remove(user);
+            }
+        }
+
+    }
+
+}
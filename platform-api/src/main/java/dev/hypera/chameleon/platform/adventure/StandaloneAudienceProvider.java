@@ -24,37 +24,65 @@
 package dev.hypera.chameleon.platform.adventure;
 
 import dev.hypera.chameleon.adventure.ChameleonAudienceProvider;
+import dev.hypera.chameleon.adventure.ReflectedAudienceGroup;
+import dev.hypera.chameleon.platform.user.PlatformProxyUserManager;
+import dev.hypera.chameleon.platform.user.PlatformUserManager;
 import dev.hypera.chameleon.user.ChatUser;
+import dev.hypera.chameleon.user.ConsoleUser;
 import dev.hypera.chameleon.user.ProxyUser;
+import dev.hypera.chameleon.user.User;
 import dev.hypera.chameleon.user.UserManager;
 import dev.hypera.chameleon.util.Preconditions;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.UUID;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.audience.ForwardingAudience;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.text.flattener.ComponentFlattener;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Standalone Chameleon audience provider.
  *
  * <p>This audience provider implementation does not require any platform Adventure implementation,
  * and instead uses Chameleon's {@link UserManager}.</p>
+ *
+ * <p>When given a proxy user manager, server and permission audiences are backed by indexes that
+ * are maintained as users connect to, switch and disconnect from servers, so they only iterate
+ * their own members.</p>
  */
 public final class StandaloneAudienceProvider implements ChameleonAudienceProvider, ForwardingAudience {
 
     private final @NotNull UserManager userManager;
+    private final @NotNull Audience all = new ReflectedAudienceGroup(this::allAudiences);
+    private final @NotNull Audience players = new ReflectedAudienceGroup(this::playerAudiences);
+    private final @Nullable AudienceIndex index;
 
     /**
      * Standalone Chameleon audience provider constructor.
      *
+     * <p>Server and permission audiences created by this provider filter every user.</p>
+     *
      * @param userManager User manager.
      */
     public StandaloneAudienceProvider(@NotNull UserManager userManager) {
         this.userManager = userManager;
+        this.index = null;
+    }
+
+    /**
+     * Standalone Chameleon audience provider constructor, with indexed server and permission
+     * audiences.
+     *
+     * @param userManager Proxy user manager to maintain the indexes from.
+     */
+    public StandaloneAudienceProvider(@NotNull PlatformProxyUserManager<?, ?, ?> userManager) {
+        this.userManager = userManager;
+        this.index = new AudienceIndex(userManager);
     }
 
     /**
@@ -64,10 +92,7 @@ public final class StandaloneAudienceProvider implements ChameleonAudienceProvid
      */
     @Override
     public @NotNull Iterable<? extends Audience> audiences() {
-        return Stream.concat(
-            Stream.of(this.userManager.getConsole()),
-            this.userManager.getUsers().stream()
-        ).collect(Collectors.toUnmodifiableSet());
+        return this::allAudiences;
     }
 
     /**
@@ -78,7 +103,7 @@ public final class StandaloneAudienceProvider implements ChameleonAudienceProvid
      */
     @Override
     public @NotNull Audience all() {
-        return this;
+        return this.all;
     }
 
     /**
@@ -99,7 +124,7 @@ public final class StandaloneAudienceProvider implements ChameleonAudienceProvid
      */
     @Override
     public @NotNull Audience players() {
-        return Audience.audience(this.userManager.getUsers());
+        return this.players;
     }
 
     /**
@@ -134,6 +159,10 @@ public final class StandaloneAudienceProvider implements ChameleonAudienceProvid
      * Returns or creates an audience containing all viewers with the provided permission.
      * <p>The audience is dynamically updated as permissions change.</p>
      *
+     * <p>When indexed, permissions are tested as users connect, and again when they are
+     * invalidated, see {@link PlatformUserManager#invalidatePermissions()}. Otherwise permissions
+     * are tested each time the audience is used.</p>
+     *
      * @param permission the permission to filter sending to.
      *
      * @return a permissible audience.
@@ -141,6 +170,10 @@ public final class StandaloneAudienceProvider implements ChameleonAudienceProvid
     @Override
     public @NotNull Audience permission(@NotNull String permission) {
         Preconditions.checkNotNull("permission", permission);
+        AudienceIndex audienceIndex = this.index;
+        if (audienceIndex != null) {
+            return audienceIndex.permission(permission);
+        }
         return filter(p -> p.hasPermission(permission));
     }
 
@@ -170,6 +203,11 @@ public final class StandaloneAudienceProvider implements ChameleonAudienceProvid
      */
     @Override
     public @NotNull Audience server(@NotNull String serverName) {
+        Preconditions.checkNotNull("serverName", serverName);
+        AudienceIndex audienceIndex = this.index;
+        if (audienceIndex != null) {
+            return audienceIndex.server(serverName);
+        }
         return filter(p -> p instanceof ProxyUser && ((ProxyUser) p).getConnectedServer()
             .map(s -> s.getName().equals(serverName)).orElse(false));
     }
@@ -192,7 +230,40 @@ public final class StandaloneAudienceProvider implements ChameleonAudienceProvid
      */
     @Override
     public void close() {
-        // Not available.
+        AudienceIndex audienceIndex = this.index;
+        if (audienceIndex != null) {
+            audienceIndex.close();
+        }
+    }
+
+    private @NotNull Iterator<Audience> allAudiences() {
+        ConsoleUser console = this.userManager.getConsole();
+        Iterator<? extends User> users = this.userManager.getUsers().iterator();
+        // Console first, then every user, without copying the users.
+        return new Iterator<>() {
+            private boolean consoleReturned = false;
+
+            @Override
+            public boolean hasNext() {
+                return !this.consoleReturned || users.hasNext();
+            }
+
+            @Override
+            public @NotNull Audience next() {
+                if (!this.consoleReturned) {
+                    this.consoleReturned = true;
+                    return console;
+                }
+                if (!users.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return users.next();
+            }
+        };
+    }
+
+    private @NotNull Iterator<Audience> playerAudiences() {
+        return Collections.<Audience>unmodifiableCollection(this.userManager.getUsers()).iterator();
     }
 
 }
@@ -25,18 +25,48 @@ package dev.hypera.chameleon.platform.event;
 
 import dev.hypera.chameleon.event.ChameleonEvent;
 import dev.hypera.chameleon.event.EventBus;
+import dev.hypera.chameleon.event.EventSubscription;
+import dev.hypera.chameleon.util.Preconditions;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
 /**
  * Platform event dispatcher forwards platform events to the Chameleon event bus.
+ *
+ * <p>Platform listeners should be registered using
+ * {@link #registerOnDemand(Class, Runnable, Runnable)}, so they are only registered while the
+ * Chameleon events they dispatch are subscribed to.</p>
  */
 public abstract class PlatformEventDispatcher {
 
     private final @NotNull EventBus eventBus;
+    private final @NotNull Executor mainThreadExecutor;
+    private final @NotNull List<DemandRegistration> demandRegistrations = new ArrayList<>();
 
     protected PlatformEventDispatcher(@NotNull EventBus eventBus) {
+        this(eventBus, Runnable::run);
+    }
+
+    /**
+     * Platform event dispatcher constructor.
+     *
+     * <p>Demand changes may be observed on any thread, including asynchronous event delivery
+     * threads. Platforms that require listeners to be registered on their main thread must
+     * provide an executor that runs tasks on it, on-demand listeners are then only registered
+     * and unregistered by the given executor.</p>
+     *
+     * @param eventBus           Event bus.
+     * @param mainThreadExecutor Executor that on-demand listeners are registered on.
+     */
+    protected PlatformEventDispatcher(@NotNull EventBus eventBus, @NotNull Executor mainThreadExecutor) {
         this.eventBus = eventBus;
+        this.mainThreadExecutor = mainThreadExecutor;
     }
 
     /**
@@ -46,9 +76,55 @@ public abstract class PlatformEventDispatcher {
 
     /**
      * Unregister platform listeners.
+     *
+     * <p>Platform listeners registered using {@link #registerOnDemand(Class, Runnable, Runnable)}
+     * are unregistered, and are no longer registered when their events are subscribed to.</p>
      */
     public void unregisterListeners() {
+        synchronized (this.demandRegistrations) {
+            for (DemandRegistration registration : this.demandRegistrations) {
+                registration.close();
+            }
+            this.demandRegistrations.clear();
+        }
+    }
+
+    /**
+     * Registers a platform listener only while the given event is subscribed to.
+     *
+     * @param event      Chameleon event dispatched by the platform listener.
+     * @param register   Callback that registers the platform listener.
+     * @param unregister Callback that unregisters the platform listener.
+     *
+     * @see #registerOnDemand(Collection, Runnable, Runnable)
+     */
+    protected final void registerOnDemand(@NotNull Class<? extends ChameleonEvent> event, @NotNull Runnable register, @NotNull Runnable unregister) {
+        registerOnDemand(Collections.singletonList(event), register, unregister);
+    }
+
+    /**
+     * Registers a platform listener only while at least one of the given events is subscribed to.
+     *
+     * <p>The platform listener is registered as soon as one of the given events gains a
+     * subscriber, and unregistered once none of them have any subscribers. This avoids wrapping
+     * users and creating Chameleon events for platform events nobody is listening to.</p>
+     *
+     * @param events     Chameleon events dispatched by the platform listener.
+     * @param register   Callback that registers the platform listener.
+     * @param unregister Callback that unregisters the platform listener.
+     */
+    protected final void registerOnDemand(@NotNull Collection<Class<? extends ChameleonEvent>> events, @NotNull Runnable register, @NotNull Runnable unregister) {
+        Preconditions.checkNotNull("events", events);
+        Preconditions.checkNotNull("register", register);
+        Preconditions.checkNotNull("unregister", unregister);
 
+        DemandRegistration registration = new DemandRegistration(register, unregister, this.mainThreadExecutor);
+        synchronized (this.demandRegistrations) {
+            this.demandRegistrations.add(registration);
+        }
+        for (Class<? extends ChameleonEvent> event : events) {
+            registration.watch(this.eventBus.watchDemand(event, registration::update));
+        }
     }
 
     /**
@@ -65,4 +141,91 @@ public abstract class PlatformEventDispatcher {
         return event;
     }
 
+    /**
+     * Dispatch the given event asynchronously.
+     *
+     * <p>This should only be used for platform events that do not need to be modified by
+     * subscribers before the platform event handler returns.</p>
+     *
+     * @param event The event to be dispatched.
+     * @param <T>   The event type.
+     *
+     * @return future completed with {@code event} once every subscriber has been invoked.
+     * @see EventBus#dispatchAsync(ChameleonEvent)
+     */
+    protected final <T extends ChameleonEvent> @NotNull CompletableFuture<T> dispatchAsync(@NotNull T event) {
+        return this.eventBus.dispatchAsync(event);
+    }
+
+    private static final class DemandRegistration {
+
+        private final @NotNull Runnable register;
+        private final @NotNull Runnable unregister;
+        private final @NotNull Executor executor;
+        private final @NotNull List<EventSubscription> watches = new ArrayList<>();
+        private int demand = 0;
+        private boolean registered = false;
+        private boolean closed = false;
+
+        private DemandRegistration(@NotNull Runnable register, @NotNull Runnable unregister, @NotNull Executor executor) {
+            this.register = register;
+            this.unregister = unregister;
+            this.executor = executor;
+        }
+
+        private void watch(@NotNull EventSubscription watch) {
+            synchronized (this) {
+                if (!this.closed) {
+                    this.watches.add(watch);
+                    return;
+                }
+            }
+            // Unsubscribing acquires the event bus demand lock, never while holding this monitor.
+            watch.unsubscribe();
+        }
+
+        private void update(boolean subscribed) {
+            boolean changed;
+            synchronized (this) {
+                if (this.closed) {
+                    return;
+                }
+                this.demand += subscribed ? 1 : -1;
+                changed = (this.demand > 0) != this.registered;
+            }
+            if (changed) {
+                // The latest demand is read once the executor runs, so a burst of demand changes
+                // only results in a single registration change.
+                this.executor.execute(this::reconcile);
+            }
+        }
+
+        private synchronized void reconcile() {
+            boolean required = !this.closed && this.demand > 0;
+            if (required && !this.registered) {
+                this.register.run();
+                this.registered = true;
+            } else if (!required && this.registered) {
+                this.unregister.run();
+                this.registered = false;
+            }
+        }
+
+        private void close() {
+            List<EventSubscription> closedWatches;
+            synchronized (this) {
+                this.closed = true;
+                closedWatches = new ArrayList<>(this.watches);
+                this.watches.clear();
+            }
+            // Listeners are unregistered immediately, the executor may no longer run tasks once
+            // the platform is shutting down.
+            reconcile();
+            for (EventSubscription watch : closedWatches) {
+                watch.unsubscribe();
+            }
+        }
+
+    }
+
 }
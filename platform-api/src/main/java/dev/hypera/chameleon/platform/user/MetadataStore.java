@@ -0,0 +1,137 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2024 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.platform.user;
+
+import dev.hypera.chameleon.meta.MetadataKey;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Array-backed metadata storage, indexed by {@link MetadataKey#index()}.
+ *
+ * <p>Reads are a single array load without locking or allocation. Writes are rare in comparison,
+ * so they are serialised to keep the array from being replaced while a slot is updated.</p>
+ *
+ * <p>Keys without an index are stored in a map instead.</p>
+ */
+final class MetadataStore {
+
+    private static final @NotNull VarHandle SLOTS = MethodHandles.arrayElementVarHandle(Object[].class);
+    private static final int INITIAL_CAPACITY = 8;
+
+    private volatile @Nullable Object @NotNull [] slots = new Object[0];
+    private volatile @Nullable Map<MetadataKey<?>, Object> unindexed;
+
+    /**
+     * Get the value stored for the given key, resolving dynamic values.
+     *
+     * @param key Metadata key.
+     *
+     * @return stored value, or {@code null} if absent.
+     */
+    @Nullable Object get(@NotNull MetadataKey<?> key) {
+        int index = key.index();
+        Object value;
+        if (index < 0) {
+            Map<MetadataKey<?>, Object> values = this.unindexed;
+            value = values != null ? values.get(key) : null;
+        } else {
+            Object[] current = this.slots;
+            if (index >= current.length) {
+                return null;
+            }
+            value = SLOTS.getAcquire(current, index);
+        }
+        return value instanceof Dynamic ? ((Dynamic) value).supplier.get() : value;
+    }
+
+    /**
+     * Store a static value for the given key.
+     *
+     * @param key   Metadata key.
+     * @param value Value, or {@code null} to remove the stored value.
+     */
+    void set(@NotNull MetadataKey<?> key, @Nullable Object value) {
+        store(key, value);
+    }
+
+    /**
+     * Store a dynamic value for the given key.
+     *
+     * @param key      Metadata key.
+     * @param supplier Value supplier, called on every read.
+     */
+    void setDynamic(@NotNull MetadataKey<?> key, @NotNull Supplier<?> supplier) {
+        store(key, new Dynamic(supplier));
+    }
+
+    private synchronized void store(@NotNull MetadataKey<?> key, @Nullable Object value) {
+        int index = key.index();
+        if (index < 0) {
+            storeUnindexed(key, value);
+            return;
+        }
+        Object[] current = this.slots;
+        if (index >= current.length) {
+            if (value == null) {
+                return;
+            }
+            current = Arrays.copyOf(current, Math.max(INITIAL_CAPACITY, Math.max(index + 1, current.length * 2)));
+            this.slots = current;
+        }
+        SLOTS.setRelease(current, index, value);
+    }
+
+    private void storeUnindexed(@NotNull MetadataKey<?> key, @Nullable Object value) {
+        Map<MetadataKey<?>, Object> values = this.unindexed;
+        if (value == null) {
+            if (values != null) {
+                values.remove(key);
+            }
+            return;
+        }
+        if (values == null) {
+            values = new ConcurrentHashMap<>();
+            this.unindexed = values;
+        }
+        values.put(key, value);
+    }
+
+    private static final class Dynamic {
+
+        private final @NotNull Supplier<?> supplier;
+
+        private Dynamic(@NotNull Supplier<?> supplier) {
+            this.supplier = supplier;
+        }
+
+    }
+
+}
@@ -0,0 +1,171 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2024 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.platform.user;
+
+import dev.hypera.chameleon.util.Preconditions;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Cache of the permission checks of a single user.
+ *
+ * <p>Results are reused until they are older than the time to live, or until they are
+ * invalidated. A cached result may be stale if the user's permissions change before then, so
+ * anything that changes permissions should invalidate the cache.</p>
+ */
+public final class PermissionCache {
+
+    private final @NotNull Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final @NotNull LongAdder hits = new LongAdder();
+    private final @NotNull LongAdder misses = new LongAdder();
+    /* Incremented before entries are invalidated, so checks that were in flight are discarded. */
+    private final @NotNull AtomicLong generation = new AtomicLong();
+    private final @NotNull Duration ttl;
+    private final long ttlNanos;
+
+    /**
+     * Permission cache constructor.
+     *
+     * @param ttl Time a result is cached for.
+     */
+    PermissionCache(@NotNull Duration ttl) {
+        Preconditions.checkNotNull("ttl", ttl);
+        Preconditions.checkArgument(!ttl.isNegative() && !ttl.isZero(), "ttl must be positive");
+        this.ttl = ttl;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * Get the cached result of checking the given permission, checking and caching it if absent
+     * or expired.
+     *
+     * @param permission Permission.
+     * @param check      Uncached permission check.
+     *
+     * @return {@code true} if the user has the permission, otherwise {@code false}.
+     */
+    boolean test(@NotNull String permission, @NotNull Predicate<String> check) {
+        long now = System.nanoTime();
+        Entry entry = this.entries.get(permission);
+        if (entry != null && now - entry.checkedAt < this.ttlNanos) {
+            this.hits.increment();
+            return entry.value;
+        }
+
+        this.misses.increment();
+        long checkedGeneration = this.generation.get();
+        boolean value = check.test(permission);
+        Entry checked = new Entry(value, now);
+        this.entries.put(permission, checked);
+        if (this.generation.get() != checkedGeneration) {
+            // Invalidated while checking, the result may predate the permission change.
+            this.entries.remove(permission, checked);
+        }
+        return value;
+    }
+
+    /**
+     * Get the time a result is cached for.
+     *
+     * @return time to live.
+     */
+    public @NotNull Duration getTtl() {
+        return this.ttl;
+    }
+
+    /**
+     * Get the number of cached results, including expired results that have not been replaced.
+     *
+     * @return size.
+     */
+    public int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * Get the number of checks that were served from this cache.
+     *
+     * @return hit count.
+     */
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    /**
+     * Get the number of checks that had to be passed to the platform.
+     *
+     * @return miss count.
+     */
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    /**
+     * Get the fraction of checks that were served from this cache.
+     *
+     * @return hit rate between {@code 0} and {@code 1}, or {@code 0} if nothing has been checked.
+     */
+    public double getHitRate() {
+        long hitCount = getHits();
+        long total = hitCount + getMisses();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    /**
+     * Remove every cached result.
+     */
+    public void invalidate() {
+        this.generation.incrementAndGet();
+        this.entries.clear();
+    }
+
+    /**
+     * Remove the cached result of the given permission.
+     *
+     * @param permission Permission.
+     */
+    public void invalidate(@NotNull String permission) {
+        Preconditions.checkNotNull("permission", permission);
+        this.generation.incrementAndGet();
+        this.entries.remove(permission);
+    }
+
+    private static final class Entry {
+
+        private final boolean value;
+        private final long checkedAt;
+
+        private Entry(boolean value, long checkedAt) {
+            this.value = value;
+            this.checkedAt = checkedAt;
+        }
+
+    }
+
+}
@@ -26,27 +26,132 @@ package dev.hypera.chameleon.platform.user;
 import dev.hypera.chameleon.meta.MetadataKey;
 import dev.hypera.chameleon.user.ChatUser;
 import dev.hypera.chameleon.util.Preconditions;
-import java.util.Map;
+import java.time.Duration;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Base platform chat user implementation.
+ *
+ * <p>Permission checks can optionally be cached, see {@link #enablePermissionCache(Duration)}.</p>
  */
 public abstract class PlatformChatUser implements ChatUser {
 
-    private final @NotNull Map<MetadataKey<?>, Supplier<?>> metadata = new ConcurrentHashMap<>();
+    private final @NotNull MetadataStore metadata = new MetadataStore();
+    private final @NotNull Predicate<String> permissionCheck = this::checkPermission;
+    private volatile @Nullable PermissionCache permissionCache;
+    private volatile @Nullable PlatformUserManager.PermissionListener permissionListener;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final boolean hasPermission(@NotNull String permission) {
+        Preconditions.checkNotNull("permission", permission);
+        PermissionCache cache = this.permissionCache;
+        return cache != null ? cache.test(permission, this.permissionCheck) : checkPermission(permission);
+    }
+
+    /**
+     * Check whether this user has the given permission, without using the permission cache.
+     *
+     * @param permission Permission to check.
+     *
+     * @return {@code true} if this user has the permission, otherwise {@code false}.
+     */
+    protected abstract boolean checkPermission(@NotNull String permission);
+
+    /**
+     * Cache the results of permission checks for the given time.
+     *
+     * <p>Any previously cached results are discarded.</p>
+     *
+     * @param ttl Time a result is cached for.
+     */
+    public void enablePermissionCache(@NotNull Duration ttl) {
+        this.permissionCache = new PermissionCache(ttl);
+    }
+
+    /**
+     * Stop caching the results of permission checks.
+     */
+    public void disablePermissionCache() {
+        this.permissionCache = null;
+    }
+
+    /**
+     * Get the permission cache of this user, if enabled.
+     *
+     * @return optional permission cache.
+     */
+    public @NotNull Optional<PermissionCache> getPermissionCache() {
+        return Optional.ofNullable(this.permissionCache);
+    }
+
+    /**
+     * Discard every cached permission check of this user.
+     * <p>This should be called when the permissions of this user have changed.</p>
+     */
+    public void invalidatePermissions() {
+        PermissionCache cache = this.permissionCache;
+        if (cache != null) {
+            cache.invalidate();
+        }
+        PlatformUserManager.PermissionListener listener = this.permissionListener;
+        if (listener != null) {
+            listener.onPermissionsInvalidated(this, null);
+        }
+    }
+
+    /**
+     * Discard the cached check of the given permission of this user.
+     *
+     * @param permission Permission.
+     */
+    public void invalidatePermission(@NotNull String permission) {
+        Preconditions.checkNotNull("permission", permission);
+        PermissionCache cache = this.permissionCache;
+        if (cache != null) {
+            cache.invalidate(permission);
+        }
+        PlatformUserManager.PermissionListener listener = this.permissionListener;
+        if (listener != null) {
+            listener.onPermissionsInvalidated(this, permission);
+        }
+    }
+
+    void setPermissionListener(@Nullable PlatformUserManager.PermissionListener listener) {
+        this.permissionListener = listener;
+    }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    @SuppressWarnings("unchecked")
     public @NotNull <V> Optional<V> getMetadata(@NotNull MetadataKey<V> key) {
+        return Optional.ofNullable(getMetadataOrNull(key));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <V> @Nullable V getMetadataOrNull(@NotNull MetadataKey<V> key) {
+        Preconditions.checkNotNull("key", key);
+        return (V) this.metadata.get(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <V> void setMetadata(@NotNull MetadataKey<V> key, @Nullable V value) {
         Preconditions.checkNotNull("key", key);
-        return Optional.ofNullable(this.metadata.get(key)).map(v -> (V) v.get());
+        this.metadata.set(key, value);
     }
 
     /**
@@ -56,7 +161,7 @@ public abstract class PlatformChatUser implements ChatUser {
     public <V> void setDynamicMetadata(@NotNull MetadataKey<V> key, @NotNull Supplier<? extends V> value) {
         Preconditions.checkNotNull("key", key);
         Preconditions.checkNotNull("value", value);
-        this.metadata.put(key, value);
+        this.metadata.setDynamic(key, value);
     }
 
     /**
@@ -65,7 +170,7 @@ public abstract class PlatformChatUser implements ChatUser {
     @Override
     public void removeMetadata(@NotNull MetadataKey<?> key) {
         Preconditions.checkNotNull("key", key);
-        this.metadata.remove(key);
+        this.metadata.set(key, null);
     }
 
 }
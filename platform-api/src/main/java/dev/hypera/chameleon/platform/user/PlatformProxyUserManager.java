@@ -0,0 +1,238 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2024 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.platform.user;
+
+import dev.hypera.chameleon.platform.proxy.Server;
+import dev.hypera.chameleon.user.ProxyUser;
+import dev.hypera.chameleon.util.Preconditions;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Platform implementation of {@link dev.hypera.chameleon.user.UserManager} for proxies.
+ *
+ * <p>Keeps a canonical {@link Server} wrapper for each platform server, and the users connected
+ * to each server. Both are updated by implementations from the platform's server connect and
+ * disconnect events, so servers can return their users without wrapping platform players. A
+ * server is forgotten once its last user disconnects from it.</p>
+ *
+ * @param <P> Platform player type.
+ * @param <U> Platform user implementation type.
+ * @param <S> Platform server type.
+ */
+public abstract class PlatformProxyUserManager<P, U extends PlatformUser<P> & ProxyUser, S> extends PlatformUserManager<P, U> {
+
+    private final @NotNull Map<S, Server> servers = new ConcurrentHashMap<>();
+    private final @NotNull Map<S, Set<ProxyUser>> serverUsers = new ConcurrentHashMap<>();
+    private final @NotNull Map<UUID, S> userServers = new ConcurrentHashMap<>();
+    private final @NotNull List<ServerListener> serverListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Returns an implementation of server for the given platform server.
+     * <p>The result is cached while users are connected to the server, and forgotten once its
+     * last user disconnects.</p>
+     *
+     * @param s Platform server.
+     *
+     * @return server.
+     */
+    protected abstract @NotNull Server createServer(@NotNull S s);
+
+    /**
+     * Sets the server the user with the given identifier is connected to.
+     *
+     * @param id     User ID.
+     * @param server Platform server the user is connected to, or {@code null} if the user has
+     *               disconnected.
+     */
+    protected final void setConnectedServer(@NotNull UUID id, @Nullable S server) {
+        U user = getUserById(id).orElse(null);
+        if (user == null) {
+            return;
+        }
+
+        S previous = server != null ? this.userServers.put(id, server) : this.userServers.remove(id);
+        // Resolved while the user is still connected, so the canonical server is not recreated.
+        Server previousServer = previous != null ? removeServerUser(previous, user) : null;
+        Server currentServer = null;
+        if (server != null) {
+            currentServer = addServerUser(server, user);
+            // Permissions may depend on the server, such as server contexts.
+            user.invalidatePermissions();
+        }
+
+        if (!Objects.equals(previous, server)) {
+            for (ServerListener listener : this.serverListeners) {
+                listener.onServerChange(user, previousServer, currentServer);
+            }
+        }
+    }
+
+    /**
+     * Adds a listener that is notified when a user connects to, switches or disconnects from a
+     * server.
+     *
+     * @param listener Server listener.
+     */
+    public final void addServerListener(@NotNull ServerListener listener) {
+        Preconditions.checkNotNull("listener", listener);
+        this.serverListeners.add(listener);
+    }
+
+    /**
+     * Removes a listener added using {@link #addServerListener(ServerListener)}.
+     *
+     * @param listener Server listener.
+     */
+    public final void removeServerListener(@NotNull ServerListener listener) {
+        this.serverListeners.remove(listener);
+    }
+
+    /**
+     * Returns the server for the given platform server.
+     * <p>The result is canonical while users are connected to the server. Servers without users
+     * are not retained, so a new server is returned each time.</p>
+     *
+     * @param s Platform server.
+     *
+     * @return server.
+     */
+    public final @NotNull Server getServer(@NotNull S s) {
+        Server server = this.servers.get(s);
+        return server != null ? server : createServer(s);
+    }
+
+    /**
+     * Returns an unmodifiable view of the users connected to the given platform server.
+     * <p>The view is updated as users connect to and disconnect from the server.</p>
+     *
+     * @param s Platform server.
+     *
+     * @return users connected to the server.
+     */
+    public final @NotNull Set<ProxyUser> getServerUsers(@NotNull S s) {
+        return new ServerUsers(s);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        super.close();
+        this.userServers.clear();
+        this.serverUsers.clear();
+        this.servers.clear();
+    }
+
+    private @NotNull Server addServerUser(@NotNull S s, @NotNull ProxyUser user) {
+        this.serverUsers.compute(s, (k, users) -> {
+            Set<ProxyUser> serverUsers = users != null ? users : ConcurrentHashMap.newKeySet();
+            serverUsers.add(user);
+            // Servers are retained while they have users, and updated with them.
+            this.servers.computeIfAbsent(k, this::createServer);
+            return serverUsers;
+        });
+        // The server cannot be forgotten while this user is connected to it.
+        return getServer(s);
+    }
+
+    private @NotNull Server removeServerUser(@NotNull S s, @NotNull ProxyUser user) {
+        Server server = getServer(s);
+        // Servers are forgotten once their last user leaves, so servers that have been removed
+        // from the platform are not retained. Views of their users remain valid.
+        this.serverUsers.computeIfPresent(s, (k, users) -> {
+            users.remove(user);
+            if (!users.isEmpty()) {
+                return users;
+            }
+            this.servers.remove(k);
+            return null;
+        });
+        return server;
+    }
+
+    /**
+     * Live view of the users connected to a platform server.
+     */
+    private final class ServerUsers extends AbstractSet<ProxyUser> {
+
+        private final @NotNull S server;
+
+        private ServerUsers(@NotNull S server) {
+            this.server = server;
+        }
+
+        @Override
+        public @NotNull Iterator<ProxyUser> iterator() {
+            return Collections.unmodifiableSet(current()).iterator();
+        }
+
+        @Override
+        public int size() {
+            return current().size();
+        }
+
+        @Override
+        public boolean contains(@Nullable Object o) {
+            return current().contains(o);
+        }
+
+        private @NotNull Set<ProxyUser> current() {
+            return PlatformProxyUserManager.this.serverUsers.getOrDefault(this.server, Collections.emptySet());
+        }
+
+    }
+
+    /**
+     * Listener for the servers users are connected to.
+     */
+    @FunctionalInterface
+    public interface ServerListener {
+
+        /**
+         * Handles a user connecting to, switching or disconnecting from a server.
+         * <p>Listeners are notified on the thread that handled the platform event.</p>
+         *
+         * @param user     User.
+         * @param previous Server the user was connected to, or {@code null} if the user has just
+         *                 connected.
+         * @param current  Server the user is now connected to, or {@code null} if the user has
+         *                 disconnected.
+         */
+        void onServerChange(@NotNull ProxyUser user, @Nullable Server previous, @Nullable Server current);
+
+    }
+
+}
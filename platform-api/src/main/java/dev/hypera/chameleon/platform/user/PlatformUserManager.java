@@ -27,16 +27,21 @@ import dev.hypera.chameleon.user.ChatUser;
 import dev.hypera.chameleon.user.ConsoleUser;
 import dev.hypera.chameleon.user.User;
 import dev.hypera.chameleon.user.UserManager;
+import dev.hypera.chameleon.util.Preconditions;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicReference;
 import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Platform implementation of {@link UserManager}.
@@ -48,6 +53,8 @@ public abstract class PlatformUserManager<P, U extends PlatformUser<P>> implemen
 
     private final @NotNull AtomicReference<ConsoleUser> console = new AtomicReference<>();
     private final @NotNull Map<UUID, U> users = new ConcurrentHashMap<>();
+    private final @NotNull List<PermissionListener> permissionListeners = new CopyOnWriteArrayList<>();
+    private volatile @Nullable Duration permissionCacheTtl;
 
     /**
      * Adds a platform player to the stored users, if absent.
@@ -57,7 +64,7 @@ public abstract class PlatformUserManager<P, U extends PlatformUser<P>> implemen
      * @param p  Platform player.
      */
     protected final void addUser(@NotNull UUID id, @NotNull P p) {
-        this.users.computeIfAbsent(id, i -> createUser(p));
+        this.users.computeIfAbsent(id, i -> watchPermissions(applyPermissionCache(createUser(p))));
     }
 
     /**
@@ -92,7 +99,7 @@ public abstract class PlatformUserManager<P, U extends PlatformUser<P>> implemen
     public final @NotNull ConsoleUser getConsole() {
         ConsoleUser consoleUser = this.console.get();
         if (consoleUser == null) {
-            this.console.compareAndSet(null, createConsoleUser());
+            this.console.compareAndSet(null, watchPermissions(applyPermissionCache(createConsoleUser())));
             return Objects.requireNonNull(this.console.get());
         }
         return consoleUser;
@@ -114,6 +121,65 @@ public abstract class PlatformUserManager<P, U extends PlatformUser<P>> implemen
         return Optional.ofNullable(this.users.get(id));
     }
 
+    /**
+     * Sets the time the permission checks of the console and every user are cached for.
+     * <p>Caches are replaced for existing users, and created for users that connect later.</p>
+     *
+     * @param ttl Time a permission check is cached for, or {@code null} to disable caching.
+     */
+    public void setPermissionCacheTtl(@Nullable Duration ttl) {
+        this.permissionCacheTtl = ttl;
+        ConsoleUser consoleUser = this.console.get();
+        if (consoleUser != null) {
+            applyPermissionCache(consoleUser);
+        }
+        this.users.values().forEach(this::applyPermissionCache);
+    }
+
+    /**
+     * Gets the time the permission checks of the console and every user are cached for.
+     *
+     * @return optional time to live, empty if permission checks are not cached.
+     */
+    public @NotNull Optional<Duration> getPermissionCacheTtl() {
+        return Optional.ofNullable(this.permissionCacheTtl);
+    }
+
+    /**
+     * Discards the cached permission checks of the console and every user.
+     * <p>This should be called when permissions have changed, permission listeners are notified
+     * for each user.</p>
+     *
+     * @see PlatformChatUser#invalidatePermissions()
+     */
+    public void invalidatePermissions() {
+        ConsoleUser consoleUser = this.console.get();
+        if (consoleUser instanceof PlatformChatUser) {
+            ((PlatformChatUser) consoleUser).invalidatePermissions();
+        }
+        this.users.values().forEach(PlatformChatUser::invalidatePermissions);
+    }
+
+    /**
+     * Adds a listener that is notified when the permissions of the console or a user are
+     * invalidated.
+     *
+     * @param listener Permission listener.
+     */
+    public final void addPermissionListener(@NotNull PermissionListener listener) {
+        Preconditions.checkNotNull("listener", listener);
+        this.permissionListeners.add(listener);
+    }
+
+    /**
+     * Removes a listener added using {@link #addPermissionListener(PermissionListener)}.
+     *
+     * @param listener Permission listener.
+     */
+    public final void removePermissionListener(@NotNull PermissionListener listener) {
+        this.permissionListeners.remove(listener);
+    }
+
     /**
      * Closes the user manager and removes any stored objects.
      */
@@ -140,6 +206,31 @@ public abstract class PlatformUserManager<P, U extends PlatformUser<P>> implemen
         return u;
     }
 
+    private <T extends ChatUser> @NotNull T applyPermissionCache(@NotNull T user) {
+        if (user instanceof PlatformChatUser) {
+            Duration ttl = this.permissionCacheTtl;
+            if (ttl != null) {
+                ((PlatformChatUser) user).enablePermissionCache(ttl);
+            } else {
+                ((PlatformChatUser) user).disablePermissionCache();
+            }
+        }
+        return user;
+    }
+
+    private <T extends ChatUser> @NotNull T watchPermissions(@NotNull T user) {
+        if (user instanceof PlatformChatUser) {
+            ((PlatformChatUser) user).setPermissionListener(this::permissionsInvalidated);
+        }
+        return user;
+    }
+
+    private void permissionsInvalidated(@NotNull ChatUser user, @Nullable String permission) {
+        for (PermissionListener listener : this.permissionListeners) {
+            listener.onPermissionsInvalidated(user, permission);
+        }
+    }
+
     /**
      * Returns a chat user representing the given object.
      * <p>Note: Implementations should use {@link #getUserById(UUID)} and {@link #getConsole()} to
@@ -178,4 +269,22 @@ public abstract class PlatformUserManager<P, U extends PlatformUser<P>> implemen
         throw new IllegalArgumentException("cannot return a user representing the given object");
     }
 
+    /**
+     * Listener for permission invalidations.
+     */
+    @FunctionalInterface
+    public interface PermissionListener {
+
+        /**
+         * Handles the permissions of a user being invalidated.
+         * <p>Listeners are notified on the thread that invalidated the permissions.</p>
+         *
+         * @param user       User whose permissions have changed.
+         * @param permission Permission that has changed, or {@code null} if any permission may
+         *                   have changed.
+         */
+        void onPermissionsInvalidated(@NotNull ChatUser user, @Nullable String permission);
+
+    }
+
 }
@@ -27,9 +27,11 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import dev.hypera.chameleon.meta.MetadataKey;
 import dev.hypera.chameleon.platform.objects.PlatformPlayer;
+import dev.hypera.chameleon.platform.objects.PlatformProxyUserManagerImpl;
 import dev.hypera.chameleon.platform.objects.PlatformUserManagerImpl;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -150,6 +152,76 @@ final class StandaloneAudienceProviderTests implements AudienceProviderTests {
         assertEquals(1, count.get());
     }
 
+    @Test
+    void testIndexed() {
+        PlatformProxyUserManagerImpl proxyUserManager = new PlatformProxyUserManagerImpl();
+        // Users connected before the index was created should be indexed
+        UUID existing = UUID.randomUUID();
+        PlatformPlayer alice = new PlatformPlayer(existing, "Alice", false, "test");
+        proxyUserManager.addTestUser(alice);
+        StandaloneAudienceProvider indexed = new StandaloneAudienceProvider(proxyUserManager);
+        Audience server = indexed.server("test");
+        Audience other = indexed.server("other");
+
+        // Connect a user to the server "test"
+        UUID id = UUID.randomUUID();
+        proxyUserManager.addTestUser(new PlatformPlayer(id, "Bob", true, "test"));
+        AtomicInteger count = new AtomicInteger();
+        server.forEachAudience(a -> count.getAndIncrement());
+        assertEquals(2, count.get());
+
+        // Switching servers should move the user between audiences
+        proxyUserManager.moveTestUser(id, "other");
+        count.set(0);
+        server.forEachAudience(a -> count.getAndIncrement());
+        assertEquals(1, count.get());
+        count.set(0);
+        other.forEachAudience(a -> count.getAndIncrement());
+        assertEquals(1, count.get());
+
+        // The user should be removed when they disconnect
+        proxyUserManager.removeTestUser(id);
+        count.set(0);
+        other.forEachAudience(a -> count.getAndIncrement());
+        assertEquals(0, count.get());
+
+        // Permission audiences should contain the console and Bob, and be reused while referenced
+        proxyUserManager.addTestUser(new PlatformPlayer(id, "Bob", true, "test"));
+        Audience permission = indexed.permission("chameleon.test");
+        assertSame(permission, indexed.permission("chameleon.test"));
+        count.set(0);
+        permission.forEachAudience(a -> count.getAndIncrement());
+        assertEquals(2, count.get());
+
+        // Permission changes should only be applied once invalidated
+        alice.setAdmin(true);
+        count.set(0);
+        permission.forEachAudience(a -> count.getAndIncrement());
+        assertEquals(2, count.get());
+        proxyUserManager.invalidatePermissions();
+        count.set(0);
+        permission.forEachAudience(a -> count.getAndIncrement());
+        assertEquals(3, count.get());
+
+        // Users should be tested when they connect, and removed when they disconnect
+        UUID id2 = UUID.randomUUID();
+        proxyUserManager.addTestUser(new PlatformPlayer(id2, "Carol", true, "other"));
+        count.set(0);
+        permission.forEachAudience(a -> count.getAndIncrement());
+        assertEquals(4, count.get());
+        proxyUserManager.removeTestUser(id2);
+        count.set(0);
+        permission.forEachAudience(a -> count.getAndIncrement());
+        assertEquals(3, count.get());
+
+        // The index should no longer be maintained once closed
+        indexed.close();
+        proxyUserManager.removeTestUser(existing);
+        count.set(0);
+        server.forEachAudience(a -> count.getAndIncrement());
+        assertEquals(2, count.get());
+    }
+
     @Test
     @Override
     public void testFlattener() {
@@ -30,7 +30,11 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import dev.hypera.chameleon.event.ChameleonEvent;
 import dev.hypera.chameleon.event.EventBus;
 import dev.hypera.chameleon.event.EventBusImpl;
+import dev.hypera.chameleon.event.EventSubscription;
 import dev.hypera.chameleon.logger.ChameleonNoopLogger;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 
@@ -62,6 +66,62 @@ final class PlatformEventDispatcherTests {
         assertEquals(1, event.getTouches());
     }
 
+    @Test
+    void testDemandRegistration() {
+        DemandEventDispatcherImpl dispatcher = new DemandEventDispatcherImpl(this.eventBus);
+        dispatcher.registerListeners();
+        assertFalse(dispatcher.isRegistered());
+
+        // Subscribing to the event should register the platform listener
+        EventSubscription first = this.eventBus.subscribe(TestEvent.class, TestEvent::touch);
+        assertTrue(dispatcher.isRegistered());
+
+        // Subscribing to a supertype should keep it registered
+        EventSubscription second = this.eventBus.subscribe(ChameleonEvent.class, event -> {});
+        first.unsubscribe();
+        assertTrue(dispatcher.isRegistered());
+
+        // Losing the last subscriber should unregister the platform listener
+        second.unsubscribe();
+        assertFalse(dispatcher.isRegistered());
+
+        // Platform listeners are no longer registered once unregistered
+        this.eventBus.subscribe(TestEvent.class, TestEvent::touch);
+        assertTrue(dispatcher.isRegistered());
+        dispatcher.unregisterListeners();
+        assertFalse(dispatcher.isRegistered());
+        this.eventBus.subscribe(TestEvent.class, TestEvent::touch);
+        assertFalse(dispatcher.isRegistered());
+    }
+
+    @Test
+    void testDemandRegistrationExecutor() {
+        Queue<Runnable> mainThread = new ArrayDeque<>();
+        DemandEventDispatcherImpl dispatcher = new DemandEventDispatcherImpl(this.eventBus, mainThread::add);
+        dispatcher.registerListeners();
+
+        // Registration changes are only made by the executor
+        EventSubscription subscription = this.eventBus.subscribe(TestEvent.class, TestEvent::touch);
+        assertFalse(dispatcher.isRegistered());
+        mainThread.remove().run();
+        assertTrue(dispatcher.isRegistered());
+        assertTrue(mainThread.isEmpty());
+
+        // Changes made before the executor runs are applied using the latest demand
+        subscription.unsubscribe();
+        this.eventBus.subscribe(TestEvent.class, TestEvent::touch);
+        while (!mainThread.isEmpty()) {
+            mainThread.remove().run();
+        }
+        assertTrue(dispatcher.isRegistered());
+        assertEquals(1, dispatcher.getRegistrations());
+
+        // Listeners are unregistered immediately once closed
+        dispatcher.unregisterListeners();
+        assertFalse(dispatcher.isRegistered());
+        assertTrue(mainThread.isEmpty());
+    }
+
     private static final class PlatformEventDispatcherImpl extends PlatformEventDispatcher {
 
         private boolean registered = false;
@@ -97,6 +157,40 @@ final class PlatformEventDispatcherTests {
 
     }
 
+    private static final class DemandEventDispatcherImpl extends PlatformEventDispatcher {
+
+        private boolean registered = false;
+        private int registrations = 0;
+
+        DemandEventDispatcherImpl(@NotNull EventBus eventBus) {
+            super(eventBus);
+        }
+
+        DemandEventDispatcherImpl(@NotNull EventBus eventBus, @NotNull Executor mainThreadExecutor) {
+            super(eventBus, mainThreadExecutor);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void registerListeners() {
+            registerOnDemand(TestEvent.class, () -> {
+                this.registered = true;
+                this.registrations++;
+            }, () -> this.registered = false);
+        }
+
+        boolean isRegistered() {
+            return this.registered;
+        }
+
+        int getRegistrations() {
+            return this.registrations;
+        }
+
+    }
+
     private static final class TestEvent implements ChameleonEvent {
 
         private int touches = 0;
@@ -33,7 +33,7 @@ public final class ConsoleUserImpl extends PlatformChatUser implements ConsoleUs
      * {@inheritDoc}
      */
     @Override
-    public boolean hasPermission(@NotNull String permission) {
+    protected boolean checkPermission(@NotNull String permission) {
         return true;
     }
 
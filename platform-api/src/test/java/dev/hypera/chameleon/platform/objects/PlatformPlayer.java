@@ -31,7 +31,7 @@ public final class PlatformPlayer {
 
     private final @NotNull UUID id;
     private final @NotNull String name;
-    private final boolean admin;
+    private volatile boolean admin;
     private final @Nullable String serverName;
 
     public PlatformPlayer(@NotNull UUID id, @NotNull String name) {
@@ -61,6 +61,10 @@ public final class PlatformPlayer {
         return this.admin;
     }
 
+    public void setAdmin(boolean admin) {
+        this.admin = admin;
+    }
+
     @Nullable String serverName() {
         return this.serverName;
     }
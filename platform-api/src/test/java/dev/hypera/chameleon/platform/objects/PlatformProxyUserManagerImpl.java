@@ -0,0 +1,97 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2024 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.platform.objects;
+
+import dev.hypera.chameleon.platform.proxy.Server;
+import dev.hypera.chameleon.platform.user.PlatformProxyUserManager;
+import dev.hypera.chameleon.user.ConsoleUser;
+import dev.hypera.chameleon.user.ProxyUser;
+import java.net.SocketAddress;
+import java.util.Collection;
+import java.util.UUID;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+public final class PlatformProxyUserManagerImpl extends PlatformProxyUserManager<PlatformPlayer, PlatformProxyUserImpl, String> {
+
+    public void addTestUser(@NotNull PlatformPlayer player) {
+        addUser(player.id(), player);
+        setConnectedServer(player.id(), player.serverName());
+    }
+
+    public void moveTestUser(@NotNull UUID id, @Nullable String server) {
+        setConnectedServer(id, server);
+    }
+
+    public void removeTestUser(@NotNull UUID id) {
+        setConnectedServer(id, null);
+        removeUser(id);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected @NotNull ConsoleUser createConsoleUser() {
+        return new ConsoleUserImpl();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected @NotNull PlatformProxyUserImpl createUser(@NotNull PlatformPlayer p) {
+        return new PlatformProxyUserImpl(p);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected @NotNull Server createServer(@NotNull String name) {
+        Collection<ProxyUser> players = getServerUsers(name);
+        return new Server() {
+            @Override
+            public @NotNull String getName() {
+                return name;
+            }
+
+            @Override
+            public @NotNull SocketAddress getSocketAddress() {
+                throw new UnsupportedOperationException("not implemented");
+            }
+
+            @Override
+            public @NotNull Collection<ProxyUser> getPlayers() {
+                return players;
+            }
+
+            @Override
+            public void sendData(@NotNull String channel, byte[] data) {
+                throw new UnsupportedOperationException("not implemented");
+            }
+        };
+    }
+
+}
@@ -63,7 +63,7 @@ public class PlatformUserImpl extends PlatformUser<PlatformPlayer> {
      * {@inheritDoc}
      */
     @Override
-    public boolean hasPermission(@NotNull String permission) {
+    protected boolean checkPermission(@NotNull String permission) {
         return this.platformPlayer.admin();
     }
 
@@ -27,6 +27,9 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -34,12 +37,20 @@ import dev.hypera.chameleon.meta.MetadataKey;
 import dev.hypera.chameleon.platform.objects.ConsoleUserImpl;
 import dev.hypera.chameleon.platform.objects.PlatformConsole;
 import dev.hypera.chameleon.platform.objects.PlatformPlayer;
+import dev.hypera.chameleon.platform.objects.PlatformProxyUserManagerImpl;
 import dev.hypera.chameleon.platform.objects.PlatformUserImpl;
 import dev.hypera.chameleon.platform.objects.PlatformUserManagerImpl;
+import dev.hypera.chameleon.platform.proxy.Server;
 import dev.hypera.chameleon.user.ChatUser;
 import dev.hypera.chameleon.user.ConsoleUser;
+import dev.hypera.chameleon.user.ProxyUser;
 import dev.hypera.chameleon.user.User;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 
@@ -47,6 +58,7 @@ final class PlatformUserTests {
 
     private static final @NotNull MetadataKey<UUID> ID = MetadataKey.uuid("id");
     private static final @NotNull MetadataKey<Boolean> TEST = MetadataKey.bool("test");
+    private static final @NotNull MetadataKey<Integer> COUNTER = MetadataKey.integer("counter");
     private final @NotNull PlatformUserManagerImpl userManager = new PlatformUserManagerImpl();
 
     @Test
@@ -103,6 +115,48 @@ final class PlatformUserTests {
         assertFalse(user2.getMetadata(ID).isPresent());
     }
 
+    @Test
+    void testUnindexedMetadata() {
+        UUID id = UUID.randomUUID();
+        addUser(id);
+        ChatUser user = this.userManager.getUserOrThrow(id);
+        MetadataKey<Boolean> key = unindexed(MetadataKey.bool("chameleon:unindexed"));
+
+        // Keys without an index should still be stored, separately from indexed keys
+        user.setMetadata(key, true);
+        assertTrue(user.getMetadataOrDefault(key, false));
+        assertNull(user.getMetadataOrNull(TEST));
+        user.setDynamicMetadata(key, () -> false);
+        assertFalse(user.getMetadataOrDefault(key, true));
+        user.removeMetadata(key);
+        assertNull(user.getMetadataOrNull(key));
+    }
+
+    @Test
+    void testMetadataOrNull() {
+        UUID id = UUID.randomUUID();
+        addUser(id);
+
+        ChatUser user = this.userManager.getUserOrThrow(id);
+        // Absent values should be returned as null or the default value
+        assertNull(user.getMetadataOrNull(TEST));
+        assertFalse(user.getMetadataOrDefault(TEST, false));
+
+        // Values should be readable through an equal key created separately
+        user.setMetadata(TEST, true);
+        assertTrue(user.getMetadataOrDefault(MetadataKey.bool("test"), false));
+
+        // Dynamic values should be resolved on every read
+        AtomicInteger counter = new AtomicInteger();
+        user.setDynamicMetadata(COUNTER, counter::incrementAndGet);
+        assertEquals(1, user.getMetadataOrNull(COUNTER));
+        assertEquals(2, user.getMetadataOrNull(COUNTER));
+
+        // Removed values should be absent
+        user.removeMetadata(TEST);
+        assertNull(user.getMetadataOrNull(TEST));
+    }
+
     @Test
     void testConsoleMetadataStorage() {
         UUID id = UUID.randomUUID();
@@ -115,6 +169,78 @@ final class PlatformUserTests {
         assertEquals(id, this.userManager.getConsole().getMetadata(ID).orElseThrow());
     }
 
+    @Test
+    void testPermissionCache() {
+        UUID id = UUID.randomUUID();
+        addUser(id);
+        PlatformUserImpl user = this.userManager.getUserOrThrow(id);
+        // Permission checks should not be cached by default
+        assertFalse(user.getPermissionCache().isPresent());
+
+        // Enable caching for every user
+        this.userManager.setPermissionCacheTtl(Duration.ofHours(1));
+        PermissionCache cache = user.getPermissionCache().orElseThrow();
+        assertTrue(this.userManager.getConsole() instanceof PlatformChatUser
+            && ((PlatformChatUser) this.userManager.getConsole()).getPermissionCache().isPresent());
+
+        // The second check of the same permission should be served from the cache
+        assertFalse(user.hasPermission("chameleon.test"));
+        assertFalse(user.hasPermission("chameleon.test"));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(0.5, cache.getHitRate());
+
+        // Invalidated checks should be checked again
+        user.invalidatePermissions();
+        assertFalse(user.hasPermission("chameleon.test"));
+        assertEquals(2, cache.getMisses());
+
+        // Checks invalidated while in flight should not be cached
+        cache.invalidate();
+        assertTrue(cache.test("chameleon.race", permission -> {
+            cache.invalidate();
+            return true;
+        }));
+        assertEquals(0, cache.size());
+
+        // Disable caching
+        this.userManager.setPermissionCacheTtl(null);
+        assertFalse(user.getPermissionCache().isPresent());
+    }
+
+    @Test
+    void testServerUsers() {
+        PlatformProxyUserManagerImpl proxyUserManager = new PlatformProxyUserManagerImpl();
+        Set<ProxyUser> users = proxyUserManager.getServerUsers("test");
+        // Servers without users should not be retained
+        assertNotSame(proxyUserManager.getServer("test"), proxyUserManager.getServer("test"));
+
+        UUID id = UUID.randomUUID();
+        List<Server> previousServers = new ArrayList<>();
+        proxyUserManager.addServerListener((u, previous, current) -> previousServers.add(previous));
+        proxyUserManager.addTestUser(new PlatformPlayer(id, "Bob", false, "test"));
+        ProxyUser user = (ProxyUser) proxyUserManager.getUserById(id).orElseThrow();
+        Server server = proxyUserManager.getServer("test");
+        assertSame(server, proxyUserManager.getServer("test"));
+        assertTrue(users.contains(user));
+        assertEquals(1, server.getPlayers().size());
+        assertThrows(UnsupportedOperationException.class, () -> users.remove(user));
+
+        // Servers are forgotten once their last user leaves, existing views remain valid
+        proxyUserManager.moveTestUser(id, "other");
+        assertTrue(users.isEmpty());
+        assertSame(server, previousServers.get(previousServers.size() - 1));
+        assertNotSame(server, proxyUserManager.getServer("test"));
+        assertNotSame(proxyUserManager.getServer("test"), proxyUserManager.getServer("test"));
+        proxyUserManager.moveTestUser(id, "test");
+        assertEquals(1, users.size());
+        assertEquals(1, server.getPlayers().size());
+
+        proxyUserManager.removeTestUser(id);
+        assertTrue(users.isEmpty());
+        assertTrue(proxyUserManager.getServerUsers("other").isEmpty());
+    }
+
     @Test
     void testGetUserOrThrow() {
         UUID id = UUID.randomUUID();
@@ -167,6 +293,35 @@ final class PlatformUserTests {
         this.userManager.addUser(id, new PlatformPlayer(id, "player-" + id));
     }
 
+    private static <V> @NotNull MetadataKey<V> unindexed(@NotNull MetadataKey<V> key) {
+        return new MetadataKey<>() {
+            @Override
+            public @NotNull Class<V> type() {
+                return key.type();
+            }
+
+            @Override
+            public int index() {
+                return -1;
+            }
+
+            @Override
+            public @NotNull String namespace() {
+                return key.namespace();
+            }
+
+            @Override
+            public @NotNull String value() {
+                return key.value();
+            }
+
+            @Override
+            public @NotNull String asString() {
+                return key.asString();
+            }
+        };
+    }
+
     private static final class PlatformUserManagerImplNoWrap extends PlatformUserManager<PlatformPlayer, PlatformUserImpl> {
 
         /**
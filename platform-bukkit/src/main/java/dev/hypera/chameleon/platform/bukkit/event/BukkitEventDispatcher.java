@@ -23,6 +23,7 @@
  */
 package dev.hypera.chameleon.platform.bukkit.event;
 
+import dev.hypera.chameleon.event.ChameleonEvent;
 import dev.hypera.chameleon.event.common.UserChatEvent;
 import dev.hypera.chameleon.event.common.UserConnectEvent;
 import dev.hypera.chameleon.event.common.UserDisconnectEvent;
@@ -32,10 +33,14 @@ import dev.hypera.chameleon.platform.bukkit.user.BukkitUser;
 import dev.hypera.chameleon.platform.bukkit.user.BukkitUserManager;
 import dev.hypera.chameleon.platform.event.PlatformEventDispatcher;
 import dev.hypera.chameleon.platform.user.PlatformUserManager;
+import dev.hypera.chameleon.scheduler.Task;
 import dev.hypera.chameleon.user.ServerUser;
 import dev.hypera.chameleon.user.User;
+import dev.hypera.chameleon.util.internal.Lazy;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.event.Event;
 import org.bukkit.event.EventPriority;
@@ -53,7 +58,7 @@ import org.jetbrains.annotations.NotNull;
  * Bukkit platform event dispatcher.
  */
 @Internal
-public final class BukkitEventDispatcher extends PlatformEventDispatcher implements Listener {
+public final class BukkitEventDispatcher extends PlatformEventDispatcher {
 
     private final @NotNull PlatformChameleon<JavaPlugin> chameleon;
 
@@ -64,7 +69,7 @@ public final class BukkitEventDispatcher extends PlatformEventDispatcher impleme
      */
     @Internal
     public BukkitEventDispatcher(@NotNull PlatformChameleon<JavaPlugin> chameleon) {
-        super(chameleon.getEventBus());
+        super(chameleon.getEventBus(), mainThreadExecutor(chameleon));
         this.chameleon = chameleon;
     }
 
@@ -77,7 +82,7 @@ public final class BukkitEventDispatcher extends PlatformEventDispatcher impleme
         PlatformUserManager<Player, BukkitUser> userManager = (BukkitUserManager) this.chameleon.getUserManager();
 
         // Connect event
-        registerListener(this.chameleon, this, PlayerJoinEvent.class, EventPriority.NORMAL, event -> {
+        registerOnDemand(UserConnectEvent.class, PlayerJoinEvent.class, EventPriority.NORMAL, true, event -> {
             User user = userManager.wrapUser(event.getPlayer());
             UserConnectEvent chameleonEvent = dispatch(new UserConnectEvent(user, false));
 
@@ -88,15 +93,16 @@ public final class BukkitEventDispatcher extends PlatformEventDispatcher impleme
         });
 
         // Chat event
-        registerListener(this.chameleon, this, AsyncPlayerChatEvent.class, EventPriority.NORMAL, false, event -> {
+        registerOnDemand(UserChatEvent.class, AsyncPlayerChatEvent.class, EventPriority.NORMAL, false, event -> {
+            String message = event.getMessage();
             UserChatEvent chameleonEvent = dispatch(new UserChatEvent(
                 userManager.wrapUser(event.getPlayer()),
-                event.getMessage(), event.isCancelled(),
-                true, true
+                Lazy.value(message), () -> LegacyComponentSerializer.legacySection().deserialize(message),
+                event.isCancelled(), true, true
             ));
 
             // Update message
-            if (!event.getMessage().equals(chameleonEvent.getMessage())) {
+            if (chameleonEvent.isMessageChanged() && !message.equals(chameleonEvent.getMessage())) {
                 event.setMessage(chameleonEvent.getMessage());
             }
             // Cancel platform event
@@ -106,23 +112,43 @@ public final class BukkitEventDispatcher extends PlatformEventDispatcher impleme
         });
 
         // Disconnect event
-        registerListener(this.chameleon, this, PlayerQuitEvent.class, EventPriority.NORMAL, event ->
+        registerOnDemand(UserDisconnectEvent.class, PlayerQuitEvent.class, EventPriority.NORMAL, true, event ->
             dispatch(new UserDisconnectEvent(userManager.wrapUser(event.getPlayer()))));
 
         // Kick event
-        registerListener(this.chameleon, this, PlayerKickEvent.class, EventPriority.NORMAL, event ->
-           dispatch(new ServerUserKickEvent(
-               (ServerUser) userManager.wrapUser(event.getPlayer()),
-               LegacyComponentSerializer.legacySection().deserialize(event.getReason())
-           )));
+        registerOnDemand(ServerUserKickEvent.class, PlayerKickEvent.class, EventPriority.NORMAL, true, event -> {
+            String reason = event.getReason();
+            dispatch(new ServerUserKickEvent(
+                (ServerUser) userManager.wrapUser(event.getPlayer()),
+                () -> LegacyComponentSerializer.legacySection().deserialize(reason)
+            ));
+        });
     }
 
     /**
-     * {@inheritDoc}
+     * Registers a platform listener while the given Chameleon event is subscribed to.
+     *
+     * @param event           Chameleon event dispatched by the handler.
+     * @param type            Bukkit event type.
+     * @param priority        Bukkit listener priority.
+     * @param ignoreCancelled Whether to ignore cancelled events.
+     * @param handler         Listener handler callback.
+     * @param <T>             Bukkit event type.
      */
-    @Override
-    public void unregisterListeners() {
-        HandlerList.unregisterAll(this);
+    private <T extends Event> void registerOnDemand(
+        @NotNull Class<? extends ChameleonEvent> event,
+        @NotNull Class<T> type,
+        @NotNull EventPriority priority,
+        boolean ignoreCancelled,
+        @NotNull Consumer<T> handler
+    ) {
+        // Each platform listener gets its own listener object, so it can be unregistered alone.
+        Listener listener = new Listener() {};
+        registerOnDemand(
+            event,
+            () -> registerListener(this.chameleon, listener, type, priority, ignoreCancelled, handler),
+            () -> HandlerList.unregisterAll(listener)
+        );
     }
 
     /**
@@ -180,4 +206,15 @@ public final class BukkitEventDispatcher extends PlatformEventDispatcher impleme
         );
     }
 
+    private static @NotNull Executor mainThreadExecutor(@NotNull PlatformChameleon<JavaPlugin> chameleon) {
+        // Listeners are registered immediately if the demand changed on the main thread.
+        return task -> {
+            if (Bukkit.isPrimaryThread()) {
+                task.run();
+            } else {
+                chameleon.getScheduler().schedule(Task.sync(task));
+            }
+        };
+    }
+
 }
@@ -53,7 +53,7 @@ public final class BukkitConsoleUser extends PlatformChatUser implements Console
      * {@inheritDoc}
      */
     @Override
-    public boolean hasPermission(@NotNull String permission) {
+    protected boolean checkPermission(@NotNull String permission) {
         return Bukkit.getConsoleSender().hasPermission(permission);
     }
 
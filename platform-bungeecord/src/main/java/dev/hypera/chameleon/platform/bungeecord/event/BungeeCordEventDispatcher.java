@@ -23,32 +23,37 @@
  */
 package dev.hypera.chameleon.platform.bungeecord.event;
 
+import dev.hypera.chameleon.event.ChameleonEvent;
 import dev.hypera.chameleon.event.common.UserChatEvent;
 import dev.hypera.chameleon.event.common.UserConnectEvent;
 import dev.hypera.chameleon.event.common.UserDisconnectEvent;
 import dev.hypera.chameleon.event.proxy.ProxyUserConnectedEvent;
 import dev.hypera.chameleon.event.proxy.ProxyUserServerConnectedEvent;
 import dev.hypera.chameleon.platform.bungeecord.BungeeCordChameleon;
-import dev.hypera.chameleon.platform.bungeecord.platform.objects.BungeeCordServer;
 import dev.hypera.chameleon.platform.event.PlatformEventDispatcher;
 import dev.hypera.chameleon.platform.proxy.Server;
 import dev.hypera.chameleon.user.ProxyUser;
 import dev.hypera.chameleon.user.User;
+import dev.hypera.chameleon.util.internal.Lazy;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.function.Supplier;
 import net.md_5.bungee.api.config.ServerInfo;
 import net.md_5.bungee.api.event.ChatEvent;
 import net.md_5.bungee.api.event.PlayerDisconnectEvent;
 import net.md_5.bungee.api.event.PostLoginEvent;
 import net.md_5.bungee.api.event.ServerSwitchEvent;
 import net.md_5.bungee.api.plugin.Listener;
+import net.md_5.bungee.api.plugin.PluginManager;
 import net.md_5.bungee.event.EventHandler;
 import org.jetbrains.annotations.ApiStatus.Internal;
-import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
 /**
  * BungeeCord event dispatcher.
  */
-public final class BungeeCordEventDispatcher extends PlatformEventDispatcher implements Listener {
+public final class BungeeCordEventDispatcher extends PlatformEventDispatcher {
 
     private final @NotNull BungeeCordChameleon chameleon;
 
@@ -68,91 +73,140 @@ public final class BungeeCordEventDispatcher extends PlatformEventDispatcher imp
      */
     @Override
     public void registerListeners() {
-        this.chameleon.getPlatformPlugin().getProxy().getPluginManager()
-            .registerListener(this.chameleon.getPlatformPlugin(), this);
+        registerOnDemand(UserConnectEvent.class, new ConnectListener());
+        registerOnDemand(UserChatEvent.class, new ChatListener());
+        registerOnDemand(UserDisconnectEvent.class, new DisconnectListener());
+        registerOnDemand(
+            Arrays.asList(ProxyUserConnectedEvent.class, ProxyUserServerConnectedEvent.class),
+            new ServerSwitchListener()
+        );
     }
 
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public void unregisterListeners() {
-        this.chameleon.getPlatformPlugin().getProxy().getPluginManager().unregisterListener(this);
+    private void registerOnDemand(@NotNull Class<? extends ChameleonEvent> event, @NotNull Listener listener) {
+        registerOnDemand(Collections.singletonList(event), listener);
+    }
+
+    private void registerOnDemand(@NotNull Collection<Class<? extends ChameleonEvent>> events, @NotNull Listener listener) {
+        PluginManager pluginManager = this.chameleon.getPlatformPlugin().getProxy().getPluginManager();
+        registerOnDemand(
+            events,
+            () -> pluginManager.registerListener(this.chameleon.getPlatformPlugin(), listener),
+            () -> pluginManager.unregisterListener(listener)
+        );
+    }
+
+    private @NotNull Server wrapServer(@NotNull ServerInfo server) {
+        return this.chameleon.getUserManager().getServer(server);
     }
 
     /**
-     * Platform user connect event handler.
-     *
-     * @param event Platform event.
+     * BungeeCord user connect listener.
      */
-    @EventHandler
-    public void onPostLoginEvent(@NotNull PostLoginEvent event) {
-        User user = this.chameleon.getUserManager().wrapUser(event.getPlayer());
-        UserConnectEvent chameleonEvent = dispatch(new UserConnectEvent(user, false));
-
-        // Cancel platform event
-        if (chameleonEvent.isCancelled()) {
-            user.disconnect(chameleonEvent.getCancelReason());
+    @Internal
+    @SuppressWarnings(\"unused\")
+    private final class ConnectListener implements Listener {
+
+        /**
+         * Platform user connect event handler.
+         *
+         * @param event Platform event.
+         */
+        @EventHandler
+        public void onPostLoginEvent(@NotNull PostLoginEvent event) {
+            User user = BungeeCordEventDispatcher.this.chameleon.getUserManager().wrapUser(event.getPlayer());
+            UserConnectEvent chameleonEvent = dispatch(new UserConnectEvent(user, false));
+
+            // Cancel platform event
+            if (chameleonEvent.isCancelled()) {
+                user.disconnect(chameleonEvent.getCancelReason());
+            }
         }
+
     }
 
     /**
-     * Platform user chat event handler.
-     *
-     * @param event Platform event.
+     * BungeeCord user chat listener.
      */
-    @EventHandler
-    public void onChatEvent(@NotNull ChatEvent event) {
-        UserChatEvent chameleonEvent = dispatch(new UserChatEvent(
-            this.chameleon.getUserManager().wrapUser(event.getSender()),
-            event.getMessage(), event.isCancelled(),
-            true, true
-        ));
-
-        // Update message
-        if (!event.getMessage().equals(chameleonEvent.getMessage())) {
-            event.setMessage(chameleonEvent.getMessage());
+    @Internal
+    @SuppressWarnings(\"unused\")
+    private final class ChatListener implements Listener {
+
+        /**
+         * Platform user chat event handler.
+         *
+         * @param event Platform event.
+         */
+        @EventHandler
+        public void onChatEvent(@NotNull ChatEvent event) {
+            UserChatEvent chameleonEvent = dispatch(new UserChatEvent(
+                BungeeCordEventDispatcher.this.chameleon.getUserManager().wrapUser(event.getSender()),
+                event.getMessage(), event.isCancelled(),
+                true, true
+            ));
+
+            // Update message
+            if (!event.getMessage().equals(chameleonEvent.getMessage())) {
+                event.setMessage(chameleonEvent.getMessage());
+            }
+
+            // Cancel platform event
+            if (chameleonEvent.isCancelled() != event.isCancelled()) {
+                event.setCancelled(chameleonEvent.isCancelled());
+            }
         }
 
-        // Cancel platform event
-        if (chameleonEvent.isCancelled() != event.isCancelled()) {
-            event.setCancelled(chameleonEvent.isCancelled());
-        }
     }
 
     /**
-     * Platform user disconnect event handler.
-     *
-     * @param event Platform event.
+     * BungeeCord user disconnect listener.
      */
-    @EventHandler
-    public void onPlayerDisconnectEvent(@NotNull PlayerDisconnectEvent event) {
-        dispatch(new UserDisconnectEvent(this.chameleon.getUserManager()
-            .wrapUser(event.getPlayer())));
+    @Internal
+    @SuppressWarnings(\"unused\")
+    private final class DisconnectListener implements Listener {
+
+        /**
+         * Platform user disconnect event handler.
+         *
+         * @param event Platform event.
+         */
+        @EventHandler
+        public void onPlayerDisconnectEvent(@NotNull PlayerDisconnectEvent event) {
+            dispatch(new UserDisconnectEvent(BungeeCordEventDispatcher.this.chameleon.getUserManager()
+                .wrapUser(event.getPlayer())));
+        }
+
     }
 
     /**
-     * Platform proxy user switch event handler.
-     *
-     * @param event Platform event.
+     * BungeeCord proxy user server switch listener.
      */
-    @EventHandler
-    public void onServerSwitchEvent(@NotNull ServerSwitchEvent event) {
-        ProxyUser user = (ProxyUser) this.chameleon.getUserManager().wrapUser(event.getPlayer());
-        Server server = wrapServer(event.getPlayer().getServer().getInfo());
-
-        if (event.getFrom() == null) {
-            // Dispatched on initial connection only.
-            dispatch(new ProxyUserConnectedEvent(user, server));
+    @Internal
+    @SuppressWarnings(\"unused\")
+    private final class ServerSwitchListener implements Listener {
+
+        /**
+         * Platform proxy user switch event handler.
+         *
+         * @param event Platform event.
+         */
+        @EventHandler
+        public void onServerSwitchEvent(@NotNull ServerSwitchEvent event) {
+            ProxyUser user = (ProxyUser) BungeeCordEventDispatcher.this.chameleon.getUserManager()
+                .wrapUser(event.getPlayer());
+            // Servers are only wrapped if a subscriber requests them.
+            ServerInfo connected = event.getPlayer().getServer().getInfo();
+            Lazy<Server> server = Lazy.of(() -> wrapServer(connected));
+            ServerInfo previous = event.getFrom();
+
+            if (previous == null) {
+                // Dispatched on initial connection only.
+                dispatch(new ProxyUserConnectedEvent(user, server));
+            }
+
+            Supplier<Server> previousServer = previous != null ? () -> wrapServer(previous) : null;
+            dispatch(new ProxyUserServerConnectedEvent(user, server, previousServer));
         }
 
-        dispatch(new ProxyUserServerConnectedEvent(user, server,
-            event.getFrom() != null ? wrapServer(event.getFrom()) : null));
-    }
-
-    @Contract(value = "_ -> new", pure = true)
-    private @NotNull Server wrapServer(@NotNull ServerInfo server) {
-        return new BungeeCordServer(this.chameleon, server);
     }
 
 }
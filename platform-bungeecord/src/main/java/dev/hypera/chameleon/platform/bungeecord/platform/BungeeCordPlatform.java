@@ -25,7 +25,6 @@ package dev.hypera.chameleon.platform.bungeecord.platform;
 
 import dev.hypera.chameleon.platform.Platform;
 import dev.hypera.chameleon.platform.bungeecord.BungeeCordChameleon;
-import dev.hypera.chameleon.platform.bungeecord.platform.objects.BungeeCordServer;
 import dev.hypera.chameleon.platform.proxy.ProxyPlatform;
 import dev.hypera.chameleon.platform.proxy.Server;
 import java.util.Optional;
@@ -84,7 +83,7 @@ public final class BungeeCordPlatform implements ProxyPlatform {
     @Override
     public @NotNull Set<Server> getServers() {
         return ProxyServer.getInstance().getServers().values().stream()
-            .map(s -> new BungeeCordServer(this.chameleon, s)).collect(Collectors.toSet());
+            .map(this.chameleon.getUserManager()::getServer).collect(Collectors.toSet());
     }
 
     /**
@@ -93,7 +92,7 @@ public final class BungeeCordPlatform implements ProxyPlatform {
     @Override
     public @NotNull Optional<Server> getServer(@NotNull String name) {
         return Optional.ofNullable(ProxyServer.getInstance().getServerInfo(name))
-            .map(s -> new BungeeCordServer(this.chameleon, s));
+            .map(this.chameleon.getUserManager()::getServer);
     }
 
 }
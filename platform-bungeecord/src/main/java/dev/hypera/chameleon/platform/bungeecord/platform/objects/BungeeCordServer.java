@@ -23,12 +23,10 @@
  */
 package dev.hypera.chameleon.platform.bungeecord.platform.objects;
 
-import dev.hypera.chameleon.platform.bungeecord.BungeeCordChameleon;
 import dev.hypera.chameleon.platform.proxy.Server;
 import dev.hypera.chameleon.user.ProxyUser;
 import java.net.SocketAddress;
 import java.util.Set;
-import java.util.stream.Collectors;
 import net.md_5.bungee.api.config.ServerInfo;
 import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.NotNull;
@@ -39,19 +37,19 @@ import org.jetbrains.annotations.NotNull;
 @Internal
 public final class BungeeCordServer implements Server {
 
-    private final @NotNull BungeeCordChameleon chameleon;
     private final @NotNull ServerInfo server;
+    private final @NotNull Set<ProxyUser> players;
 
     /**
      * BungeeCord server implementation.
      *
-     * @param chameleon Chameleon implementation.
-     * @param server    ServerInfo instance.
+     * @param server  ServerInfo instance.
+     * @param players View of the users connected to the server.
      */
     @Internal
-    public BungeeCordServer(@NotNull BungeeCordChameleon chameleon, @NotNull ServerInfo server) {
-        this.chameleon = chameleon;
+    public BungeeCordServer(@NotNull ServerInfo server, @NotNull Set<ProxyUser> players) {
         this.server = server;
+        this.players = players;
     }
 
 
@@ -76,9 +74,7 @@ public final class BungeeCordServer implements Server {
      */
     @Override
     public @NotNull Set<ProxyUser> getPlayers() {
-        return this.server.getPlayers().stream()
-            .map(p -> this.chameleon.getUserManager().wrapUser(p))
-            .map(p -> (ProxyUser) p).collect(Collectors.toSet());
+        return this.players;
     }
 
     /**
@@ -53,7 +53,7 @@ public final class BungeeCordConsoleUser extends PlatformChatUser implements Con
      * {@inheritDoc}
      */
     @Override
-    public boolean hasPermission(@NotNull String permission) {
+    protected boolean checkPermission(@NotNull String permission) {
         Preconditions.checkNotNull("permission", permission);
         return ProxyServer.getInstance().getConsole().hasPermission(permission);
     }
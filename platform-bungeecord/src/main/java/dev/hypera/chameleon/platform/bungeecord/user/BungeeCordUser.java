@@ -125,7 +125,7 @@ public final class BungeeCordUser extends PlatformUser<ProxiedPlayer> implements
      * {@inheritDoc}
      */
     @Override
-    public boolean hasPermission(@NotNull String permission) {
+    protected boolean checkPermission(@NotNull String permission) {
         Preconditions.checkNotNull("permission", permission);
         return this.player.hasPermission(permission);
     }
@@ -136,7 +136,7 @@ public final class BungeeCordUser extends PlatformUser<ProxiedPlayer> implements
     @Override
     public @NotNull Optional<Server> getConnectedServer() {
         return Optional.ofNullable(this.player.getServer())
-            .map(s -> new BungeeCordServer(this.chameleon, s.getInfo()));
+            .map(s -> this.chameleon.getUserManager().getServer(s.getInfo()));
     }
 
     /**
@@ -24,13 +24,17 @@
 package dev.hypera.chameleon.platform.bungeecord.user;
 
 import dev.hypera.chameleon.platform.bungeecord.BungeeCordChameleon;
-import dev.hypera.chameleon.platform.user.PlatformUserManager;
+import dev.hypera.chameleon.platform.bungeecord.platform.objects.BungeeCordServer;
+import dev.hypera.chameleon.platform.proxy.Server;
+import dev.hypera.chameleon.platform.user.PlatformProxyUserManager;
 import dev.hypera.chameleon.user.ChatUser;
 import dev.hypera.chameleon.user.ConsoleUser;
 import net.md_5.bungee.api.CommandSender;
+import net.md_5.bungee.api.config.ServerInfo;
 import net.md_5.bungee.api.connection.ProxiedPlayer;
 import net.md_5.bungee.api.event.PlayerDisconnectEvent;
 import net.md_5.bungee.api.event.PostLoginEvent;
+import net.md_5.bungee.api.event.ServerSwitchEvent;
 import net.md_5.bungee.event.EventHandler;
 import net.md_5.bungee.event.EventPriority;
 import org.jetbrains.annotations.ApiStatus.Internal;
@@ -39,7 +43,7 @@ import org.jetbrains.annotations.NotNull;
 /**
  * BungeeCord user manager.
  */
-public final class BungeeCordUserManager extends PlatformUserManager<ProxiedPlayer, BungeeCordUser> {
+public final class BungeeCordUserManager extends PlatformProxyUserManager<ProxiedPlayer, BungeeCordUser, ServerInfo> {
 
     private final @NotNull BungeeCordChameleon chameleon;
     private final @NotNull BungeeCordUserManager.Listener listener = new BungeeCordUserManager.Listener();
@@ -60,6 +64,15 @@ public final class BungeeCordUserManager extends PlatformUserManager<ProxiedPlay
     public void registerListeners() {
         this.chameleon.getPlatformPlugin().getProxy().getPluginManager()
             .registerListener(this.chameleon.getPlatformPlugin(), this.listener);
+
+        // Players may already be connected, such as when the plugin is reloaded.
+        for (ProxiedPlayer player : this.chameleon.getPlatformPlugin().getProxy().getPlayers()) {
+            addUser(player.getUniqueId(), player);
+            net.md_5.bungee.api.connection.Server server = player.getServer();
+            if (server != null) {
+                setConnectedServer(player.getUniqueId(), server.getInfo());
+            }
+        }
     }
 
     /**
@@ -86,6 +99,14 @@ public final class BungeeCordUserManager extends PlatformUserManager<ProxiedPlay
         return new BungeeCordUser(this.chameleon, proxiedPlayer);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected @NotNull Server createServer(@NotNull ServerInfo serverInfo) {
+        return new BungeeCordServer(serverInfo, getServerUsers(serverInfo));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -113,8 +134,14 @@ public final class BungeeCordUserManager extends PlatformUserManager<ProxiedPlay
             addUser(event.getPlayer().getUniqueId(), event.getPlayer());
         }
 
+        @EventHandler(priority = EventPriority.LOWEST)
+        public void onServerSwitch(@NotNull ServerSwitchEvent event) {
+            setConnectedServer(event.getPlayer().getUniqueId(), event.getPlayer().getServer().getInfo());
+        }
+
         @EventHandler(priority = EventPriority.HIGHEST)
         public void onDisconnect(@NotNull PlayerDisconnectEvent event) {
+            setConnectedServer(event.getPlayer().getUniqueId(), null);
             removeUser(event.getPlayer().getUniqueId());
         }
 
@@ -24,6 +24,7 @@
 package dev.hypera.chameleon.platform.nukkit.event;
 
 import cn.nukkit.Player;
+import cn.nukkit.Server;
 import cn.nukkit.event.Event;
 import cn.nukkit.event.EventPriority;
 import cn.nukkit.event.HandlerList;
@@ -33,6 +34,7 @@ import cn.nukkit.event.player.PlayerJoinEvent;
 import cn.nukkit.event.player.PlayerKickEvent;
 import cn.nukkit.event.player.PlayerQuitEvent;
 import cn.nukkit.plugin.PluginBase;
+import dev.hypera.chameleon.event.ChameleonEvent;
 import dev.hypera.chameleon.event.common.UserChatEvent;
 import dev.hypera.chameleon.event.common.UserConnectEvent;
 import dev.hypera.chameleon.event.common.UserDisconnectEvent;
@@ -42,8 +44,11 @@ import dev.hypera.chameleon.platform.event.PlatformEventDispatcher;
 import dev.hypera.chameleon.platform.nukkit.user.NukkitUser;
 import dev.hypera.chameleon.platform.nukkit.user.NukkitUserManager;
 import dev.hypera.chameleon.platform.user.PlatformUserManager;
+import dev.hypera.chameleon.scheduler.Task;
 import dev.hypera.chameleon.user.ServerUser;
 import dev.hypera.chameleon.user.User;
+import dev.hypera.chameleon.util.internal.Lazy;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import org.jetbrains.annotations.ApiStatus.Internal;
@@ -52,7 +57,7 @@ import org.jetbrains.annotations.NotNull;
 /**
  * Nukkit event dispatcher.
  */
-public final class NukkitEventDispatcher extends PlatformEventDispatcher implements Listener {
+public final class NukkitEventDispatcher extends PlatformEventDispatcher {
 
     private final @NotNull PlatformChameleon<PluginBase> chameleon;
 
@@ -63,7 +68,7 @@ public final class NukkitEventDispatcher extends PlatformEventDispatcher impleme
      */
     @Internal
     public NukkitEventDispatcher(@NotNull PlatformChameleon<PluginBase> chameleon) {
-        super(chameleon.getEventBus());
+        super(chameleon.getEventBus(), mainThreadExecutor(chameleon));
         this.chameleon = chameleon;
     }
 
@@ -75,7 +80,7 @@ public final class NukkitEventDispatcher extends PlatformEventDispatcher impleme
         PlatformUserManager<Player, NukkitUser> userManager = (NukkitUserManager) this.chameleon.getUserManager();
 
         // Connect event
-        registerListener(this.chameleon, this, PlayerJoinEvent.class, EventPriority.NORMAL, event -> {
+        registerOnDemand(UserConnectEvent.class, PlayerJoinEvent.class, EventPriority.NORMAL, true, event -> {
             User user = userManager.wrapUser(event.getPlayer());
             UserConnectEvent chameleonEvent = dispatch(new UserConnectEvent(user, false));
 
@@ -86,15 +91,16 @@ public final class NukkitEventDispatcher extends PlatformEventDispatcher impleme
         });
 
         // Chat event
-        registerListener(this.chameleon, this, PlayerChatEvent.class, EventPriority.NORMAL, false, event -> {
+        registerOnDemand(UserChatEvent.class, PlayerChatEvent.class, EventPriority.NORMAL, false, event -> {
+            String message = event.getMessage();
             UserChatEvent chameleonEvent = dispatch(new UserChatEvent(
                 userManager.wrapUser(event.getPlayer()),
-                event.getMessage(), event.isCancelled(),
-                true, true
+                Lazy.value(message), () -> LegacyComponentSerializer.legacySection().deserialize(message),
+                event.isCancelled(), true, true
             ));
 
             // Update message
-            if (!event.getMessage().equals(chameleonEvent.getMessage())) {
+            if (chameleonEvent.isMessageChanged() && !message.equals(chameleonEvent.getMessage())) {
                 event.setMessage(chameleonEvent.getMessage());
             }
             // Cancel platform event
@@ -104,23 +110,43 @@ public final class NukkitEventDispatcher extends PlatformEventDispatcher impleme
         });
 
         // Disconnect event
-        registerListener(this.chameleon, this, PlayerQuitEvent.class, EventPriority.NORMAL, event ->
+        registerOnDemand(UserDisconnectEvent.class, PlayerQuitEvent.class, EventPriority.NORMAL, true, event ->
             dispatch(new UserDisconnectEvent(userManager.wrapUser(event.getPlayer()))));
 
         // Kick event
-        registerListener(this.chameleon, this, PlayerKickEvent.class, EventPriority.NORMAL, event ->
+        registerOnDemand(ServerUserKickEvent.class, PlayerKickEvent.class, EventPriority.NORMAL, true, event -> {
+            String reason = event.getReason();
             dispatch(new ServerUserKickEvent(
                 (ServerUser) userManager.wrapUser(event.getPlayer()),
-                LegacyComponentSerializer.legacySection().deserialize(event.getReason())
-            )));
+                () -> LegacyComponentSerializer.legacySection().deserialize(reason)
+            ));
+        });
     }
 
     /**
-     * {@inheritDoc}
+     * Registers a platform listener while the given Chameleon event is subscribed to.
+     *
+     * @param event           Chameleon event dispatched by the handler.
+     * @param type            Nukkit event type.
+     * @param priority        Nukkit listener priority.
+     * @param ignoreCancelled Whether to ignore cancelled events.
+     * @param handler         Listener handler callback.
+     * @param <T>             Nukkit event type.
      */
-    @Override
-    public void unregisterListeners() {
-        HandlerList.unregisterAll(this);
+    private <T extends Event> void registerOnDemand(
+        @NotNull Class<? extends ChameleonEvent> event,
+        @NotNull Class<T> type,
+        @NotNull EventPriority priority,
+        boolean ignoreCancelled,
+        @NotNull Consumer<T> handler
+    ) {
+        // Each platform listener gets its own listener object, so it can be unregistered alone.
+        Listener listener = new Listener() {};
+        registerOnDemand(
+            event,
+            () -> registerListener(this.chameleon, listener, type, priority, ignoreCancelled, handler),
+            () -> HandlerList.unregisterAll(listener)
+        );
     }
 
     /**
@@ -178,4 +204,15 @@ public final class NukkitEventDispatcher extends PlatformEventDispatcher impleme
         );
     }
 
+    private static @NotNull Executor mainThreadExecutor(@NotNull PlatformChameleon<PluginBase> chameleon) {
+        // Listeners are registered immediately if the demand changed on the main thread.
+        return task -> {
+            if (Server.getInstance().isPrimaryThread()) {
+                task.run();
+            } else {
+                chameleon.getScheduler().schedule(Task.sync(task));
+            }
+        };
+    }
+
 }
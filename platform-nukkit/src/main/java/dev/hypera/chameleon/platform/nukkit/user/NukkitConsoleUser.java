@@ -75,7 +75,7 @@ public final class NukkitConsoleUser extends PlatformChatUser implements Console
      * {@inheritDoc}
      */
     @Override
-    public boolean hasPermission(@NotNull String permission) {
+    protected boolean checkPermission(@NotNull String permission) {
         return Server.getInstance().getConsoleSender().hasPermission(permission);
     }
 
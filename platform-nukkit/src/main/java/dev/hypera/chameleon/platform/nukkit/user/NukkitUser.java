@@ -142,7 +142,7 @@ public final class NukkitUser extends PlatformUser<Player> implements ServerUser
      * {@inheritDoc}
      */
     @Override
-    public boolean hasPermission(@NotNull String permission) {
+    protected boolean checkPermission(@NotNull String permission) {
         Preconditions.checkNotNull("permission", permission);
         return this.player.hasPermission(permission);
     }
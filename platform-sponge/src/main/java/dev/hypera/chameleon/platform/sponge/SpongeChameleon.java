@@ -43,6 +43,7 @@ import dev.hypera.chameleon.platform.sponge.scheduler.SpongeScheduler;
 import dev.hypera.chameleon.platform.sponge.user.SpongeUserManager;
 import dev.hypera.chameleon.scheduler.Scheduler;
 import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
 import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.NotNull;
 
@@ -52,6 +53,7 @@ import org.jetbrains.annotations.NotNull;
 public final class SpongeChameleon extends PlatformChameleon<SpongePlugin> {
 
     private final @NotNull AdventureMapper adventureMapper = new AdventureMapper(this);
+    private final boolean prewarmAdventure;
     private final @NotNull SpongePlatform platform = new SpongePlatform();
     private final @NotNull SpongeCommandManager commandManager = new SpongeCommandManager(this);
     private final @NotNull SpongePluginManager pluginManager = new SpongePluginManager();
@@ -66,9 +68,11 @@ public final class SpongeChameleon extends PlatformChameleon<SpongePlugin> {
         @NotNull SpongePlugin spongePlugin,
         @NotNull EventBus eventBus,
         @NotNull ChameleonLogger logger,
-        @NotNull ExtensionMap extensions
+        @NotNull ExtensionMap extensions,
+        boolean prewarmAdventure
     ) {
         super(pluginBootstrap, spongePlugin, eventBus, logger, extensions);
+        this.prewarmAdventure = prewarmAdventure;
     }
 
     /**
@@ -90,6 +94,9 @@ public final class SpongeChameleon extends PlatformChameleon<SpongePlugin> {
     public void onLoad() {
         try {
             this.adventureMapper.load();
+            if (this.prewarmAdventure) {
+                this.adventureMapper.prewarm(ForkJoinPool.commonPool());
+            }
             this.userManager.load();
         } catch (ReflectiveOperationException ex) {
             throw new ChameleonReflectiveException(ex);
@@ -28,6 +28,7 @@ import dev.hypera.chameleon.ChameleonPluginBootstrap;
 import dev.hypera.chameleon.platform.Platform;
 import dev.hypera.chameleon.platform.logger.ChameleonLog4jLogger;
 import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -36,6 +37,7 @@ import org.jetbrains.annotations.NotNull;
 public final class SpongeChameleonBootstrap extends ChameleonBootstrap<SpongeChameleon> {
 
     private final @NotNull SpongePlugin spongePlugin;
+    private boolean prewarmAdventure = false;
 
     @Internal
     SpongeChameleonBootstrap(@NotNull ChameleonPluginBootstrap pluginBootstrap, @NotNull SpongePlugin spongePlugin) {
@@ -43,11 +45,24 @@ public final class SpongeChameleonBootstrap extends ChameleonBootstrap<SpongeCha
         this.spongePlugin = spongePlugin;
     }
 
+    /**
+     * Pre-warm the Adventure mapper in the background while Chameleon loads.
+     * <p>Adventure mappers are otherwise loaded the first time they are used.</p>
+     *
+     * @return {@code this}.
+     */
+    @Contract("-> this")
+    public @NotNull SpongeChameleonBootstrap withAdventurePrewarm() {
+        this.prewarmAdventure = true;
+        return this;
+    }
+
     @Override
     protected @NotNull SpongeChameleon loadPlatform() {
         return new SpongeChameleon(
             this.pluginBootstrap, this.spongePlugin,
-            this.eventBus, this.logger, this.extensions
+            this.eventBus, this.logger, this.extensions,
+            this.prewarmAdventure
         );
     }
 
@@ -23,6 +23,7 @@
  */
 package dev.hypera.chameleon.platform.sponge.event;
 
+import dev.hypera.chameleon.event.ChameleonEvent;
 import dev.hypera.chameleon.event.common.UserChatEvent;
 import dev.hypera.chameleon.event.common.UserConnectEvent;
 import dev.hypera.chameleon.event.common.UserDisconnectEvent;
@@ -33,6 +34,8 @@ import dev.hypera.chameleon.platform.sponge.SpongeChameleon;
 import dev.hypera.chameleon.platform.util.PlatformEventUtil;
 import dev.hypera.chameleon.user.ServerUser;
 import dev.hypera.chameleon.user.User;
+import dev.hypera.chameleon.util.internal.Lazy;
+import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.NotNull;
@@ -74,99 +77,138 @@ public final class SpongeEventDispatcher extends PlatformEventDispatcher {
         if (this.eventReflection.isLoaded()) {
             this.eventReflection.load();
         }
-        Sponge.eventManager().registerListeners(this.chameleon
-            .getPlatformPlugin().getPluginContainer(), this);
+        registerOnDemand(UserConnectEvent.class, new ConnectListener());
+        registerOnDemand(UserChatEvent.class, new ChatListener());
+        registerOnDemand(UserDisconnectEvent.class, new DisconnectListener());
+        registerOnDemand(ServerUserKickEvent.class, new KickListener());
     }
 
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public void unregisterListeners() {
-        Sponge.eventManager().unregisterListeners(this);
+    private void registerOnDemand(@NotNull Class<? extends ChameleonEvent> event, @NotNull Object listener) {
+        registerOnDemand(
+            event,
+            () -> Sponge.eventManager().registerListeners(
+                this.chameleon.getPlatformPlugin().getPluginContainer(), listener),
+            () -> Sponge.eventManager().unregisterListeners(listener)
+        );
+    }
+
+    private @NotNull Component mapBackwards(@NotNull Object component) {
+        try {
+            return this.chameleon.getAdventureMapper().getComponentMapper().mapBackwards(component);
+        } catch (ReflectiveOperationException ex) {
+            throw new ChameleonReflectiveException(ex);
+        }
     }
 
     /**
-     * Platform user connect event handler.
-     *
-     * @param event Platform event.
+     * Sponge user connect listener.
      */
-    @Listener
-    public void onJoinEvent(@NotNull ServerSideConnectionEvent.Join event) {
-        User user = this.chameleon.getUserManager().wrapUser(event.player());
-        UserConnectEvent chameleonEvent = new UserConnectEvent(user, false);
-
-        this.chameleon.getEventBus().dispatch(chameleonEvent);
-        if (chameleonEvent.isCancelled()) {
-            user.disconnect(chameleonEvent.getCancelReason());
+    @Internal
+    @SuppressWarnings("unused")
+    private final class ConnectListener {
+
+        /**
+         * Platform user connect event handler.
+         *
+         * @param event Platform event.
+         */
+        @Listener
+        public void onJoinEvent(@NotNull ServerSideConnectionEvent.Join event) {
+            User user = SpongeEventDispatcher.this.chameleon.getUserManager().wrapUser(event.player());
+            UserConnectEvent chameleonEvent = new UserConnectEvent(user, false);
+
+            dispatch(chameleonEvent);
+            if (chameleonEvent.isCancelled()) {
+                user.disconnect(chameleonEvent.getCancelReason());
+            }
         }
+
     }
 
     /**
-     * Platform user disconnect event handler.
-     *
-     * @param event Platform event.
+     * Sponge user chat listener.
      */
-    @Listener
-    public void onChatEvent(@NotNull PlayerChatEvent event) {
-        ServerPlayer sender = (ServerPlayer) event.cause().first(Player.class).orElse(null);
-        if (sender != null) {
-            String serialized;
-            try {
-                serialized = LegacyComponentSerializer.legacySection().serialize(
-                    this.chameleon.getAdventureMapper().getComponentMapper()
-                        .mapBackwards(event.message())
-                );
-            } catch (ReflectiveOperationException ex) {
-                throw new ChameleonReflectiveException(ex);
-            }
+    @Internal
+    @SuppressWarnings("unused")
+    private final class ChatListener {
+
+        /**
+         * Platform user chat event handler.
+         *
+         * @param event Platform event.
+         */
+        @Listener
+        public void onChatEvent(@NotNull PlayerChatEvent event) {
+            SpongeChameleon chameleon = SpongeEventDispatcher.this.chameleon;
+            ServerPlayer sender = (ServerPlayer) event.cause().first(Player.class).orElse(null);
+            if (sender != null) {
+                Object platformMessage = event.message();
+                Lazy<Component> message = Lazy.of(() -> mapBackwards(platformMessage));
 
-            UserChatEvent chameleonEvent = new UserChatEvent(
-                this.chameleon.getUserManager().wrapUser(sender),
-                serialized, false,
-                false, true
-            );
-            this.chameleon.getEventBus().dispatch(chameleonEvent);
-
-            if (!serialized.equals(chameleonEvent.getMessage())) {
-                this.eventReflection.setPlayerChatEventMessage(
-                    event, LegacyComponentSerializer.legacySection()
-                        .deserialize(chameleonEvent.getMessage())
+                UserChatEvent chameleonEvent = new UserChatEvent(
+                    chameleon.getUserManager().wrapUser(sender),
+                    () -> LegacyComponentSerializer.legacySection().serialize(message.get()),
+                    message, false,
+                    false, true
                 );
-            }
+                dispatch(chameleonEvent);
 
-            if (chameleonEvent.isCancelled()) {
-                PlatformEventUtil.logChatCancellationFailure(this.chameleon.getInternalLogger());
+                if (chameleonEvent.isMessageChanged()) {
+                    SpongeEventDispatcher.this.eventReflection.setPlayerChatEventMessage(
+                        event, LegacyComponentSerializer.legacySection()
+                            .deserialize(chameleonEvent.getMessage())
+                    );
+                }
+
+                if (chameleonEvent.isCancelled()) {
+                    PlatformEventUtil.logChatCancellationFailure(chameleon.getInternalLogger());
+                }
             }
         }
+
     }
 
     /**
-     * Platform user disconnect event handler.
-     *
-     * @param event Platform event.
+     * Sponge user disconnect listener.
      */
-    @Listener
-    public void onDisconnectEvent(@NotNull ServerSideConnectionEvent.Disconnect event) {
-        this.chameleon.getEventBus().dispatch(new UserDisconnectEvent(
-            this.chameleon.getUserManager().wrapUser(event.player())));
+    @Internal
+    @SuppressWarnings("unused")
+    private final class DisconnectListener {
+
+        /**
+         * Platform user disconnect event handler.
+         *
+         * @param event Platform event.
+         */
+        @Listener
+        public void onDisconnectEvent(@NotNull ServerSideConnectionEvent.Disconnect event) {
+            dispatch(new UserDisconnectEvent(
+                SpongeEventDispatcher.this.chameleon.getUserManager().wrapUser(event.player())));
+        }
+
     }
 
     /**
-     * Platform server user kick event handler.
-     *
-     * @param event Platform event.
+     * Sponge server user kick listener.
      */
-    @Listener
-    public void onKickEvent(@NotNull KickPlayerEvent event) {
-        try {
-            this.chameleon.getEventBus().dispatch(new ServerUserKickEvent(
-                (ServerUser) this.chameleon.getUserManager().wrapUser(event.player()), event.message() == null ? null :
-                this.chameleon.getAdventureMapper().getComponentMapper().mapBackwards(event.message()))
-            );
-        } catch (ReflectiveOperationException ex) {
-            throw new ChameleonReflectiveException(ex);
+    @Internal
+    @SuppressWarnings("unused")
+    private final class KickListener {
+
+        /**
+         * Platform server user kick event handler.
+         *
+         * @param event Platform event.
+         */
+        @Listener
+        public void onKickEvent(@NotNull KickPlayerEvent event) {
+            Object platformReason = event.message();
+            dispatch(new ServerUserKickEvent(
+                (ServerUser) SpongeEventDispatcher.this.chameleon.getUserManager().wrapUser(event.player()),
+                () -> platformReason == null ? null : mapBackwards(platformReason)
+            ));
         }
+
     }
 
 }
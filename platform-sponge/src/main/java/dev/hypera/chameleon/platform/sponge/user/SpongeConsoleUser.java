@@ -54,7 +54,7 @@ public final class SpongeConsoleUser extends PlatformChatUser implements Console
      * {@inheritDoc}
      */
     @Override
-    public boolean hasPermission(@NotNull String permission) {
+    protected boolean checkPermission(@NotNull String permission) {
         return Sponge.game().systemSubject().hasPermission(permission);
     }
 
@@ -127,7 +127,7 @@ public final class SpongeUser extends PlatformUser<ServerPlayer> implements Serv
      * {@inheritDoc}
      */
     @Override
-    public boolean hasPermission(@NotNull String permission) {
+    protected boolean checkPermission(@NotNull String permission) {
         return this.player.hasPermission(permission);
     }
 
@@ -99,7 +99,7 @@ public final class SpongeUserManager extends PlatformUserManager<ServerPlayer, S
     @Override
     protected @NotNull SpongeUser createUser(@NotNull ServerPlayer player) {
         return new SpongeUser(player, this.chameleon.getAdventureMapper()
-            .createReflectedAudience(player), this.playerReflection);
+            .createReflectedAudience(player, true), this.playerReflection);
     }
 
     /**
@@ -43,6 +43,7 @@ import dev.hypera.chameleon.platform.velocity.scheduler.VelocityScheduler;
 import dev.hypera.chameleon.platform.velocity.user.VelocityUserManager;
 import dev.hypera.chameleon.scheduler.Scheduler;
 import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
 import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.NotNull;
 
@@ -52,6 +53,7 @@ import org.jetbrains.annotations.NotNull;
 public final class VelocityChameleon extends PlatformChameleon<VelocityPlugin> {
 
     private final @NotNull AdventureMapper adventureMapper = new AdventureMapper(this);
+    private final boolean prewarmAdventure;
     private final @NotNull VelocityCommandManager commandManager = new VelocityCommandManager(this);
     private final @NotNull VelocityPlatform platform = new VelocityPlatform(this);
     private final @NotNull VelocityPluginManager pluginManager = new VelocityPluginManager(this);
@@ -66,9 +68,11 @@ public final class VelocityChameleon extends PlatformChameleon<VelocityPlugin> {
         @NotNull VelocityPlugin velocityPlugin,
         @NotNull EventBus eventBus,
         @NotNull ChameleonLogger logger,
-        @NotNull ExtensionMap extensions
+        @NotNull ExtensionMap extensions,
+        boolean prewarmAdventure
     ) {
         super(pluginBootstrap, velocityPlugin, eventBus, logger, extensions);
+        this.prewarmAdventure = prewarmAdventure;
     }
 
     /**
@@ -96,6 +100,9 @@ public final class VelocityChameleon extends PlatformChameleon<VelocityPlugin> {
     public void onLoad() {
         try {
             this.adventureMapper.load();
+            if (this.prewarmAdventure) {
+                this.adventureMapper.prewarm(ForkJoinPool.commonPool());
+            }
             this.userManager.load();
         } catch (ReflectiveOperationException ex) {
             throw new ChameleonReflectiveException(ex);
@@ -28,6 +28,7 @@ import dev.hypera.chameleon.ChameleonPluginBootstrap;
 import dev.hypera.chameleon.platform.Platform;
 import dev.hypera.chameleon.platform.logger.ChameleonSlf4jLogger;
 import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -36,6 +37,7 @@ import org.jetbrains.annotations.NotNull;
 public final class VelocityChameleonBootstrap extends ChameleonBootstrap<VelocityChameleon> {
 
     private final @NotNull VelocityPlugin velocityPlugin;
+    private boolean prewarmAdventure = false;
 
     @Internal
     VelocityChameleonBootstrap(@NotNull ChameleonPluginBootstrap pluginBootstrap, @NotNull VelocityPlugin velocityPlugin) {
@@ -43,11 +45,24 @@ public final class VelocityChameleonBootstrap extends ChameleonBootstrap<Velocit
         this.velocityPlugin = velocityPlugin;
     }
 
+    /**
+     * Pre-warm the Adventure mapper in the background while Chameleon loads.
+     * <p>Adventure mappers are otherwise loaded the first time they are used.</p>
+     *
+     * @return {@code this}.
+     */
+    @Contract("-> this")
+    public @NotNull VelocityChameleonBootstrap withAdventurePrewarm() {
+        this.prewarmAdventure = true;
+        return this;
+    }
+
     @Override
     protected @NotNull VelocityChameleon loadPlatform() {
         return new VelocityChameleon(
             this.pluginBootstrap, this.velocityPlugin,
-            this.eventBus, this.logger, this.extensions
+            this.eventBus, this.logger, this.extensions,
+            this.prewarmAdventure
         );
     }
 
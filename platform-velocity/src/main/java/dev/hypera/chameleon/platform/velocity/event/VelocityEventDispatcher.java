@@ -23,6 +23,7 @@
  */
 package dev.hypera.chameleon.platform.velocity.event;
 
+import com.velocitypowered.api.event.EventManager;
 import com.velocitypowered.api.event.Subscribe;
 import com.velocitypowered.api.event.connection.DisconnectEvent;
 import com.velocitypowered.api.event.connection.PostLoginEvent;
@@ -31,6 +32,7 @@ import com.velocitypowered.api.event.player.PlayerChatEvent.ChatResult;
 import com.velocitypowered.api.event.player.ServerConnectedEvent;
 import com.velocitypowered.api.network.ProtocolVersion;
 import com.velocitypowered.api.proxy.server.RegisteredServer;
+import dev.hypera.chameleon.event.ChameleonEvent;
 import dev.hypera.chameleon.event.common.UserChatEvent;
 import dev.hypera.chameleon.event.common.UserConnectEvent;
 import dev.hypera.chameleon.event.common.UserDisconnectEvent;
@@ -40,12 +42,15 @@ import dev.hypera.chameleon.platform.event.PlatformEventDispatcher;
 import dev.hypera.chameleon.platform.proxy.Server;
 import dev.hypera.chameleon.platform.util.PlatformEventUtil;
 import dev.hypera.chameleon.platform.velocity.VelocityChameleon;
-import dev.hypera.chameleon.platform.velocity.platform.objects.VelocityServer;
 import dev.hypera.chameleon.user.ProxyUser;
 import dev.hypera.chameleon.user.User;
 import dev.hypera.chameleon.util.internal.ChameleonProperty;
+import dev.hypera.chameleon.util.internal.Lazy;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.function.Supplier;
 import org.jetbrains.annotations.ApiStatus.Internal;
-import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -72,105 +77,153 @@ public final class VelocityEventDispatcher extends PlatformEventDispatcher {
      */
     @Override
     public void registerListeners() {
-        this.chameleon.getPlatformPlugin().getServer().getEventManager()
-            .register(this.chameleon.getPlatformPlugin(), this);
+        registerOnDemand(UserConnectEvent.class, new ConnectListener());
+        registerOnDemand(UserChatEvent.class, new ChatListener());
+        registerOnDemand(UserDisconnectEvent.class, new DisconnectListener());
+        registerOnDemand(
+            Arrays.asList(ProxyUserConnectedEvent.class, ProxyUserServerConnectedEvent.class),
+            new ServerConnectedListener()
+        );
     }
 
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public void unregisterListeners() {
-        this.chameleon.getPlatformPlugin().getServer().getEventManager()
-            .unregisterListener(this.chameleon.getPlatformPlugin(), this);
+    private void registerOnDemand(@NotNull Class<? extends ChameleonEvent> event, @NotNull Object listener) {
+        registerOnDemand(Collections.singletonList(event), listener);
+    }
+
+    private void registerOnDemand(@NotNull Collection<Class<? extends ChameleonEvent>> events, @NotNull Object listener) {
+        EventManager eventManager = this.chameleon.getPlatformPlugin().getServer().getEventManager();
+        registerOnDemand(
+            events,
+            () -> eventManager.register(this.chameleon.getPlatformPlugin(), listener),
+            () -> eventManager.unregisterListener(this.chameleon.getPlatformPlugin(), listener)
+        );
+    }
+
+    private @NotNull Server wrapServer(@NotNull RegisteredServer server) {
+        return this.chameleon.getUserManager().getServer(server);
     }
 
     /**
-     * Platform user connect event handler.
-     *
-     * @param event Platform event.
+     * Velocity user connect listener.
      */
-    @Subscribe
-    public void onPostLoginEvent(@NotNull PostLoginEvent event) {
-        User user = this.chameleon.getUserManager().wrapUser(event.getPlayer());
-        UserConnectEvent chameleonEvent = new UserConnectEvent(user, false);
-
-        dispatch(chameleonEvent);
-        if (chameleonEvent.isCancelled()) {
-            user.disconnect(chameleonEvent.getCancelReason());
+    @Internal
+    @SuppressWarnings("unused")
+    private final class ConnectListener {
+
+        /**
+         * Platform user connect event handler.
+         *
+         * @param event Platform event.
+         */
+        @Subscribe
+        public void onPostLoginEvent(@NotNull PostLoginEvent event) {
+            User user = VelocityEventDispatcher.this.chameleon.getUserManager().wrapUser(event.getPlayer());
+            UserConnectEvent chameleonEvent = new UserConnectEvent(user, false);
+
+            dispatch(chameleonEvent);
+            if (chameleonEvent.isCancelled()) {
+                user.disconnect(chameleonEvent.getCancelReason());
+            }
         }
+
     }
 
     /**
-     * Platform user chat event handler.
-     *
-     * @param event Platform event.
+     * Velocity user chat listener.
      */
-    @Subscribe
-    public void onChatEvent(@NotNull PlayerChatEvent event) {
-        boolean immutable = ChameleonProperty.PREVENT_CHAT_PROTOCOL_ERRORS.get() &&
-            event.getPlayer().getProtocolVersion().compareTo(ProtocolVersion.MINECRAFT_1_19_1) >= 0;
-
-        UserChatEvent chameleonEvent = new UserChatEvent(
-            this.chameleon.getUserManager().wrapUser(event.getPlayer()),
-            event.getMessage(),
-            !event.getResult().isAllowed(),
-            immutable, immutable
-        );
-        dispatch(chameleonEvent);
-
-        // Event message modification
-        if (!event.getMessage().equals(chameleonEvent.getMessage())) {
-            if (immutable) {
-                PlatformEventUtil.logChatModificationFailure(this.chameleon.getInternalLogger());
-                return;
+    @Internal
+    @SuppressWarnings("unused")
+    private final class ChatListener {
+
+        /**
+         * Platform user chat event handler.
+         *
+         * @param event Platform event.
+         */
+        @Subscribe
+        public void onChatEvent(@NotNull PlayerChatEvent event) {
+            boolean immutable = ChameleonProperty.PREVENT_CHAT_PROTOCOL_ERRORS.get() &&
+                event.getPlayer().getProtocolVersion().compareTo(ProtocolVersion.MINECRAFT_1_19_1) >= 0;
+
+            UserChatEvent chameleonEvent = new UserChatEvent(
+                VelocityEventDispatcher.this.chameleon.getUserManager().wrapUser(event.getPlayer()),
+                event.getMessage(),
+                !event.getResult().isAllowed(),
+                immutable, immutable
+            );
+            dispatch(chameleonEvent);
+
+            // Event message modification
+            if (!event.getMessage().equals(chameleonEvent.getMessage())) {
+                if (immutable) {
+                    PlatformEventUtil.logChatModificationFailure(VelocityEventDispatcher.this.chameleon.getInternalLogger());
+                    return;
+                }
+                event.setResult(ChatResult.message(chameleonEvent.getMessage()));
             }
-            event.setResult(ChatResult.message(chameleonEvent.getMessage()));
-        }
 
-        // Event cancellation
-        if (chameleonEvent.isCancelled() && event.getResult().isAllowed()) {
-            if (immutable) {
-                PlatformEventUtil.logChatCancellationFailure(this.chameleon.getInternalLogger());
-                return;
+            // Event cancellation
+            if (chameleonEvent.isCancelled() && event.getResult().isAllowed()) {
+                if (immutable) {
+                    PlatformEventUtil.logChatCancellationFailure(VelocityEventDispatcher.this.chameleon.getInternalLogger());
+                    return;
+                }
+                event.setResult(ChatResult.denied());
             }
-            event.setResult(ChatResult.denied());
         }
+
     }
 
     /**
-     * Platform user disconnect event handler.
-     *
-     * @param event Platform event.
+     * Velocity user disconnect listener.
      */
-    @Subscribe
-    public void onPlayerDisconnectEvent(@NotNull DisconnectEvent event) {
-        dispatch(new UserDisconnectEvent(this.chameleon.getUserManager()
-            .wrapUser(event.getPlayer())));
+    @Internal
+    @SuppressWarnings("unused")
+    private final class DisconnectListener {
+
+        /**
+         * Platform user disconnect event handler.
+         *
+         * @param event Platform event.
+         */
+        @Subscribe
+        public void onPlayerDisconnectEvent(@NotNull DisconnectEvent event) {
+            dispatch(new UserDisconnectEvent(VelocityEventDispatcher.this.chameleon.getUserManager()
+                .wrapUser(event.getPlayer())));
+        }
+
     }
 
     /**
-     * Platform proxy user server switch event handler.
-     *
-     * @param event Platform event.
+     * Velocity proxy user server switch listener.
      */
-    @Subscribe
-    public void onServerConnectedEvent(@NotNull ServerConnectedEvent event) {
-        ProxyUser user = (ProxyUser) this.chameleon.getUserManager().wrapUser(event.getPlayer());
-        Server server = wrapServer(event.getServer());
-
-        if (event.getPreviousServer().isEmpty()) {
-            // Dispatched on initial connection only.
-            dispatch(new ProxyUserConnectedEvent(user, server));
-        }
+    @Internal
+    @SuppressWarnings("unused")
+    private final class ServerConnectedListener {
+
+        /**
+         * Platform proxy user server switch event handler.
+         *
+         * @param event Platform event.
+         */
+        @Subscribe
+        public void onServerConnectedEvent(@NotNull ServerConnectedEvent event) {
+            ProxyUser user = (ProxyUser) VelocityEventDispatcher.this.chameleon.getUserManager()
+                .wrapUser(event.getPlayer());
+            // Servers are only wrapped if a subscriber requests them.
+            RegisteredServer connected = event.getServer();
+            Lazy<Server> server = Lazy.of(() -> wrapServer(connected));
+            RegisteredServer previous = event.getPreviousServer().orElse(null);
+
+            if (previous == null) {
+                // Dispatched on initial connection only.
+                dispatch(new ProxyUserConnectedEvent(user, server));
+            }
 
-        dispatch(new ProxyUserServerConnectedEvent(user, server,
-            event.getPreviousServer().map(this::wrapServer).orElse(null)));
-    }
+            Supplier<Server> previousServer = previous != null ? () -> wrapServer(previous) : null;
+            dispatch(new ProxyUserServerConnectedEvent(user, server, previousServer));
+        }
 
-    @Contract(value = "_ -> new", pure = true)
-    private @NotNull Server wrapServer(@NotNull RegisteredServer server) {
-        return new VelocityServer(this.chameleon, server);
     }
 
 }
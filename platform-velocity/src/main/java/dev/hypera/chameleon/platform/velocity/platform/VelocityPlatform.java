@@ -27,7 +27,6 @@ import dev.hypera.chameleon.platform.Platform;
 import dev.hypera.chameleon.platform.proxy.ProxyPlatform;
 import dev.hypera.chameleon.platform.proxy.Server;
 import dev.hypera.chameleon.platform.velocity.VelocityChameleon;
-import dev.hypera.chameleon.platform.velocity.platform.objects.VelocityServer;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -83,7 +82,7 @@ public final class VelocityPlatform implements ProxyPlatform {
     @Override
     public @NotNull Set<Server> getServers() {
         return this.chameleon.getPlatformPlugin().getServer().getAllServers().stream()
-            .map(s -> new VelocityServer(this.chameleon, s)).collect(Collectors.toSet());
+            .map(this.chameleon.getUserManager()::getServer).collect(Collectors.toSet());
     }
 
     /**
@@ -92,7 +91,7 @@ public final class VelocityPlatform implements ProxyPlatform {
     @Override
     public @NotNull Optional<Server> getServer(@NotNull String name) {
         return this.chameleon.getPlatformPlugin().getServer().getServer(name)
-            .map(s -> new VelocityServer(this.chameleon, s));
+            .map(this.chameleon.getUserManager()::getServer);
     }
 
 }
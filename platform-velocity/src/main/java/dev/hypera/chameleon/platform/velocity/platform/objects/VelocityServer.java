@@ -26,11 +26,9 @@ package dev.hypera.chameleon.platform.velocity.platform.objects;
 import com.velocitypowered.api.proxy.messages.MinecraftChannelIdentifier;
 import com.velocitypowered.api.proxy.server.RegisteredServer;
 import dev.hypera.chameleon.platform.proxy.Server;
-import dev.hypera.chameleon.platform.velocity.VelocityChameleon;
 import dev.hypera.chameleon.user.ProxyUser;
 import java.net.SocketAddress;
 import java.util.Collection;
-import java.util.stream.Collectors;
 import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.NotNull;
 
@@ -40,19 +38,19 @@ import org.jetbrains.annotations.NotNull;
 @Internal
 public final class VelocityServer implements Server {
 
-    private final @NotNull VelocityChameleon chameleon;
     private final @NotNull RegisteredServer server;
+    private final @NotNull Collection<ProxyUser> players;
 
     /**
      * Velocity server constructor.
      *
-     * @param chameleon Velocity Chameleon implementation.
-     * @param server    Velocity registered server to be wrapped.
+     * @param server  Velocity registered server to be wrapped.
+     * @param players View of the users connected to the server.
      */
     @Internal
-    public VelocityServer(@NotNull VelocityChameleon chameleon, @NotNull RegisteredServer server) {
-        this.chameleon = chameleon;
+    public VelocityServer(@NotNull RegisteredServer server, @NotNull Collection<ProxyUser> players) {
         this.server = server;
+        this.players = players;
     }
 
 
@@ -77,9 +75,7 @@ public final class VelocityServer implements Server {
      */
     @Override
     public @NotNull Collection<ProxyUser> getPlayers() {
-        return this.server.getPlayersConnected().stream()
-            .map(this.chameleon.getUserManager()::wrapUser)
-            .map(u -> (ProxyUser) u).collect(Collectors.toSet());
+        return this.players;
     }
 
     /**
@@ -57,7 +57,7 @@ public final class VelocityConsoleUser extends PlatformChatUser implements Conso
      * {@inheritDoc}
      */
     @Override
-    public boolean hasPermission(@NotNull String permission) {
+    protected boolean checkPermission(@NotNull String permission) {
         return this.console.hasPermission(permission);
     }
 
@@ -133,7 +133,7 @@ public final class VelocityUser extends PlatformUser<Player> implements ProxyUse
      * {@inheritDoc}
      */
     @Override
-    public boolean hasPermission(@NotNull String permission) {
+    protected boolean checkPermission(@NotNull String permission) {
         return this.player.hasPermission(permission);
     }
 
@@ -143,7 +143,7 @@ public final class VelocityUser extends PlatformUser<Player> implements ProxyUse
     @Override
     public @NotNull Optional<Server> getConnectedServer() {
         return this.player.getCurrentServer()
-            .map(s -> new VelocityServer(this.chameleon, s.getServer()));
+            .map(s -> this.chameleon.getUserManager().getServer(s.getServer()));
     }
 
     /**
@@ -28,9 +28,13 @@ import com.velocitypowered.api.event.PostOrder;
 import com.velocitypowered.api.event.Subscribe;
 import com.velocitypowered.api.event.connection.DisconnectEvent;
 import com.velocitypowered.api.event.connection.PostLoginEvent;
+import com.velocitypowered.api.event.player.ServerConnectedEvent;
 import com.velocitypowered.api.proxy.Player;
-import dev.hypera.chameleon.platform.user.PlatformUserManager;
+import com.velocitypowered.api.proxy.server.RegisteredServer;
+import dev.hypera.chameleon.platform.proxy.Server;
+import dev.hypera.chameleon.platform.user.PlatformProxyUserManager;
 import dev.hypera.chameleon.platform.velocity.VelocityChameleon;
+import dev.hypera.chameleon.platform.velocity.platform.objects.VelocityServer;
 import dev.hypera.chameleon.user.ConsoleUser;
 import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.NotNull;
@@ -38,7 +42,7 @@ import org.jetbrains.annotations.NotNull;
 /**
  * Velocity user manager implementation.
  */
-public final class VelocityUserManager extends PlatformUserManager<Player, VelocityUser> {
+public final class VelocityUserManager extends PlatformProxyUserManager<Player, VelocityUser, RegisteredServer> {
 
     private final @NotNull VelocityChameleon chameleon;
     private final @NotNull PlayerReflection playerReflection;
@@ -61,6 +65,13 @@ public final class VelocityUserManager extends PlatformUserManager<Player, Veloc
     public void registerListeners() {
         this.chameleon.getPlatformPlugin().getServer().getEventManager()
             .register(this.chameleon.getPlatformPlugin(), this.listener);
+
+        // Players may already be connected, such as when the plugin is reloaded.
+        for (Player player : this.chameleon.getPlatformPlugin().getServer().getAllPlayers()) {
+            addUser(player.getUniqueId(), player);
+            player.getCurrentServer().ifPresent(connection ->
+                setConnectedServer(player.getUniqueId(), connection.getServer()));
+        }
     }
 
     /**
@@ -95,11 +106,19 @@ public final class VelocityUserManager extends PlatformUserManager<Player, Veloc
     protected @NotNull VelocityUser createUser(@NotNull Player player) {
         return new VelocityUser(
             this.chameleon, player,
-            this.chameleon.getAdventureMapper().createReflectedAudience(player),
+            this.chameleon.getAdventureMapper().createReflectedAudience(player, true),
             this.playerReflection
         );
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected @NotNull Server createServer(@NotNull RegisteredServer server) {
+        return new VelocityServer(server, getServerUsers(server));
+    }
+
     /**
      * Velocity platform listener.
      */
@@ -112,8 +131,14 @@ public final class VelocityUserManager extends PlatformUserManager<Player, Veloc
             addUser(event.getPlayer().getUniqueId(), event.getPlayer());
         }
 
+        @Subscribe(order = PostOrder.EARLY)
+        public void onServerConnectedEvent(@NotNull ServerConnectedEvent event) {
+            setConnectedServer(event.getPlayer().getUniqueId(), event.getServer());
+        }
+
         @Subscribe(order = PostOrder.LATE)
         public void onDisconnectEvent(@NotNull DisconnectEvent event) {
+            setConnectedServer(event.getPlayer().getUniqueId(), null);
             removeUser(event.getPlayer().getUniqueId());
         }
 